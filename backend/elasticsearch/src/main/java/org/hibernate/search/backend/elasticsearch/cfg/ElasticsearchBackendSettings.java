@@ -242,6 +242,40 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The maximum number of search results kept in the search result cache.
+	 * <p>
+	 * When this number is strictly positive, the responses to search queries are cached,
+	 * and identical queries (same JSON request, offset and limit, routing keys, targeting the same indexes)
+	 * return the cached response instead of sending a request to the Elasticsearch cluster,
+	 * until the cached response expires (see {@link #SEARCH_RESULT_CACHE_TTL}).
+	 * When this number is zero, search results are never cached.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_RESULT_CACHE_MAX_ENTRIES}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Search result cache",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String SEARCH_RESULT_CACHE_MAX_ENTRIES = "search.result_cache.max_entries";
+
+	/**
+	 * The time after which an entry of the search result cache expires, in milliseconds.
+	 * <p>
+	 * Elasticsearch does not notify clients when an index is refreshed,
+	 * so cached responses may be out of date for up to this amount of time.
+	 * <p>
+	 * Only effective if {@link #SEARCH_RESULT_CACHE_MAX_ENTRIES} is strictly positive.
+	 * <p>
+	 * Expects a strictly positive integer value in milliseconds, such as {@code 1000},
+	 * or a string that can be parsed into such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_RESULT_CACHE_TTL}.
+	 */
+	public static final String SEARCH_RESULT_CACHE_TTL = "search.result_cache.ttl";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -263,5 +297,8 @@ private Defaults() {
 		public static final boolean VERSION_CHECK_ENABLED = true;
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
 		public static final TypeNameMappingStrategyName MAPPING_TYPE_NAME_STRATEGY = TypeNameMappingStrategyName.DISCRIMINATOR;
+		public static final int SEARCH_RESULT_CACHE_MAX_ENTRIES = 0;
+		// Matches the default refresh interval of Elasticsearch indexes
+		public static final int SEARCH_RESULT_CACHE_TTL = 1000;
 	}
 }
@@ -82,6 +82,43 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_MAX_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_SIZE;
 
+	/**
+	 * Whether indexing works pertaining to the same document should be coalesced
+	 * when they end up in the same batch of an indexing queue.
+	 * <p>
+	 * When enabled, if a document is indexed or deleted,
+	 * any previous work pertaining to that same document in the same batch will be left out of the bulk request,
+	 * though it will still be reported as complete when the later work completes.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_COALESCE_WORKS}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_COALESCE_WORKS = INDEXING_PREFIX + IndexingRadicals.COALESCE_WORKS;
+
+	/**
+	 * Whether updates affecting only some fields of a document should be sent to Elasticsearch as partial updates.
+	 * <p>
+	 * When enabled, if the mapper can tell that an update only affects fields at the root of the document
+	 * that are populated directly from the changed properties,
+	 * only these fields will be sent to Elasticsearch, using the update API,
+	 * instead of re-building and re-indexing the whole document.
+	 * If the document does not exist in the index, it is created with only the updated fields.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_PARTIAL_UPDATE}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_PARTIAL_UPDATE = INDEXING_PREFIX + IndexingRadicals.PARTIAL_UPDATE;
+
 	/**
 	 * Configuration property keys for indexing, without the {@link #INDEXING_PREFIX prefix}.
 	 */
@@ -93,6 +130,8 @@ private IndexingRadicals() {
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
 		public static final String MAX_BULK_SIZE = "max_bulk_size";
+		public static final String COALESCE_WORKS = "coalesce_works";
+		public static final String PARTIAL_UPDATE = "partial_update";
 	}
 
 	/**
@@ -108,6 +147,8 @@ private Defaults() {
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
 		public static final int INDEXING_MAX_BULK_SIZE = 100;
+		public static final boolean INDEXING_COALESCE_WORKS = false;
+		public static final boolean INDEXING_PARTIAL_UPDATE = false;
 	}
 
 }
@@ -21,7 +21,6 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import org.apache.http.HttpEntity;
 
 
@@ -41,7 +40,7 @@ public static boolean isSuccessCode(int code) {
 	}
 
 	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) throws IOException {
-		final List<JsonObject> bodyParts = request.bodyParts();
+		final List<Object> bodyParts = request.rawBodyParts();
 		if ( bodyParts.isEmpty() ) {
 			return null;
 		}
@@ -113,6 +113,37 @@ else if ( len > charBuffer.remaining() ) {
 		}
 	}
 
+	/**
+	 * Write bytes that were already encoded using the charset of this writer,
+	 * bypassing the char buffer and the charset encoder.
+	 *
+	 * @param bytes The encoded bytes.
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void writeEncoded(byte[] bytes) throws IOException {
+		// Pending chars must be encoded first to preserve ordering
+		flush();
+		int offset = 0;
+		while ( offset < bytes.length ) {
+			if ( currentPage == null ) {
+				currentPage = ByteBuffer.allocate( pageSize );
+			}
+			int length = Math.min( currentPage.remaining(), bytes.length - offset );
+			currentPage.put( bytes, offset, length );
+			offset += length;
+			if ( !currentPage.hasRemaining() ) {
+				// Avoid storing buffers if we can simply flush them
+				attemptFlushPendingBuffers( true );
+				if ( currentPage != null ) {
+					// Same as in writeToByteBuffer: move the full page out of the way.
+					currentPage.flip();
+					needWritingPages.add( currentPage );
+					currentPage = null;
+				}
+			}
+		}
+	}
+
 	@Override
 	public void flush() throws IOException {
 		if ( charBuffer.position() == 0 ) {
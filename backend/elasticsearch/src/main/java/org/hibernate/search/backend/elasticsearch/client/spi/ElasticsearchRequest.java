@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.spi;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -15,6 +16,7 @@
 import java.util.StringJoiner;
 import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 
 import com.google.gson.JsonObject;
@@ -45,6 +47,7 @@ public static Builder builder(String method) {
 	private final String method;
 	private final String path;
 	private final Map<String, String> parameters;
+	private final List<Object> rawBodyParts;
 	private final List<JsonObject> bodyParts;
 	private final Long timeoutValue;
 	private final TimeUnit timeoutUnit;
@@ -53,7 +56,8 @@ private ElasticsearchRequest(Builder builder) {
 		this.method = builder.method;
 		this.path = builder.pathBuilder.toString();
 		this.parameters = builder.parameters == null ? Collections.emptyMap() : Collections.unmodifiableMap( builder.parameters );
-		this.bodyParts = builder.bodyParts == null ? Collections.emptyList() : Collections.unmodifiableList( builder.bodyParts );
+		this.rawBodyParts = builder.bodyParts == null ? Collections.emptyList() : Collections.unmodifiableList( builder.bodyParts );
+		this.bodyParts = new DecodingBodyPartList( rawBodyParts );
 		this.timeoutValue = builder.timeoutValue;
 		this.timeoutUnit = builder.timeoutUnit;
 	}
@@ -70,10 +74,23 @@ public Map<String, String> parameters() {
 		return parameters;
 	}
 
+	/**
+	 * @return The body parts as {@link JsonObject}s.
+	 * Parts that were added {@link Builder#body(EncodedJsonObject) in encoded form}
+	 * are decoded on each access, so this should only be used for logging, tests and the like.
+	 */
 	public List<JsonObject> bodyParts() {
 		return bodyParts;
 	}
 
+	/**
+	 * @return The body parts as they were added to the builder,
+	 * each being either a {@link JsonObject} or an {@link EncodedJsonObject}.
+	 */
+	public List<Object> rawBodyParts() {
+		return rawBodyParts;
+	}
+
 	public Long timeoutValue() {
 		return timeoutValue;
 	}
@@ -88,7 +105,7 @@ public String toString() {
 				.add( "method='" + method + "'" )
 				.add( "path='" + path + "'" )
 				.add( "parameters=" + parameters )
-				.add( "bodyParts=" + bodyParts )
+				.add( "bodyParts=" + rawBodyParts )
 				.add( "timeoutValue=" + timeoutValue )
 				.add( "timeoutUnit=" + timeoutUnit )
 				.toString();
@@ -101,7 +118,7 @@ public static final class Builder {
 		private final StringBuilder pathBuilder = new StringBuilder( 20 );
 
 		private Map<String, String> parameters;
-		private List<JsonObject> bodyParts;
+		private List<Object> bodyParts;
 		private Long timeoutValue;
 		private TimeUnit timeoutUnit;
 
@@ -161,10 +178,12 @@ public Builder multiValuedParam(String name, Collection<String> values) {
 		}
 
 		public Builder body(JsonObject object) {
-			if ( bodyParts == null ) {
-				bodyParts = new ArrayList<>();
-			}
-			bodyParts.add( object );
+			addBodyPart( object );
+			return this;
+		}
+
+		public Builder body(EncodedJsonObject object) {
+			addBodyPart( object );
 			return this;
 		}
 
@@ -177,6 +196,35 @@ public Builder timeout(Long timeoutValue, TimeUnit timeoutUnit) {
 		public ElasticsearchRequest build() {
 			return new ElasticsearchRequest( this );
 		}
+
+		private void addBodyPart(Object object) {
+			if ( bodyParts == null ) {
+				bodyParts = new ArrayList<>();
+			}
+			bodyParts.add( object );
+		}
+	}
+
+	private static final class DecodingBodyPartList extends AbstractList<JsonObject> {
+		private final List<Object> rawBodyParts;
+
+		private DecodingBodyPartList(List<Object> rawBodyParts) {
+			this.rawBodyParts = rawBodyParts;
+		}
+
+		@Override
+		public JsonObject get(int index) {
+			Object part = rawBodyParts.get( index );
+			if ( part instanceof EncodedJsonObject ) {
+				return ( (EncodedJsonObject) part ).decode();
+			}
+			return (JsonObject) part;
+		}
+
+		@Override
+		public int size() {
+			return rawBodyParts.size();
+		}
 	}
 
 }
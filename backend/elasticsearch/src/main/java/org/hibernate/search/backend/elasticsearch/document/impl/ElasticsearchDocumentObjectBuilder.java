@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.document.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.Objects;
 
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
@@ -26,6 +27,7 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 
 
@@ -116,6 +118,29 @@ public void addNullObject(String relativeFieldName) {
 		addObject( fieldSchemaNode, null );
 	}
 
+	/**
+	 * Sets the given fields to {@code null} if no value was added to them,
+	 * so that a partial update of the document clears their previous value.
+	 *
+	 * @param fieldReferences References to value fields of the element represented by this builder.
+	 */
+	public void addNullIfAbsent(Collection<? extends IndexFieldReference<?>> fieldReferences) {
+		for ( IndexFieldReference<?> fieldReference : fieldReferences ) {
+			ElasticsearchIndexSchemaValueFieldNode<?> node =
+					( (ElasticsearchIndexFieldReference<?>) fieldReference ).getSchemaNode();
+			checkTreeConsistency( node.parent() );
+
+			if ( IndexFieldInclusion.EXCLUDED.equals( node.inclusion() ) ) {
+				continue;
+			}
+
+			JsonAccessor<JsonElement> accessor = node.relativeAccessor();
+			if ( !accessor.hasExplicitValue( content ) ) {
+				accessor.set( content, JsonNull.INSTANCE );
+			}
+		}
+	}
+
 	public JsonObject build() {
 		return content;
 	}
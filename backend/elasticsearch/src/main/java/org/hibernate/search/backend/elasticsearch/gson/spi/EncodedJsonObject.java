@@ -0,0 +1,71 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.spi;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.search.util.common.AssertionFailure;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * A JSON object that was serialized once and for all to compact, UTF-8 encoded bytes.
+ * <p>
+ * Used for large, write-once JSON objects such as indexed documents:
+ * encoding them as soon as they are built allows the (much larger) {@link JsonObject} tree
+ * to be garbage-collected right away instead of being retained until the request is sent,
+ * and the encoded bytes can be written verbatim to the HTTP request body,
+ * even when the request is sent multiple times.
+ */
+public final class EncodedJsonObject {
+
+	private static final int INITIAL_BUFFER_SIZE = 256;
+
+	public static EncodedJsonObject encode(Gson gson, JsonObject object) {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream( INITIAL_BUFFER_SIZE );
+		try ( Writer writer = new OutputStreamWriter( outputStream, StandardCharsets.UTF_8 ) ) {
+			gson.toJson( object, writer );
+		}
+		catch (IOException e) {
+			throw new AssertionFailure( "Unexpected IOException when writing to an in-memory buffer", e );
+		}
+		return new EncodedJsonObject( outputStream.toByteArray() );
+	}
+
+	private final byte[] utf8Bytes;
+
+	private EncodedJsonObject(byte[] utf8Bytes) {
+		this.utf8Bytes = utf8Bytes;
+	}
+
+	@Override
+	public String toString() {
+		return new String( utf8Bytes, StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * @return The encoded JSON, as UTF-8 bytes. Must not be modified.
+	 */
+	public byte[] utf8Bytes() {
+		return utf8Bytes;
+	}
+
+	/**
+	 * @return A new {@link JsonObject} parsed from the encoded JSON.
+	 * Expensive: only meant for logging, tests and other non-critical code paths.
+	 */
+	public JsonObject decode() {
+		return new JsonParser().parse( toString() ).getAsJsonObject();
+	}
+
+}
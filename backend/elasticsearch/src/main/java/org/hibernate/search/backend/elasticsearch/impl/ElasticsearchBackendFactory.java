@@ -32,6 +32,7 @@
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.NoMultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultCache;
 import org.hibernate.search.backend.elasticsearch.types.dsl.provider.impl.ElasticsearchIndexFieldTypeFactoryProvider;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
@@ -165,7 +166,9 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 					getMultiTenancyStrategy( propertySource ),
 					indexLayoutStrategyHolder,
 					createTypeNameMapping( propertySource, indexLayoutStrategyHolder.get() ),
-					buildContext.failureHandler()
+					buildContext.failureHandler(),
+					buildContext.queryExecutionListener().orElse( null ),
+					ElasticsearchSearchResultCache.create( propertySource ).orElse( null )
 			);
 		}
 		catch (RuntimeException e) {
@@ -25,6 +25,7 @@
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchSimpleWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultCache;
 import org.hibernate.search.backend.elasticsearch.types.dsl.provider.impl.ElasticsearchIndexFieldTypeFactoryProvider;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.Backend;
@@ -35,6 +36,7 @@
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionListener;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -74,7 +76,9 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 			MultiTenancyStrategy multiTenancyStrategy,
 			BeanHolder<? extends IndexLayoutStrategy> indexLayoutStrategyHolder,
 			TypeNameMapping typeNameMapping,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			SearchQueryExecutionListener queryExecutionListener,
+			ElasticsearchSearchResultCache resultCache) {
 		this.eventContext = eventContext;
 		this.threads = threads;
 		this.link = link;
@@ -96,6 +100,8 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 				indexLayoutStrategyHolder.get(),
 				typeNameMapping,
 				failureHandler,
+				queryExecutionListener,
+				resultCache,
 				generalPurposeOrchestrator
 		);
 		this.indexNamesRegistry = new IndexNamesRegistry();
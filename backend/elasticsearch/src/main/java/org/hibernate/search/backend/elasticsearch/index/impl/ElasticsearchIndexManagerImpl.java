@@ -8,7 +8,9 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
@@ -25,6 +27,7 @@
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.execution.impl.WorkExecutionIndexManagerContext;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
@@ -49,6 +52,7 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 
@@ -74,6 +78,12 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor,
 					.withDefault( ElasticsearchIndexSettings.Defaults.SCHEMA_MANAGEMENT_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> INDEXING_PARTIAL_UPDATE =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_PARTIAL_UPDATE )
+					.asBoolean()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_PARTIAL_UPDATE )
+					.build();
+
 	private final IndexManagerBackendContext backendContext;
 
 	private final ElasticsearchIndexModel model;
@@ -82,6 +92,7 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor,
 	private final ElasticsearchBatchingWorkOrchestrator indexingOrchestrator;
 
 	private ElasticsearchIndexSchemaManager schemaManager;
+	private boolean partialUpdateEnabled;
 
 	ElasticsearchIndexManagerImpl(IndexManagerBackendContext backendContext,
 			ElasticsearchIndexModel model,
@@ -111,7 +122,7 @@ public void start(IndexManagerStartContext context) {
 			 * Useful for compile-time boot.
 			 */
 			schemaManager = backendContext.createSchemaManager(
-					model, createLifecycleExecutionOptions( context.configurationPropertySource() )
+					model, indexingOrchestrator, createLifecycleExecutionOptions( context.configurationPropertySource() )
 			);
 
 			// HSEARCH-3759: the lifecycle strategy is now the schema management strategy, at the mapper level
@@ -122,6 +133,8 @@ model, createLifecycleExecutionOptions( context.configurationPropertySource() )
 					}
 			);
 
+			partialUpdateEnabled = INDEXING_PARTIAL_UPDATE.get( context.configurationPropertySource() );
+
 			indexingOrchestrator.start( context.configurationPropertySource() );
 		}
 		catch (RuntimeException e) {
@@ -176,6 +189,36 @@ public JsonObject createDocument(String tenantId, String id,
 		return document;
 	}
 
+	@Override
+	public boolean isPartialUpdateEnabled() {
+		return partialUpdateEnabled;
+	}
+
+	@Override
+	public JsonObject createPartialDocument(Collection<? extends IndexFieldReference<?>> updatedFields,
+			DocumentContributor partialDocumentContributor) {
+		ElasticsearchDocumentObjectBuilder builder = new ElasticsearchDocumentObjectBuilder( model );
+		partialDocumentContributor.contribute( builder );
+		builder.addNullIfAbsent( updatedFields );
+		// Metadata (tenant identifier, ...) never changes for a given document: no need to add it.
+		return builder.build();
+	}
+
+	@Override
+	public JsonObject createUpsertDocument(String tenantId, String id, JsonObject partialDocument) {
+		// Only root properties are added below, so a shallow copy is enough.
+		JsonObject document = new JsonObject();
+		for ( Map.Entry<String, JsonElement> entry : partialDocument.entrySet() ) {
+			document.add( entry.getKey(), entry.getValue() );
+		}
+
+		for ( DocumentMetadataContributor contributor : documentMetadataContributors ) {
+			contributor.contribute( document, tenantId, id );
+		}
+
+		return document;
+	}
+
 	public ElasticsearchIndexModel model() {
 		return model;
 	}
@@ -25,6 +25,7 @@
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionBackendContext;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchQueryBuilder;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultCache;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.elasticsearch.work.execution.impl.ElasticsearchIndexIndexer;
 import org.hibernate.search.backend.elasticsearch.work.execution.impl.ElasticsearchIndexIndexingPlan;
@@ -40,6 +41,7 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionListener;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
 import org.hibernate.search.util.common.reporting.EventContext;
 
@@ -55,6 +57,8 @@ public class IndexManagerBackendContext implements SearchBackendContext, WorkExe
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final IndexLayoutStrategy indexLayoutStrategy;
 	private final FailureHandler failureHandler;
+	private final SearchQueryExecutionListener queryExecutionListener;
+	private final ElasticsearchSearchResultCache resultCache;
 	private final ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator;
 
 	private final SearchProjectionBackendContext searchProjectionBackendContext;
@@ -66,6 +70,8 @@ public IndexManagerBackendContext(ElasticsearchBackend backendAPI,
 			IndexLayoutStrategy indexLayoutStrategy,
 			TypeNameMapping typeNameMapping,
 			FailureHandler failureHandler,
+			SearchQueryExecutionListener queryExecutionListener,
+			ElasticsearchSearchResultCache resultCache,
 			ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator) {
 		this.backendAPI = backendAPI;
 		this.eventContext = eventContext;
@@ -75,6 +81,8 @@ public IndexManagerBackendContext(ElasticsearchBackend backendAPI,
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.indexLayoutStrategy = indexLayoutStrategy;
 		this.failureHandler = failureHandler;
+		this.queryExecutionListener = queryExecutionListener;
+		this.resultCache = resultCache;
 		this.generalPurposeOrchestrator = generalPurposeOrchestrator;
 
 		this.searchProjectionBackendContext = new SearchProjectionBackendContext(
@@ -154,7 +162,8 @@ public <H> ElasticsearchSearchQueryBuilder<H> createSearchQueryBuilder(
 		return new ElasticsearchSearchQueryBuilder<>(
 				link.getWorkBuilderFactory(), link.getSearchResultExtractorFactory(),
 				generalPurposeOrchestrator,
-				searchContext, sessionContext, loadingContextBuilder, rootProjection
+				searchContext, sessionContext, loadingContextBuilder, rootProjection,
+				queryExecutionListener, resultCache
 		);
 	}
 
@@ -167,6 +176,7 @@ EventContext getEventContext() {
 	}
 
 	ElasticsearchIndexSchemaManager createSchemaManager(ElasticsearchIndexModel model,
+			ElasticsearchBatchingWorkOrchestrator indexingOrchestrator,
 			ElasticsearchIndexLifecycleExecutionOptions lifecycleExecutionOptions) {
 		LowLevelIndexMetadataBuilder builder = new LowLevelIndexMetadataBuilder(
 				link.getIndexMetadataSyntax(),
@@ -175,7 +185,7 @@ ElasticsearchIndexSchemaManager createSchemaManager(ElasticsearchIndexModel mode
 		model.contributeLowLevelMetadata( builder );
 		IndexMetadata expectedMetadata = builder.build();
 		return new ElasticsearchIndexSchemaManager(
-				link.getWorkBuilderFactory(), generalPurposeOrchestrator,
+				link.getWorkBuilderFactory(), generalPurposeOrchestrator, indexingOrchestrator,
 				indexLayoutStrategy, model.names(), expectedMetadata,
 				lifecycleExecutionOptions
 		);
@@ -23,6 +23,25 @@ public interface IndexLayoutStrategy {
 	 */
 	String createInitialElasticsearchIndexName(String hibernateSearchIndexName);
 
+	/**
+	 * Generates a new non-alias Elasticsearch name for an index,
+	 * to reindex into while the current Elasticsearch index is still being searched.
+	 * <p>
+	 * Optional operation: this method only has to be implemented
+	 * when reindexing into a new index, e.g. when mass indexing with aliases being switched on completion.
+	 * <p>
+	 * The returned name must be different from the given, current name,
+	 * and must be different from any name returned for previous reindexings still in progress.
+	 *
+	 * @param hibernateSearchIndexName The Hibernate Search name of an index.
+	 * @param currentElasticsearchIndexName The non-alias Elasticsearch name of the index currently targeted by write operations.
+	 * @return The non-alias Elasticsearch name for the new index.
+	 */
+	default String createNextElasticsearchIndexName(String hibernateSearchIndexName,
+			String currentElasticsearchIndexName) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * Generates the write alias for an index.
 	 * <p>
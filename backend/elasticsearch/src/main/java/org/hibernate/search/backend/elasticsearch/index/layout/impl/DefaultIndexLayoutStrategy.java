@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.index.layout.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -31,11 +32,24 @@ public final class DefaultIndexLayoutStrategy implements IndexLayoutStrategy {
 
 	public static final Pattern UNIQUE_KEY_EXTRACTION_PATTERN = Pattern.compile( "(.*)-\\d{6}" );
 
+	private static final Pattern GENERATION_EXTRACTION_PATTERN = Pattern.compile( ".*-(\\d{6})" );
+
 	@Override
 	public String createInitialElasticsearchIndexName(String hibernateSearchIndexName) {
 		return hibernateSearchIndexName + "-000001";
 	}
 
+	@Override
+	public String createNextElasticsearchIndexName(String hibernateSearchIndexName,
+			String currentElasticsearchIndexName) {
+		Matcher matcher = GENERATION_EXTRACTION_PATTERN.matcher( currentElasticsearchIndexName );
+		if ( !matcher.matches() ) {
+			throw log.invalidIndexPrimaryName( currentElasticsearchIndexName, GENERATION_EXTRACTION_PATTERN );
+		}
+		int nextGeneration = Integer.parseInt( matcher.group( 1 ) ) + 1;
+		return String.format( Locale.ROOT, "%s-%06d", hibernateSearchIndexName, nextGeneration );
+	}
+
 	@Override
 	public String createWriteAlias(String hibernateSearchIndexName) {
 		return hibernateSearchIndexName + "-write";
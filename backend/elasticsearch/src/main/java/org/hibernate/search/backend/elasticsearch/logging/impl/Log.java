@@ -647,4 +647,49 @@ SearchException differentImplementationClassForQueryElement(@FormatWith(ClassFor
 					+ " and that the field has the same type in all indexes.")
 	SearchException inconsistentSupportForQueryElement(String queryElementName);
 
+	@Message(id = ID_OFFSET_2 + 120,
+			value = "Cannot collapse hits on field '%1$s'."
+					+ " Collapsing requires a sortable field that is not contained in a nested object.")
+	SearchException cannotCollapseOnField(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 121,
+			value = "Unable to move alias '%1$s' from index '%2$s' to index '%3$s': %4$s")
+	SearchException elasticsearchAliasMoveFailed(URLEncodedString alias,
+			URLEncodedString sourceIndexName, URLEncodedString targetIndexName,
+			String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 122,
+			value = "Unable to reindex index '%1$s' into a new index: the index layout strategy '%2$s'"
+					+ " does not implement 'createNextElasticsearchIndexName'.")
+	SearchException indexLayoutStrategyCannotCreateNextIndexName(String hibernateSearchIndexName,
+			Object indexLayoutStrategy, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 123,
+			value = "Unable to complete reindexing: index aliases [%1$s, %2$s] point to the same index '%3$s'."
+					+ " Reindexing into a new index must be started before it can be completed.")
+	SearchException noReindexingInProgress(URLEncodedString write, URLEncodedString read, String indexName);
+
+	@LogMessage(level = Level.INFO)
+	@Message(id = ID_OFFSET_2 + 124,
+			value = "Reindexing into new Elasticsearch index '%2$s': write alias '%3$s' moved from index '%1$s'.")
+	void startedReindexingIntoNewIndex(URLEncodedString previousIndexName, URLEncodedString newIndexName,
+			URLEncodedString writeAlias);
+
+	@LogMessage(level = Level.INFO)
+	@Message(id = ID_OFFSET_2 + 125,
+			value = "Reindexing into new Elasticsearch index '%2$s' complete: read alias '%3$s' moved from index '%1$s',"
+					+ " which was dropped.")
+	void completedReindexingIntoNewIndex(URLEncodedString previousIndexName, URLEncodedString newIndexName,
+			URLEncodedString readAlias);
+
+	@Message(id = ID_OFFSET_2 + 126,
+			value = "Invalid maximum number of entries in the search result cache: '%1$s'."
+					+ " The maximum must be positive or zero.")
+	SearchException invalidSearchResultCacheMaxEntries(int maxEntries);
+
+	@Message(id = ID_OFFSET_2 + 127,
+			value = "Invalid time-to-live for entries of the search result cache: '%1$s'."
+					+ " The time-to-live must be strictly positive.")
+	SearchException invalidSearchResultCacheTimeToLive(int timeToLive);
+
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl;
 
 import com.google.gson.GsonBuilder;
+import com.google.gson.annotations.SerializedName;
 
 /**
  * Settings for an Elasticsearch index.
@@ -16,6 +17,20 @@ public class IndexSettings {
 
 	private Analysis analysis;
 
+	/*
+	 * The following settings are never set by Hibernate Search when creating an index:
+	 * they are only read from existing indexes,
+	 * so that they can be restored after tuning an index for bulk loading.
+	 */
+
+	@SerializedName("number_of_replicas")
+	private String numberOfReplicas;
+
+	@SerializedName("refresh_interval")
+	private String refreshInterval;
+
+	private TranslogSettings translog;
+
 	public Analysis getAnalysis() {
 		return analysis;
 	}
@@ -24,6 +39,30 @@ public void setAnalysis(Analysis analysis) {
 		this.analysis = analysis;
 	}
 
+	public String getNumberOfReplicas() {
+		return numberOfReplicas;
+	}
+
+	public void setNumberOfReplicas(String numberOfReplicas) {
+		this.numberOfReplicas = numberOfReplicas;
+	}
+
+	public String getRefreshInterval() {
+		return refreshInterval;
+	}
+
+	public void setRefreshInterval(String refreshInterval) {
+		this.refreshInterval = refreshInterval;
+	}
+
+	public TranslogSettings getTranslog() {
+		return translog;
+	}
+
+	public void setTranslog(TranslogSettings translog) {
+		this.translog = translog;
+	}
+
 	public boolean isEmpty() {
 		return analysis == null || analysis.isEmpty();
 	}
@@ -9,10 +9,10 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
-import org.hibernate.search.engine.backend.orchestration.spi.BatchedWork;
+import org.hibernate.search.engine.backend.orchestration.spi.CoalescableBatchedWork;
 import org.hibernate.search.util.common.impl.Futures;
 
-class ElasticsearchBatchedWork<T> implements BatchedWork<ElasticsearchBatchedWorkProcessor> {
+class ElasticsearchBatchedWork<T> implements CoalescableBatchedWork<ElasticsearchBatchedWorkProcessor> {
 	private final IndexingWork<T> work;
 	private final CompletableFuture<T> future;
 
@@ -31,6 +31,22 @@ public void markAsFailed(Throwable t) {
 		future.completeExceptionally( t );
 	}
 
+	@Override
+	public Object getCoalescingKey() {
+		return work.getCoalescingKey();
+	}
+
+	@Override
+	public boolean isSupersedingPreviousWorks() {
+		return work.isSupersedingPreviousWorks();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // Works with the same coalescing key always have the same result type
+	public void markAsSupersededBy(CoalescableBatchedWork<?> supersedingWork) {
+		( (ElasticsearchBatchedWork<T>) supersedingWork ).future.whenComplete( Futures.copyHandler( future ) );
+	}
+
 	String getQueuingKey() {
 		return work.getQueuingKey();
 	}
@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -51,11 +52,19 @@
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COALESCE_WORKS =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_COALESCE_WORKS )
+					.asBoolean()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_COALESCE_WORKS )
+					.build();
+
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
 
 	private BatchingExecutor<ElasticsearchBatchedWorkProcessor>[] executors;
 
+	private volatile boolean refreshDisabled;
+
 	/**
 	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
 	 * @param threads The threads for this backend.
@@ -77,11 +86,22 @@ public <T> CompletableFuture<T> submit(IndexingWork<T> work) {
 		return future;
 	}
 
+	/**
+	 * @param refreshDisabled Whether refreshes are disabled on the index works are sent to,
+	 * e.g. because the write alias targets an index being filled during reindexing.
+	 * While refreshes are disabled, bulks are not sent with {@link DocumentRefreshStrategy#WAIT_FOR},
+	 * since Elasticsearch would not respond until refreshes are enabled again.
+	 */
+	public void setRefreshDisabled(boolean refreshDisabled) {
+		this.refreshDisabled = refreshDisabled;
+	}
+
 	@Override
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
 		int maxBulkSize = MAX_BULK_SIZE.get( propertySource );
+		boolean coalesceWorks = COALESCE_WORKS.get( propertySource );
 
 		ElasticsearchWorkExecutionContext executionContext = createWorkExecutionContext();
 
@@ -94,6 +114,7 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 					processor,
 					queueSize,
 					true,
+					coalesceWorks,
 					failureHandler
 			);
 		}
@@ -130,11 +151,24 @@ private ElasticsearchBatchedWorkProcessor createProcessor(ElasticsearchWorkExecu
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = new ElasticsearchDefaultWorkSequenceBuilder( context );
 		ElasticsearchWorkBulker bulker = new ElasticsearchDefaultWorkBulker(
 				sequenceBuilder,
-				(worksToBulk, refreshStrategy) ->
-						link.getWorkBuilderFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
+				(worksToBulk, refreshStrategy) -> link.getWorkBuilderFactory().bulk( worksToBulk )
+						.refresh( effectiveRefreshStrategy( refreshStrategy ) )
+						.build(),
 				maxBulkSize
 		);
 		return new ElasticsearchBatchedWorkProcessor( sequenceBuilder, bulker );
 	}
 
+	private DocumentRefreshStrategy effectiveRefreshStrategy(DocumentRefreshStrategy refreshStrategy) {
+		if ( refreshDisabled && DocumentRefreshStrategy.WAIT_FOR.equals( refreshStrategy ) ) {
+			/*
+			 * Don't wait for a refresh that will not happen until reindexing completes.
+			 * Searches target the read alias, i.e. another index, until then anyway,
+			 * and completing reindexing refreshes the new index before searches are switched to it.
+			 */
+			return DocumentRefreshStrategy.NONE;
+		}
+		return refreshStrategy;
+	}
+
 }
@@ -6,31 +6,46 @@
  */
 package org.hibernate.search.backend.elasticsearch.schema.management.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.impl.IndexMetadata;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl.IndexSettings;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchBatchingWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.ExistingIndexMetadata;
 import org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonObject;
 
 public class ElasticsearchIndexSchemaManager implements IndexSchemaManager {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ElasticsearchSchemaAccessor schemaAccessor;
 	private final ElasticsearchSchemaCreator schemaCreator;
 	private final ElasticsearchSchemaDropper schemaDropper;
 	private final ElasticsearchSchemaValidator schemaValidator;
 	private final ElasticsearchSchemaMigrator schemaMigrator;
+	private final ElasticsearchBatchingWorkOrchestrator indexingOrchestrator;
 
+	private final IndexLayoutStrategy indexLayoutStrategy;
 	private final IndexNames indexNames;
 	private final IndexMetadata expectedMetadata;
 	private final ElasticsearchIndexLifecycleExecutionOptions executionOptions;
 
 	public ElasticsearchIndexSchemaManager(ElasticsearchWorkBuilderFactory workBuilderFactory,
 			ElasticsearchParallelWorkOrchestrator workOrchestrator,
+			ElasticsearchBatchingWorkOrchestrator indexingOrchestrator,
 			IndexLayoutStrategy indexLayoutStrategy,
 			IndexNames indexNames, IndexMetadata expectedMetadata,
 			ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
@@ -40,7 +55,9 @@ public ElasticsearchIndexSchemaManager(ElasticsearchWorkBuilderFactory workBuild
 		this.schemaDropper = new ElasticsearchSchemaDropperImpl( schemaAccessor );
 		this.schemaValidator = new ElasticsearchSchemaValidatorImpl();
 		this.schemaMigrator = new ElasticsearchSchemaMigratorImpl( schemaAccessor, schemaValidator );
+		this.indexingOrchestrator = indexingOrchestrator;
 
+		this.indexLayoutStrategy = indexLayoutStrategy;
 		this.indexNames = indexNames;
 		this.expectedMetadata = expectedMetadata;
 		this.executionOptions = executionOptions;
@@ -110,4 +127,135 @@ public CompletableFuture<?> validate(ContextualFailureCollector failureCollector
 						: schemaAccessor.waitForIndexStatus( indexNames, executionOptions )
 				);
 	}
+
+	@Override
+	public CompletableFuture<?> beginReindexing() {
+		return schemaAccessor.getAllIndexMetadata( indexNames )
+				.thenCompose( existingIndexes -> {
+					ExistingIndexMetadata readIndex = getIndexWithAlias( existingIndexes, indexNames.getRead() );
+					ExistingIndexMetadata writeIndex = getIndexWithAlias( existingIndexes, indexNames.getWrite() );
+					URLEncodedString previousWriteIndexName = URLEncodedString.fromString( writeIndex.getPrimaryName() );
+					URLEncodedString newIndexName = IndexNames.encodeName( createNextIndexName( writeIndex.getPrimaryName() ) );
+
+					CompletableFuture<?> future = schemaAccessor.createIndexAssumeNonExisting(
+							newIndexName, Collections.emptyMap(),
+							expectedMetadata.getSettings(), expectedMetadata.getMapping()
+					)
+							.thenCompose( ignored -> schemaAccessor.updateSettings( newIndexName, createBulkLoadingSettings() ) )
+							.thenCompose( ignored -> {
+								// Refreshes are disabled on the new index: writes must stop waiting for them
+								// before they start targeting that index.
+								indexingOrchestrator.setRefreshDisabled( true );
+								return schemaAccessor.moveAlias(
+										indexNames.getWrite(), expectedMetadata.getAliases().get( indexNames.getWrite().original ),
+										previousWriteIndexName, newIndexName
+								)
+										.whenComplete( (ignored2, throwable) -> {
+											if ( throwable != null ) {
+												// Writes still target the previous index
+												indexingOrchestrator.setRefreshDisabled( false );
+											}
+										} );
+							} );
+					if ( writeIndex != readIndex ) {
+						// A previous reindexing was interrupted: the index it was filling is no longer useful.
+						future = future.thenCompose( ignored -> schemaAccessor.dropIndexIfExisting( previousWriteIndexName ) );
+					}
+					return future.thenRun( () -> log.startedReindexingIntoNewIndex(
+							previousWriteIndexName, newIndexName, indexNames.getWrite()
+					) );
+				} )
+				.thenCompose( ignored -> schemaAccessor.waitForIndexStatus( indexNames, executionOptions ) );
+	}
+
+	@Override
+	public CompletableFuture<?> completeReindexing() {
+		return schemaAccessor.getAllIndexMetadata( indexNames )
+				.thenCompose( existingIndexes -> {
+					ExistingIndexMetadata readIndex = getIndexWithAlias( existingIndexes, indexNames.getRead() );
+					ExistingIndexMetadata writeIndex = getIndexWithAlias( existingIndexes, indexNames.getWrite() );
+					if ( writeIndex == readIndex ) {
+						throw log.noReindexingInProgress( indexNames.getWrite(), indexNames.getRead(),
+								readIndex.getPrimaryName() );
+					}
+					URLEncodedString previousIndexName = URLEncodedString.fromString( readIndex.getPrimaryName() );
+					URLEncodedString newIndexName = URLEncodedString.fromString( writeIndex.getPrimaryName() );
+
+					// Merge segments before replicas are allocated, so that replicas directly copy merged segments.
+					return schemaAccessor.mergeSegments( newIndexName )
+							.thenCompose( ignored -> schemaAccessor.updateSettings(
+									newIndexName, createRestoredSettings( readIndex.getMetadata().getSettings() )
+							) )
+							.thenRun( () -> indexingOrchestrator.setRefreshDisabled( false ) )
+							.thenCompose( ignored -> schemaAccessor.refresh( newIndexName ) )
+							.thenCompose( ignored -> schemaAccessor.waitForIndexStatus( indexNames, executionOptions ) )
+							.thenCompose( ignored -> schemaAccessor.moveAlias(
+									indexNames.getRead(), expectedMetadata.getAliases().get( indexNames.getRead().original ),
+									previousIndexName, newIndexName
+							) )
+							.thenCompose( ignored -> schemaAccessor.dropIndexIfExisting( previousIndexName ) )
+							.thenRun( () -> log.completedReindexingIntoNewIndex(
+									previousIndexName, newIndexName, indexNames.getRead()
+							) );
+				} );
+	}
+
+	private ExistingIndexMetadata getIndexWithAlias(List<ExistingIndexMetadata> existingIndexes, URLEncodedString alias) {
+		for ( ExistingIndexMetadata existingIndex : existingIndexes ) {
+			if ( existingIndex.getMetadata().getAliases().containsKey( alias.original ) ) {
+				return existingIndex;
+			}
+		}
+		throw log.indexMissing( indexNames.getWrite(), indexNames.getRead() );
+	}
+
+	private String createNextIndexName(String currentElasticsearchIndexName) {
+		try {
+			return indexLayoutStrategy.createNextElasticsearchIndexName(
+					indexNames.getHibernateSearch(), currentElasticsearchIndexName
+			);
+		}
+		catch (UnsupportedOperationException e) {
+			throw log.indexLayoutStrategyCannotCreateNextIndexName( indexNames.getHibernateSearch(),
+					indexLayoutStrategy, e );
+		}
+	}
+
+	/*
+	 * Settings that speed up indexing a large number of documents,
+	 * at the cost of search queries not seeing indexed documents and of reduced durability,
+	 * which does not matter while the index is not being searched yet.
+	 */
+	private static JsonObject createBulkLoadingSettings() {
+		JsonObject translogSettings = new JsonObject();
+		translogSettings.addProperty( "durability", "async" );
+
+		JsonObject indexSettings = new JsonObject();
+		indexSettings.addProperty( "refresh_interval", "-1" );
+		indexSettings.addProperty( "number_of_replicas", 0 );
+		indexSettings.add( "translog", translogSettings );
+
+		JsonObject settings = new JsonObject();
+		settings.add( "index", indexSettings );
+		return settings;
+	}
+
+	/*
+	 * Restores the settings altered by createBulkLoadingSettings() to the value they had in the previous index,
+	 * or resets them to their default if they were not set explicitly.
+	 */
+	private static JsonObject createRestoredSettings(IndexSettings previousSettings) {
+		JsonObject translogSettings = new JsonObject();
+		translogSettings.addProperty( "durability",
+				previousSettings.getTranslog() == null ? null : previousSettings.getTranslog().getDurability() );
+
+		JsonObject indexSettings = new JsonObject();
+		indexSettings.addProperty( "refresh_interval", previousSettings.getRefreshInterval() );
+		indexSettings.addProperty( "number_of_replicas", previousSettings.getNumberOfReplicas() );
+		indexSettings.add( "translog", translogSettings );
+
+		JsonObject settings = new JsonObject();
+		settings.add( "index", indexSettings );
+		return settings;
+	}
 }
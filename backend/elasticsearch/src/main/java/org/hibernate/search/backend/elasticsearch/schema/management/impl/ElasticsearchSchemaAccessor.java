@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.schema.management.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -28,6 +29,8 @@
 import org.hibernate.search.util.common.impl.Throwables;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonObject;
+
 /**
  * A utility implementing primitives for the various {@code ElasticsearchSchema*Impl}.
  * @author Gunnar Morling
@@ -83,16 +86,7 @@ public CompletableFuture<ExistingIndexMetadata> getCurrentIndexMetadataOrNull(In
 	}
 
 	private CompletableFuture<ExistingIndexMetadata> getCurrentIndexMetadata(IndexNames indexNames, boolean allowNull) {
-		NonBulkableWork<List<ExistingIndexMetadata>> work = getWorkFactory().getIndexMetadata()
-				.index( indexNames.getWrite() )
-				.index( indexNames.getRead() )
-				.build();
-		return execute( work )
-				.exceptionally( Futures.handler( e -> {
-					throw log.elasticsearchIndexMetadataRetrievalFailed(
-							Throwables.expectException( e )
-					);
-				} ) )
+		return getAllIndexMetadata( indexNames )
 				.thenApply( list -> {
 					if ( list.isEmpty() ) {
 						if ( allowNull ) {
@@ -112,6 +106,24 @@ private CompletableFuture<ExistingIndexMetadata> getCurrentIndexMetadata(IndexNa
 				} );
 	}
 
+	/**
+	 * @param indexNames The names of an index.
+	 * @return A future holding the metadata of every index the write and read aliases point to:
+	 * a single index most of the time, but two distinct indexes while reindexing into a new index.
+	 */
+	public CompletableFuture<List<ExistingIndexMetadata>> getAllIndexMetadata(IndexNames indexNames) {
+		NonBulkableWork<List<ExistingIndexMetadata>> work = getWorkFactory().getIndexMetadata()
+				.index( indexNames.getWrite() )
+				.index( indexNames.getRead() )
+				.build();
+		return execute( work )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchIndexMetadataRetrievalFailed(
+							Throwables.expectException( e )
+					);
+				} ) );
+	}
+
 	public CompletableFuture<?> putAliases(URLEncodedString indexName, Map<String, IndexAliasDefinition> aliases) {
 		NonBulkableWork<?> work = getWorkFactory().putIndexAliases( indexName, aliases ).build();
 		return execute( work )
@@ -132,6 +144,54 @@ public CompletableFuture<?> updateSettings(URLEncodedString indexName, IndexSett
 				} ) );
 	}
 
+	/**
+	 * @param indexName The name of the index whose settings should be updated.
+	 * @param settings The settings to update, in JSON form. Null values reset settings to their default.
+	 * @return A future.
+	 */
+	public CompletableFuture<?> updateSettings(URLEncodedString indexName, JsonObject settings) {
+		NonBulkableWork<?> work = getWorkFactory().putIndexSettings( indexName, settings ).build();
+		return execute( work )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchSettingsUpdateFailed(
+							indexName.original, Throwables.expectException( e )
+					);
+				} ) );
+	}
+
+	/**
+	 * Atomically removes an alias from an index and adds it to another index.
+	 *
+	 * @param alias The alias to move.
+	 * @param aliasDefinition The definition of the alias on the target index.
+	 * @param sourceIndexName The name of the index the alias currently points to.
+	 * @param targetIndexName The name of the index the alias should point to.
+	 * @return A future.
+	 */
+	public CompletableFuture<?> moveAlias(URLEncodedString alias, IndexAliasDefinition aliasDefinition,
+			URLEncodedString sourceIndexName, URLEncodedString targetIndexName) {
+		NonBulkableWork<?> work = getWorkFactory()
+				.putIndexAliases( targetIndexName, Collections.singletonMap( alias.original, aliasDefinition ) )
+				.remove( sourceIndexName, alias.original )
+				.build();
+		return execute( work )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchAliasMoveFailed(
+							alias, sourceIndexName, targetIndexName, e.getMessage(), Throwables.expectException( e )
+					);
+				} ) );
+	}
+
+	public CompletableFuture<?> mergeSegments(URLEncodedString indexName) {
+		NonBulkableWork<?> work = getWorkFactory().mergeSegments().index( indexName ).build();
+		return execute( work );
+	}
+
+	public CompletableFuture<?> refresh(URLEncodedString indexName) {
+		NonBulkableWork<?> work = getWorkFactory().refresh().index( indexName ).build();
+		return execute( work );
+	}
+
 	public CompletableFuture<?> putMapping(URLEncodedString indexName, RootTypeMapping mapping) {
 		NonBulkableWork<?> work = getWorkFactory().putIndexTypeMapping( indexName, mapping ).build();
 		return execute( work )
@@ -20,6 +20,8 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionPhase;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionReport;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -36,6 +38,11 @@
 	private static final JsonAccessor<Long> HITS_TOTAL_ACCESSOR =
 			HITS_ACCESSOR.property( "total" ).property( "value" ).asLong();
 
+	private static final JsonAccessor<String> HITS_TOTAL_RELATION_ACCESSOR =
+			HITS_ACCESSOR.property( "total" ).property( "relation" ).asString();
+
+	private static final String HITS_TOTAL_RELATION_LOWER_BOUND = "gte";
+
 	private static final JsonObjectAccessor AGGREGATIONS_ACCESSOR =
 			JsonAccessor.root().property( "aggregations" ).asObject();
 
@@ -61,17 +68,30 @@
 
 	@Override
 	public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody) {
+		long extractionStart = System.nanoTime();
+		SearchQueryExecutionReport.Builder reportBuilder = SearchQueryExecutionReport.builder();
+
 		ElasticsearchSearchQueryExtractContext extractContext = requestContext.createExtractContext(
 				responseBody
 		);
 
 		long hitCount = extractHitCount( responseBody );
+		boolean hitCountExact = extractHitCountExact( responseBody );
 
 		final List<Object> extractedHits = hitCount > 0 ?
 				extractHits( extractContext ) : Collections.emptyList();
+		reportBuilder.phaseDuration( SearchQueryExecutionPhase.HIT_EXTRACTION, System.nanoTime() - extractionStart );
 
-		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
-				Collections.emptyMap() : extractAggregations( extractContext, responseBody );
+		Map<AggregationKey<?>, ?> extractedAggregations;
+		if ( aggregations.isEmpty() ) {
+			extractedAggregations = Collections.emptyMap();
+		}
+		else {
+			long phaseStart = System.nanoTime();
+			extractedAggregations = extractAggregations( extractContext, responseBody );
+			reportBuilder.phaseDuration( SearchQueryExecutionPhase.AGGREGATION_EXTRACTION,
+					System.nanoTime() - phaseStart );
+		}
 
 		Integer took = TOOK_ACCESSOR.get( responseBody ).get();
 		Boolean timedOut = TIMED_OUT_ACCESSOR.get( responseBody ).get();
@@ -79,10 +99,11 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody) {
 		return new ElasticsearchLoadableSearchResult<>(
 				extractContext,
 				rootProjection,
-				hitCount,
+				hitCount, hitCountExact,
 				extractedHits,
 				extractedAggregations,
-				took, timedOut
+				took, timedOut,
+				reportBuilder, extractionStart
 		);
 	}
 
@@ -90,6 +111,11 @@ protected long extractHitCount(JsonObject responseBody) {
 		return HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
 	}
 
+	protected boolean extractHitCountExact(JsonObject responseBody) {
+		// The relation is "gte" when Elasticsearch stopped counting after reaching "track_total_hits"
+		return !HITS_TOTAL_RELATION_LOWER_BOUND.equals( HITS_TOTAL_RELATION_ACCESSOR.get( responseBody ).orElse( null ) );
+	}
+
 	private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractContext) {
 		JsonObject responseBody = extractContext.getResponseBody();
 		ProjectionHitMapper<?, ?> hitMapper = extractContext.getProjectionHitMapper();
@@ -17,6 +17,8 @@
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionPhase;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionReport;
 
 /**
  * A search result from the backend that offers a method to load data from the mapper.
@@ -34,27 +36,58 @@
 	private final ElasticsearchSearchProjection<?, H> rootProjection;
 
 	private final long hitCount;
+	private final boolean hitCountExact;
 	private List<Object> extractedHits;
 	private final Map<AggregationKey<?>, ?> extractedAggregations;
 	private final Integer took;
 	private final Boolean timedOut;
+	private final SearchQueryExecutionReport.Builder reportBuilder;
+	private final long extractionStart;
 
 	ElasticsearchLoadableSearchResult(ElasticsearchSearchQueryExtractContext extractContext,
 			ElasticsearchSearchProjection<?, H> rootProjection,
-			long hitCount,
+			long hitCount, boolean hitCountExact,
 			List<Object> extractedHits,
 			Map<AggregationKey<?>, ?> extractedAggregations,
-			Integer took, Boolean timedOut) {
+			Integer took, Boolean timedOut,
+			SearchQueryExecutionReport.Builder reportBuilder, long extractionStart) {
 		this.extractContext = extractContext;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
+		this.hitCountExact = hitCountExact;
 		this.extractedHits = extractedHits;
 		this.extractedAggregations = extractedAggregations;
 		this.took = took;
 		this.timedOut = timedOut;
+		this.reportBuilder = reportBuilder;
+		this.extractionStart = extractionStart;
+	}
+
+	/**
+	 * @return The builder for the execution report of this query,
+	 * with the phases executed so far already recorded.
+	 */
+	SearchQueryExecutionReport.Builder reportBuilder() {
+		return reportBuilder;
+	}
+
+	/**
+	 * @return The value of {@link System#nanoTime()} when the response was received and extraction started.
+	 */
+	long extractionStart() {
+		return extractionStart;
+	}
+
+	/**
+	 * @return {@code true} if the request timed out and the response may contain partial results.
+	 */
+	boolean timedOut() {
+		return Boolean.TRUE.equals( timedOut );
 	}
 
 	ElasticsearchSearchResult<H> loadBlocking() {
+		long phaseStart = System.nanoTime();
+
 		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
 
 		LoadingResult<?> loadingResult = extractContext.getProjectionHitMapper().loadBlocking();
@@ -88,9 +121,11 @@ ElasticsearchSearchResult<H> loadBlocking() {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedHits = null;
 
+		reportBuilder.phaseDuration( SearchQueryExecutionPhase.LOADING, System.nanoTime() - phaseStart );
+
 		return new ElasticsearchSearchResultImpl<>(
 				extractContext.getResponseBody(),
-				hitCount, loadedHits, extractedAggregations
+				hitCount, hitCountExact, loadedHits, extractedAggregations
 		, took, timedOut );
 	}
 }
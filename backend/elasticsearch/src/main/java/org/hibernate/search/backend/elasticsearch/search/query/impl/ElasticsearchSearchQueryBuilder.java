@@ -22,10 +22,12 @@
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchQueryElementCollector;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchValueFieldContext;
 import org.hibernate.search.backend.elasticsearch.search.predicate.impl.PredicateRequestContext;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.DistanceSortKey;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
+import org.hibernate.search.backend.elasticsearch.search.sort.impl.SortTypeKeys;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
@@ -34,6 +36,7 @@
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 import org.hibernate.search.engine.spatial.GeoPoint;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionListener;
 import org.hibernate.search.util.common.impl.CollectionHelper;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -62,6 +65,9 @@
 	private final LoadingContextBuilder<?, ?, ?> loadingContextBuilder;
 	private final ElasticsearchSearchProjection<?, H> rootProjection;
 
+	private final SearchQueryExecutionListener queryExecutionListener;
+	private final ElasticsearchSearchResultCache resultCache;
+
 	private final Set<String> routingKeys;
 	private JsonObject jsonPredicate;
 	private JsonArray jsonSort;
@@ -70,6 +76,8 @@
 	private Long timeoutValue;
 	private TimeUnit timeoutUnit;
 	private boolean exceptionOnTimeout;
+	private String collapseField;
+	private Long totalHitCountThreshold;
 	private ElasticsearchSearchRequestTransformer requestTransformer;
 
 	public ElasticsearchSearchQueryBuilder(
@@ -79,7 +87,9 @@ public ElasticsearchSearchQueryBuilder(
 			ElasticsearchSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContextBuilder<?, ?, ?> loadingContextBuilder,
-			ElasticsearchSearchProjection<?, H> rootProjection) {
+			ElasticsearchSearchProjection<?, H> rootProjection,
+			SearchQueryExecutionListener queryExecutionListener,
+			ElasticsearchSearchResultCache resultCache) {
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
@@ -91,6 +101,8 @@ public ElasticsearchSearchQueryBuilder(
 		this.rootPredicateContext = new PredicateRequestContext( sessionContext );
 		this.loadingContextBuilder = loadingContextBuilder;
 		this.rootProjection = rootProjection;
+		this.queryExecutionListener = queryExecutionListener;
+		this.resultCache = resultCache;
 	}
 
 	@Override
@@ -119,6 +131,21 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		this.exceptionOnTimeout = true;
 	}
 
+	@Override
+	public void collapse(String absoluteFieldPath) {
+		ElasticsearchSearchValueFieldContext<?> field = searchContext.indexes().field( absoluteFieldPath );
+		// Elasticsearch only collapses on single-valued keyword or numeric fields with doc values, just like sorts
+		if ( !field.nestedPathHierarchy().isEmpty() || field.type().queryElementFactory( SortTypeKeys.FIELD ) == null ) {
+			throw log.cannotCollapseOnField( absoluteFieldPath, field.eventContext() );
+		}
+		this.collapseField = absoluteFieldPath;
+	}
+
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		this.totalHitCountThreshold = totalHitCountThreshold;
+	}
+
 	@Override
 	public PredicateRequestContext getRootPredicateContext() {
 		return rootPredicateContext;
@@ -167,6 +194,8 @@ public void requestTransformer(ElasticsearchSearchRequestTransformer transformer
 
 	@Override
 	public ElasticsearchSearchQuery<H> build() {
+		long start = System.nanoTime();
+
 		JsonObject payload = new JsonObject();
 
 		JsonArray filters = new JsonArray();
@@ -187,6 +216,12 @@ public ElasticsearchSearchQuery<H> build() {
 			payload.add( "sort", jsonSort );
 		}
 
+		if ( collapseField != null ) {
+			JsonObject jsonCollapse = new JsonObject();
+			jsonCollapse.addProperty( "field", collapseField );
+			payload.add( "collapse", jsonCollapse );
+		}
+
 		LoadingContext<?, ?> loadingContext = loadingContextBuilder.build();
 
 		ElasticsearchSearchQueryRequestContext requestContext = new ElasticsearchSearchQueryRequestContext(
@@ -221,7 +256,8 @@ public ElasticsearchSearchQuery<H> build() {
 				searchContext, sessionContext, loadingContext, routingKeys,
 				payload, requestTransformer,
 				searchResultExtractor,
-				timeoutValue, timeoutUnit, exceptionOnTimeout
+				timeoutValue, timeoutUnit, exceptionOnTimeout, totalHitCountThreshold,
+				queryExecutionListener, resultCache, System.nanoTime() - start
 		);
 	}
 }
@@ -7,6 +7,9 @@
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -34,6 +37,9 @@
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionListener;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionPhase;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionReport;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -61,6 +67,10 @@
 	private final JsonObject payload;
 	private final ElasticsearchSearchRequestTransformer requestTransformer;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
+	private final SearchQueryExecutionListener queryExecutionListener;
+	private final ElasticsearchSearchResultCache resultCache;
+	private final Long totalHitCountThreshold;
+	private final long queryBuildingNanos;
 
 	private Long timeoutValue;
 	private TimeUnit timeoutUnit;
@@ -75,7 +85,9 @@
 			JsonObject payload,
 			ElasticsearchSearchRequestTransformer requestTransformer,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout) {
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout, Long totalHitCountThreshold,
+			SearchQueryExecutionListener queryExecutionListener, ElasticsearchSearchResultCache resultCache,
+			long queryBuildingNanos) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.searchContext = searchContext;
@@ -88,6 +100,10 @@
 		this.timeoutValue = timeoutValue;
 		this.timeoutUnit = timeoutUnit;
 		this.exceptionOnTimeout = exceptionOnTimeout;
+		this.totalHitCountThreshold = totalHitCountThreshold;
+		this.queryExecutionListener = queryExecutionListener;
+		this.resultCache = resultCache;
+		this.queryBuildingNanos = queryBuildingNanos;
 	}
 
 	@Override
@@ -109,20 +125,48 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
-		SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> builder =
-				workFactory.search( payload, searchResultExtractor );
+		long start = System.nanoTime();
+		List<URLEncodedString> indexNames = new ArrayList<>();
 		for ( ElasticsearchSearchIndexContext index : searchContext.indexes().elements() ) {
-			builder.index( index.names().getRead() );
+			indexNames.add( index.names().getRead() );
+		}
+		Integer defaultedLimit = defaultedLimit( limit, offset );
+
+		ElasticsearchSearchResultCache.Key cacheKey = null;
+		// The request transformer may alter the request in arbitrary ways: do not cache the response in that case.
+		if ( resultCache != null && requestTransformer == null ) {
+			cacheKey = resultCache.key( indexNames, payload, offset, defaultedLimit,
+					routingKeys, totalHitCountThreshold );
+			JsonObject cachedResponseBody = resultCache.get( cacheKey );
+			if ( cachedResponseBody != null ) {
+				ElasticsearchLoadableSearchResult<H> loadableResult = searchResultExtractor.extract( cachedResponseBody );
+				loadableResult.reportBuilder().fromCache( true );
+				return loadAndReport( loadableResult, start );
+			}
 		}
-		builder.paging( defaultedLimit( limit, offset ), offset )
+
+		SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> builder =
+				workFactory.search( payload, cachingResultExtractor( cacheKey ) );
+		for ( URLEncodedString indexName : indexNames ) {
+			builder.index( indexName );
+		}
+		builder.paging( defaultedLimit, offset )
 				.routingKeys( routingKeys )
 				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
+				.totalHitCountThreshold( totalHitCountThreshold )
 				.requestTransformer(
 						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
 				);
 		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = builder.build();
 
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) )
+		ElasticsearchLoadableSearchResult<H> loadableResult =
+				Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+		return loadAndReport( loadableResult, start );
+	}
+
+	private ElasticsearchSearchResult<H> loadAndReport(ElasticsearchLoadableSearchResult<H> loadableResult,
+			long start) {
+		ElasticsearchSearchResult<H> result = loadableResult
 				/*
 				 * WARNING: the following call must run in the user thread.
 				 * If we introduce async query execution, we will have to add a loadAsync method here,
@@ -131,10 +175,36 @@ public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
 				 * so we may choose to throw exceptions for those.
 				 */
 				.loadBlocking();
+		if ( queryExecutionListener != null ) {
+			reportExecution( loadableResult.reportBuilder()
+					.phaseDuration( SearchQueryExecutionPhase.REQUEST_EXECUTION,
+							loadableResult.extractionStart() - start )
+					.totalHitCount( result.totalHitCount() )
+					.hitCount( result.hits().size() )
+					.timedOut( result.timedOut() ),
+					start );
+		}
+		return result;
+	}
+
+	private ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> cachingResultExtractor(
+			ElasticsearchSearchResultCache.Key cacheKey) {
+		if ( cacheKey == null ) {
+			return searchResultExtractor;
+		}
+		return responseBody -> {
+			ElasticsearchLoadableSearchResult<H> loadableResult = searchResultExtractor.extract( responseBody );
+			// Partial results must not be served to subsequent executions.
+			if ( !loadableResult.timedOut() ) {
+				resultCache.put( cacheKey, responseBody );
+			}
+			return loadableResult;
+		};
 	}
 
 	@Override
 	public long fetchTotalHitCount() {
+		long start = System.nanoTime();
 		JsonObject filteredPayload = new JsonObject();
 		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
 		if ( querySubTree.isPresent() ) {
@@ -152,7 +222,14 @@ public long fetchTotalHitCount() {
 						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
 				);
 		NonBulkableWork<Long> work = builder.build();
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+		Long result = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+		if ( queryExecutionListener != null ) {
+			reportExecution( SearchQueryExecutionReport.builder()
+					.phaseDuration( SearchQueryExecutionPhase.REQUEST_EXECUTION, System.nanoTime() - start )
+					.totalHitCount( result ),
+					start );
+		}
+		return result;
 	}
 
 	@Override
@@ -183,6 +260,14 @@ public JsonObject explain(String typeName, Object id) {
 		return doExplain( index, id );
 	}
 
+	private void reportExecution(SearchQueryExecutionReport.Builder reportBuilder, long start) {
+		reportBuilder.took( Duration.ofNanos( System.nanoTime() - start ) )
+				.phaseDuration( SearchQueryExecutionPhase.QUERY_BUILDING, queryBuildingNanos )
+				.indexNames( searchContext.indexes().hibernateSearchIndexNames() )
+				.queryString( queryString() );
+		queryExecutionListener.onExecution( reportBuilder.build() );
+	}
+
 	private Integer defaultedLimit(Integer limit, Integer offset) {
 		/*
 		 * If the user has given a 'size' value, take it as is, let ES itself complain if it's too high;
@@ -0,0 +1,143 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.search.query.spi.SearchResultCache;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Caches the responses to search requests, so that identical queries do not send a request to the cluster again.
+ * <p>
+ * Hits are still extracted and loaded from the cached response for each execution, since that depends on the session.
+ * <p>
+ * Elasticsearch does not notify clients when an index is refreshed,
+ * so entries simply expire after a configurable time-to-live.
+ */
+public final class ElasticsearchSearchResultCache {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final ConfigurationProperty<Integer> MAX_ENTRIES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SEARCH_RESULT_CACHE_MAX_ENTRIES )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.SEARCH_RESULT_CACHE_MAX_ENTRIES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> TTL =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SEARCH_RESULT_CACHE_TTL )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.SEARCH_RESULT_CACHE_TTL )
+					.build();
+
+	/**
+	 * @param propertySource The backend property source.
+	 * @return A search result cache, or an empty optional if caching is disabled.
+	 */
+	public static Optional<ElasticsearchSearchResultCache> create(ConfigurationPropertySource propertySource) {
+		int maxEntries = MAX_ENTRIES.getAndTransform( propertySource, max -> {
+			if ( max < 0 ) {
+				throw log.invalidSearchResultCacheMaxEntries( max );
+			}
+			return max;
+		} );
+		if ( maxEntries == 0 ) {
+			return Optional.empty();
+		}
+		int timeToLive = TTL.getAndTransform( propertySource, ttl -> {
+			if ( ttl <= 0 ) {
+				throw log.invalidSearchResultCacheTimeToLive( ttl );
+			}
+			return ttl;
+		} );
+		return Optional.of( new ElasticsearchSearchResultCache( maxEntries, timeToLive ) );
+	}
+
+	private final SearchResultCache<Key, JsonObject> delegate;
+
+	private ElasticsearchSearchResultCache(int maxEntries, int timeToLiveMillis) {
+		this.delegate = new SearchResultCache<>( maxEntries, timeToLiveMillis, TimeUnit.MILLISECONDS );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + delegate + "]";
+	}
+
+	Key key(List<URLEncodedString> indexNames, JsonObject payload, Integer offset, Integer limit,
+			Set<String> routingKeys, Long totalHitCountThreshold) {
+		return new Key( indexNames, payload.toString(), offset, limit, routingKeys, totalHitCountThreshold );
+	}
+
+	JsonObject get(Key key) {
+		return delegate.get( key );
+	}
+
+	void put(Key key, JsonObject responseBody) {
+		delegate.put( key, responseBody );
+	}
+
+	static final class Key {
+		private final List<URLEncodedString> indexNames;
+		private final String payload;
+		private final Integer offset;
+		private final Integer limit;
+		private final Set<String> routingKeys;
+		private final Long totalHitCountThreshold;
+		private final int hashCode;
+
+		private Key(List<URLEncodedString> indexNames, String payload, Integer offset, Integer limit,
+				Set<String> routingKeys, Long totalHitCountThreshold) {
+			this.indexNames = indexNames;
+			this.payload = payload;
+			this.offset = offset;
+			this.limit = limit;
+			// Copy: the set of routing keys belongs to the query builder
+			this.routingKeys = new HashSet<>( routingKeys );
+			this.totalHitCountThreshold = totalHitCountThreshold;
+			this.hashCode = Objects.hash( indexNames, payload, offset, limit, this.routingKeys,
+					totalHitCountThreshold );
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return hashCode == other.hashCode
+					&& Objects.equals( offset, other.offset )
+					&& Objects.equals( limit, other.limit )
+					&& Objects.equals( totalHitCountThreshold, other.totalHitCountThreshold )
+					&& indexNames.equals( other.indexNames )
+					&& routingKeys.equals( other.routingKeys )
+					&& payload.equals( other.payload );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
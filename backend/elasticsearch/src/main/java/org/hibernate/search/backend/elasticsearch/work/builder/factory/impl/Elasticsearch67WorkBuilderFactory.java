@@ -17,6 +17,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexMappingWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.UpdateWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.CreateIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.DeleteWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
@@ -25,6 +26,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexTypeMappingWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.UpdateWork;
 
 import com.google.gson.JsonObject;
 
@@ -51,7 +53,17 @@ public IndexWorkBuilder index(String entityTypeName, Object entityIdentifier,
 			URLEncodedString elasticsearchIndexName,
 			String documentIdentifier, String routingKey, JsonObject document) {
 		return IndexWork.Builder.forElasticsearch67AndBelow( entityTypeName, entityIdentifier,
-				elasticsearchIndexName, Paths.DOC, documentIdentifier, routingKey, document );
+				elasticsearchIndexName, Paths.DOC, documentIdentifier, routingKey,
+				gsonProvider.getGson(), document );
+	}
+
+	@Override
+	public UpdateWorkBuilder update(String entityTypeName, Object entityIdentifier,
+			URLEncodedString elasticsearchIndexName,
+			String documentIdentifier, String routingKey, JsonObject partialDocument, JsonObject upsertDocument) {
+		return UpdateWork.Builder.forElasticsearch67AndBelow( entityTypeName, entityIdentifier,
+				elasticsearchIndexName, Paths.DOC, documentIdentifier, routingKey,
+				gsonProvider.getGson(), partialDocument, upsertDocument );
 	}
 
 	@Override
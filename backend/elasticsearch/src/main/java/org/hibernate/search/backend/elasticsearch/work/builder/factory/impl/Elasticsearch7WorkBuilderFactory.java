@@ -35,6 +35,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.RefreshWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.ScrollWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.UpdateWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.WaitForIndexStatusWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
@@ -58,6 +59,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.RefreshWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ScrollWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.UpdateWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.WaitForIndexStatusWork;
 
 import com.google.gson.JsonObject;
@@ -78,7 +80,16 @@ public IndexWorkBuilder index(String entityTypeName, Object entityIdentifier,
 			URLEncodedString elasticsearchIndexName,
 			String documentIdentifier, String routingKey, JsonObject document) {
 		return IndexWork.Builder.forElasticsearch7AndAbove( entityTypeName, entityIdentifier,
-				elasticsearchIndexName, documentIdentifier, routingKey, document );
+				elasticsearchIndexName, documentIdentifier, routingKey, gsonProvider.getGson(), document );
+	}
+
+	@Override
+	public UpdateWorkBuilder update(String entityTypeName, Object entityIdentifier,
+			URLEncodedString elasticsearchIndexName,
+			String documentIdentifier, String routingKey, JsonObject partialDocument, JsonObject upsertDocument) {
+		return UpdateWork.Builder.forElasticsearch7AndAbove( entityTypeName, entityIdentifier,
+				elasticsearchIndexName, documentIdentifier, routingKey, gsonProvider.getGson(),
+				partialDocument, upsertDocument );
 	}
 
 	@Override
@@ -168,6 +179,11 @@ public PutIndexSettingsWorkBuilder putIndexSettings(URLEncodedString indexName,
 		return new PutIndexSettingsWork.Builder( gsonProvider, indexName, settings );
 	}
 
+	@Override
+	public PutIndexSettingsWorkBuilder putIndexSettings(URLEncodedString indexName, JsonObject settings) {
+		return new PutIndexSettingsWork.Builder( indexName, settings );
+	}
+
 	@Override
 	public PutIndexMappingWorkBuilder putIndexTypeMapping(URLEncodedString indexName, RootTypeMapping mapping) {
 		return PutIndexTypeMappingWork.Builder.forElasticsearch7AndAbove( gsonProvider, indexName, mapping );
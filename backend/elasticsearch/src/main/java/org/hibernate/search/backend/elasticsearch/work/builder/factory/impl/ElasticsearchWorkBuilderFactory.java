@@ -34,6 +34,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.RefreshWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.ScrollWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.UpdateWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.WaitForIndexStatusWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
@@ -47,6 +48,10 @@ IndexWorkBuilder index(String entityTypeName, Object entityIdentifier,
 			URLEncodedString elasticsearchIndexName,
 			String documentIdentifier, String routingKey, JsonObject document);
 
+	UpdateWorkBuilder update(String entityTypeName, Object entityIdentifier,
+			URLEncodedString elasticsearchIndexName,
+			String documentIdentifier, String routingKey, JsonObject partialDocument, JsonObject upsertDocument);
+
 	DeleteWorkBuilder delete(String entityTypeName, Object entityIdentifier,
 			URLEncodedString elasticsearchIndexName,
 			String documentIdentifier, String routingKey);
@@ -83,6 +88,8 @@ DeleteWorkBuilder delete(String entityTypeName, Object entityIdentifier,
 
 	PutIndexSettingsWorkBuilder putIndexSettings(URLEncodedString indexName, IndexSettings settings);
 
+	PutIndexSettingsWorkBuilder putIndexSettings(URLEncodedString indexName, JsonObject settings);
+
 	PutIndexMappingWorkBuilder putIndexTypeMapping(URLEncodedString indexName, RootTypeMapping mapping);
 
 	WaitForIndexStatusWorkBuilder waitForIndexStatusWork(URLEncodedString indexName, IndexStatus requiredStatus, String timeout);
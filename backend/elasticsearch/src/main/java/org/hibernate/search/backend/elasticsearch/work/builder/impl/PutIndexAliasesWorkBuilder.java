@@ -6,9 +6,19 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.builder.impl;
 
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
 
 
 public interface PutIndexAliasesWorkBuilder extends ElasticsearchWorkBuilder<NonBulkableWork<Void>> {
 
+	/**
+	 * Removes an alias from an index, atomically with the other alias changes of this work.
+	 *
+	 * @param indexName The name of the index to remove the alias from.
+	 * @param alias The alias to remove.
+	 * @return This builder.
+	 */
+	PutIndexAliasesWorkBuilder remove(URLEncodedString indexName, String alias);
+
 }
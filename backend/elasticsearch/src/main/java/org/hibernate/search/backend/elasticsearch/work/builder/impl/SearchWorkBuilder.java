@@ -28,4 +28,6 @@
 	SearchWorkBuilder<R> requestTransformer(Function<ElasticsearchRequest, ElasticsearchRequest> requestTransformer);
 
 	SearchWorkBuilder<R> timeout(Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout);
+
+	SearchWorkBuilder<R> totalHitCountThreshold(Long totalHitCountThreshold);
 }
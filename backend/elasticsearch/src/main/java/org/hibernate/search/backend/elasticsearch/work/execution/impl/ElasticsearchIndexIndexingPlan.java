@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.work.execution.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -14,6 +15,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentIndexingWork;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
@@ -62,6 +64,39 @@ public void update(DocumentReferenceProvider referenceProvider,
 		index( referenceProvider, documentContributor );
 	}
 
+	@Override
+	public void updatePartially(DocumentReferenceProvider referenceProvider,
+			Collection<? extends IndexFieldReference<?>> updatedFields,
+			DocumentContributor partialDocumentContributor, DocumentContributor documentContributor) {
+		if ( !indexManagerContext.isPartialUpdateEnabled() ) {
+			index( referenceProvider, documentContributor );
+			return;
+		}
+
+		String id = referenceProvider.identifier();
+		String elasticsearchId = indexManagerContext.toElasticsearchId( tenantId, id );
+		String routingKey = referenceProvider.routingKey();
+
+		JsonObject partialDocument = indexManagerContext.createPartialDocument( updatedFields, partialDocumentContributor );
+		/*
+		 * If the document is missing from the index (e.g. the entity was created before indexing was enabled),
+		 * create it with the fields we know about instead of failing.
+		 * Building the full document would defeat the purpose of partial updates,
+		 * so the missing fields will only be populated on the next full reindexing.
+		 */
+		JsonObject upsertDocument = indexManagerContext.createUpsertDocument( tenantId, id, partialDocument );
+
+		collect(
+				builderFactory.update(
+						indexManagerContext.getMappedTypeName(), referenceProvider.entityIdentifier(),
+						indexManagerContext.getElasticsearchIndexWriteName(),
+						elasticsearchId, routingKey, partialDocument, upsertDocument
+				)
+						.refresh( refreshStrategy )
+						.build()
+		);
+	}
+
 	@Override
 	public void delete(DocumentReferenceProvider referenceProvider) {
 		String elasticsearchId = indexManagerContext.toElasticsearchId( tenantId, referenceProvider.identifier() );
@@ -77,4 +77,19 @@ public CompletableFuture<?> flush() {
 	public CompletableFuture<?> refresh() {
 		return orchestrator.submit( builderFactory.refresh().index( indexName ).build() );
 	}
+
+	@Override
+	public CompletableFuture<?> beginBulkLoading() {
+		// Elasticsearch manages its own buffers and merges.
+		// Settings suited to bulk loading (no refresh, no replicas, ...) are only applied
+		// when reindexing into a new index, see ElasticsearchIndexSchemaManager#beginReindexing.
+		// Disabling refreshes requires care even then: writes waiting for the next refresh would block
+		// until reindexing completes, see ElasticsearchBatchingWorkOrchestrator#setRefreshDisabled.
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public CompletableFuture<?> endBulkLoading() {
+		return CompletableFuture.completedFuture( null );
+	}
 }
@@ -6,7 +6,10 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.execution.impl;
 
+import java.util.Collection;
+
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
 
 import com.google.gson.JsonObject;
@@ -33,4 +36,11 @@ public interface WorkExecutionIndexManagerContext {
 	JsonObject createDocument(String tenantId, String id,
 			DocumentContributor documentContributor);
 
+	boolean isPartialUpdateEnabled();
+
+	JsonObject createPartialDocument(Collection<? extends IndexFieldReference<?>> updatedFields,
+			DocumentContributor partialDocumentContributor);
+
+	JsonObject createUpsertDocument(String tenantId, String id, JsonObject partialDocument);
+
 }
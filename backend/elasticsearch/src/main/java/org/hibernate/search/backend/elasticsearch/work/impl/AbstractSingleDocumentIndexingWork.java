@@ -7,7 +7,9 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -21,7 +23,7 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final JsonObject bulkableActionMetadata;
-	private final JsonObject bulkableActionBody;
+	private final EncodedJsonObject bulkableActionBody;
 	protected final ElasticsearchRequestSuccessAssessor resultAssessor;
 
 	private final String entityTypeName;
@@ -30,6 +32,8 @@
 
 	private final DocumentRefreshStrategy refreshStrategy;
 
+	private final Object coalescingKey;
+
 	protected AbstractSingleDocumentIndexingWork(AbstractBuilder<?> builder) {
 		this.bulkableActionMetadata = builder.buildBulkableActionMetadata();
 		this.bulkableActionBody = builder.buildBulkableActionBody();
@@ -38,6 +42,9 @@ protected AbstractSingleDocumentIndexingWork(AbstractBuilder<?> builder) {
 		this.entityIdentifier = builder.entityIdentifier;
 		this.documentIdentifier = builder.documentIdentifier;
 		this.refreshStrategy = builder.refreshStrategy;
+		// Works with different refresh strategies must not be coalesced:
+		// a superseded work could end up not triggering the refresh it requires.
+		this.coalescingKey = Arrays.asList( builder.buildCoalescingKey(), refreshStrategy );
 	}
 
 	@Override
@@ -45,6 +52,17 @@ public String getQueuingKey() {
 		return documentIdentifier;
 	}
 
+	@Override
+	public Object getCoalescingKey() {
+		return coalescingKey;
+	}
+
+	@Override
+	public boolean isSupersedingPreviousWorks() {
+		// Both indexing and deleting a document replace any previous version of that document.
+		return true;
+	}
+
 	@Override
 	public String getEntityTypeName() {
 		return entityTypeName;
@@ -66,7 +84,7 @@ public JsonObject getBulkableActionMetadata() {
 	}
 
 	@Override
-	public JsonObject getBulkableActionBody() {
+	public EncodedJsonObject getBulkableActionBody() {
 		return bulkableActionBody;
 	}
 
@@ -110,7 +128,12 @@ public B refresh(DocumentRefreshStrategy refreshStrategy) {
 
 		protected abstract JsonObject buildBulkableActionMetadata();
 
-		protected abstract JsonObject buildBulkableActionBody();
+		/**
+		 * @return An object identifying the document targeted by the work, including its index and routing key.
+		 */
+		protected abstract Object buildCoalescingKey();
+
+		protected abstract EncodedJsonObject buildBulkableActionBody();
 
 	}
 }
@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.BulkWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -61,13 +62,16 @@ protected ElasticsearchRequest buildRequest() {
 				case FORCE:
 					builder.param( "refresh", true );
 					break;
+				case WAIT_FOR:
+					builder.param( "refresh", "wait_for" );
+					break;
 				case NONE:
 					break;
 			}
 
 			for ( BulkableWork<?> work : bulkableWorks ) {
 				builder.body( work.getBulkableActionMetadata() );
-				JsonObject actionBody = work.getBulkableActionBody();
+				EncodedJsonObject actionBody = work.getBulkableActionBody();
 				if ( actionBody != null ) {
 					builder.body( actionBody );
 				}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
 import com.google.gson.JsonObject;
@@ -17,7 +18,10 @@
 
 	JsonObject getBulkableActionMetadata();
 
-	JsonObject getBulkableActionBody();
+	/**
+	 * @return The body of the bulk action, already encoded, or {@code null} if this action has no body.
+	 */
+	EncodedJsonObject getBulkableActionBody();
 
 	/**
 	 * @param context The execution context
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.Arrays;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.DeleteWorkBuilder;
 
@@ -71,7 +74,12 @@ protected JsonObject buildBulkableActionMetadata() {
 		}
 
 		@Override
-		protected JsonObject buildBulkableActionBody() {
+		protected Object buildCoalescingKey() {
+			return Arrays.asList( indexName.original, documentIdentifier, routingKey );
+		}
+
+		@Override
+		protected EncodedJsonObject buildBulkableActionBody() {
 			return null;
 		}
 
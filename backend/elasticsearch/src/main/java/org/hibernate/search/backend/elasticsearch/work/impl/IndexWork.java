@@ -6,9 +6,13 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.Arrays;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 
@@ -25,30 +29,33 @@ private IndexWork(Builder builder) {
 		private final URLEncodedString indexName;
 		private final URLEncodedString typeName;
 		private final String routingKey;
+		private final Gson gson;
 		private final JsonObject document;
 
 		public static Builder forElasticsearch67AndBelow(String entityTypeName, Object entityIdentifier,
 				URLEncodedString elasticsearchIndexName, URLEncodedString typeName,
 				String documentIdentifier, String routingKey,
-				JsonObject document) {
+				Gson gson, JsonObject document) {
 			return new Builder( entityTypeName, entityIdentifier,
-					elasticsearchIndexName, typeName, documentIdentifier, routingKey, document );
+					elasticsearchIndexName, typeName, documentIdentifier, routingKey, gson, document );
 		}
 
 		public static Builder forElasticsearch7AndAbove(String entityTypeName, Object entityIdentifier,
 				URLEncodedString elasticsearchIndexName, String documentIdentifier, String routingKey,
-				JsonObject document) {
+				Gson gson, JsonObject document) {
 			return new Builder( entityTypeName, entityIdentifier,
-					elasticsearchIndexName, null, documentIdentifier, routingKey, document );
+					elasticsearchIndexName, null, documentIdentifier, routingKey, gson, document );
 		}
 
 		private Builder(String entityTypeName, Object entityIdentifier, URLEncodedString elasticsearchIndexName,
-					URLEncodedString typeName, String documentIdentifier, String routingKey, JsonObject document) {
+					URLEncodedString typeName, String documentIdentifier, String routingKey,
+					Gson gson, JsonObject document) {
 			super( DefaultElasticsearchRequestSuccessAssessor.INSTANCE, entityTypeName, entityIdentifier,
 					documentIdentifier );
 			this.indexName = elasticsearchIndexName;
 			this.typeName = typeName;
 			this.routingKey = routingKey;
+			this.gson = gson;
 			this.document = document;
 		}
 
@@ -73,8 +80,14 @@ protected JsonObject buildBulkableActionMetadata() {
 		}
 
 		@Override
-		protected JsonObject buildBulkableActionBody() {
-			return document;
+		protected Object buildCoalescingKey() {
+			return Arrays.asList( indexName.original, documentIdentifier, routingKey );
+		}
+
+		@Override
+		protected EncodedJsonObject buildBulkableActionBody() {
+			// Encode the document right away, so that the JSON tree doesn't outlive the work builder.
+			return EncodedJsonObject.encode( gson, document );
 		}
 
 		@Override
@@ -43,6 +43,18 @@ public Builder(GsonProvider gsonProvider, URLEncodedString indexName,
 			this.payload = createPayload( gsonProvider, indexName.original, aliases );
 		}
 
+		@Override
+		public Builder remove(URLEncodedString indexName, String alias) {
+			JsonObject action = new JsonObject();
+			JsonObject aliasDefinition = new JsonObject();
+			action.add( "remove", aliasDefinition );
+			aliasDefinition.addProperty( "index", indexName.original );
+			aliasDefinition.addProperty( "alias", alias );
+
+			payload.getAsJsonArray( "actions" ).add( action );
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
@@ -48,6 +48,13 @@ public Builder(
 			this.payload = gson.toJsonTree( settings ).getAsJsonObject();
 		}
 
+		public Builder(URLEncodedString indexName, JsonObject settings) {
+			super( DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
+			this.indexName = indexName;
+			// Null values are kept on purpose: they reset the corresponding settings to their default.
+			this.payload = settings;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
@@ -67,7 +67,6 @@ public static <T> Builder<T> forElasticsearch63to68(JsonObject payload, Elastics
 		}
 
 		public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
-			// TODO HSEARCH-3517 disable track_total_hits when possible
 			return new Builder<>( payload, resultExtractor, true, false );
 		}
 
@@ -85,6 +84,7 @@ public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, Elast
 		private Long timeoutValue;
 		private TimeUnit timeoutUnit;
 		private boolean exceptionOnTimeout;
+		private Long totalHitCountThreshold;
 
 		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, Boolean trackTotalHits,
 				boolean allowPartialSearchResultsSupported) {
@@ -129,6 +129,12 @@ public SearchWorkBuilder<R> timeout(Long timeoutValue, TimeUnit timeoutUnit, boo
 			return this;
 		}
 
+		@Override
+		public SearchWorkBuilder<R> totalHitCountThreshold(Long totalHitCountThreshold) {
+			this.totalHitCountThreshold = totalHitCountThreshold;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
@@ -155,7 +161,13 @@ protected ElasticsearchRequest buildRequest() {
 			}
 
 			if ( trackTotalHits != null ) {
-				builder.param( "track_total_hits", trackTotalHits );
+				if ( trackTotalHits && totalHitCountThreshold != null ) {
+					// Elasticsearch stops counting hits beyond the threshold, and reports the count as a lower bound
+					builder.param( "track_total_hits", totalHitCountThreshold );
+				}
+				else {
+					builder.param( "track_total_hits", trackTotalHits );
+				}
 			}
 
 			if ( timeoutValue != null && timeoutUnit != null ) {
@@ -0,0 +1,116 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.Arrays;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.UpdateWorkBuilder;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+/**
+ * A partial update of a document.
+ * <p>
+ * Fields absent from the partial document are left untouched.
+ * If the document does not exist, it is created from the upsert document.
+ */
+public class UpdateWork extends AbstractSingleDocumentIndexingWork
+		implements SingleDocumentIndexingWork {
+
+	private UpdateWork(Builder builder) {
+		super( builder );
+	}
+
+	@Override
+	public boolean isSupersedingPreviousWorks() {
+		// The result depends on the previous version of the document.
+		return false;
+	}
+
+	public static class Builder
+			extends AbstractSingleDocumentIndexingWork.AbstractBuilder<Builder>
+			implements UpdateWorkBuilder {
+		private final URLEncodedString indexName;
+		private final URLEncodedString typeName;
+		private final String routingKey;
+		private final Gson gson;
+		private final JsonObject partialDocument;
+		private final JsonObject upsertDocument;
+
+		public static Builder forElasticsearch67AndBelow(String entityTypeName, Object entityIdentifier,
+				URLEncodedString elasticsearchIndexName, URLEncodedString typeName,
+				String documentIdentifier, String routingKey,
+				Gson gson, JsonObject partialDocument, JsonObject upsertDocument) {
+			return new Builder( entityTypeName, entityIdentifier,
+					elasticsearchIndexName, typeName, documentIdentifier, routingKey, gson,
+					partialDocument, upsertDocument );
+		}
+
+		public static Builder forElasticsearch7AndAbove(String entityTypeName, Object entityIdentifier,
+				URLEncodedString elasticsearchIndexName, String documentIdentifier, String routingKey,
+				Gson gson, JsonObject partialDocument, JsonObject upsertDocument) {
+			return new Builder( entityTypeName, entityIdentifier,
+					elasticsearchIndexName, null, documentIdentifier, routingKey, gson,
+					partialDocument, upsertDocument );
+		}
+
+		private Builder(String entityTypeName, Object entityIdentifier, URLEncodedString elasticsearchIndexName,
+					URLEncodedString typeName, String documentIdentifier, String routingKey,
+					Gson gson, JsonObject partialDocument, JsonObject upsertDocument) {
+			super( DefaultElasticsearchRequestSuccessAssessor.INSTANCE, entityTypeName, entityIdentifier,
+					documentIdentifier );
+			this.indexName = elasticsearchIndexName;
+			this.typeName = typeName;
+			this.routingKey = routingKey;
+			this.gson = gson;
+			this.partialDocument = partialDocument;
+			this.upsertDocument = upsertDocument;
+		}
+
+		@Override
+		protected JsonObject buildBulkableActionMetadata() {
+			JsonObject update = new JsonObject();
+			update.addProperty( "_index", indexName.original );
+			if ( typeName != null ) { // ES6.x and below only
+				update.addProperty( "_type", typeName.original );
+			}
+
+			update.addProperty( "_id", documentIdentifier );
+
+			if ( routingKey != null ) {
+				update.addProperty( "routing", routingKey );
+			}
+
+			JsonObject result = new JsonObject();
+			result.add( "update", update );
+
+			return result;
+		}
+
+		@Override
+		protected Object buildCoalescingKey() {
+			return Arrays.asList( indexName.original, documentIdentifier, routingKey );
+		}
+
+		@Override
+		protected EncodedJsonObject buildBulkableActionBody() {
+			JsonObject body = new JsonObject();
+			body.add( "doc", partialDocument );
+			body.add( "upsert", upsertDocument );
+			// Encode the document right away, so that the JSON tree doesn't outlive the work builder.
+			return EncodedJsonObject.encode( gson, body );
+		}
+
+		@Override
+		public UpdateWork build() {
+			return new UpdateWork( this );
+		}
+	}
+}
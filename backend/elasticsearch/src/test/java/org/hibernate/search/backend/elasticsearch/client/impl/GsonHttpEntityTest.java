@@ -0,0 +1,244 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.IOControl;
+
+/**
+ * Checks that body parts pre-encoded as {@link EncodedJsonObject}s
+ * are written exactly as if they had been serialized from a {@link JsonObject}.
+ */
+public class GsonHttpEntityTest {
+
+	/**
+	 * Must match the size of byte buffer pages in {@link GsonHttpEntity}.
+	 */
+	private static final int PAGE_SIZE = 1024;
+
+	/**
+	 * The sizes of write windows accepted by the output, in turn:
+	 * small windows force the entity to keep pending pages around,
+	 * while large ones let it flush multiple pages at once.
+	 */
+	private static final int[] WRITE_WINDOWS = { 0, 1, 7, PAGE_SIZE + 3 };
+
+	private final Gson gson = GsonProvider.create( GsonBuilder::new, false ).getGson();
+
+	@Test
+	public void encoded_crossingPageBoundaries() throws IOException {
+		List<JsonObject> objects = new ArrayList<>();
+		// Sizes around the page size, to end parts right before, on, and right after page boundaries,
+		// and a part spanning multiple pages.
+		for ( int size : new int[] { PAGE_SIZE - 2, PAGE_SIZE - 1, PAGE_SIZE, PAGE_SIZE + 1, 3 * PAGE_SIZE + 17 } ) {
+			objects.add( objectOfEncodedSize( size ) );
+		}
+		// Multi-byte characters, to make sure the bytes are copied as-is
+		objects.add( object( "caf\u00e9 \uD802\uDD04 " + repeat( '\u00e9', PAGE_SIZE ) ) );
+
+		List<Object> encodedParts = new ArrayList<>();
+		for ( JsonObject object : objects ) {
+			encodedParts.add( EncodedJsonObject.encode( gson, object ) );
+		}
+
+		assertSameOutput( encodedParts, objects );
+	}
+
+	@Test
+	public void mixedEncodedAndJsonObjects() throws IOException {
+		List<JsonObject> objects = new ArrayList<>();
+		List<Object> mixedParts = new ArrayList<>();
+		for ( int i = 0; i < 20; i++ ) {
+			// Vary the size, so that parts of both kinds end up crossing page boundaries
+			JsonObject object = object( i + " " + repeat( 'a', i * 97 ) );
+			objects.add( object );
+			// Alternate, with sometimes multiple parts of the same kind in a row
+			if ( i % 3 == 0 ) {
+				mixedParts.add( object );
+			}
+			else {
+				mixedParts.add( EncodedJsonObject.encode( gson, object ) );
+			}
+		}
+
+		assertSameOutput( mixedParts, objects );
+	}
+
+	@Test
+	public void contentLength_small() throws IOException {
+		JsonObject metadata = object( "metadata" );
+		JsonObject document = object( "document" );
+		List<Object> parts = Arrays.asList( metadata, EncodedJsonObject.encode( gson, document ) );
+		byte[] expected = expectedBytes( Arrays.asList( metadata, document ) );
+
+		try ( GsonHttpEntity entity = new GsonHttpEntity( gson, parts ) ) {
+			// The content fits in a single page: the length is known upfront, as with non-encoded parts
+			assertThat( entity.getContentLength() ).isEqualTo( expected.length );
+			assertThat( produceContent( entity ) ).isEqualTo( expected );
+		}
+	}
+
+	@Test
+	public void contentLength_large() throws IOException {
+		List<JsonObject> objects = new ArrayList<>();
+		List<Object> parts = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			JsonObject object = objectOfEncodedSize( PAGE_SIZE / 2 + i );
+			objects.add( object );
+			parts.add( EncodedJsonObject.encode( gson, object ) );
+		}
+		byte[] expected = expectedBytes( objects );
+
+		// The content does not fit in a single page: the length is unknown upfront, as with non-encoded parts
+		try ( GsonHttpEntity entity = new GsonHttpEntity( gson, parts );
+				GsonHttpEntity nonEncodedEntity = new GsonHttpEntity( gson, objects ) ) {
+			assertThat( nonEncodedEntity.getContentLength() ).isEqualTo( -1L );
+			assertThat( entity.getContentLength() ).isEqualTo( -1L );
+		}
+
+		// Once the content was written, the length is known
+		try ( GsonHttpEntity entity = new GsonHttpEntity( gson, parts ) ) {
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			entity.writeTo( outputStream );
+			assertThat( outputStream.toByteArray() ).isEqualTo( expected );
+			assertThat( entity.getContentLength() ).isEqualTo( expected.length );
+		}
+	}
+
+	private void assertSameOutput(List<?> parts, List<JsonObject> expectedObjects) throws IOException {
+		byte[] expected = expectedBytes( expectedObjects );
+
+		// Streaming output, with flow control pushing back
+		try ( GsonHttpEntity entity = new GsonHttpEntity( gson, parts ) ) {
+			assertThat( produceContent( entity ) ).isEqualTo( expected );
+			// The entity is repeatable
+			entity.close();
+			assertThat( produceContent( entity ) ).isEqualTo( expected );
+		}
+
+		// Blocking output
+		try ( GsonHttpEntity entity = new GsonHttpEntity( gson, parts ) ) {
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			entity.writeTo( outputStream );
+			assertThat( outputStream.toByteArray() ).isEqualTo( expected );
+			assertThat( entity.getContentLength() ).isEqualTo( expected.length );
+		}
+
+		// Same output as an entity built from non-encoded parts
+		try ( GsonHttpEntity nonEncodedEntity = new GsonHttpEntity( gson, expectedObjects ) ) {
+			assertThat( produceContent( nonEncodedEntity ) ).isEqualTo( expected );
+		}
+	}
+
+	private byte[] expectedBytes(List<JsonObject> objects) {
+		StringBuilder builder = new StringBuilder();
+		for ( JsonObject object : objects ) {
+			gson.toJson( object, builder );
+			builder.append( '\n' );
+		}
+		return builder.toString().getBytes( StandardCharsets.UTF_8 );
+	}
+
+	private byte[] produceContent(GsonHttpEntity entity) throws IOException {
+		HeapContentEncoder encoder = new HeapContentEncoder();
+		int loopCounter = 0;
+		while ( !encoder.isCompleted() ) {
+			encoder.nextWriteWindow = WRITE_WINDOWS[loopCounter++ % WRITE_WINDOWS.length];
+			entity.produceContent( encoder, NoOpIOControl.INSTANCE );
+		}
+		return encoder.outputStream.toByteArray();
+	}
+
+	private JsonObject objectOfEncodedSize(int size) {
+		String prefix = gson.toJson( object( "" ) );
+		JsonObject result = object( repeat( 'x', size - prefix.getBytes( StandardCharsets.UTF_8 ).length ) );
+		assertThat( EncodedJsonObject.encode( gson, result ).utf8Bytes() ).hasSize( size );
+		return result;
+	}
+
+	private static JsonObject object(String text) {
+		JsonObject object = new JsonObject();
+		object.addProperty( "text", text );
+		return object;
+	}
+
+	private static String repeat(char c, int count) {
+		char[] chars = new char[count];
+		Arrays.fill( chars, c );
+		return new String( chars );
+	}
+
+	private static final class HeapContentEncoder implements ContentEncoder {
+		private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		private int nextWriteWindow;
+		private boolean completed;
+
+		@Override
+		public int write(ByteBuffer src) {
+			assertThat( completed ).isFalse();
+			int length = Math.min( src.remaining(), nextWriteWindow );
+			byte[] bytes = new byte[length];
+			src.get( bytes );
+			outputStream.write( bytes, 0, length );
+			nextWriteWindow -= length;
+			return length;
+		}
+
+		@Override
+		public void complete() {
+			assertThat( completed ).as( "Completed multiple times" ).isFalse();
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+	}
+
+	private static final class NoOpIOControl implements IOControl {
+		private static final NoOpIOControl INSTANCE = new NoOpIOControl();
+
+		@Override
+		public void requestInput() {
+		}
+
+		@Override
+		public void suspendInput() {
+		}
+
+		@Override
+		public void requestOutput() {
+		}
+
+		@Override
+		public void suspendOutput() {
+		}
+
+		@Override
+		public void shutdown() {
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.execution.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.expect;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchSerialWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.Elasticsearch7WorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentIndexingWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.UpdateWork;
+import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentReferenceProvider;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import org.easymock.Capture;
+import org.easymock.EasyMockSupport;
+
+public class ElasticsearchIndexIndexingPlanTest extends EasyMockSupport {
+
+	private static final String TYPE_NAME = "SomeTypeName";
+	private static final URLEncodedString INDEX_NAME = URLEncodedString.fromString( "index-write" );
+
+	private final Gson gson = GsonProvider.create( GsonBuilder::new, false ).getGson();
+
+	private final ElasticsearchSerialWorkOrchestrator orchestratorMock =
+			createStrictMock( ElasticsearchSerialWorkOrchestrator.class );
+	private final WorkExecutionIndexManagerContext indexManagerContextMock =
+			createMock( WorkExecutionIndexManagerContext.class );
+	private final BackendSessionContext sessionContextMock = createMock( BackendSessionContext.class );
+	private final EntityReferenceFactory<Object> entityReferenceFactoryMock = createMock( EntityReferenceFactory.class );
+	private final IndexFieldReference<?> fieldReferenceMock = createMock( IndexFieldReference.class );
+	private final DocumentContributor partialDocumentContributorMock = createMock( DocumentContributor.class );
+	private final DocumentContributor documentContributorMock = createMock( DocumentContributor.class );
+
+	@Test
+	public void updatePartially_disabled() {
+		ElasticsearchIndexIndexingPlan<Object> plan = createPlan();
+		JsonObject document = json( "{'text': 'updated', 'other': 'unchanged'}" );
+
+		resetAll();
+		expectIndexManagerContext( false );
+		expect( indexManagerContextMock.createDocument( null, "1", documentContributorMock ) )
+				.andReturn( document );
+		replayAll();
+		plan.updatePartially( referenceProvider( "1" ), Collections.singletonList( fieldReferenceMock ),
+				partialDocumentContributorMock, documentContributorMock );
+		verifyAll();
+
+		SingleDocumentIndexingWork work = executeAndCaptureWork( plan );
+		// Falls back to re-indexing the whole document
+		assertThat( work ).isInstanceOf( IndexWork.class );
+		assertThat( work.getBulkableActionBody().decode() ).isEqualTo( document );
+	}
+
+	@Test
+	public void updatePartially_enabled() {
+		ElasticsearchIndexIndexingPlan<Object> plan = createPlan();
+		JsonObject partialDocument = json( "{'text': 'updated', 'cleared': null}" );
+		JsonObject upsertDocument = json( "{'text': 'updated', 'cleared': null, '_entity_type': 'SomeTypeName'}" );
+
+		resetAll();
+		expectIndexManagerContext( true );
+		expect( indexManagerContextMock.createPartialDocument( Collections.singletonList( fieldReferenceMock ),
+				partialDocumentContributorMock ) )
+				.andReturn( partialDocument );
+		expect( indexManagerContextMock.createUpsertDocument( null, "1", partialDocument ) )
+				.andReturn( upsertDocument );
+		replayAll();
+		plan.updatePartially( referenceProvider( "1" ), Collections.singletonList( fieldReferenceMock ),
+				partialDocumentContributorMock, documentContributorMock );
+		verifyAll();
+
+		SingleDocumentIndexingWork work = executeAndCaptureWork( plan );
+		assertThat( work ).isInstanceOf( UpdateWork.class );
+		assertThat( work.getBulkableActionMetadata() )
+				.isEqualTo( json( "{'update': {'_index': 'index-write', '_id': '1'}}" ) );
+		// Only the updated fields are sent; cleared fields are sent as null;
+		// the upsert document is used if the document is missing from the index.
+		assertThat( work.getBulkableActionBody().decode() )
+				.isEqualTo( json( "{'doc': {'text': 'updated', 'cleared': null},"
+						+ " 'upsert': {'text': 'updated', 'cleared': null, '_entity_type': 'SomeTypeName'}}" ) );
+	}
+
+	private ElasticsearchIndexIndexingPlan<Object> createPlan() {
+		resetAll();
+		expect( sessionContextMock.tenantIdentifier() ).andStubReturn( null );
+		replayAll();
+		ElasticsearchIndexIndexingPlan<Object> plan = new ElasticsearchIndexIndexingPlan<>(
+				new Elasticsearch7WorkBuilderFactory( GsonProvider.create( GsonBuilder::new, false ) ),
+				orchestratorMock, indexManagerContextMock, sessionContextMock,
+				entityReferenceFactoryMock, DocumentRefreshStrategy.NONE
+		);
+		verifyAll();
+		return plan;
+	}
+
+	private void expectIndexManagerContext(boolean partialUpdateEnabled) {
+		expect( indexManagerContextMock.isPartialUpdateEnabled() ).andStubReturn( partialUpdateEnabled );
+		expect( indexManagerContextMock.getMappedTypeName() ).andStubReturn( TYPE_NAME );
+		expect( indexManagerContextMock.getElasticsearchIndexWriteName() ).andStubReturn( INDEX_NAME );
+		expect( indexManagerContextMock.toElasticsearchId( null, "1" ) ).andStubReturn( "1" );
+	}
+
+	@SuppressWarnings("unchecked")
+	private SingleDocumentIndexingWork executeAndCaptureWork(ElasticsearchIndexIndexingPlan<Object> plan) {
+		Capture<IndexingWork<?>> workCapture = Capture.newInstance();
+		resetAll();
+		orchestratorMock.submit( anyObject( CompletableFuture.class ), capture( workCapture ) );
+		replayAll();
+		plan.executeAndReport();
+		verifyAll();
+		return (SingleDocumentIndexingWork) workCapture.getValue();
+	}
+
+	private JsonObject json(String json) {
+		return gson.fromJson( json, JsonObject.class );
+	}
+
+	private static DocumentReferenceProvider referenceProvider(String identifier) {
+		return new DocumentReferenceProvider() {
+			@Override
+			public String identifier() {
+				return identifier;
+			}
+
+			@Override
+			public String routingKey() {
+				return null;
+			}
+
+			@Override
+			public Object entityIdentifier() {
+				return identifier;
+			}
+		};
+	}
+}
@@ -20,6 +20,7 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.test.FutureAssert;
@@ -27,6 +28,7 @@
 
 import org.junit.Test;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import org.easymock.Capture;
@@ -44,9 +46,9 @@ public void execute_success() {
 
 		resetAll();
 		expect( bulkableWork0.getBulkableActionMetadata() ).andReturn( bulkableWorkMetadata( 0 ) );
-		expect( bulkableWork0.getBulkableActionBody() ).andReturn( bulkableWorkBody( 0 ) );
+		expect( bulkableWork0.getBulkableActionBody() ).andReturn( encodedBulkableWorkBody( 0 ) );
 		expect( bulkableWork1.getBulkableActionMetadata() ).andReturn( bulkableWorkMetadata( 1 ) );
-		expect( bulkableWork1.getBulkableActionBody() ).andReturn( bulkableWorkBody( 1 ) );
+		expect( bulkableWork1.getBulkableActionBody() ).andReturn( encodedBulkableWorkBody( 1 ) );
 		replayAll();
 		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWork0, bulkableWork1 ) ).build();
 		verifyAll();
@@ -101,9 +103,9 @@ public void execute_http500() {
 
 		resetAll();
 		expect( bulkableWork0.getBulkableActionMetadata() ).andReturn( bulkableWorkMetadata( 0 ) );
-		expect( bulkableWork0.getBulkableActionBody() ).andReturn( bulkableWorkBody( 0 ) );
+		expect( bulkableWork0.getBulkableActionBody() ).andReturn( encodedBulkableWorkBody( 0 ) );
 		expect( bulkableWork1.getBulkableActionMetadata() ).andReturn( bulkableWorkMetadata( 1 ) );
-		expect( bulkableWork1.getBulkableActionBody() ).andReturn( bulkableWorkBody( 1 ) );
+		expect( bulkableWork1.getBulkableActionBody() ).andReturn( encodedBulkableWorkBody( 1 ) );
 		replayAll();
 		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWork0, bulkableWork1 ) ).build();
 		verifyAll();
@@ -163,6 +165,10 @@ private static JsonObject bulkableWorkMetadata(int index) {
 		return result;
 	}
 
+	private static EncodedJsonObject encodedBulkableWorkBody(int index) {
+		return EncodedJsonObject.encode( new Gson(), bulkableWorkBody( index ) );
+	}
+
 	private static JsonObject bulkableWorkBody(int index) {
 		JsonObject result = new JsonObject();
 		result.addProperty( "type", "body" );
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+public class UpdateWorkTest {
+
+	// Same as the backend: nulls must be serialized, otherwise cleared fields would not be sent
+	private final Gson gson = GsonProvider.create( GsonBuilder::new, false ).getGson();
+
+	@Test
+	public void bulkableAction() {
+		JsonObject partialDocument = json( "{'text': 'updated', 'cleared': null}" );
+		JsonObject upsertDocument = json( "{'text': 'updated', 'cleared': null, '__HSEARCH_tenantId': 'tenant1'}" );
+
+		UpdateWork work = UpdateWork.Builder.forElasticsearch7AndAbove( "SomeEntity", 1,
+				URLEncodedString.fromString( "index-write" ), "tenant1_1", "routingKey",
+				gson, partialDocument, upsertDocument )
+				.build();
+
+		assertThat( work.getBulkableActionMetadata() )
+				.isEqualTo( json( "{'update': {'_index': 'index-write', '_id': 'tenant1_1', 'routing': 'routingKey'}}" ) );
+		// Only the given fields are sent, and the document is created from the upsert document if missing
+		assertThat( work.getBulkableActionBody().decode() )
+				.isEqualTo( json( "{'doc': {'text': 'updated', 'cleared': null},"
+						+ " 'upsert': {'text': 'updated', 'cleared': null, '__HSEARCH_tenantId': 'tenant1'}}" ) );
+		// The result depends on the previous version of the document
+		assertThat( work.isSupersedingPreviousWorks() ).isFalse();
+	}
+
+	@Test
+	public void bulkableAction_elasticsearch67AndBelow() {
+		JsonObject partialDocument = json( "{'text': 'updated'}" );
+
+		UpdateWork work = UpdateWork.Builder.forElasticsearch67AndBelow( "SomeEntity", 1,
+				URLEncodedString.fromString( "index-write" ), URLEncodedString.fromString( "doc" ), "1", null,
+				gson, partialDocument, partialDocument )
+				.build();
+
+		assertThat( work.getBulkableActionMetadata() )
+				.isEqualTo( json( "{'update': {'_index': 'index-write', '_type': 'doc', '_id': '1'}}" ) );
+		assertThat( work.getBulkableActionBody().decode() )
+				.isEqualTo( json( "{'doc': {'text': 'updated'}, 'upsert': {'text': 'updated'}}" ) );
+	}
+
+	private JsonObject json(String json) {
+		return gson.fromJson( json, JsonObject.class );
+	}
+}
@@ -111,6 +111,104 @@ private LuceneBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool used to search multiple indexes or shards concurrently.
+	 * <p>
+	 * When this size is strictly positive, search queries targeting multiple indexes or shards
+	 * search each index or shard in a separate thread of this pool, then merge the results.
+	 * When this size is zero, indexes and shards are searched sequentially, in the thread executing the query.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_THREAD_POOL_SIZE}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Threads",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String SEARCH_THREAD_POOL_SIZE = "search.thread_pool.size";
+
+	/**
+	 * The maximum number of search results kept in the search result cache.
+	 * <p>
+	 * When this number is strictly positive, the results of search queries are cached,
+	 * and identical queries (same predicate, sort, projections, aggregations, offset and limit,
+	 * targeting the same indexes) return the cached results instead of searching the index again,
+	 * until one of the targeted indexes is refreshed.
+	 * When this number is zero, search results are never cached.
+	 * <p>
+	 * This bounds the number of cached results, not the memory they use:
+	 * the size of each cached result depends on the limit of the query and on its aggregations.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_RESULT_CACHE_MAX_ENTRIES}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Search result cache",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String SEARCH_RESULT_CACHE_MAX_ENTRIES = "search.result_cache.max_entries";
+
+	/**
+	 * The maximum amount of memory that index writers of all indexes and shards of the backend
+	 * may use for buffering added documents and deletions, combined.
+	 * <p>
+	 * When the combined size of buffers exceeds this value,
+	 * the index writers with the largest buffers are flushed until the combined size is back under this value.
+	 * This comes in addition to the per-writer limit set through
+	 * {@link LuceneIndexSettings#IO_WRITER_RAM_BUFFER_SIZE}.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning there is no global limit.
+	 */
+	public static final String IO_WRITER_GLOBAL_RAM_BUFFER_SIZE = "io.writer.global_ram_buffer_size";
+
+	/**
+	 * How often the combined size of index writer buffers is checked against
+	 * {@link #IO_WRITER_GLOBAL_RAM_BUFFER_SIZE the global limit}, in milliseconds.
+	 * <p>
+	 * Only relevant when a global limit is set.
+	 * <p>
+	 * Expects a strictly positive Integer value in milliseconds,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_WRITER_GLOBAL_RAM_BUFFER_CHECK_INTERVAL}.
+	 */
+	public static final String IO_WRITER_GLOBAL_RAM_BUFFER_CHECK_INTERVAL = "io.writer.global_ram_buffer_check_interval";
+
+	/**
+	 * How long index writers and readers may stay unused before they are closed, in milliseconds.
+	 * <p>
+	 * Closed writers and readers are re-opened transparently the next time they are needed.
+	 * Pending changes are committed when closing a writer.
+	 * This is useful to release resources (heap, file handles, merge threads)
+	 * when a backend holds many indexes or shards that are only used occasionally.
+	 * <p>
+	 * Expects a strictly positive Integer value in milliseconds,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning index writers and readers are kept open until the backend is stopped.
+	 */
+	public static final String IO_IDLE_TIMEOUT = "io.idle_timeout";
+
+	/**
+	 * The maximum number of index writers that may be open simultaneously, for all indexes and shards of the backend.
+	 * <p>
+	 * When opening an index writer would exceed this maximum,
+	 * the least recently used index writers are closed.
+	 * Index writers that are currently in use, or were used during the last second, are never closed for that purpose,
+	 * so the maximum may be exceeded temporarily.
+	 * <p>
+	 * Expects a strictly positive Integer value,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning there is no maximum.
+	 */
+	public static final String IO_WRITER_MAX_OPEN = "io.writer.max_open";
+
 	/**
 	 * @deprecated Use {@link LuceneIndexSettings.DirectoryRadicals} instead.
 	 */
@@ -156,5 +254,11 @@ private Defaults() {
 				FileSystemAccessStrategyName.AUTO;
 
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+
+		public static final int SEARCH_THREAD_POOL_SIZE = 0;
+
+		public static final int SEARCH_RESULT_CACHE_MAX_ENTRIES = 0;
+
+		public static final int IO_WRITER_GLOBAL_RAM_BUFFER_CHECK_INTERVAL = 1000;
 	}
 }
@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.FileSystemAccessStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.directory.LockingStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.replication.ReplicationRoleName;
 import org.hibernate.search.engine.cfg.BackendSettings;
 import org.hibernate.search.engine.cfg.EngineSettings;
 
@@ -79,6 +80,61 @@ private LuceneIndexSettings() {
 	public static final String DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_STRATEGY;
 
+	/**
+	 * The extensions of index files that should be memory-mapped
+	 * regardless of the {@link #DIRECTORY_FILESYSTEM_ACCESS_STRATEGY filesystem access strategy}.
+	 * <p>
+	 * Useful to memory-map only the files that benefit the most from it (doc values, terms, ...),
+	 * while accessing other files (stored fields, ...) through the configured strategy, e.g. {@code nio}.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type.
+	 * <p>
+	 * Expects either a String containing multiple file extensions separated by commas (','), such as "dvd,tim,tip",
+	 * or a {@code Collection<String>} containing such file extensions.
+	 * <p>
+	 * Defaults to no extension: all files are accessed through the configured strategy.
+	 */
+	public static final String DIRECTORY_FILESYSTEM_ACCESS_MMAP_EXTENSIONS =
+			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_MMAP_EXTENSIONS;
+
+	/**
+	 * The extensions of index files that should be memory-mapped and preloaded into physical memory
+	 * as soon as they are opened.
+	 * <p>
+	 * Preloading avoids page faults on the first accesses to a file, at the cost of slower opening,
+	 * and is only useful if the operating system has enough free memory to keep the files in its page cache.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type.
+	 * <p>
+	 * Expects either a String containing multiple file extensions separated by commas (','), such as "dvd,tim,tip",
+	 * or a {@code Collection<String>} containing such file extensions.
+	 * <p>
+	 * Defaults to no extension: no file is preloaded.
+	 *
+	 * @see org.apache.lucene.store.MMapDirectory#setPreload(boolean)
+	 */
+	public static final String DIRECTORY_FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS =
+			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS;
+
+	/**
+	 * The maximum size of each chunk when memory-mapping index files.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type,
+	 * and only applies to files that are explicitly memory-mapped:
+	 * either because the {@link #DIRECTORY_FILESYSTEM_ACCESS_STRATEGY filesystem access strategy} is {@code mmap},
+	 * or because their extension is listed in {@link #DIRECTORY_FILESYSTEM_ACCESS_MMAP_EXTENSIONS}
+	 * or {@link #DIRECTORY_FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS}.
+	 * <p>
+	 * Expects an Integer value in megabytes, between 1 and 1024,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * The default for this setting is defined by Lucene.
+	 *
+	 * @see org.apache.lucene.store.MMapDirectory#MMapDirectory(java.nio.file.Path, org.apache.lucene.store.LockFactory, int)
+	 */
+	public static final String DIRECTORY_FILESYSTEM_ACCESS_MMAP_MAX_CHUNK_SIZE =
+			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_MMAP_MAX_CHUNK_SIZE;
+
 	/**
 	 * The prefix for I/O-related property keys.
 	 */
@@ -138,6 +194,9 @@ private LuceneIndexSettings() {
 	 * Note that individual write operations may trigger a forced refresh
 	 * (for example with the "searchable" automatic indexing synchronization strategy in the ORM mapper),
 	 * in which case you will only benefit from a non-zero refresh interval during intensive indexing (mass indexer, ...).
+	 * Write operations that wait for the next refresh instead of forcing it
+	 * (for example with the "read-sync-wait-for-refresh" automatic indexing synchronization strategy in the ORM mapper)
+	 * share a single refresh, executed at most once per refresh interval.
 	 * <p>
 	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
 	 * or a String that can be parsed into such Integer value.
@@ -146,6 +205,27 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * Whether the directory, index writer and index reader of each shard should only be opened
+	 * the first time the shard is written to or searched, instead of on startup.
+	 * <p>
+	 * Useful for indexes with many shards, or for backends with many indexes,
+	 * when opening every directory on startup would take too long (e.g. on network-attached storage).
+	 * <p>
+	 * When enabled, schema management on startup does not access directories:
+	 * creating missing indexes and validating that indexes exist
+	 * are deferred to the first time each shard is opened.
+	 * Eager warm-up of index readers on startup is skipped as well.
+	 * <p>
+	 * Ignored when replication is enabled: the directory is then always opened on startup.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_LAZY_OPEN}.
+	 */
+	public static final String IO_LAZY_OPEN = IO_PREFIX + IORadicals.LAZY_OPEN;
+
 	/**
 	 * The prefix for property keys related to the index writer.
 	 */
@@ -175,6 +255,49 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_WRITER_RAM_BUFFER_SIZE = IO_WRITER_PREFIX + WriterRadicals.RAM_BUFFER_SIZE;
 
+	/**
+	 * The size of the RAM buffer of index writers during bulk loading, e.g. when the mass indexer is running.
+	 * <p>
+	 * During bulk loading, the index writer of each shard uses this RAM buffer size
+	 * (or the one set through {@link #IO_WRITER_RAM_BUFFER_SIZE}, if larger),
+	 * does not merge segments, does not commit periodically,
+	 * and near-real-time index readers are not refreshed unless explicitly requested.
+	 * Regular settings are restored, and changes are committed, when bulk loading ends.
+	 * <p>
+	 * Expects a positive Integer value in megabytes,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_WRITER_BULK_RAM_BUFFER_SIZE}.
+	 *
+	 * @see IndexWriterConfig#setRAMBufferSizeMB(double)
+	 */
+	public static final String IO_WRITER_BULK_RAM_BUFFER_SIZE = IO_WRITER_PREFIX + WriterRadicals.BULK_RAM_BUFFER_SIZE;
+
+	/**
+	 * The number of private, temporary indexes to build in parallel during bulk loading,
+	 * e.g. when the mass indexer is running.
+	 * <p>
+	 * When set to a value higher than 1, documents added to each shard during bulk loading
+	 * are spread over this number of temporary indexes, each with its own index writer,
+	 * located next to the index directory for indexes stored on the filesystem,
+	 * or in the default temporary-file directory of the JVM otherwise.
+	 * When bulk loading ends, temporary indexes are added to the shard with
+	 * {@link org.apache.lucene.index.IndexWriter#addIndexes(org.apache.lucene.store.Directory...)}
+	 * and deleted.
+	 * The RAM buffer size set through {@link #IO_WRITER_BULK_RAM_BUFFER_SIZE} is shared between temporary indexes,
+	 * and their buffers count towards the global limit set through
+	 * {@link LuceneBackendSettings#IO_WRITER_GLOBAL_RAM_BUFFER_SIZE}, if any.
+	 * <p>
+	 * Documents added during bulk loading are only visible to search queries after bulk loading ends,
+	 * even if a refresh is explicitly requested.
+	 * <p>
+	 * Expects a positive Integer value,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_WRITER_BULK_PARALLEL_WRITERS}.
+	 */
+	public static final String IO_WRITER_BULK_PARALLEL_WRITERS = IO_WRITER_PREFIX + WriterRadicals.BULK_PARALLEL_WRITERS;
+
 	/**
 	 * Whether to log the {@link IndexWriterConfig#setInfoStream(InfoStream)} (at the trace level) or not.
 	 * <p>
@@ -189,6 +312,27 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_WRITER_INFOSTREAM = IO_WRITER_PREFIX + WriterRadicals.INFOSTREAM;
 
+	/**
+	 * The sort to apply to documents within each segment when writing the index.
+	 * <p>
+	 * When search queries are sorted on the same fields, in the same order,
+	 * with the default mode and missing value behavior,
+	 * Lucene can stop collecting matching documents in each segment as soon as enough hits were found.
+	 * <p>
+	 * Index sorting is only available for indexes without nested documents,
+	 * on sortable fields of numeric, temporal, boolean or string types.
+	 * Changing the index sort of an existing index requires dropping the index and reindexing.
+	 * <p>
+	 * Expects either a String containing absolute field paths, each optionally followed by ':asc' or ':desc',
+	 * separated by commas (','), such as "publicationDate:desc,title",
+	 * or a {@code Collection<String>} containing such field paths.
+	 * <p>
+	 * Defaults to no value, meaning documents are not sorted within segments.
+	 *
+	 * @see IndexWriterConfig#setIndexSort(org.apache.lucene.search.Sort)
+	 */
+	public static final String IO_WRITER_INDEX_SORT = IO_WRITER_PREFIX + WriterRadicals.INDEX_SORT;
+
 	/**
 	 * The prefix for property keys related to merge.
 	 */
@@ -266,6 +410,92 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_MERGE_CALIBRATE_BY_DELETES = IO_MERGE_PREFIX + MergeRadicals.CALIBRATE_BY_DELETES;
 
+	/**
+	 * The prefix for property keys related to warming, i.e. loading index data into memory ahead of search queries.
+	 */
+	public static final String IO_WARMING_PREFIX = IO_PREFIX + "warming.";
+
+	/**
+	 * Whether newly merged segments should be warmed up by the index writer
+	 * before they are made visible to near-real-time index readers.
+	 * <p>
+	 * When enabled, a {@link org.apache.lucene.index.SimpleMergedSegmentWarmer} is set
+	 * on the index writer configuration, so that the first search queries after a large merge
+	 * do not have to load norms, doc values, terms dictionaries, etc. of the merged segment.
+	 * <p>
+	 * Only useful with the {@link org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName#NEAR_REAL_TIME near-real-time}
+	 * I/O strategy.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_WARMING_MERGED_SEGMENTS}.
+	 *
+	 * @see IndexWriterConfig#setMergedSegmentWarmer(org.apache.lucene.index.IndexWriter.IndexReaderWarmer)
+	 */
+	public static final String IO_WARMING_MERGED_SEGMENTS = IO_WARMING_PREFIX + WarmingRadicals.MERGED_SEGMENTS;
+
+	/**
+	 * The warmer to apply to index readers before they are used by search queries,
+	 * on startup and after each refresh.
+	 * <p>
+	 * Expects a reference to a bean of type {@link org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexWarmer}.
+	 * <p>
+	 * Defaults to no value, meaning index readers are not warmed up.
+	 */
+	public static final String IO_WARMING_WARMER = IO_WARMING_PREFIX + WarmingRadicals.WARMER;
+
+	/**
+	 * The prefix for property keys related to replication.
+	 */
+	public static final String IO_REPLICATION_PREFIX = IO_PREFIX + "replication.";
+
+	/**
+	 * The role of this node in index replication.
+	 * <p>
+	 * A primary writes to its index as usual and publishes every commit through the replication transport.
+	 * A replica never writes to its index, and instead periodically pulls the latest commit
+	 * from the replication transport into its own directory;
+	 * see {@link #IO_REFRESH_INTERVAL} to control how often.
+	 * <p>
+	 * Expects a {@link ReplicationRoleName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_REPLICATION_ROLE}.
+	 */
+	public static final String IO_REPLICATION_ROLE = IO_REPLICATION_PREFIX + ReplicationRadicals.ROLE;
+
+	/**
+	 * The prefix for property keys related to the replication transport.
+	 */
+	public static final String IO_REPLICATION_TRANSPORT_PREFIX = IO_REPLICATION_PREFIX + "transport.";
+
+	/**
+	 * The type of replication transport, i.e. how commits are transferred from the primary to replicas.
+	 * <p>
+	 * Only relevant if {@link #IO_REPLICATION_ROLE} is not {@link ReplicationRoleName#NONE}.
+	 * <p>
+	 * Expects a String, such as "local-directory".
+	 * See the reference documentation for a list of available values.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_REPLICATION_TRANSPORT_TYPE}.
+	 */
+	public static final String IO_REPLICATION_TRANSPORT_TYPE = IO_REPLICATION_TRANSPORT_PREFIX + ReplicationTransportRadicals.TYPE;
+
+	/**
+	 * The filesystem root for the shared directory used by the "local-directory" replication transport.
+	 * <p>
+	 * This directory must be shared by the primary and all replicas, for example through a network mount,
+	 * and must be different from the index directory.
+	 * The index name (and shard identifier, if any) will be appended to this root.
+	 * <p>
+	 * Only available for the "local-directory" replication transport.
+	 * <p>
+	 * Expects a String representing a path to an existing directory accessible in read and write mode.
+	 * <p>
+	 * No default: this property must be set when using the "local-directory" replication transport.
+	 */
+	public static final String IO_REPLICATION_TRANSPORT_ROOT = IO_REPLICATION_TRANSPORT_PREFIX + ReplicationTransportRadicals.ROOT;
+
 	/**
 	 * The prefix for sharding-related property keys.
 	 */
@@ -307,6 +537,35 @@ private LuceneIndexSettings() {
 	 */
 	public static final String SHARDING_SHARD_IDENTIFIERS = SHARDING_PREFIX + ShardingRadicals.SHARD_IDENTIFIERS;
 
+	/**
+	 * The absolute path of the field whose value determines the shard of each document,
+	 * used to skip shards when searching.
+	 * <p>
+	 * Only available for the "range" sharding strategy.
+	 * Documents are routed according to their routing key,
+	 * which must be the value of this field formatted as an ISO-8601 date or date-time,
+	 * or as an integer, depending on {@link #SHARDING_RANGE_INTERVAL}.
+	 * <p>
+	 * Expects a String, such as "timestamp".
+	 * <p>
+	 * No default: this property must be set when using the "range" sharding strategy.
+	 */
+	public static final String SHARDING_RANGE_FIELD = SHARDING_PREFIX + ShardingRadicals.RANGE_FIELD;
+
+	/**
+	 * The size of the range of values assigned to each shard.
+	 * <p>
+	 * Only available for the "range" sharding strategy.
+	 * <p>
+	 * Expects either a String among "day", "month" or "year",
+	 * for a date or date-time field,
+	 * or a strictly positive Long value, such as 1000, or a String that can be parsed into such Long value,
+	 * for an integer field.
+	 * <p>
+	 * No default: this property must be set when using the "range" sharding strategy.
+	 */
+	public static final String SHARDING_RANGE_INTERVAL = SHARDING_PREFIX + ShardingRadicals.RANGE_INTERVAL;
+
 	/**
 	 * The root property whose children are shards, e.g. {@code shards.0.<some shard-scoped property> = bar}
 	 * or {@code shards.1.<some shard-scoped property> = bar} or {@code shards.main.<some shard-scoped property> = bar}.
@@ -344,6 +603,24 @@ private LuceneIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * Whether indexing works pertaining to the same document should be coalesced
+	 * when they end up in the same batch of an indexing queue.
+	 * <p>
+	 * When enabled, if a document is updated or deleted,
+	 * any previous work pertaining to that same document in the same batch will be skipped,
+	 * though it will still be reported as complete when the later work completes.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_COALESCE_WORKS}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_COALESCE_WORKS = INDEXING_PREFIX + IndexingRadicals.COALESCE_WORKS;
+
 	/**
 	 * Builds a configuration property key for the given shard of all indexes of the default backend,
 	 * with the given radical.
@@ -421,6 +698,9 @@ private DirectoryRadicals() {
 		public static final String ROOT = "root";
 		public static final String LOCKING_STRATEGY = "locking.strategy";
 		public static final String FILESYSTEM_ACCESS_STRATEGY = "filesystem_access.strategy";
+		public static final String FILESYSTEM_ACCESS_MMAP_EXTENSIONS = "filesystem_access.mmap_extensions";
+		public static final String FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS = "filesystem_access.preload_extensions";
+		public static final String FILESYSTEM_ACCESS_MMAP_MAX_CHUNK_SIZE = "filesystem_access.mmap_max_chunk_size";
 	}
 
 	/**
@@ -434,6 +714,7 @@ private IORadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String LAZY_OPEN = "lazy_open";
 	}
 
 	/**
@@ -446,6 +727,9 @@ private WriterRadicals() {
 
 		public static final String MAX_BUFFERED_DOCS = "max_buffered_docs";
 		public static final String RAM_BUFFER_SIZE = "ram_buffer_size";
+		public static final String BULK_RAM_BUFFER_SIZE = "bulk_ram_buffer_size";
+		public static final String BULK_PARALLEL_WRITERS = "bulk_parallel_writers";
+		public static final String INDEX_SORT = "index_sort";
 		public static final String INFOSTREAM = "infostream";
 
 	}
@@ -467,6 +751,42 @@ private MergeRadicals() {
 
 	}
 
+	/**
+	 * Configuration property keys for warming, without the {@link #IO_WARMING_PREFIX prefix}.
+	 */
+	public static final class WarmingRadicals {
+
+		private WarmingRadicals() {
+		}
+
+		public static final String MERGED_SEGMENTS = "merged_segments";
+		public static final String WARMER = "warmer";
+	}
+
+	/**
+	 * Configuration property keys for replication, without the {@link #IO_REPLICATION_PREFIX prefix}.
+	 */
+	public static final class ReplicationRadicals {
+
+		private ReplicationRadicals() {
+		}
+
+		public static final String ROLE = "role";
+	}
+
+	/**
+	 * Configuration property keys for the replication transport,
+	 * without the {@link #IO_REPLICATION_TRANSPORT_PREFIX prefix}.
+	 */
+	public static final class ReplicationTransportRadicals {
+
+		private ReplicationTransportRadicals() {
+		}
+
+		public static final String TYPE = "type";
+		public static final String ROOT = "root";
+	}
+
 	/**
 	 * Configuration property keys for sharding, without the {@link #SHARDING_PREFIX prefix}.
 	 */
@@ -478,6 +798,8 @@ private ShardingRadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String NUMBER_OF_SHARDS = "number_of_shards";
 		public static final String SHARD_IDENTIFIERS = "shard_identifiers";
+		public static final String RANGE_FIELD = "range_field";
+		public static final String RANGE_INTERVAL = "range_interval";
 	}
 
 	/**
@@ -490,6 +812,7 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String COALESCE_WORKS = "coalesce_works";
 	}
 
 	/**
@@ -508,7 +831,14 @@ private Defaults() {
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final boolean IO_LAZY_OPEN = false;
+		public static final int IO_WRITER_BULK_RAM_BUFFER_SIZE = 128;
+		public static final int IO_WRITER_BULK_PARALLEL_WRITERS = 1;
+		public static final boolean IO_WARMING_MERGED_SEGMENTS = false;
+		public static final ReplicationRoleName IO_REPLICATION_ROLE = ReplicationRoleName.NONE;
+		public static final String IO_REPLICATION_TRANSPORT_TYPE = "local-directory";
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final boolean INDEXING_COALESCE_WORKS = false;
 	}
 }
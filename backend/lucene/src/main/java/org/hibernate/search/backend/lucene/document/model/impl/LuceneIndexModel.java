@@ -19,6 +19,7 @@
 import org.hibernate.search.engine.backend.document.model.spi.IndexFieldInclusion;
 import org.hibernate.search.engine.backend.metamodel.IndexDescriptor;
 import org.hibernate.search.engine.backend.metamodel.IndexFieldDescriptor;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
 import org.hibernate.search.engine.backend.types.converter.spi.ToDocumentIdentifierValueConverter;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -129,6 +130,24 @@ public LuceneIndexSchemaValueFieldNode<?> getFieldNode(String absolutePath, Inde
 		return node == null ? null : filter.filter( node, node.inclusion() );
 	}
 
+	/**
+	 * @return {@code true} if documents of this index may contain nested documents,
+	 * either through static nested object fields or through nested object field templates.
+	 */
+	public boolean mayContainNestedDocuments() {
+		for ( LuceneIndexSchemaObjectFieldNode objectFieldNode : objectFieldNodes.values() ) {
+			if ( objectFieldNode.nested() ) {
+				return true;
+			}
+		}
+		for ( LuceneIndexSchemaObjectFieldTemplate objectFieldTemplate : objectFieldTemplates ) {
+			if ( ObjectStructure.NESTED.equals( objectFieldTemplate.structure() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public Analyzer getIndexingAnalyzer() {
 		return indexingAnalyzer;
 	}
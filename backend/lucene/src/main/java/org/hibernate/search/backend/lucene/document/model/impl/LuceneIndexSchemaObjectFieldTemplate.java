@@ -25,6 +25,10 @@ public LuceneIndexSchemaObjectFieldTemplate(LuceneIndexSchemaObjectNode declarin
 		this.structure = structure;
 	}
 
+	public ObjectStructure structure() {
+		return structure;
+	}
+
 	@Override
 	protected LuceneIndexSchemaObjectFieldNode createNode(LuceneIndexSchemaObjectNode parent,
 			String relativePath, IndexFieldInclusion inclusion, boolean multiValued) {
@@ -17,13 +17,18 @@
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterMemoryController;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.multitenancy.impl.IndexPerTenantMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.resources.impl.IdleIndexResourceEvictor;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.common.timing.impl.DefaultTimingSource;
+import org.hibernate.search.backend.lucene.common.timing.impl.TimingSource;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactoryImpl;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
@@ -80,14 +85,23 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 					buildContext, propertySource, luceneVersion
 			);
 
+			TimingSource timingSource = new DefaultTimingSource( backendThreads );
+
 			return new LuceneBackendImpl(
 					eventContext,
 					backendThreads,
 					new LuceneWorkFactoryImpl( multiTenancyStrategy ),
 					analysisDefinitionRegistry,
 					multiTenancyStrategy,
-					new DefaultTimingSource( backendThreads ),
-					buildContext.failureHandler()
+					timingSource,
+					buildContext.failureHandler(),
+					buildContext.queryExecutionListener().orElse( null ),
+					IndexWriterMemoryController.create( propertySource, backendThreads, buildContext.failureHandler() )
+							.orElse( null ),
+					IdleIndexResourceEvictor.create( propertySource, backendThreads, timingSource,
+							buildContext.failureHandler() )
+							.orElse( null ),
+					LuceneSearchResultCache.create( propertySource ).orElse( null )
 			);
 		}
 		catch (RuntimeException e) {
@@ -127,6 +141,8 @@ private MultiTenancyStrategy getMultiTenancyStrategy(ConfigurationPropertySource
 				return new NoMultiTenancyStrategy();
 			case DISCRIMINATOR:
 				return new DiscriminatorMultiTenancyStrategy();
+			case INDEX_PER_TENANT:
+				return new IndexPerTenantMultiTenancyStrategy();
 			default:
 				throw new AssertionFailure( String.format(
 						Locale.ROOT, "Unsupported multi-tenancy strategy '%1$s'.",
@@ -16,9 +16,12 @@
 import org.hibernate.search.backend.lucene.index.impl.IndexManagerBackendContext;
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerBuilder;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterMemoryController;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.resources.impl.IdleIndexResourceEvictor;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.common.timing.impl.TimingSource;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.Backend;
@@ -29,6 +32,7 @@
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionListener;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -50,6 +54,8 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 	private final LuceneSyncWorkOrchestratorImpl readOrchestrator;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final TimingSource timingSource;
+	private final IndexWriterMemoryController writerMemoryController;
+	private final IdleIndexResourceEvictor idleEvictor;
 
 	private final IndexManagerBackendContext indexManagerBackendContext;
 
@@ -59,7 +65,11 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			SearchQueryExecutionListener queryExecutionListener,
+			IndexWriterMemoryController writerMemoryController,
+			IdleIndexResourceEvictor idleEvictor,
+			LuceneSearchResultCache resultCache) {
 		this.eventContext = eventContext;
 		this.threads = threads;
 
@@ -67,17 +77,23 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 		Similarity similarity = analysisDefinitionRegistry.getSimilarity();
 
 		this.readOrchestrator = new LuceneSyncWorkOrchestratorImpl(
-				"Lucene read work orchestrator - " + eventContext.render(), similarity
+				"Lucene read work orchestrator - " + eventContext.render(), similarity, threads
 		);
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.timingSource = timingSource;
+		this.writerMemoryController = writerMemoryController;
+		this.idleEvictor = idleEvictor;
 
 		this.indexManagerBackendContext = new IndexManagerBackendContext(
 				this, eventContext, threads, similarity,
 				workFactory, multiTenancyStrategy,
 				timingSource, analysisDefinitionRegistry,
 				failureHandler,
-				readOrchestrator
+				queryExecutionListener,
+				readOrchestrator,
+				writerMemoryController,
+				idleEvictor,
+				resultCache
 		);
 	}
 
@@ -89,6 +105,12 @@ public String toString() {
 	@Override
 	public void start(BackendStartContext context) {
 		threads.onStart( context.configurationPropertySource(), context.threadPoolProvider() );
+		if ( writerMemoryController != null ) {
+			writerMemoryController.start();
+		}
+		if ( idleEvictor != null ) {
+			idleEvictor.start();
+		}
 	}
 
 	@Override
@@ -101,6 +123,8 @@ public CompletableFuture<?> preStop() {
 	public void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( LuceneSyncWorkOrchestratorImpl::stop, readOrchestrator );
+			closer.push( IdleIndexResourceEvictor::stop, idleEvictor );
+			closer.push( IndexWriterMemoryController::stop, writerMemoryController );
 			closer.push( TimingSource::stop, timingSource );
 			closer.push( BackendThreads::onStop, threads );
 		}
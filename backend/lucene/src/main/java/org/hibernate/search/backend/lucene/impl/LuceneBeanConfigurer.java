@@ -10,10 +10,13 @@
 import org.hibernate.search.backend.lucene.index.impl.ExplicitShardingStrategy;
 import org.hibernate.search.backend.lucene.index.impl.HashShardingStrategy;
 import org.hibernate.search.backend.lucene.index.impl.NoShardingStrategy;
+import org.hibernate.search.backend.lucene.index.impl.RangeShardingStrategy;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalFileSystemDirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalHeapDirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.LocalDirectoryReplicationTransportProvider;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransportProvider;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurationContext;
@@ -34,6 +37,10 @@ public void configure(BeanConfigurationContext context) {
 				DirectoryProvider.class, LocalHeapDirectoryProvider.NAME,
 				beanResolver -> BeanHolder.of( new LocalHeapDirectoryProvider() )
 		);
+		context.define(
+				ReplicationTransportProvider.class, LocalDirectoryReplicationTransportProvider.NAME,
+				beanResolver -> BeanHolder.of( new LocalDirectoryReplicationTransportProvider() )
+		);
 		context.define(
 				ShardingStrategy.class, NoShardingStrategy.NAME,
 				beanResolver -> BeanHolder.of( new NoShardingStrategy() )
@@ -46,5 +53,9 @@ public void configure(BeanConfigurationContext context) {
 				ShardingStrategy.class, ExplicitShardingStrategy.NAME,
 				beanResolver -> BeanHolder.of( new ExplicitShardingStrategy() )
 		);
+		context.define(
+				ShardingStrategy.class, RangeShardingStrategy.NAME,
+				beanResolver -> BeanHolder.of( new RangeShardingStrategy() )
+		);
 	}
 }
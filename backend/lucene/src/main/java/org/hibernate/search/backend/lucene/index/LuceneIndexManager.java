@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.index;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.engine.backend.index.IndexManager;
 
@@ -30,4 +32,33 @@ public interface LuceneIndexManager extends IndexManager {
 	 */
 	Analyzer searchAnalyzer();
 
+	/**
+	 * Splits each shard of this index into {@code splitFactor} shards,
+	 * so that the index ends up with {@code splitFactor} times as many shards,
+	 * without having to reindex.
+	 * <p>
+	 * Only available for indexes using the "hash" sharding strategy.
+	 * Existing shards keep their identifier and the documents that are still routed to them;
+	 * other documents are moved to the new shards.
+	 * <p>
+	 * Search queries can be executed while the split is in progress,
+	 * and return each document exactly once.
+	 * Indexing, however, is rejected with an exception until the returned future completes;
+	 * indexing works submitted before this method is called are executed before documents are moved.
+	 * Only one split can be in progress for a given index: calling this method again before
+	 * the returned future completes will fail with an exception.
+	 * <p>
+	 * The new number of shards is stored in the index, but not in the configuration:
+	 * the configuration property {@link org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings#SHARDING_NUMBER_OF_SHARDS}
+	 * must be updated accordingly before the application is restarted,
+	 * otherwise the index will fail to start.
+	 * The index will also fail to start if the split was interrupted before completing,
+	 * e.g. by a crash.
+	 * Neither is checked if index directories are opened lazily.
+	 *
+	 * @param splitFactor The number of shards each existing shard will be split into. Must be 2 or more.
+	 * @return A future completing when the split is complete.
+	 */
+	CompletableFuture<?> splitShards(int splitFactor);
+
 }
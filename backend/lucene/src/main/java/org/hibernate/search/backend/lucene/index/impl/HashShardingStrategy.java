@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -32,20 +33,21 @@ public class HashShardingStrategy implements ShardingStrategy {
 
 	private String[] shardIds;
 
+	public HashShardingStrategy() {
+	}
+
+	private HashShardingStrategy(String[] shardIds) {
+		this.shardIds = shardIds;
+	}
+
 	@Override
 	public void initialize(ShardingStrategyInitializationContext context) {
 		int numberOfShards = NUMBER_OF_SHARDS.getOrThrow(
 				context.configurationPropertySource(),
 				key -> log.missingPropertyValueForShardingStrategy( NAME, key )
 		);
-		this.shardIds = new String[numberOfShards];
-		Set<String> shardIdSet = new LinkedHashSet<>();
-		for ( int i = 0; i < numberOfShards; i++ ) {
-			String shardId = String.valueOf( i );
-			shardIds[i] = shardId;
-			shardIdSet.add( shardId );
-		}
-		context.shardIdentifiers( shardIdSet );
+		this.shardIds = createShardIds( numberOfShards );
+		context.shardIdentifiers( new LinkedHashSet<>( Arrays.asList( shardIds ) ) );
 	}
 
 	@Override
@@ -62,6 +64,30 @@ public Set<String> toShardIdentifiers(Set<String> routingKeys) {
 		return shardIds;
 	}
 
+	int shardCount() {
+		return shardIds.length;
+	}
+
+	/**
+	 * @param splitFactor The number of shards each existing shard will be split into.
+	 * @return A strategy routing to {@code splitFactor} times as many shards as this strategy.
+	 * The hash function being based on a modulo,
+	 * documents routed to shard {@code i} by this strategy
+	 * are routed by the returned strategy to one of the shards {@code j} such that {@code j % shardCount() == i}.
+	 * In particular, existing shards keep their identifier.
+	 */
+	HashShardingStrategy split(int splitFactor) {
+		return new HashShardingStrategy( createShardIds( shardIds.length * splitFactor ) );
+	}
+
+	private static String[] createShardIds(int numberOfShards) {
+		String[] shardIds = new String[numberOfShards];
+		for ( int i = 0; i < numberOfShards; i++ ) {
+			shardIds[i] = String.valueOf( i );
+		}
+		return shardIds;
+	}
+
 	private String toShardIdentifier(String routingKey) {
 		// Note the hash function MUST NOT CHANGE, otherwise existing indexes will no longer work correctly.
 		return SimpleHashFunction.pick( shardIds, routingKey );
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
+import java.util.List;
+
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
@@ -17,21 +19,30 @@
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.NearRealTimeIOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.ReplicaIOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.replication.ReplicationRoleName;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterMemoryController;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchedWorkProcessor;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.resources.impl.IdleIndexResourceEvictor;
 import org.hibernate.search.backend.lucene.schema.management.impl.LuceneIndexSchemaManager;
 import org.hibernate.search.backend.lucene.schema.management.impl.SchemaManagementIndexManagerContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchIndexesContext;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchQueryBuilder;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.lucene.common.timing.impl.TimingSource;
+import org.hibernate.search.backend.lucene.types.sort.impl.IndexSortFields;
 import org.hibernate.search.backend.lucene.work.execution.impl.LuceneIndexIndexer;
 import org.hibernate.search.backend.lucene.work.execution.impl.LuceneIndexIndexingPlan;
 import org.hibernate.search.backend.lucene.work.execution.impl.LuceneIndexWorkspace;
@@ -49,11 +60,15 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionListener;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.similarities.Similarity;
 
 public class IndexManagerBackendContext implements WorkExecutionBackendContext, SearchBackendContext {
@@ -64,6 +79,11 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 					.withDefault( LuceneIndexSettings.Defaults.IO_STRATEGY )
 					.build();
 
+	private static final OptionalConfigurationProperty<List<String>> INDEX_SORT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_INDEX_SORT )
+					.asString().multivalued()
+					.build();
+
 	private final LuceneBackend backendAPI;
 	private final EventContext eventContext;
 
@@ -74,7 +94,11 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 	private final TimingSource timingSource;
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 	private final FailureHandler failureHandler;
+	private final SearchQueryExecutionListener queryExecutionListener;
 	private final LuceneSyncWorkOrchestrator readOrchestrator;
+	private final IndexWriterMemoryController writerMemoryController;
+	private final IdleIndexResourceEvictor idleEvictor;
+	private final LuceneSearchResultCache resultCache;
 
 	public IndexManagerBackendContext(LuceneBackend backendAPI,
 			EventContext eventContext,
@@ -85,7 +109,11 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 			TimingSource timingSource,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			FailureHandler failureHandler,
-			LuceneSyncWorkOrchestrator readOrchestrator) {
+			SearchQueryExecutionListener queryExecutionListener,
+			LuceneSyncWorkOrchestrator readOrchestrator,
+			IndexWriterMemoryController writerMemoryController,
+			IdleIndexResourceEvictor idleEvictor,
+			LuceneSearchResultCache resultCache) {
 		this.backendAPI = backendAPI;
 		this.eventContext = eventContext;
 		this.threads = threads;
@@ -95,7 +123,11 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.workFactory = workFactory;
 		this.failureHandler = failureHandler;
+		this.queryExecutionListener = queryExecutionListener;
 		this.readOrchestrator = readOrchestrator;
+		this.writerMemoryController = writerMemoryController;
+		this.idleEvictor = idleEvictor;
+		this.resultCache = resultCache;
 	}
 
 	@Override
@@ -169,7 +201,9 @@ public <H> LuceneSearchQueryBuilder<H> createSearchQueryBuilder(
 				searchContext,
 				sessionContext,
 				loadingContextBuilder,
-				rootProjection
+				rootProjection,
+				queryExecutionListener,
+				resultCache
 		);
 	}
 
@@ -181,17 +215,34 @@ EventContext getEventContext() {
 		return eventContext;
 	}
 
+	BackendThreads getThreads() {
+		return threads;
+	}
+
+	LuceneWorkFactory getWorkFactory() {
+		return workFactory;
+	}
+
+	boolean isIndexPerTenant() {
+		return multiTenancyStrategy.isIndexPerTenant();
+	}
+
 	LuceneIndexEntryFactory createLuceneIndexEntryFactory(LuceneIndexModel model) {
 		return new LuceneIndexEntryFactory( model, multiTenancyStrategy );
 	}
 
-	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
+	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource, ReplicationRoleName replicationRole) {
+		if ( ReplicationRoleName.REPLICA.equals( replicationRole ) ) {
+			// Replicas never write: the configured I/O strategy is irrelevant
+			return ReplicaIOStrategy.create( propertySource, timingSource, threads, failureHandler );
+		}
 		switch ( IO_STRATEGY.get( propertySource ) ) {
 			case DEBUG:
 				return DebugIOStrategy.create( threads, failureHandler );
 			case NEAR_REAL_TIME:
 			default:
-				return NearRealTimeIOStrategy.create( propertySource, timingSource, threads, failureHandler );
+				return NearRealTimeIOStrategy.create( propertySource, timingSource, threads, failureHandler,
+						writerMemoryController, idleEvictor );
 		}
 	}
 
@@ -200,25 +251,32 @@ LuceneIndexSchemaManager createSchemaManager(SchemaManagementIndexManagerContext
 	}
 
 	Shard createShard(LuceneIndexModel model, EventContext shardEventContext, DirectoryHolder directoryHolder,
-			IOStrategy ioStrategy, ConfigurationPropertySource propertySource) {
+			ReplicationTransport replicationTransport,
+			DirectoryReaderWarmer readerWarmer, BeanHolder<? extends IndexWarmer> warmerHolder,
+			IOStrategy ioStrategy, boolean lazyOpen, ConfigurationPropertySource propertySource) {
 		LuceneParallelWorkOrchestratorImpl managementOrchestrator;
 		LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
 		IndexAccessorImpl indexAccessor = null;
 		String indexName = model.hibernateSearchName();
+		Sort indexSort = INDEX_SORT.getAndMap( propertySource,
+				fieldSorts -> IndexSortFields.createIndexSort( model, fieldSorts, shardEventContext ) )
+				.orElse( null );
 		IndexWriterConfigSource writerConfigSource = IndexWriterConfigSource.create(
-				similarity, model.getIndexingAnalyzer(), propertySource, shardEventContext
+				similarity, model.getIndexingAnalyzer(), indexSort, propertySource, shardEventContext
 		);
 
 		try {
 			indexAccessor = ioStrategy.createIndexAccessor(
-					indexName, shardEventContext, directoryHolder, writerConfigSource
+					indexName, shardEventContext, directoryHolder, replicationTransport, readerWarmer,
+					writerConfigSource
 			);
 			managementOrchestrator = createIndexManagementOrchestrator( shardEventContext, indexAccessor );
 			indexingOrchestrator = createIndexingOrchestrator( shardEventContext, indexAccessor );
 
 			Shard shard = new Shard(
 					shardEventContext, indexAccessor,
-					managementOrchestrator, indexingOrchestrator
+					managementOrchestrator, indexingOrchestrator,
+					warmerHolder, lazyOpen
 			);
 			return shard;
 		}
@@ -16,6 +16,7 @@
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.FieldValueRanges;
 import org.hibernate.search.backend.lucene.schema.management.impl.LuceneIndexSchemaManager;
 import org.hibernate.search.backend.lucene.scope.model.impl.LuceneScopeIndexManagerContext;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
@@ -150,8 +151,9 @@ public void addTo(IndexScopeBuilder builder) {
 	}
 
 	@Override
-	public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException {
-		shardHolder.openIndexReaders( routingKeys, readerCollector );
+	public void openIndexReaders(String tenantId, Set<String> routingKeys, FieldValueRanges fieldValueRanges,
+			DirectoryReaderCollector readerCollector) throws IOException {
+		shardHolder.openIndexReaders( tenantId, routingKeys, fieldValueRanges, readerCollector );
 	}
 
 	@Override
@@ -189,6 +191,11 @@ public Analyzer searchAnalyzer() {
 		return model.getSearchAnalyzer();
 	}
 
+	@Override
+	public CompletableFuture<?> splitShards(int splitFactor) {
+		return shardHolder.splitShards( splitFactor );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // Checked using reflection
 	public <T> T unwrap(Class<T> clazz) {
@@ -0,0 +1,409 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
+import org.hibernate.search.backend.lucene.index.spi.ShardingStrategyInitializationContext;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A sharding strategy assigning each range of values of a given field to a different shard,
+ * e.g. one shard per month of a timestamp field.
+ * <p>
+ * The value of the field is passed as the routing key.
+ * Shards are created on the fly as documents are routed to new ranges,
+ * and shards whose range cannot match a range predicate on the field are skipped when searching.
+ */
+public class RangeShardingStrategy implements ShardingStrategy {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static final String NAME = "range";
+
+	private static final OptionalConfigurationProperty<String> RANGE_FIELD =
+			ConfigurationProperty.forKey( LuceneIndexSettings.ShardingRadicals.RANGE_FIELD )
+					.asString()
+					.build();
+
+	private static final OptionalConfigurationProperty<Interval> RANGE_INTERVAL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.ShardingRadicals.RANGE_INTERVAL )
+					.as( Interval.class, Interval::of )
+					.build();
+
+	private String rangeFieldPath;
+	private Interval interval;
+
+	@Override
+	public void initialize(ShardingStrategyInitializationContext context) {
+		this.rangeFieldPath = RANGE_FIELD.getOrThrow(
+				context.configurationPropertySource(),
+				key -> log.missingPropertyValueForShardingStrategy( NAME, key )
+		);
+		this.interval = RANGE_INTERVAL.getOrThrow(
+				context.configurationPropertySource(),
+				key -> log.missingPropertyValueForShardingStrategy( NAME, key )
+		);
+		Set<String> shardIds = new LinkedHashSet<>( context.existingShardIdentifiers() );
+		// Always start with at least one shard, so that the index can be searched before anything is indexed.
+		shardIds.add( interval.format( interval.initialBucket() ) );
+		context.shardIdentifiers( shardIds );
+	}
+
+	@Override
+	public String toShardIdentifier(String documentId, String routingKey) {
+		if ( routingKey == null ) {
+			throw log.missingRoutingKeyForRangeShardingStrategy( documentId, rangeFieldPath );
+		}
+		return interval.format( interval.parseRoutingKey( routingKey ) );
+	}
+
+	@Override
+	public Set<String> toShardIdentifiers(Set<String> routingKeys) {
+		Set<String> shardIds = new LinkedHashSet<>();
+		for ( String routingKey : routingKeys ) {
+			shardIds.add( interval.format( interval.parseRoutingKey( routingKey ) ) );
+		}
+		return shardIds;
+	}
+
+	/**
+	 * @return The absolute path of the field whose value determines the shard of each document.
+	 */
+	String rangeFieldPath() {
+		return rangeFieldPath;
+	}
+
+	/**
+	 * @param shardIds The identifiers of existing shards.
+	 * @param valueRanges Ranges of values of the {@link #rangeFieldPath() range field};
+	 * matching documents are known to have a value in at least one of these ranges.
+	 * @return The identifiers among {@code shardIds} of shards that may contain documents
+	 * with a value in one of the given ranges.
+	 */
+	Set<String> toShardIdentifiers(Collection<String> shardIds, List<? extends Range<?>> valueRanges) {
+		long[] lowerBuckets = new long[valueRanges.size()];
+		long[] upperBuckets = new long[valueRanges.size()];
+		for ( int i = 0; i < valueRanges.size(); i++ ) {
+			Range<?> range = valueRanges.get( i );
+			// Exclusive bounds are handled as inclusive bounds: we may target one shard too many, but never too few.
+			Long lower = toBucketOrMinMax( range.lowerBoundValue(), Long.MIN_VALUE );
+			Long upper = toBucketOrMinMax( range.upperBoundValue(), Long.MAX_VALUE );
+			if ( lower == null || upper == null ) {
+				// Values of an unexpected type: we can't prune shards.
+				return new LinkedHashSet<>( shardIds );
+			}
+			lowerBuckets[i] = lower;
+			upperBuckets[i] = upper;
+		}
+
+		Set<String> result = new LinkedHashSet<>();
+		for ( String shardId : shardIds ) {
+			Long bucket = interval.parseShardIdentifier( shardId );
+			if ( bucket == null ) {
+				// Not a shard we created: we can't tell what's inside.
+				result.add( shardId );
+				continue;
+			}
+			for ( int i = 0; i < lowerBuckets.length; i++ ) {
+				if ( lowerBuckets[i] <= bucket && bucket <= upperBuckets[i] ) {
+					result.add( shardId );
+					break;
+				}
+			}
+		}
+		return result;
+	}
+
+	private Long toBucketOrMinMax(Optional<?> value, long defaultValue) {
+		return value.isPresent() ? interval.toBucket( value.get() ) : (Long) defaultValue;
+	}
+
+	/**
+	 * Assigns values to buckets, each bucket being identified by the smallest value it contains.
+	 */
+	abstract static class Interval {
+
+		private static final List<String> CALENDAR_INTERVALS = Arrays.asList( "day", "month", "year" );
+
+		static Interval of(String value) {
+			String normalized = value.trim().toLowerCase( Locale.ROOT );
+			switch ( normalized ) {
+				case "day":
+					return new CalendarInterval( normalized ) {
+						@Override
+						LocalDate truncate(LocalDate date) {
+							return date;
+						}
+
+						@Override
+						String format(LocalDate bucketStart) {
+							return bucketStart.toString();
+						}
+
+						@Override
+						LocalDate parseBucketStart(String shardId) {
+							return LocalDate.parse( shardId );
+						}
+					};
+				case "month":
+					return new CalendarInterval( normalized ) {
+						@Override
+						LocalDate truncate(LocalDate date) {
+							return date.withDayOfMonth( 1 );
+						}
+
+						@Override
+						String format(LocalDate bucketStart) {
+							return YearMonth.from( bucketStart ).toString();
+						}
+
+						@Override
+						LocalDate parseBucketStart(String shardId) {
+							return YearMonth.parse( shardId ).atDay( 1 );
+						}
+					};
+				case "year":
+					return new CalendarInterval( normalized ) {
+						@Override
+						LocalDate truncate(LocalDate date) {
+							return date.withDayOfYear( 1 );
+						}
+
+						@Override
+						String format(LocalDate bucketStart) {
+							return String.valueOf( bucketStart.getYear() );
+						}
+
+						@Override
+						LocalDate parseBucketStart(String shardId) {
+							return Year.parse( shardId ).atDay( 1 );
+						}
+					};
+				default:
+					try {
+						long width = Long.parseLong( normalized );
+						if ( width > 0 ) {
+							return new NumericInterval( width );
+						}
+					}
+					catch (NumberFormatException e) {
+						// Handled below
+					}
+					throw log.invalidRangeShardingInterval( value, CALENDAR_INTERVALS );
+			}
+		}
+
+		abstract long initialBucket();
+
+		abstract long parseRoutingKey(String routingKey);
+
+		/**
+		 * @param value A value of the range field, as passed to predicates.
+		 * @return The bucket of that value, or {@code null} if the value has an unexpected type.
+		 */
+		abstract Long toBucket(Object value);
+
+		abstract String format(long bucket);
+
+		/**
+		 * @param shardId A shard identifier.
+		 * @return The bucket of that shard, or {@code null} if the shard identifier was not created by this interval.
+		 */
+		abstract Long parseShardIdentifier(String shardId);
+	}
+
+	/**
+	 * Buckets of dates, identified by the epoch day of their first day.
+	 * Date-times are converted to dates in UTC.
+	 */
+	private abstract static class CalendarInterval extends Interval {
+		private final String name;
+
+		CalendarInterval(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+
+		abstract LocalDate truncate(LocalDate date);
+
+		abstract String format(LocalDate bucketStart);
+
+		abstract LocalDate parseBucketStart(String shardId);
+
+		@Override
+		long initialBucket() {
+			return truncate( LocalDate.now( ZoneOffset.UTC ) ).toEpochDay();
+		}
+
+		@Override
+		long parseRoutingKey(String routingKey) {
+			try {
+				LocalDate date;
+				if ( routingKey.indexOf( 'T' ) < 0 ) {
+					date = LocalDate.parse( routingKey );
+				}
+				else {
+					TemporalAccessor parsed = DateTimeFormatter.ISO_DATE_TIME.parseBest( routingKey,
+							ZonedDateTime::from, LocalDateTime::from );
+					date = toDate( parsed );
+				}
+				return truncate( date ).toEpochDay();
+			}
+			catch (DateTimeParseException e) {
+				throw log.invalidRoutingKeyForRangeShardingStrategy( routingKey, name,
+						"ISO-8601 dates or date-times, e.g. '2020-01-31' or '2020-01-31T10:15:30Z'", e );
+			}
+		}
+
+		@Override
+		Long toBucket(Object value) {
+			LocalDate date = toDate( value );
+			return date == null ? null : truncate( date ).toEpochDay();
+		}
+
+		@Override
+		String format(long bucket) {
+			return format( LocalDate.ofEpochDay( bucket ) );
+		}
+
+		@Override
+		Long parseShardIdentifier(String shardId) {
+			try {
+				return parseBucketStart( shardId ).toEpochDay();
+			}
+			catch (DateTimeParseException e) {
+				return null;
+			}
+		}
+
+		private static LocalDate toDate(Object value) {
+			if ( value instanceof LocalDate ) {
+				return (LocalDate) value;
+			}
+			else if ( value instanceof LocalDateTime ) {
+				return ( (LocalDateTime) value ).toLocalDate();
+			}
+			else if ( value instanceof Instant ) {
+				return ( (Instant) value ).atOffset( ZoneOffset.UTC ).toLocalDate();
+			}
+			else if ( value instanceof OffsetDateTime ) {
+				return ( (OffsetDateTime) value ).withOffsetSameInstant( ZoneOffset.UTC ).toLocalDate();
+			}
+			else if ( value instanceof ZonedDateTime ) {
+				return ( (ZonedDateTime) value ).withZoneSameInstant( ZoneOffset.UTC ).toLocalDate();
+			}
+			else {
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Buckets of integers of a fixed width, starting from zero.
+	 */
+	private static final class NumericInterval extends Interval {
+		private final long width;
+
+		NumericInterval(long width) {
+			this.width = width;
+		}
+
+		@Override
+		public String toString() {
+			return String.valueOf( width );
+		}
+
+		@Override
+		long initialBucket() {
+			return 0L;
+		}
+
+		@Override
+		long parseRoutingKey(String routingKey) {
+			try {
+				return truncate( new BigDecimal( routingKey.trim() ) );
+			}
+			catch (NumberFormatException | ArithmeticException e) {
+				throw log.invalidRoutingKeyForRangeShardingStrategy( routingKey, toString(),
+						"integers, e.g. '42'", e );
+			}
+		}
+
+		@Override
+		Long toBucket(Object value) {
+			if ( value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte ) {
+				return truncate( ( (Number) value ).longValue() );
+			}
+			else if ( value instanceof Number ) {
+				try {
+					return truncate( new BigDecimal( value.toString() ) );
+				}
+				catch (NumberFormatException | ArithmeticException e) {
+					// NaN, infinity or out of bounds
+					return null;
+				}
+			}
+			else {
+				return null;
+			}
+		}
+
+		@Override
+		String format(long bucket) {
+			return String.valueOf( bucket );
+		}
+
+		@Override
+		Long parseShardIdentifier(String shardId) {
+			try {
+				return Long.parseLong( shardId );
+			}
+			catch (NumberFormatException e) {
+				return null;
+			}
+		}
+
+		private long truncate(BigDecimal value) {
+			return truncate( value.setScale( 0, RoundingMode.FLOOR ).longValueExact() );
+		}
+
+		private long truncate(long value) {
+			return Math.floorDiv( value, width ) * width;
+		}
+	}
+}
@@ -12,11 +12,13 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexWarmer;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestratorImpl;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -32,25 +34,37 @@ public final class Shard {
 	private final IndexAccessorImpl indexAccessor;
 	private final LuceneParallelWorkOrchestratorImpl managementOrchestrator;
 	private final LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
+	private final BeanHolder<? extends IndexWarmer> warmerHolder;
+	private final boolean lazyOpen;
 
 	Shard(EventContext eventContext, IndexAccessorImpl indexAccessor,
 			LuceneParallelWorkOrchestratorImpl managementOrchestrator,
-			LuceneSerialWorkOrchestratorImpl indexingOrchestrator) {
+			LuceneSerialWorkOrchestratorImpl indexingOrchestrator,
+			BeanHolder<? extends IndexWarmer> warmerHolder, boolean lazyOpen) {
 		this.eventContext = eventContext;
 		this.indexAccessor = indexAccessor;
 		this.managementOrchestrator = managementOrchestrator;
 		this.indexingOrchestrator = indexingOrchestrator;
+		this.warmerHolder = warmerHolder;
+		this.lazyOpen = lazyOpen;
 	}
 
 	void start(ConfigurationPropertySource propertySource) {
 		try {
-			indexAccessor.start();
+			if ( !lazyOpen ) {
+				// When opening lazily, the index accessor will open the directory on first use.
+				indexAccessor.start();
+			}
 			managementOrchestrator.start( propertySource );
 			indexingOrchestrator.start( propertySource );
+			if ( warmerHolder != null && !lazyOpen ) {
+				indexAccessor.warmUp();
+			}
 		}
 		catch (IOException | RuntimeException e) {
 			new SuppressingCloser( e )
 					.push( indexAccessor )
+					.push( warmerHolder )
 					.push( LuceneSerialWorkOrchestratorImpl::stop, indexingOrchestrator )
 					.push( LuceneParallelWorkOrchestratorImpl::stop, managementOrchestrator );
 			throw log.unableToInitializeIndexDirectory(
@@ -71,6 +85,7 @@ void stop() throws IOException {
 			closer.push( LuceneParallelWorkOrchestratorImpl::stop, managementOrchestrator );
 			// Close the index writer after the orchestrators, when we're sure all works have been performed
 			closer.push( IndexAccessorImpl::close, indexAccessor );
+			closer.push( BeanHolder::close, warmerHolder );
 		}
 	}
 
@@ -78,10 +93,18 @@ DirectoryReader openReader() throws IOException {
 		return indexAccessor.getIndexReader();
 	}
 
+	IndexAccessorImpl getIndexAccessor() {
+		return indexAccessor;
+	}
+
 	LuceneSerialWorkOrchestrator getIndexingOrchestrator() {
 		return indexingOrchestrator;
 	}
 
+	CompletableFuture<?> indexingCompletion() {
+		return indexingOrchestrator.completion();
+	}
+
 	LuceneParallelWorkOrchestrator getManagementOrchestrator() {
 		return managementOrchestrator;
 	}
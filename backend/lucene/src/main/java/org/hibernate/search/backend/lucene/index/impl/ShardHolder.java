@@ -7,38 +7,74 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.HashShardRoutingQuery;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.FieldValueRanges;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.FilteredDirectoryReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
 import org.hibernate.search.backend.lucene.schema.management.impl.SchemaManagementIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionIndexManagerContext;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.backend.lucene.work.impl.SplitHashShardWork;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.data.Range;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.search.Query;
 
 class ShardHolder implements ReadIndexManagerContext, WorkExecutionIndexManagerContext,
 		SchemaManagementIndexManagerContext {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final IndexManagerBackendContext backendContext;
 	private final LuceneIndexModel model;
 
-	private BeanHolder<? extends ShardingStrategy> shardingStrategyHolder;
-	private final Map<String, Shard> shards = new LinkedHashMap<>();
-	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
+	private ShardingStrategyInitializationContextImpl initializationContext;
+	private ConfigurationPropertySource propertySource;
+
+	/*
+	 * The layout is replaced as a whole when splitting shards,
+	 * so that concurrent readers always see a consistent set of shards.
+	 */
+	private volatile ShardLayout layout = ShardLayout.EMPTY;
+
+	/*
+	 * Whether shards are being split.
+	 * Indexing is rejected until the split is complete,
+	 * since documents could otherwise end up in the wrong shard, or be lost.
+	 */
+	private volatile boolean splitInProgress = false;
 
 	ShardHolder(IndexManagerBackendContext backendContext, LuceneIndexModel model) {
 		this.backendContext = backendContext;
@@ -50,58 +86,294 @@ public String toString() {
 		return getClass().getSimpleName() + "[indexName=" + model.hibernateSearchName() + "]";
 	}
 
-	void start(IndexManagerStartContext startContext) {
-		ConfigurationPropertySource propertySource = startContext.configurationPropertySource();
+	synchronized void start(IndexManagerStartContext startContext) {
+		this.propertySource = startContext.configurationPropertySource();
 
+		Map<String, Shard> shards = new LinkedHashMap<>();
 		try {
-			ShardingStrategyInitializationContextImpl initializationContext =
+			this.initializationContext =
 					new ShardingStrategyInitializationContextImpl( backendContext, model, startContext, propertySource );
-			this.shardingStrategyHolder = initializationContext.create( shards );
+			if ( backendContext.isIndexPerTenant() ) {
+				// One shard per tenant: start the shards of known tenants, others will be created on first use.
+				initializationContext.createPerTenant( shards );
+				// Shards will be stopped in stop() even if they're not started.
+				this.layout = new ShardLayout( null, shards, true, Collections.emptyMap() );
+			}
+			else {
+				BeanHolder<? extends ShardingStrategy> shardingStrategyHolder = initializationContext.create( shards );
+				// Shards will be stopped in stop() even if they're not started.
+				this.layout = new ShardLayout( shardingStrategyHolder, shards, false, Collections.emptyMap() );
+			}
 
 			if ( startContext.failureCollector().hasFailure() ) {
 				// At least one shard creation failed; abort and don't even try to start shards.
 				return;
 			}
 
-			for ( Shard shard : shards.values() ) {
-				shard.start( propertySource );
-				managementOrchestrators.add( shard.getManagementOrchestrator() );
-			}
+			startShards( shards.values() );
+			checkNumberOfShardsAfterSplit();
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
 					.pushAll( Shard::stop, shards.values() );
-			shards.clear();
-			managementOrchestrators.clear();
+			this.layout = ShardLayout.EMPTY;
 			throw e;
 		}
 	}
 
+	/*
+	 * Starting a shard may involve I/O (opening directories, creating or warming up index readers, ...),
+	 * which is slow when there are many shards, especially on network-attached storage:
+	 * start shards in parallel on the backend threads.
+	 */
+	private void startShards(Collection<Shard> shards) {
+		if ( shards.size() <= 1 ) {
+			for ( Shard shard : shards ) {
+				shard.start( propertySource );
+			}
+			return;
+		}
+
+		ExecutorService executor = backendContext.getThreads().getWriteExecutor();
+		List<CompletableFuture<?>> futures = new ArrayList<>( shards.size() );
+		for ( Shard shard : shards ) {
+			futures.add( Futures.runAsync( () -> shard.start( propertySource ), executor ) );
+		}
+
+		// Wait for all shards to be started, even if some fail, so that we can stop them safely.
+		RuntimeException failure = null;
+		for ( CompletableFuture<?> future : futures ) {
+			try {
+				Futures.unwrappedExceptionJoin( future );
+			}
+			catch (RuntimeException e) {
+				if ( failure == null ) {
+					failure = e;
+				}
+				else {
+					failure.addSuppressed( e );
+				}
+			}
+		}
+		if ( failure != null ) {
+			throw failure;
+		}
+	}
+
+	/*
+	 * The number of shards resulting from a split is not persisted in the configuration,
+	 * only in the commit user data of the shards:
+	 * refuse to start if the configuration was not updated accordingly,
+	 * since documents would be routed to the wrong shards.
+	 * Each shard records the new number of shards once its split is complete,
+	 * so a shard that did not record it while other shards did was not split completely,
+	 * and may still hold copies of documents that were moved to other shards:
+	 * refuse to start in that case too, since searches would return duplicates.
+	 * This is not checked when opening index directories lazily.
+	 */
+	private void checkNumberOfShardsAfterSplit() {
+		ShardLayout currentLayout = layout;
+		ShardingStrategy strategy = currentLayout.shardingStrategyHolder == null ? null
+				: currentLayout.shardingStrategyHolder.get();
+		if ( !( strategy instanceof HashShardingStrategy ) ) {
+			return;
+		}
+		int configuredShardCount = ( (HashShardingStrategy) strategy ).shardCount();
+		Map<String, Integer> persistedShardCounts = new LinkedHashMap<>();
+		int maxPersistedShardCount = 0;
+		for ( Map.Entry<String, Shard> entry : currentLayout.shards.entrySet() ) {
+			String shardId = entry.getKey();
+			String persistedShardCount;
+			try {
+				persistedShardCount = entry.getValue().getIndexAccessor().getLatestCommitUserData()
+						.get( SplitHashShardWork.SHARD_COUNT_COMMIT_USER_DATA_KEY );
+			}
+			catch (IOException e) {
+				throw log.unableToReadNumberOfShards( e.getMessage(),
+						EventContexts.fromIndexNameAndShardId( getIndexName(), Optional.of( shardId ) ), e );
+			}
+			int shardCount = persistedShardCount == null ? 0 : Integer.parseInt( persistedShardCount );
+			persistedShardCounts.put( shardId, shardCount );
+			maxPersistedShardCount = Math.max( maxPersistedShardCount, shardCount );
+		}
+		if ( maxPersistedShardCount == 0 ) {
+			// Never split
+			return;
+		}
+		if ( maxPersistedShardCount != configuredShardCount ) {
+			throw log.invalidNumberOfShardsAfterSplit( getIndexName(), maxPersistedShardCount,
+					configuredShardCount, LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS );
+		}
+		for ( Map.Entry<String, Integer> entry : persistedShardCounts.entrySet() ) {
+			if ( entry.getValue() != configuredShardCount ) {
+				throw log.incompleteShardSplit( getIndexName(), entry.getKey(), configuredShardCount );
+			}
+		}
+	}
+
 	CompletableFuture<?> preStop() {
+		Collection<Shard> shards = layout.shards.values();
 		CompletableFuture<?>[] futures = new CompletableFuture[shards.size()];
 		int i = 0;
-		for ( Shard shard : shards.values() ) {
+		for ( Shard shard : shards ) {
 			futures[i] = shard.preStop();
 			i++;
 		}
 		return CompletableFuture.allOf( futures );
 	}
 
-	void stop() throws IOException {
+	synchronized void stop() throws IOException {
+		ShardLayout currentLayout = layout;
+		layout = ShardLayout.EMPTY;
 		try ( Closer<IOException> closer = new Closer<>() ) {
-			closer.pushAll( Shard::stop, shards.values() );
-			shards.clear();
-			managementOrchestrators.clear();
+			closer.pushAll( Shard::stop, currentLayout.shards.values() );
+			closer.push( BeanHolder::close, currentLayout.shardingStrategyHolder );
+		}
+	}
+
+	/**
+	 * Splits each shard into {@code splitFactor} shards.
+	 * <p>
+	 * Only works with the hash sharding strategy.
+	 * Shard {@code i} keeps its identifier and the documents that are still routed to it,
+	 * while other documents are copied to new shards
+	 * using {@link org.apache.lucene.index.IndexWriter#addIndexes(org.apache.lucene.index.CodecReader...)},
+	 * then the new layout is switched to atomically,
+	 * and finally the documents that were copied are deleted from their original shard.
+	 * <p>
+	 * Until deletions are committed and visible in every original shard,
+	 * searches filter out documents of original shards that are routed to other shards,
+	 * so that documents that were copied are never returned twice.
+	 * <p>
+	 * Indexing is rejected while the split is in progress,
+	 * and indexing works submitted before the split are executed before documents are copied.
+	 * The new number of shards is stored in the commit user data of each shard once its split is complete,
+	 * so that the index fails to start if the configured number of shards is not updated,
+	 * or if the split was interrupted.
+	 *
+	 * @param splitFactor The number of shards each existing shard will be split into.
+	 * @return A future completing when the split is complete.
+	 */
+	synchronized CompletableFuture<?> splitShards(int splitFactor) {
+		if ( splitFactor < 2 ) {
+			throw log.invalidShardSplitFactor( splitFactor );
+		}
+		if ( splitInProgress ) {
+			throw log.shardSplitAlreadyInProgress( getIndexName() );
+		}
+		ShardLayout oldLayout = layout;
+		ShardingStrategy strategy = oldLayout.shardingStrategyHolder == null ? null
+				: oldLayout.shardingStrategyHolder.get();
+		if ( !( strategy instanceof HashShardingStrategy ) ) {
+			throw log.cannotSplitShardsWithShardingStrategy( getIndexName(), HashShardingStrategy.NAME,
+					strategy == null ? "none" : strategy );
+		}
+		HashShardingStrategy oldStrategy = (HashShardingStrategy) strategy;
+		HashShardingStrategy newStrategy = oldStrategy.split( splitFactor );
+		int oldShardCount = oldStrategy.shardCount();
+		int newShardCount = newStrategy.shardCount();
+
+		splitInProgress = true;
+		Map<String, Shard> addedShards = new LinkedHashMap<>();
+		try {
+			for ( int i = oldShardCount; i < newShardCount; i++ ) {
+				String shardId = String.valueOf( i );
+				Shard shard = initializationContext.createShard( Optional.of( shardId ) );
+				shard.start( propertySource );
+				addedShards.put( shardId, shard );
+				IndexAccessor indexAccessor = shard.getIndexAccessor();
+				// Get rid of any leftover from a previous, failed split
+				indexAccessor.dropIndexIfExisting();
+				indexAccessor.createIndexIfMissing();
+			}
+		}
+		catch (RuntimeException e) {
+			splitInProgress = false;
+			new SuppressingCloser( e )
+					.pushAll( Shard::stop, addedShards.values() );
+			throw e;
+		}
+
+		// Indexing works submitted before the split started must be executed before documents are copied
+		CompletableFuture<?>[] pendingIndexingFutures = new CompletableFuture[oldShardCount];
+		for ( int i = 0; i < oldShardCount; i++ ) {
+			pendingIndexingFutures[i] = oldLayout.shards.get( String.valueOf( i ) ).indexingCompletion();
 		}
+
+		LuceneWorkFactory workFactory = backendContext.getWorkFactory();
+		return CompletableFuture.allOf( pendingIndexingFutures )
+				.thenCompose( ignored -> {
+					CompletableFuture<?>[] copyFutures = new CompletableFuture[oldShardCount];
+					for ( int i = 0; i < oldShardCount; i++ ) {
+						Map<Integer, IndexAccessor> targetAccessors = new LinkedHashMap<>();
+						for ( int j = i + oldShardCount; j < newShardCount; j += oldShardCount ) {
+							targetAccessors.put( j, addedShards.get( String.valueOf( j ) ).getIndexAccessor() );
+						}
+						LuceneParallelWorkOrchestrator orchestrator =
+								oldLayout.shards.get( String.valueOf( i ) ).getManagementOrchestrator();
+						copyFutures[i] = orchestrator.submit( workFactory.splitHashShard( newShardCount, targetAccessors ) );
+					}
+					return CompletableFuture.allOf( copyFutures );
+				} )
+				.whenComplete( (ignored, throwable) -> {
+					if ( throwable != null ) {
+						new SuppressingCloser( throwable )
+								.pushAll( Shard::stop, addedShards.values() );
+					}
+				} )
+				.thenCompose( ignored -> {
+					ShardLayout splitLayout = switchToSplitLayout( oldLayout, newStrategy, addedShards );
+					CompletableFuture<?>[] purgeFutures = new CompletableFuture[oldShardCount];
+					for ( int i = 0; i < oldShardCount; i++ ) {
+						LuceneParallelWorkOrchestrator orchestrator =
+								oldLayout.shards.get( String.valueOf( i ) ).getManagementOrchestrator();
+						purgeFutures[i] = orchestrator.submit( workFactory.purgeOtherHashShards( newShardCount, i ) )
+								.thenRun( orchestrator::forceCommitInCurrentThread )
+								.thenCompose( ignored2 -> orchestrator.submit( workFactory.refresh() ) );
+					}
+					// If purging fails, searches will keep filtering documents: results will still be correct.
+					return CompletableFuture.allOf( purgeFutures )
+							.thenRun( () -> completeSplitLayout( splitLayout ) );
+				} )
+				.whenComplete( (ignored, throwable) -> splitInProgress = false )
+				.thenRun( () -> log.splitShards( getIndexName(), oldShardCount, newShardCount,
+						LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS ) );
 	}
 
 	@Override
-	public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException {
+	public void openIndexReaders(String tenantId, Set<String> routingKeys, FieldValueRanges fieldValueRanges,
+			DirectoryReaderCollector readerCollector) throws IOException {
 		String mappedTypeName = model.mappedTypeName();
-		Collection<Shard> enabledShards = toShards( routingKeys );
-		for ( Shard shard : enabledShards ) {
-			readerCollector.collect( mappedTypeName, shard.openReader() );
+		ShardLayout currentLayout = layout;
+		List<DirectoryReader> readers = openReaders( currentLayout, tenantId, routingKeys, fieldValueRanges );
+		// When splitting shards, documents are purged from the original shards right after switching layouts:
+		// readers opened for the previous layout may miss documents that were moved to new shards.
+		while ( layout != currentLayout ) {
+			try ( Closer<IOException> closer = new Closer<>() ) {
+				closer.pushAll( DirectoryReader::decRef, readers );
+			}
+			currentLayout = layout;
+			readers = openReaders( currentLayout, tenantId, routingKeys, fieldValueRanges );
+		}
+		for ( DirectoryReader reader : readers ) {
+			readerCollector.collect( mappedTypeName, reader );
+		}
+	}
+
+	private static List<DirectoryReader> openReaders(ShardLayout currentLayout, String tenantId,
+			Set<String> routingKeys, FieldValueRanges fieldValueRanges) throws IOException {
+		Collection<Shard> enabledShards = currentLayout.toShards( tenantId, routingKeys, fieldValueRanges );
+		List<DirectoryReader> readers = new ArrayList<>( enabledShards.size() );
+		try {
+			for ( Shard shard : enabledShards ) {
+				readers.add( currentLayout.openReader( shard ) );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			new SuppressingCloser( e ).pushAll( DirectoryReader::decRef, readers );
+			throw e;
 		}
+		return readers;
 	}
 
 	@Override
@@ -115,13 +387,25 @@ public String getMappedTypeName() {
 	}
 
 	@Override
-	public LuceneSerialWorkOrchestrator getIndexingOrchestrator(String documentId, String routingKey) {
-		return toShard( documentId, routingKey ).getIndexingOrchestrator();
+	public LuceneSerialWorkOrchestrator getIndexingOrchestrator(String tenantId, String documentId,
+			String routingKey) {
+		if ( splitInProgress ) {
+			throw log.cannotIndexDuringShardSplit( getIndexName() );
+		}
+		ShardLayout currentLayout = layout;
+		String shardId = currentLayout.toShardIdentifier( tenantId, documentId, routingKey );
+		Shard shard = currentLayout.shards.get( shardId );
+		if ( shard == null ) {
+			// Some sharding strategies do not know all shards in advance,
+			// and with one index per tenant, the shard of a tenant is created on first use
+			shard = createShardOnTheFly( shardId );
+		}
+		return shard.getIndexingOrchestrator();
 	}
 
 	@Override
-	public List<LuceneParallelWorkOrchestrator> getManagementOrchestrators(Set<String> routingKeys) {
-		Collection<Shard> enabledShards = toShards( routingKeys );
+	public List<LuceneParallelWorkOrchestrator> getManagementOrchestrators(String tenantId, Set<String> routingKeys) {
+		Collection<Shard> enabledShards = layout.toShards( tenantId, routingKeys, FieldValueRanges.NONE );
 		List<LuceneParallelWorkOrchestrator> orchestrators = new ArrayList<>();
 		for ( Shard shard : enabledShards ) {
 			orchestrators.add( shard.getManagementOrchestrator() );
@@ -131,35 +415,177 @@ public List<LuceneParallelWorkOrchestrator> getManagementOrchestrators(Set<Strin
 
 	@Override
 	public List<LuceneParallelWorkOrchestrator> getAllManagementOrchestrators() {
-		return managementOrchestrators;
+		return layout.managementOrchestrators;
 	}
 
 	public List<Shard> getShardsForTests() {
-		return new ArrayList<>( shards.values() );
+		return new ArrayList<>( layout.shards.values() );
 	}
 
-	private Collection<Shard> toShards(Set<String> routingKeys) {
-		if ( shardingStrategyHolder == null || routingKeys.isEmpty() ) {
-			// No sharding or no routing key => target all shards
-			return shards.values();
+	private synchronized Shard createShardOnTheFly(String shardId) {
+		ShardLayout currentLayout = layout;
+		Shard shard = currentLayout.shards.get( shardId );
+		if ( shard != null ) {
+			// Created concurrently
+			return shard;
+		}
+		if ( currentLayout.shardingStrategyHolder == null && !currentLayout.perTenant ) {
+			throw new AssertionFailure( "Attempt to create shard '" + shardId + "' on the fly for index '"
+					+ getIndexName() + "', but sharding is disabled or the index is stopped." );
+		}
+
+		log.creatingShardOnTheFly( getIndexName(), shardId );
+		shard = initializationContext.createShard( Optional.of( shardId ) );
+		try {
+			shard.start( propertySource );
+			shard.getIndexAccessor().createIndexIfMissing();
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e ).push( Shard::stop, shard );
+			throw e;
 		}
 
-		Set<String> shardIdentifiers = shardingStrategyHolder.get().toShardIdentifiers( routingKeys );
+		Map<String, Shard> newShards = new LinkedHashMap<>( currentLayout.shards );
+		newShards.put( shardId, shard );
+		layout = new ShardLayout( currentLayout.shardingStrategyHolder, newShards, currentLayout.perTenant,
+				currentLayout.readerFilters );
+		return shard;
+	}
+
+	/*
+	 * Until documents that were copied to new shards are purged from the original shards,
+	 * and these deletions are visible, the original shards hold copies of the documents of the new shards:
+	 * filter them out when searching.
+	 */
+	private synchronized ShardLayout switchToSplitLayout(ShardLayout oldLayout, HashShardingStrategy newStrategy,
+			Map<String, Shard> addedShards) {
+		int oldShardCount = oldLayout.shards.size();
+		int newShardCount = newStrategy.shardCount();
+		Map<Shard, Query> readerFilters = new HashMap<>();
+		for ( int i = 0; i < oldShardCount; i++ ) {
+			BitSet shardIndexes = new BitSet( newShardCount );
+			shardIndexes.set( i );
+			readerFilters.put( oldLayout.shards.get( String.valueOf( i ) ),
+					new HashShardRoutingQuery( newShardCount, shardIndexes ) );
+		}
+		Map<String, Shard> newShards = new LinkedHashMap<>( oldLayout.shards );
+		newShards.putAll( addedShards );
+		ShardLayout splitLayout = new ShardLayout( BeanHolder.of( newStrategy ), newShards, false, readerFilters );
+		layout = splitLayout;
+		oldLayout.shardingStrategyHolder.close();
+		return splitLayout;
+	}
 
-		Collection<Shard> enabledShards = new HashSet<>();
-		for ( String shardId : shardIdentifiers ) {
-			enabledShards.add( shards.get( shardId ) );
+	private synchronized void completeSplitLayout(ShardLayout splitLayout) {
+		if ( layout != splitLayout ) {
+			// Stopped in the meantime
+			return;
 		}
-		return enabledShards;
+		layout = new ShardLayout( splitLayout.shardingStrategyHolder, splitLayout.shards, false,
+				Collections.emptyMap() );
 	}
 
-	private Shard toShard(String documentId, String routingKey) {
-		if ( shardingStrategyHolder == null ) {
-			// Sharding is disabled: there's only one shard
-			return shards.values().iterator().next();
+	private static final class ShardLayout {
+		private static final ShardLayout EMPTY = new ShardLayout( null, Collections.emptyMap(), false,
+				Collections.emptyMap() );
+
+		private final BeanHolder<? extends ShardingStrategy> shardingStrategyHolder;
+		private final Map<String, Shard> shards;
+		/*
+		 * Whether there is one shard per tenant (index-per-tenant multi-tenancy),
+		 * the shard identifier being the tenant identifier.
+		 */
+		private final boolean perTenant;
+		private final List<LuceneParallelWorkOrchestrator> managementOrchestrators;
+		/*
+		 * Filters to apply to the readers of some shards when searching,
+		 * to hide documents that these shards hold but that belong to other shards.
+		 */
+		private final Map<Shard, Query> readerFilters;
+
+		private ShardLayout(BeanHolder<? extends ShardingStrategy> shardingStrategyHolder,
+				Map<String, Shard> shards, boolean perTenant, Map<Shard, Query> readerFilters) {
+			this.shardingStrategyHolder = shardingStrategyHolder;
+			this.shards = Collections.unmodifiableMap( shards );
+			this.perTenant = perTenant;
+			this.readerFilters = readerFilters;
+			List<LuceneParallelWorkOrchestrator> orchestrators = new ArrayList<>();
+			for ( Shard shard : shards.values() ) {
+				orchestrators.add( shard.getManagementOrchestrator() );
+			}
+			this.managementOrchestrators = Collections.unmodifiableList( orchestrators );
+		}
+
+		private Collection<Shard> toShards(String tenantId, Set<String> routingKeys,
+				FieldValueRanges fieldValueRanges) {
+			if ( perTenant ) {
+				Shard shard = shards.get( tenantId );
+				// The shard of a tenant that was never used doesn't exist yet: it doesn't contain any document
+				return shard == null ? Collections.emptySet() : Collections.singleton( shard );
+			}
+			if ( shardingStrategyHolder == null ) {
+				// No sharding => target all shards
+				return shards.values();
+			}
+			ShardingStrategy strategy = shardingStrategyHolder.get();
+
+			Collection<String> shardIdentifiers;
+			if ( routingKeys.isEmpty() ) {
+				shardIdentifiers = shards.keySet();
+			}
+			else {
+				shardIdentifiers = strategy.toShardIdentifiers( routingKeys );
+			}
+
+			if ( strategy instanceof RangeShardingStrategy ) {
+				RangeShardingStrategy rangeStrategy = (RangeShardingStrategy) strategy;
+				List<Range<?>> ranges = fieldValueRanges.get( rangeStrategy.rangeFieldPath() );
+				if ( ranges != null ) {
+					shardIdentifiers = rangeStrategy.toShardIdentifiers( shardIdentifiers, ranges );
+				}
+			}
+
+			if ( shardIdentifiers == shards.keySet() ) {
+				// No routing key and no pruning => target all shards
+				return shards.values();
+			}
+
+			Collection<Shard> enabledShards = new HashSet<>();
+			for ( String shardId : shardIdentifiers ) {
+				Shard shard = shards.get( shardId );
+				// Shards that were not created yet can be ignored: they don't contain any document
+				if ( shard != null ) {
+					enabledShards.add( shard );
+				}
+			}
+			return enabledShards;
+		}
+
+		private DirectoryReader openReader(Shard shard) throws IOException {
+			DirectoryReader reader = shard.openReader();
+			Query filter = readerFilters.get( shard );
+			if ( filter == null ) {
+				return reader;
+			}
+			try {
+				return FilteredDirectoryReader.filter( reader, filter );
+			}
+			catch (IOException | RuntimeException e) {
+				new SuppressingCloser( e ).push( DirectoryReader::decRef, reader );
+				throw e;
+			}
 		}
 
-		String shardId = shardingStrategyHolder.get().toShardIdentifier( documentId, routingKey );
-		return shards.get( shardId );
+		private String toShardIdentifier(String tenantId, String documentId, String routingKey) {
+			if ( perTenant ) {
+				return tenantId;
+			}
+			if ( shardingStrategyHolder == null ) {
+				// Sharding is disabled: there's only one shard, with a null identifier
+				return null;
+			}
+
+			return shardingStrategyHolder.get().toShardIdentifier( documentId, routingKey );
+		}
 	}
 }
@@ -22,9 +22,17 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.replication.ReplicationRoleName;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.ReplicationTransportCreationContextImpl;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransportCreationContext;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransportProvider;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
@@ -52,6 +60,30 @@ class ShardingStrategyInitializationContextImpl implements ShardingStrategyIniti
 					.withDefault( BeanReference.of( DirectoryProvider.class, LuceneIndexSettings.Defaults.DIRECTORY_TYPE ) )
 					.build();
 
+	private static final ConfigurationProperty<ReplicationRoleName> REPLICATION_ROLE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_REPLICATION_ROLE )
+					.as( ReplicationRoleName.class, ReplicationRoleName::of )
+					.withDefault( LuceneIndexSettings.Defaults.IO_REPLICATION_ROLE )
+					.build();
+
+	private static final ConfigurationProperty<BeanReference<? extends ReplicationTransportProvider>> REPLICATION_TRANSPORT_TYPE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_REPLICATION_TRANSPORT_TYPE )
+					.asBeanReference( ReplicationTransportProvider.class )
+					.withDefault( BeanReference.of( ReplicationTransportProvider.class,
+							LuceneIndexSettings.Defaults.IO_REPLICATION_TRANSPORT_TYPE ) )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> LAZY_OPEN =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_LAZY_OPEN )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_LAZY_OPEN )
+					.build();
+
+	private static final OptionalConfigurationProperty<BeanReference<? extends IndexWarmer>> WARMING_WARMER =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WARMING_WARMER )
+					.asBeanReference( IndexWarmer.class )
+					.build();
+
 	private final IndexManagerBackendContext backendContext;
 	private final LuceneIndexModel model;
 	private final IndexManagerStartContext startContext;
@@ -76,6 +108,17 @@ public void shardIdentifiers(Set<String> shardIdentifiers) {
 		this.shardIdentifiers.addAll( shardIdentifiers );
 	}
 
+	@Override
+	public Set<String> existingShardIdentifiers() {
+		try ( BeanHolder<? extends DirectoryProvider> directoryProviderHolder =
+				DIRECTORY_TYPE.getAndTransform( indexPropertySource, startContext.beanResolver()::resolve ) ) {
+			DirectoryCreationContext context = new DirectoryCreationContextImpl(
+					EventContexts.fromIndexName( indexName() ), indexName(), Optional.empty(), beanResolver(),
+					indexPropertySource.withMask( "directory" ) );
+			return directoryProviderHolder.get().existingShardIdentifiers( context );
+		}
+	}
+
 	@Override
 	public void disableSharding() {
 		this.shardIdentifiers = null;
@@ -121,7 +164,49 @@ public BeanHolder<? extends ShardingStrategy> create(Map<String, Shard> shardCol
 		return shardingStrategyHolder;
 	}
 
+	/**
+	 * Creates one shard per tenant whose index already exists, for the index-per-tenant multi-tenancy strategy.
+	 * <p>
+	 * Shards of other tenants are expected to be created on the fly, the first time each tenant is used.
+	 *
+	 * @param shardCollector A map to collect the created shards into.
+	 */
+	public void createPerTenant(Map<String, Shard> shardCollector) {
+		try ( BeanHolder<? extends ShardingStrategy> shardingStrategyHolder =
+				SHARDING_STRATEGY.getAndTransform( shardingPropertySource, beanResolver()::resolve ) ) {
+			shardingStrategyHolder.get().initialize( this );
+		}
+		if ( shardIdentifiers != null ) {
+			throw log.shardingNotSupportedWithIndexPerTenant( indexName() );
+		}
+
+		for ( String tenantId : existingShardIdentifiers() ) {
+			contributeShardWithSilentFailure( shardCollector, Optional.of( tenantId ) );
+		}
+	}
+
 	private void contributeShardWithSilentFailure(Map<String, Shard> shardCollector, Optional<String> shardId) {
+		try {
+			shardCollector.put( shardId.orElse( null ), createShard( shardId ) );
+		}
+		catch (RuntimeException e) {
+			ContextualFailureCollector failureCollector = startContext.failureCollector();
+			if ( shardId.isPresent() ) {
+				failureCollector = failureCollector.withContext( EventContexts.fromShardId( shardId.get() ) );
+			}
+			failureCollector.add( e );
+		}
+	}
+
+	/**
+	 * Creates a shard, but does not start it.
+	 * <p>
+	 * May be called after startup, to add shards to the index.
+	 *
+	 * @param shardId The identifier of the shard, or an empty optional if sharding is disabled.
+	 * @return The created shard.
+	 */
+	Shard createShard(Optional<String> shardId) {
 		EventContext shardEventContext = EventContexts.fromIndexNameAndShardId( indexName(), shardId );
 		ConfigurationPropertySource shardPropertySource =
 				shardId.isPresent() ?
@@ -130,26 +215,45 @@ private void contributeShardWithSilentFailure(Map<String, Shard> shardCollector,
 						: indexPropertySource;
 
 		DirectoryHolder directoryHolder = null;
+		ReplicationTransport replicationTransport = null;
+		BeanHolder<? extends IndexWarmer> warmerHolder = null;
 		try ( BeanHolder<? extends DirectoryProvider> directoryProviderHolder =
 				DIRECTORY_TYPE.getAndTransform( shardPropertySource, startContext.beanResolver()::resolve ) ) {
 			DirectoryCreationContext context = new DirectoryCreationContextImpl( shardEventContext,
 					indexName(), shardId, beanResolver(), shardPropertySource.withMask( "directory" ) );
 			directoryHolder = directoryProviderHolder.get().createDirectoryHolder( context );
 
-			IOStrategy ioStrategy = backendContext.createIOStrategy( shardPropertySource );
+			ReplicationRoleName replicationRole = REPLICATION_ROLE.get( shardPropertySource );
+			if ( !ReplicationRoleName.NONE.equals( replicationRole ) ) {
+				replicationTransport = createReplicationTransport( shardEventContext, shardId, shardPropertySource );
+			}
+
+			warmerHolder = WARMING_WARMER.getAndMap( shardPropertySource, beanResolver()::resolve ).orElse( null );
+			DirectoryReaderWarmer readerWarmer = warmerHolder == null ? null
+					: new DirectoryReaderWarmer( warmerHolder.get(), shardEventContext, indexName(), shardId );
+
+			IOStrategy ioStrategy = backendContext.createIOStrategy( shardPropertySource, replicationRole );
+			// Replication transports expect the directory to be open as soon as they start: never open lazily.
+			boolean lazyOpen = LAZY_OPEN.get( shardPropertySource ) && replicationTransport == null;
 
-			Shard shard = backendContext.createShard( model, shardEventContext, directoryHolder, ioStrategy,
-					shardPropertySource );
-			shardCollector.put( shardId.orElse( null ), shard );
+			return backendContext.createShard( model, shardEventContext, directoryHolder,
+					replicationTransport, readerWarmer, warmerHolder, ioStrategy, lazyOpen, shardPropertySource );
 		}
 		catch (RuntimeException e) {
-			new SuppressingCloser( e ).push( directoryHolder );
+			new SuppressingCloser( e ).push( warmerHolder ).push( replicationTransport ).push( directoryHolder );
+			throw e;
+		}
+	}
 
-			ContextualFailureCollector failureCollector = startContext.failureCollector();
-			if ( shardId.isPresent() ) {
-				failureCollector = failureCollector.withContext( EventContexts.fromShardId( shardId.get() ) );
-			}
-			failureCollector.add( e );
+	private ReplicationTransport createReplicationTransport(EventContext shardEventContext, Optional<String> shardId,
+			ConfigurationPropertySource shardPropertySource) {
+		try ( BeanHolder<? extends ReplicationTransportProvider> transportProviderHolder =
+				REPLICATION_TRANSPORT_TYPE.getAndTransform( shardPropertySource, startContext.beanResolver()::resolve ) ) {
+			ReplicationTransportCreationContext context = new ReplicationTransportCreationContextImpl(
+					shardEventContext, indexName(), shardId, beanResolver(),
+					shardPropertySource.withMask( "io" ).withMask( "replication" ).withMask( "transport" )
+			);
+			return transportProviderHolder.get().createTransport( context );
 		}
 	}
 }
@@ -20,6 +20,13 @@ public interface ShardingStrategyInitializationContext {
 	 */
 	void shardIdentifiers(Set<String> shardIdentifiers);
 
+	/**
+	 * @return The identifiers of shards that already exist in the index storage,
+	 * for sharding strategies that create shards on the fly.
+	 * May be empty, in particular when the directory does not persist data across restarts.
+	 */
+	Set<String> existingShardIdentifiers();
+
 	/**
 	 * Inform Hibernate Search that sharding is disabled.
 	 */
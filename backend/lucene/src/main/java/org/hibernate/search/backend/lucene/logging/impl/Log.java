@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.logging.impl;
 
+import static org.jboss.logging.Logger.Level.DEBUG;
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.TRACE;
 import static org.jboss.logging.Logger.Level.WARN;
@@ -623,4 +624,252 @@ SearchException differentImplementationClassForQueryElement(@FormatWith(ClassFor
 			+ " %2$s")
 	void deprecatedFileSystemAccessStrategy(String accessStrategyName,
 			@FormatWith(EventContextFormatter.class) EventContext eventContext);
+
+	@Message(id = ID_OFFSET_2 + 139,
+			value = "Invalid replication role name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidReplicationRoleName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 140,
+			value = "Missing value for property '%2$s'. The replication transport '%1$s' requires this property to be set.")
+	SearchException missingPropertyValueForReplicationTransport(String transportName, String propertyKey);
+
+	@Message(id = ID_OFFSET_2 + 141,
+			value = "Unable to initialize replication directory: %1$s")
+	SearchException unableToInitializeReplicationDirectory(String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 142,
+			value = "Unable to write to index: this node is a replica, and replicas are read-only."
+					+ " Write to the primary node instead.")
+	SearchException cannotWriteToReplica(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 143,
+			value = "Unable to publish index commit to replicas: %1$s")
+	SearchException unableToPublishCommit(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 144,
+			value = "Unable to retrieve the latest index commit from the primary: %1$s."
+					+ " Index readers will keep using the previously retrieved commit. %2$s")
+	void unableToPullCommit(String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext eventContext, @Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 145,
+			value = "Unable to warm up index reader: %1$s."
+					+ " The index reader will be used anyway, but the first search queries may be slower. %2$s")
+	void unableToWarmIndexReader(String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext eventContext, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 146,
+			value = "Unable to split shards of index '%1$s': shard splitting requires the '%2$s' sharding strategy,"
+					+ " but this index uses sharding strategy '%3$s'.")
+	SearchException cannotSplitShardsWithShardingStrategy(String indexName, String expectedStrategyName,
+			Object actualStrategy);
+
+	@Message(id = ID_OFFSET_2 + 147,
+			value = "Invalid shard split factor: '%1$s'. The split factor must be an integer greater than or equal to 2.")
+	SearchException invalidShardSplitFactor(int splitFactor);
+
+	@Message(id = ID_OFFSET_2 + 148,
+			value = "Unable to split shard: %1$s")
+	SearchException unableToSplitShard(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET_2 + 149,
+			value = "Split the %2$d shards of index '%1$s' into %3$d shards."
+					+ " Set the configuration property '%4$s' to %3$d for this index"
+					+ " before the application is restarted: the index will fail to start otherwise.")
+	void splitShards(String indexName, int oldShardCount, int newShardCount, String numberOfShardsPropertyKey);
+
+	@Message(id = ID_OFFSET_2 + 150,
+			value = "Unable to list existing shards: %1$s")
+	SearchException unableToListExistingShards(String causeMessage, @Param EventContext context,
+			@Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 151,
+			value = "Invalid range sharding interval: '%1$s'."
+					+ " The interval must be one of %2$s, or a strictly positive integer.")
+	SearchException invalidRangeShardingInterval(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 152,
+			value = "Missing routing key for document '%1$s'. The 'range' sharding strategy requires a routing key"
+					+ " holding the value of field '%2$s' for each document.")
+	SearchException missingRoutingKeyForRangeShardingStrategy(String documentId, String rangeFieldPath);
+
+	@Message(id = ID_OFFSET_2 + 153,
+			value = "Invalid routing key: '%1$s'. The 'range' sharding strategy with interval '%2$s'"
+					+ " expects routing keys to be %3$s.")
+	SearchException invalidRoutingKeyForRangeShardingStrategy(String routingKey, String interval,
+			String expectedFormat, @Cause Exception cause);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET_2 + 154,
+			value = "Creating shard '%2$s' of index '%1$s' on the fly.")
+	void creatingShardOnTheFly(String indexName, String shardId);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET_2 + 155,
+			value = "Index writers use %1$d bytes of memory in total, above the limit of %2$d bytes:"
+					+ " flushing the largest buffers.")
+	void flushingIndexWritersAboveGlobalRamBufferSize(long ramBytesUsed, long ramBytesLimit);
+
+	@Message(id = ID_OFFSET_2 + 156,
+			value = "Unable to flush index writer buffers: %1$s")
+	SearchException unableToFlushIndexWriter(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 157,
+			value = "Invalid global RAM buffer size: '%1$s'. The size must be strictly positive.")
+	SearchException invalidGlobalRamBufferSize(int size);
+
+	@Message(id = ID_OFFSET_2 + 158,
+			value = "Invalid global RAM buffer check interval: '%1$s'. The interval must be strictly positive.")
+	SearchException invalidGlobalRamBufferCheckInterval(int interval);
+
+	@Message(id = ID_OFFSET_2 + 159,
+			value = "Invalid idle timeout: '%1$s'. The timeout must be strictly positive.")
+	SearchException invalidIdleTimeout(int timeout);
+
+	@Message(id = ID_OFFSET_2 + 160,
+			value = "Invalid maximum number of open index writers: '%1$s'. The maximum must be strictly positive.")
+	SearchException invalidMaxOpenWriters(int max);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET_2 + 161,
+			value = "Closing unused index writer. %1$s")
+	void closingUnusedIndexWriter(@FormatWith(EventContextFormatter.class) EventContext context);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET_2 + 162,
+			value = "Closing unused index reader. %1$s")
+	void closingUnusedIndexReader(@FormatWith(EventContextFormatter.class) EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 163,
+			value = "Unable to close unused index writer or reader: %1$s")
+	SearchException unableToCloseUnusedIndexResource(String causeMessage, @Param EventContext context,
+			@Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 164,
+			value = "Invalid tenant identifier: '%1$s'."
+					+ " With the index-per-tenant multi-tenancy strategy, tenant identifiers are used as directory names"
+					+ " and must only contain letters, digits, '_', '-' and '.', and must not start with '.'.")
+	SearchException invalidTenantIdForIndexPerTenant(String tenantId, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 165,
+			value = "Sharding is enabled for index '%1$s', but the multi-tenancy strategy is 'index-per-tenant'."
+					+ " This strategy already creates one shard per tenant and cannot be combined with sharding."
+					+ " Disable sharding for this index, or use another multi-tenancy strategy.")
+	SearchException shardingNotSupportedWithIndexPerTenant(String indexName);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET_2 + 166,
+			value = "Opening index directory on first use. %1$s")
+	void openingIndexLazily(@FormatWith(EventContextFormatter.class) EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 167,
+			value = "Cannot collapse hits on field '%1$s'."
+					+ " Collapsing requires a sortable field that is not contained in a nested object.")
+	SearchException cannotCollapseOnField(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 168,
+			value = "Unable to refresh the index reader: %1$s")
+	SearchException unableToRefreshIndexReader(String causeMessage, @Param EventContext context,
+			@Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 169,
+			value = "Reindexing into a new index is not supported by the Lucene backend."
+					+ " Reindex in place instead, for example by purging the index before mass indexing.")
+	SearchException reindexingIntoNewIndexNotSupported();
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET_2 + 170,
+			value = "Switching index writer to bulk loading settings. %1$s")
+	void beginningBulkLoading(@FormatWith(EventContextFormatter.class) EventContext context);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET_2 + 171,
+			value = "Restoring regular index writer settings after bulk loading. %1$s")
+	void endingBulkLoading(@FormatWith(EventContextFormatter.class) EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 172,
+			value = "Unable to end bulk loading: %1$s")
+	SearchException unableToEndBulkLoading(String causeMessage, @Param EventContext context,
+			@Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 173,
+			value = "Unable to begin bulk loading: %1$s")
+	SearchException unableToBeginBulkLoading(String causeMessage, @Param EventContext context,
+			@Cause Exception cause);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET_2 + 174,
+			value = "Adding %1$s temporary indexes built in parallel during bulk loading to the index. %2$s")
+	void addingParallelBulkIndexes(int count, @FormatWith(EventContextFormatter.class) EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 175,
+			value = "Invalid index sort: '%1$s'. The index sort must be a list of absolute field paths,"
+					+ " each optionally followed by ':asc' or ':desc', separated by commas.")
+	SearchException invalidIndexSort(String invalidRepresentation);
+
+	@Message(id = ID_OFFSET_2 + 176,
+			value = "Cannot sort the index on field '%1$s': index sorting requires a sortable field"
+					+ " of a numeric, temporal, boolean or string type, not located in a nested object.")
+	SearchException cannotSortIndexOnField(String absoluteFieldPath,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 177,
+			value = "Cannot sort an index that may contain nested documents:"
+					+ " index sorting would separate nested documents from their parent document.")
+	SearchException cannotSortIndexWithNestedDocuments(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 178,
+			value = "Invalid maximum number of entries in the search result cache: '%1$s'."
+					+ " The maximum must be positive or zero.")
+	SearchException invalidSearchResultCacheMaxEntries(int maxEntries);
+
+	@Message(id = ID_OFFSET_2 + 179,
+			value = "Unable to index documents in index '%1$s': the shards of this index are being split."
+					+ " Indexing must be suspended until the split is complete.")
+	SearchException cannotIndexDuringShardSplit(String indexName);
+
+	@Message(id = ID_OFFSET_2 + 180,
+			value = "Invalid number of shards for index '%1$s': the configuration property '%4$s' is set to %3$d,"
+					+ " but the shards of this index were split into %2$d shards."
+					+ " Set the configuration property '%4$s' to %2$d for this index.")
+	SearchException invalidNumberOfShardsAfterSplit(String indexName, int persistedShardCount,
+			int configuredShardCount, String numberOfShardsPropertyKey);
+
+	@Message(id = ID_OFFSET_2 + 181,
+			value = "Unable to read the number of shards from the index: %1$s")
+	SearchException unableToReadNumberOfShards(String causeMessage, @Param EventContext context,
+			@Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 182,
+			value = "Unable to delete obsolete replicated file '%1$s': %2$s."
+					+ " The deletion will be attempted again on the next replication. %3$s")
+	void unableToDeleteObsoleteReplicatedFile(String fileName, String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext eventContext, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 183,
+			value = "Invalid maximum chunk size for memory-mapped files: '%1$s'."
+					+ " The size must be a number of megabytes between 1 and 1024.")
+	SearchException invalidMmapMaxChunkSize(int size);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 184,
+			value = "Unable to delete temporary indexes left over by an interrupted bulk loading: %1$s."
+					+ " The deletion will be attempted again on the next startup. %2$s")
+	void unableToDeleteLeftoverBulkLoadingIndexes(String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext eventContext, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 185,
+			value = "Unable to split the shards of index '%1$s': a split of the shards of this index is already in progress.")
+	SearchException shardSplitAlreadyInProgress(String indexName);
+
+	@Message(id = ID_OFFSET_2 + 186,
+			value = "Incomplete split of the shards of index '%1$s': shard '%2$s' was not split into %3$d shards,"
+					+ " so it may still hold documents that belong to other shards."
+					+ " The split was probably interrupted. Delete the index and reindex your data.")
+	SearchException incompleteShardSplit(String indexName, String shardId, int shardCount);
 }
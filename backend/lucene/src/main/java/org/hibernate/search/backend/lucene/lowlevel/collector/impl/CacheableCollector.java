@@ -0,0 +1,26 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import org.apache.lucene.search.Collector;
+
+/**
+ * A collector whose collected data can be copied,
+ * so that it can be shared between multiple executions of the same search query,
+ * e.g. through the search result cache.
+ *
+ * @param <C> The type of collector.
+ */
+public interface CacheableCollector<C extends Collector> {
+
+	/**
+	 * @return A collector holding an immutable copy of the data collected by this collector.
+	 * The returned collector cannot be used to collect documents, and is safe to use from multiple threads.
+	 */
+	C immutableCopy();
+
+}
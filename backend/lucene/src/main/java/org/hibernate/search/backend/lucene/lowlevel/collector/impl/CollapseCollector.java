@@ -0,0 +1,278 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FieldComparator;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.LeafFieldComparator;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * Collects the "head" of each group of documents sharing the same value for a given field,
+ * i.e. the document that comes first according to a given sort,
+ * or the document with the highest score if there is no sort.
+ * <p>
+ * Groups are built from the doc values of the field:
+ * documents without a value are grouped together,
+ * and for multi-valued fields, only the first value of each document is taken into account.
+ * <p>
+ * Similar to {@code AllGroupHeadsCollector} in Lucene's grouping module,
+ * which we do not depend on.
+ */
+public final class CollapseCollector implements Collector {
+
+	private static final int SLOTS_PER_PAGE = 256;
+
+	public static final CollectorKey<CollapseCollector> KEY = CollectorKey.create();
+
+	private final String absoluteFieldPath;
+	private final SortField[] sortFields;
+	private final int[] reverseMul;
+
+	private final Map<Object, GroupHead> groupHeads = new HashMap<>();
+
+	/*
+	 * Only used when sorting by fields.
+	 * The sort values of group heads are held in comparators shared by all groups,
+	 * with one slot per group, like in Lucene's grouping collectors.
+	 * Since we do not know the number of groups upfront,
+	 * slots are allocated in pages of comparators, one comparator per sort field in each page.
+	 */
+	private final List<FieldComparator<?>[]> comparatorPages = new ArrayList<>();
+
+	/**
+	 * @param absoluteFieldPath The absolute path of the field to collapse on.
+	 * @param sort The sort used to select the head of each group, or {@code null} to select the best-scoring document.
+	 */
+	public CollapseCollector(String absoluteFieldPath, Sort sort) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.sortFields = sort == null ? null : sort.getSort();
+		if ( sortFields == null ) {
+			this.reverseMul = null;
+		}
+		else {
+			this.reverseMul = new int[sortFields.length];
+			for ( int i = 0; i < sortFields.length; i++ ) {
+				reverseMul[i] = sortFields[i].getReverse() ? -1 : 1;
+			}
+		}
+	}
+
+	@Override
+	public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+		return new CollapseLeafCollector( context, createKeyReader( context.reader() ) );
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		if ( sortFields == null ) {
+			return ScoreMode.COMPLETE;
+		}
+		for ( SortField sortField : sortFields ) {
+			if ( sortField.needsScores() ) {
+				return ScoreMode.COMPLETE;
+			}
+		}
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	/**
+	 * @return The identifiers of the head of each group, in ascending order.
+	 */
+	public int[] groupHeadDocIds() {
+		int[] docIds = new int[groupHeads.size()];
+		int i = 0;
+		for ( GroupHead groupHead : groupHeads.values() ) {
+			docIds[i] = groupHead.doc;
+			i++;
+		}
+		Arrays.sort( docIds );
+		return docIds;
+	}
+
+	private KeyReader createKeyReader(LeafReader reader) throws IOException {
+		FieldInfo fieldInfo = reader.getFieldInfos().fieldInfo( absoluteFieldPath );
+		DocValuesType docValuesType = fieldInfo == null ? DocValuesType.NONE : fieldInfo.getDocValuesType();
+		switch ( docValuesType ) {
+			case SORTED:
+			case SORTED_SET:
+				SortedSetDocValues textValues = DocValues.getSortedSet( reader, absoluteFieldPath );
+				return doc -> textValues.advanceExact( doc ) ? textValues.lookupOrd( textValues.nextOrd() ) : null;
+			case NUMERIC:
+			case SORTED_NUMERIC:
+				SortedNumericDocValues numericValues = DocValues.getSortedNumeric( reader, absoluteFieldPath );
+				return doc -> numericValues.advanceExact( doc ) ? numericValues.nextValue() : null;
+			default:
+				// No document in this segment has a value for this field
+				return doc -> null;
+		}
+	}
+
+	private static Object toKey(Object value) {
+		// Text values returned by doc values are reused: copy them before keeping them around
+		return value instanceof BytesRef ? BytesRef.deepCopyOf( (BytesRef) value ) : value;
+	}
+
+	@FunctionalInterface
+	private interface KeyReader {
+		/*
+		 * Not the final key: text values must be copied, see toKey()
+		 */
+		Object read(int doc) throws IOException;
+	}
+
+	private final class CollapseLeafCollector implements LeafCollector {
+
+		private final LeafReaderContext context;
+		private final KeyReader keyReader;
+		// Only used when sorting by fields: the leaf comparators of each page, for this segment
+		private final List<LeafFieldComparator[]> leafComparatorPages = new ArrayList<>();
+		private Scorable scorer;
+
+		private CollapseLeafCollector(LeafReaderContext context, KeyReader keyReader) throws IOException {
+			this.context = context;
+			this.keyReader = keyReader;
+			if ( sortFields != null ) {
+				for ( FieldComparator<?>[] comparatorPage : comparatorPages ) {
+					leafComparatorPages.add( toLeafComparators( comparatorPage ) );
+				}
+			}
+		}
+
+		@Override
+		public void setScorer(Scorable scorer) throws IOException {
+			this.scorer = scorer;
+			for ( LeafFieldComparator[] leafComparators : leafComparatorPages ) {
+				for ( LeafFieldComparator leafComparator : leafComparators ) {
+					leafComparator.setScorer( scorer );
+				}
+			}
+		}
+
+		@Override
+		public void collect(int doc) throws IOException {
+			Object value = keyReader.read( doc );
+			GroupHead groupHead = groupHeads.get( value );
+			if ( groupHead == null ) {
+				groupHead = new GroupHead( groupHeads.size() );
+				groupHeads.put( toKey( value ), groupHead );
+				initialize( groupHead, doc );
+			}
+			else {
+				offer( groupHead, doc );
+			}
+		}
+
+		private void initialize(GroupHead groupHead, int doc) throws IOException {
+			if ( sortFields == null ) {
+				groupHead.score = scorer.score();
+			}
+			else {
+				int slot = groupHead.slot % SLOTS_PER_PAGE;
+				for ( LeafFieldComparator leafComparator : leafComparators( groupHead ) ) {
+					leafComparator.copy( slot, doc );
+				}
+			}
+			groupHead.doc = context.docBase + doc;
+		}
+
+		private void offer(GroupHead groupHead, int doc) throws IOException {
+			if ( sortFields == null ) {
+				float candidateScore = scorer.score();
+				// On equal scores, keep the document collected first, i.e. the one with the lowest identifier
+				if ( candidateScore > groupHead.score ) {
+					groupHead.score = candidateScore;
+					groupHead.doc = context.docBase + doc;
+				}
+				return;
+			}
+
+			int slot = groupHead.slot % SLOTS_PER_PAGE;
+			LeafFieldComparator[] leafComparators = leafComparators( groupHead );
+			for ( int i = 0; i < leafComparators.length; i++ ) {
+				LeafFieldComparator leafComparator = leafComparators[i];
+				leafComparator.setBottom( slot );
+				int comparison = reverseMul[i] * leafComparator.compareBottom( doc );
+				if ( comparison < 0 ) {
+					// The candidate comes after the current head
+					return;
+				}
+				else if ( comparison > 0 ) {
+					// The candidate comes before the current head
+					for ( LeafFieldComparator otherLeafComparator : leafComparators ) {
+						otherLeafComparator.copy( slot, doc );
+					}
+					groupHead.doc = context.docBase + doc;
+					return;
+				}
+			}
+			// Equal: keep the document collected first, i.e. the one with the lowest identifier
+		}
+
+		private LeafFieldComparator[] leafComparators(GroupHead groupHead) throws IOException {
+			int page = groupHead.slot / SLOTS_PER_PAGE;
+			if ( page == leafComparatorPages.size() ) {
+				// Slots are allocated in order: we only ever need to add the next page
+				FieldComparator<?>[] comparatorPage = new FieldComparator<?>[sortFields.length];
+				for ( int i = 0; i < sortFields.length; i++ ) {
+					comparatorPage[i] = sortFields[i].getComparator( SLOTS_PER_PAGE, i );
+				}
+				comparatorPages.add( comparatorPage );
+				LeafFieldComparator[] leafComparators = toLeafComparators( comparatorPage );
+				if ( scorer != null ) {
+					for ( LeafFieldComparator leafComparator : leafComparators ) {
+						leafComparator.setScorer( scorer );
+					}
+				}
+				leafComparatorPages.add( leafComparators );
+			}
+			return leafComparatorPages.get( page );
+		}
+
+		private LeafFieldComparator[] toLeafComparators(FieldComparator<?>[] comparatorPage) throws IOException {
+			LeafFieldComparator[] leafComparators = new LeafFieldComparator[comparatorPage.length];
+			for ( int i = 0; i < comparatorPage.length; i++ ) {
+				leafComparators[i] = comparatorPage[i].getLeafComparator( context );
+			}
+			return leafComparators;
+		}
+	}
+
+	private static final class GroupHead {
+
+		// The slot holding the sort values of this head in comparators; only used when sorting by fields
+		private final int slot;
+
+		private int doc;
+
+		// Only used when sorting by score
+		private float score;
+
+		GroupHead(int slot) {
+			this.slot = slot;
+		}
+	}
+}
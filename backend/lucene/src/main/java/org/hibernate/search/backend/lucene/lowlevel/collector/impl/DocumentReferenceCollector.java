@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -21,7 +22,8 @@
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.SimpleCollector;
 
-public final class DocumentReferenceCollector extends SimpleCollector {
+public final class DocumentReferenceCollector extends SimpleCollector
+		implements CacheableCollector<DocumentReferenceCollector> {
 
 	public static final CollectorKey<DocumentReferenceCollector> KEY = CollectorKey.create();
 
@@ -43,10 +45,16 @@ public CollectorKey<DocumentReferenceCollector> getCollectorKey() {
 	private BinaryDocValues currentLeafIdDocValues;
 	private int currentLeafDocBase;
 
-	private Map<Integer, DocumentReference> collected = new HashMap<>();
+	private final Map<Integer, DocumentReference> collected;
 
 	private DocumentReferenceCollector(CollectorExecutionContext executionContext) {
 		this.metadataResolver = executionContext.getMetadataResolver();
+		this.collected = new HashMap<>();
+	}
+
+	private DocumentReferenceCollector(Map<Integer, DocumentReference> collected) {
+		this.metadataResolver = null;
+		this.collected = collected;
 	}
 
 	@Override
@@ -67,6 +75,12 @@ public DocumentReference get(int doc) {
 		return collected.get( doc );
 	}
 
+	@Override
+	public DocumentReferenceCollector immutableCopy() {
+		// Document references are immutable: copying the map is enough
+		return new DocumentReferenceCollector( Collections.unmodifiableMap( new HashMap<>( collected ) ) );
+	}
+
 	@Override
 	protected void doSetNextReader(LeafReaderContext context) throws IOException {
 		this.currentLeafMappedTypeName = metadataResolver.resolveMappedTypeName( context );
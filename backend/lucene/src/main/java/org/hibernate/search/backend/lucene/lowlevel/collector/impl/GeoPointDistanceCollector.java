@@ -9,6 +9,9 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.Collector;
@@ -30,7 +33,7 @@
  * @author Sanne Grinovero
  * @author Nicolas Helleringer
  */
-public class GeoPointDistanceCollector implements Collector {
+public class GeoPointDistanceCollector implements Collector, CacheableCollector<GeoPointDistanceCollector> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -40,6 +43,9 @@ public class GeoPointDistanceCollector implements Collector {
 
 	private final SpatialResultsCollector distances;
 
+	// Only set on immutable copies, see immutableCopy()
+	private final Map<Integer, Double> copiedDistances;
+
 	public GeoPointDistanceCollector(String absoluteFieldPath, NestedDocsProvider nestedDocsProvider,
 			GeoPoint center, int hitsCount) {
 		// TODO HSEARCH-3391 project to multiple values instead of using the min
@@ -47,12 +53,35 @@ public GeoPointDistanceCollector(String absoluteFieldPath, NestedDocsProvider ne
 				absoluteFieldPath, MultiValueMode.MIN, nestedDocsProvider, center
 		);
 		this.distances = new SpatialResultsCollector( hitsCount );
+		this.copiedDistances = null;
+	}
+
+	private GeoPointDistanceCollector(Map<Integer, Double> copiedDistances) {
+		this.valuesSource = null;
+		this.distances = null;
+		this.copiedDistances = copiedDistances;
 	}
 
 	public Double getDistance(final int docId) {
+		if ( copiedDistances != null ) {
+			if ( !copiedDistances.containsKey( docId ) ) {
+				throw log.documentIdNotCollected( docId );
+			}
+			return copiedDistances.get( docId );
+		}
 		return distances.get( docId );
 	}
 
+	@Override
+	public GeoPointDistanceCollector immutableCopy() {
+		// SpatialResultsCollector.get() is stateful: use a plain map that can safely be read concurrently
+		Map<Integer, Double> copy = new HashMap<>( distances.orderedEntries.size() );
+		for ( HitEntry entry : distances.orderedEntries ) {
+			copy.put( entry.documentId, entry.distance );
+		}
+		return new GeoPointDistanceCollector( Collections.unmodifiableMap( copy ) );
+	}
+
 	@Override
 	public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
 		return new DistanceLeafCollector( context.docBase, createDistanceDocValues( context ) );
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -16,6 +17,7 @@
 import org.hibernate.search.util.common.AssertionFailure;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.DocIdSetIterator;
@@ -31,7 +33,8 @@
  * for <strong>each single matching document</strong>,
  * Use with care.
  */
-public class StoredFieldsCollector extends SimpleCollector {
+public class StoredFieldsCollector extends SimpleCollector
+		implements CacheableCollector<StoredFieldsCollector> {
 
 	public static final CollectorKey<StoredFieldsCollector> KEY = CollectorKey.create();
 
@@ -68,7 +71,9 @@ public CollectorKey<StoredFieldsCollector> getCollectorKey() {
 	private DocIdSetIterator currentLeafChildDocs;
 	private LeafReader currentLeafReader;
 
-	private final Map<Integer, Document> documents = new HashMap<>();
+	private final Map<Integer, Document> documents;
+	// Whether documents are shared between multiple executions, and thus must be copied before being returned
+	private final boolean shared;
 
 	public StoredFieldsCollector(NestedDocsProvider nestedDocsProvider,
 			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
@@ -76,6 +81,16 @@ public StoredFieldsCollector(NestedDocsProvider nestedDocsProvider,
 		this.childrenWeight = nestedDocsProvider == null ? null : nestedDocsProvider.childDocsWeight( indexSearcher );
 		this.nestedDocsProvider = nestedDocsProvider;
 		this.storedFieldVisitor = storedFieldVisitor;
+		this.documents = new HashMap<>();
+		this.shared = false;
+	}
+
+	private StoredFieldsCollector(Map<Integer, Document> documents) {
+		this.childrenWeight = null;
+		this.nestedDocsProvider = null;
+		this.storedFieldVisitor = null;
+		this.documents = documents;
+		this.shared = true;
 	}
 
 	@Override
@@ -129,7 +144,29 @@ public ScoreMode scoreMode() {
 	}
 
 	public Document getDocument(int docId) {
-		return documents.get( docId );
+		Document document = documents.get( docId );
+		if ( shared && document != null ) {
+			// Documents are mutable (and may be returned to users by projections): never expose shared instances
+			return copy( document );
+		}
+		return document;
+	}
+
+	@Override
+	public StoredFieldsCollector immutableCopy() {
+		Map<Integer, Document> copies = new HashMap<>( documents.size() );
+		for ( Map.Entry<Integer, Document> entry : documents.entrySet() ) {
+			copies.put( entry.getKey(), copy( entry.getValue() ) );
+		}
+		return new StoredFieldsCollector( Collections.unmodifiableMap( copies ) );
+	}
+
+	private static Document copy(Document document) {
+		Document copy = new Document();
+		for ( IndexableField field : document ) {
+			copy.add( field );
+		}
+		return copy;
 	}
 
 	@Override
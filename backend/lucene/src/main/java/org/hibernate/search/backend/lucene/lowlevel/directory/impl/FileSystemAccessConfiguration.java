@@ -0,0 +1,77 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.hibernate.search.util.common.impl.SuppressingCloser;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FileSwitchDirectory;
+import org.apache.lucene.store.LockFactory;
+import org.apache.lucene.store.MMapDirectory;
+
+/**
+ * Decides how index files are accessed on the filesystem,
+ * possibly using a different access method depending on the file extension.
+ */
+final class FileSystemAccessConfiguration {
+
+	private final FileSystemAccessStrategy accessStrategy;
+	private final Set<String> mmapExtensions;
+	private final Set<String> preloadExtensions;
+	/**
+	 * The maximum chunk size for memory-mapped directories in bytes, or 0 to use Lucene's default.
+	 */
+	private final int mmapMaxChunkSize;
+
+	FileSystemAccessConfiguration(FileSystemAccessStrategy accessStrategy,
+			Set<String> mmapExtensions, Set<String> preloadExtensions, int mmapMaxChunkSize) {
+		this.accessStrategy = accessStrategy;
+		this.mmapExtensions = mmapExtensions;
+		this.preloadExtensions = preloadExtensions;
+		this.mmapMaxChunkSize = mmapMaxChunkSize;
+	}
+
+	Directory createDirectory(Path indexDir, LockFactory lockFactory) throws IOException {
+		Directory directory = null;
+		try {
+			if ( FileSystemAccessStrategy.MMAP.equals( accessStrategy ) && mmapMaxChunkSize != 0 ) {
+				directory = createMMapDirectory( indexDir, lockFactory, false );
+			}
+			else {
+				directory = accessStrategy.createDirectory( indexDir, lockFactory );
+			}
+			// Files whose extension is listed in both sets will be handled by the outermost directory,
+			// i.e. they will be preloaded.
+			if ( !mmapExtensions.isEmpty() ) {
+				directory = new FileSwitchDirectory( mmapExtensions,
+						createMMapDirectory( indexDir, lockFactory, false ), directory, true );
+			}
+			if ( !preloadExtensions.isEmpty() ) {
+				directory = new FileSwitchDirectory( preloadExtensions,
+						createMMapDirectory( indexDir, lockFactory, true ), directory, true );
+			}
+			return directory;
+		}
+		catch (IOException | RuntimeException e) {
+			new SuppressingCloser( e ).push( directory );
+			throw e;
+		}
+	}
+
+	private MMapDirectory createMMapDirectory(Path indexDir, LockFactory lockFactory, boolean preload)
+			throws IOException {
+		MMapDirectory directory = mmapMaxChunkSize == 0
+				? new MMapDirectory( indexDir, lockFactory )
+				: new MMapDirectory( indexDir, lockFactory, mmapMaxChunkSize );
+		directory.setPreload( preload );
+		return directory;
+	}
+}
@@ -15,14 +15,14 @@
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
-final class FileSystemUtils {
+public final class FileSystemUtils {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private FileSystemUtils() {
 	}
 
-	static void initializeWriteableDirectory(Path directory) throws IOException {
+	public static void initializeWriteableDirectory(Path directory) throws IOException {
 		File directoryFile = directory.toFile();
 		if ( directoryFile.exists() ) {
 			if ( !directoryFile.isDirectory() || !Files.isWritable( directory ) ) {
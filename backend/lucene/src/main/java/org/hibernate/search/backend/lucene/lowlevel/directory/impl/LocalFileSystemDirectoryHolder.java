@@ -24,16 +24,16 @@ final class LocalFileSystemDirectoryHolder implements DirectoryHolder {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final Path directoryPath;
-	private final FileSystemAccessStrategy accessStrategy;
+	private final FileSystemAccessConfiguration accessConfiguration;
 	private final Supplier<LockFactory> lockFactorySupplier;
 	private final EventContext eventContext;
 
 	private Directory directory;
 
-	LocalFileSystemDirectoryHolder(Path directoryPath, FileSystemAccessStrategy accessStrategy,
+	LocalFileSystemDirectoryHolder(Path directoryPath, FileSystemAccessConfiguration accessConfiguration,
 			Supplier<LockFactory> lockFactorySupplier, EventContext eventContext) {
 		this.directoryPath = directoryPath;
-		this.accessStrategy = accessStrategy;
+		this.accessConfiguration = accessConfiguration;
 		this.lockFactorySupplier = lockFactorySupplier;
 		this.eventContext = eventContext;
 	}
@@ -47,7 +47,7 @@ public void start() throws IOException {
 			throw log.unableToInitializeIndexDirectory( e.getMessage(), eventContext, e );
 		}
 
-		this.directory = accessStrategy.createDirectory( directoryPath, lockFactorySupplier.get() );
+		this.directory = accessConfiguration.createDirectory( directoryPath, lockFactorySupplier.get() );
 	}
 
 	@Override
@@ -6,10 +6,18 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
@@ -20,6 +28,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.store.FSLockFactory;
@@ -43,6 +52,23 @@ public class LocalFileSystemDirectoryProvider implements DirectoryProvider {
 					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<List<String>> FILESYSTEM_ACCESS_MMAP_EXTENSIONS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.FILESYSTEM_ACCESS_MMAP_EXTENSIONS )
+					.asString().multivalued()
+					.withDefault( Collections.emptyList() )
+					.build();
+
+	private static final ConfigurationProperty<List<String>> FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS )
+					.asString().multivalued()
+					.withDefault( Collections.emptyList() )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> FILESYSTEM_ACCESS_MMAP_MAX_CHUNK_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.FILESYSTEM_ACCESS_MMAP_MAX_CHUNK_SIZE )
+					.asInteger()
+					.build();
+
 	@Override
 	@SuppressWarnings("deprecation")
 	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
@@ -53,7 +79,18 @@ public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 			log.deprecatedFileSystemAccessStrategy( accessStrategyName.externalRepresentation(),
 					context.eventContext() );
 		}
-		FileSystemAccessStrategy accessStrategy = FileSystemAccessStrategy.get( accessStrategyName );
+		FileSystemAccessConfiguration accessConfiguration = new FileSystemAccessConfiguration(
+				FileSystemAccessStrategy.get( accessStrategyName ),
+				toExtensionSet( FILESYSTEM_ACCESS_MMAP_EXTENSIONS.get( propertySource ) ),
+				toExtensionSet( FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS.get( propertySource ) ),
+				// Megabytes to bytes; 0 means Lucene's default
+				FILESYSTEM_ACCESS_MMAP_MAX_CHUNK_SIZE.getAndMap( propertySource, size -> {
+					if ( size <= 0 || size > 1024 ) {
+						throw log.invalidMmapMaxChunkSize( size );
+					}
+					return size * 1024 * 1024;
+				} ).orElse( 0 )
+		);
 		Supplier<LockFactory> lockFactorySupplier = context.createConfiguredLockFactorySupplier()
 				.orElseGet( () -> FSLockFactory::getDefault );
 
@@ -64,8 +101,44 @@ public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 		}
 
 		return new LocalFileSystemDirectoryHolder(
-				directoryPath, accessStrategy, lockFactorySupplier, context.eventContext()
+				directoryPath, accessConfiguration, lockFactorySupplier, context.eventContext()
 		);
 	}
 
+	@Override
+	public Set<String> existingShardIdentifiers(DirectoryCreationContext context) {
+		Path indexDirectory = ROOT.get( context.configurationPropertySource() ).toAbsolutePath()
+				.resolve( context.indexName() );
+		if ( !Files.isDirectory( indexDirectory ) ) {
+			return Collections.emptySet();
+		}
+		Set<String> shardIds = new TreeSet<>();
+		// Ignore hidden directories, e.g. temporary indexes used during bulk loading
+		try ( DirectoryStream<Path> stream = Files.newDirectoryStream( indexDirectory,
+				path -> Files.isDirectory( path ) && !path.getFileName().toString().startsWith( "." ) ) ) {
+			for ( Path shardDirectory : stream ) {
+				shardIds.add( shardDirectory.getFileName().toString() );
+			}
+		}
+		catch (IOException e) {
+			throw log.unableToListExistingShards( e.getMessage(), context.eventContext(), e );
+		}
+		return shardIds;
+	}
+
+	private static Set<String> toExtensionSet(List<String> extensions) {
+		Set<String> result = new LinkedHashSet<>();
+		for ( String extension : extensions ) {
+			String trimmed = extension.trim();
+			// Accept both "dvd" and ".dvd"
+			if ( trimmed.startsWith( "." ) ) {
+				trimmed = trimmed.substring( 1 );
+			}
+			if ( !trimmed.isEmpty() ) {
+				result.add( trimmed );
+			}
+		}
+		return result;
+	}
+
 }
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.directory.spi;
 
+import java.util.Collections;
+import java.util.Set;
+
 public interface DirectoryProvider {
 
 	/**
@@ -26,4 +29,22 @@ public interface DirectoryProvider {
 	 */
 	DirectoryHolder createDirectoryHolder(DirectoryCreationContext context);
 
+	/**
+	 * Lists the identifiers of shards for which this provider already holds a directory,
+	 * typically because they were created by a previous execution of the application.
+	 * <p>
+	 * Used by sharding strategies that create shards on the fly,
+	 * so that these shards are found again on restart.
+	 * Implementations must not return the identifiers of directories used internally,
+	 * such as temporary indexes used during bulk loading.
+	 *
+	 * @param context The context, giving access to configuration and environment.
+	 * {@link DirectoryCreationContext#shardId()} will always be empty.
+	 * @return The identifiers of existing shards, or an empty set if there are none
+	 * or if this provider cannot tell.
+	 */
+	default Set<String> existingShardIdentifiers(DirectoryCreationContext context) {
+		return Collections.emptySet();
+	}
+
 }
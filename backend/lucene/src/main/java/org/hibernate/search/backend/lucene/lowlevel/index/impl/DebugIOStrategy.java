@@ -7,8 +7,10 @@
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderWarmer;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NotSharedIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
@@ -27,19 +29,25 @@ private DebugIOStrategy(BackendThreads threads, FailureHandler failureHandler) {
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource) {
+			DirectoryHolder directoryHolder, ReplicationTransport replicationTransport,
+			IndexWriterConfigSource configSource) {
 		return new IndexWriterProvider(
 				indexName, eventContext,
 				directoryHolder, configSource,
-				null, 0,
+				null, 0, replicationTransport,
 				threads,
-				failureHandler
+				failureHandler,
+				// Writes are committed immediately: there is nothing to control
+				null,
+				// Not meant for production use: no need to close idle writers
+				null
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext,
+			DirectoryHolder directoryHolder, ReplicationTransport replicationTransport,
+			DirectoryReaderWarmer readerWarmer, IndexWriterProvider indexWriterProvider) {
 		return new NotSharedIndexReaderProvider( directoryHolder );
 	}
 
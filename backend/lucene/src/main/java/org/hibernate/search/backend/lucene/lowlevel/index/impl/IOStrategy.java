@@ -7,7 +7,9 @@
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderWarmer;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
@@ -25,31 +27,49 @@ protected IOStrategy(BackendThreads threads, FailureHandler failureHandler) {
 		this.failureHandler = failureHandler;
 	}
 
+	/**
+	 * @param indexName The name of the index.
+	 * @param eventContext The event context for the index or shard.
+	 * @param directoryHolder The holder of the directory for the index or shard.
+	 * @param replicationTransport The replication transport for the index or shard,
+	 * or {@code null} if replication is disabled.
+	 * @param readerWarmer The warmer to apply to index readers before they are used,
+	 * or {@code null} if warming is disabled.
+	 * @param writerConfigSource The source of configuration for index writers.
+	 * @return An index accessor.
+	 */
 	public IndexAccessorImpl createIndexAccessor(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource writerConfigSource) {
+			DirectoryHolder directoryHolder, ReplicationTransport replicationTransport,
+			DirectoryReaderWarmer readerWarmer, IndexWriterConfigSource writerConfigSource) {
 		IndexWriterProvider indexWriterProvider = null;
 		IndexReaderProvider indexReaderProvider = null;
 		try {
-			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, directoryHolder, writerConfigSource );
-			indexReaderProvider = createIndexReaderProvider( directoryHolder, indexWriterProvider );
+			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, directoryHolder,
+					replicationTransport, writerConfigSource );
+			indexReaderProvider = createIndexReaderProvider( eventContext, directoryHolder, replicationTransport,
+					readerWarmer, indexWriterProvider );
 			return new IndexAccessorImpl(
 					eventContext,
-					directoryHolder, indexWriterProvider, indexReaderProvider
+					directoryHolder, replicationTransport,
+					indexWriterProvider, indexReaderProvider
 			);
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
 					.push( IndexWriterProvider::clear, indexWriterProvider )
 					.push( IndexReaderProvider::clear, indexReaderProvider )
+					.push( replicationTransport )
 					.push( directoryHolder );
 			throw e;
 		}
 	}
 
 	abstract IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource);
+			DirectoryHolder directoryHolder, ReplicationTransport replicationTransport,
+			IndexWriterConfigSource configSource);
 
-	abstract IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider);
+	abstract IndexReaderProvider createIndexReaderProvider(EventContext eventContext,
+			DirectoryHolder directoryHolder, ReplicationTransport replicationTransport,
+			DirectoryReaderWarmer readerWarmer, IndexWriterProvider indexWriterProvider);
 
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 
@@ -51,11 +52,31 @@ public interface IndexAccessor {
 	 */
 	void refresh();
 
+	/**
+	 * Waits for the next refresh of the underlying index readers, without forcing it.
+	 *
+	 * @return A future that completes when changes applied so far are visible to searches.
+	 */
+	CompletableFuture<?> waitForRefresh();
+
 	/**
 	 * Merge segments files.
 	 */
 	void mergeSegments();
 
+	/**
+	 * Switches the underlying index writer to settings suited to bulk loading,
+	 * defers commits and suspends refreshes of the underlying index readers,
+	 * until {@link #endBulkLoading()} is called.
+	 */
+	void beginBulkLoading();
+
+	/**
+	 * Restores regular settings, commits changes applied during bulk loading
+	 * and resumes refreshes of the underlying index readers.
+	 */
+	void endBulkLoading();
+
 	/**
 	 * @return The index writer delegator.
 	 */
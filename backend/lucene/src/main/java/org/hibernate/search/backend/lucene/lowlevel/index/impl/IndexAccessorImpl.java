@@ -8,11 +8,15 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
@@ -23,6 +27,7 @@
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.LockObtainFailedException;
 import org.apache.lucene.store.SleepingLockWrapper;
@@ -35,20 +40,97 @@ public class IndexAccessorImpl implements AutoCloseable, IndexAccessor {
 
 	private final EventContext eventContext;
 	private final DirectoryHolder directoryHolder;
+	private final ReplicationTransport replicationTransport;
 	private final IndexWriterProvider indexWriterProvider;
 	private final IndexReaderProvider indexReaderProvider;
 
+	/*
+	 * Whether the directory was opened, either on startup or, when opening lazily, on first use.
+	 */
+	private volatile boolean open;
+	// Guarded by synchronization on this
+	private boolean createIfMissingOnOpen;
+	// Guarded by synchronization on this
+	private boolean validateExistsOnOpen;
+
 	public IndexAccessorImpl(EventContext eventContext,
-			DirectoryHolder directoryHolder,
+			DirectoryHolder directoryHolder, ReplicationTransport replicationTransport,
 			IndexWriterProvider indexWriterProvider, IndexReaderProvider indexReaderProvider) {
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
+		this.replicationTransport = replicationTransport;
 		this.indexWriterProvider = indexWriterProvider;
 		this.indexReaderProvider = indexReaderProvider;
 	}
 
-	public void start() throws IOException {
+	public synchronized void start() throws IOException {
+		open();
+	}
+
+	/**
+	 * Opens the directory if necessary, and executes schema management operations that were deferred until then.
+	 * <p>
+	 * Only useful when {@link #start()} was not called, i.e. when opening lazily.
+	 */
+	private void ensureOpen() throws IOException {
+		if ( open ) {
+			return;
+		}
+		synchronized ( this ) {
+			if ( open ) {
+				return;
+			}
+			log.openingIndexLazily( eventContext );
+			open();
+			if ( createIfMissingOnOpen ) {
+				createIfMissingOnOpen = false;
+				doCreateIndexIfMissing();
+			}
+			if ( validateExistsOnOpen ) {
+				validateExistsOnOpen = false;
+				doValidateIndexExists();
+			}
+		}
+	}
+
+	private void open() throws IOException {
 		directoryHolder.start();
+		indexWriterProvider.deleteLeftoverBulkLoadingIndexes();
+		if ( replicationTransport != null ) {
+			replicationTransport.start();
+		}
+		open = true;
+	}
+
+	/**
+	 * Opens and warms up an index reader eagerly if warming is enabled and the index exists,
+	 * so that the first search queries don't have to.
+	 */
+	public void warmUp() {
+		try {
+			if ( DirectoryReader.indexExists( directoryHolder.get() ) ) {
+				indexReaderProvider.warmUp();
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToWarmIndexReader( e.getMessage(), eventContext, e );
+		}
+	}
+
+	/**
+	 * @return The user data of the latest commit, or an empty map if the index does not exist.
+	 * Also returns an empty map if the directory was not opened yet, so as not to defeat lazy opening.
+	 * @throws IOException If the latest commit cannot be read.
+	 */
+	public Map<String, String> getLatestCommitUserData() throws IOException {
+		if ( !open ) {
+			return Collections.emptyMap();
+		}
+		Directory directory = directoryHolder.get();
+		if ( !DirectoryReader.indexExists( directory ) ) {
+			return Collections.emptyMap();
+		}
+		return SegmentInfos.readLatestCommit( directory ).getUserData();
 	}
 
 	@Override
@@ -56,12 +138,25 @@ public void close() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
 			closer.push( IndexWriterProvider::clear, indexWriterProvider );
 			closer.push( IndexReaderProvider::clear, indexReaderProvider );
+			// Close the transport after the writer, which may publish a last commit when closing
+			closer.push( ReplicationTransport::close, replicationTransport );
 			closer.push( DirectoryHolder::close, directoryHolder );
 		}
 	}
 
 	@Override
 	public void createIndexIfMissing() {
+		synchronized ( this ) {
+			if ( !open ) {
+				// Opening lazily: don't access the directory until it's needed.
+				createIfMissingOnOpen = true;
+				return;
+			}
+		}
+		doCreateIndexIfMissing();
+	}
+
+	private void doCreateIndexIfMissing() {
 		try {
 			Directory directory = directoryHolder.get();
 
@@ -80,6 +175,17 @@ public void createIndexIfMissing() {
 
 	@Override
 	public void validateIndexExists() {
+		synchronized ( this ) {
+			if ( !open ) {
+				// Opening lazily: don't access the directory until it's needed.
+				validateExistsOnOpen = true;
+				return;
+			}
+		}
+		doValidateIndexExists();
+	}
+
+	private void doValidateIndexExists() {
 		Directory directory = directoryHolder.get();
 
 		try {
@@ -97,6 +203,8 @@ public void validateIndexExists() {
 	@Override
 	public void dropIndexIfExisting() {
 		try {
+			ensureOpen();
+
 			// Ensure no one is using the directory
 			clear();
 
@@ -144,9 +252,15 @@ public void refresh() {
 		indexReaderProvider.refresh();
 	}
 
+	@Override
+	public CompletableFuture<?> waitForRefresh() {
+		return indexReaderProvider.waitForRefresh();
+	}
+
 	@Override
 	public void mergeSegments() {
 		try {
+			ensureOpen();
 			indexWriterProvider.getOrCreate().mergeSegments();
 		}
 		catch (IOException e) {
@@ -154,13 +268,36 @@ public void mergeSegments() {
 		}
 	}
 
+	@Override
+	public void beginBulkLoading() {
+		try {
+			// No need to open the directory: bulk loading settings will be applied when the writer gets created
+			indexWriterProvider.beginBulkLoading();
+		}
+		catch (RuntimeException | IOException e) {
+			throw log.unableToBeginBulkLoading( e.getMessage(), eventContext, e );
+		}
+	}
+
+	@Override
+	public void endBulkLoading() {
+		try {
+			indexWriterProvider.endBulkLoading();
+		}
+		catch (RuntimeException | IOException e) {
+			throw log.unableToEndBulkLoading( e.getMessage(), eventContext, e );
+		}
+	}
+
 	@Override
 	public IndexWriterDelegator getIndexWriterDelegator() throws IOException {
+		ensureOpen();
 		return indexWriterProvider.getOrCreate();
 	}
 
 	@Override
 	public DirectoryReader getIndexReader() throws IOException {
+		ensureOpen();
 		return indexReaderProvider.getOrCreate();
 	}
 
@@ -183,10 +320,19 @@ public Directory getDirectoryForTests() {
 		return directoryHolder.get();
 	}
 
+	public boolean isOpenForTests() {
+		return open;
+	}
+
 	public IndexWriter getWriterForTests() throws IOException {
+		ensureOpen();
 		return indexWriterProvider.getOrCreate().getDelegateForTests();
 	}
 
+	public boolean isWriterOpenForTests() {
+		return indexWriterProvider.getOrNull() != null;
+	}
+
 	private void initializeDirectory(Directory directory) throws IOException {
 		try {
 			IndexWriterConfig iwriterConfig = new IndexWriterConfig( AnalyzerConstants.KEYWORD_ANALYZER )
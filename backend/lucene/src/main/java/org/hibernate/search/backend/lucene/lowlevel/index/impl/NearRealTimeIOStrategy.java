@@ -8,11 +8,15 @@
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderWarmer;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterMemoryController;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.resources.impl.IdleIndexResourceEvictor;
 import org.hibernate.search.backend.lucene.common.timing.impl.TimingSource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
@@ -34,49 +38,59 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 					.build();
 
 	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
-			TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler) {
+			TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler,
+			IndexWriterMemoryController memoryController, IdleIndexResourceEvictor idleEvictor) {
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
 		return new NearRealTimeIOStrategy(
 				timingSource, commitInterval, refreshInterval,
-				threads, failureHandler
+				threads, failureHandler, memoryController, idleEvictor
 		);
 	}
 
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final int refreshInterval;
+	private final IndexWriterMemoryController memoryController;
+	private final IdleIndexResourceEvictor idleEvictor;
 
 	private NearRealTimeIOStrategy(TimingSource timingSource, int commitInterval, int refreshInterval,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			IndexWriterMemoryController memoryController,
+			IdleIndexResourceEvictor idleEvictor) {
 		super( threads, failureHandler );
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.refreshInterval = refreshInterval;
+		this.memoryController = memoryController;
+		this.idleEvictor = idleEvictor;
 	}
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource) {
+			DirectoryHolder directoryHolder, ReplicationTransport replicationTransport,
+			IndexWriterConfigSource configSource) {
 		if ( commitInterval != 0 ) {
 			timingSource.ensureInitialized();
 		}
 		return new IndexWriterProvider(
 				indexName, eventContext,
 				directoryHolder, configSource,
-				timingSource, commitInterval, threads,
-				failureHandler
+				timingSource, commitInterval, replicationTransport, threads,
+				failureHandler, memoryController, idleEvictor
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext,
+			DirectoryHolder directoryHolder, ReplicationTransport replicationTransport,
+			DirectoryReaderWarmer readerWarmer, IndexWriterProvider indexWriterProvider) {
 		if ( refreshInterval != 0 ) {
 			timingSource.ensureInitialized();
 		}
-		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval );
+		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval,
+				readerWarmer, eventContext, idleEvictor, threads );
 	}
 
 }
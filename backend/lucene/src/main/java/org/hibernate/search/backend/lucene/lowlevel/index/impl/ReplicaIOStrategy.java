@@ -0,0 +1,71 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index.impl;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.common.timing.impl.TimingSource;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReplicaIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.ReplicaIndexWriterProvider;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+/**
+ * An I/O strategy for read-only replicas,
+ * which never write to the index but periodically pull the latest commit from the primary.
+ */
+public class ReplicaIOStrategy extends IOStrategy {
+
+	private static final ConfigurationProperty<Integer> REFRESH_INTERVAL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_REFRESH_INTERVAL )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_INTERVAL )
+					.build();
+
+	public static ReplicaIOStrategy create(ConfigurationPropertySource propertySource,
+			TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler) {
+		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
+		return new ReplicaIOStrategy( timingSource, refreshInterval, threads, failureHandler );
+	}
+
+	private final TimingSource timingSource;
+	private final int refreshInterval;
+
+	private ReplicaIOStrategy(TimingSource timingSource, int refreshInterval,
+			BackendThreads threads, FailureHandler failureHandler) {
+		super( threads, failureHandler );
+		this.timingSource = timingSource;
+		this.refreshInterval = refreshInterval;
+	}
+
+	@Override
+	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
+			DirectoryHolder directoryHolder, ReplicationTransport replicationTransport,
+			IndexWriterConfigSource configSource) {
+		return new ReplicaIndexWriterProvider( indexName, eventContext, directoryHolder, threads, failureHandler );
+	}
+
+	@Override
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext,
+			DirectoryHolder directoryHolder, ReplicationTransport replicationTransport,
+			DirectoryReaderWarmer readerWarmer, IndexWriterProvider indexWriterProvider) {
+		if ( refreshInterval != 0 ) {
+			timingSource.ensureInitialized();
+		}
+		return new ReplicaIndexReaderProvider( eventContext, directoryHolder, replicationTransport,
+				timingSource, refreshInterval, readerWarmer, threads );
+	}
+
+}
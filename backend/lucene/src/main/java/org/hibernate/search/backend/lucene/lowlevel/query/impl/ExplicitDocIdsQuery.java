@@ -31,6 +31,12 @@ public ExplicitDocIdsQuery(ScoreDoc[] scoreDocs) {
 		this.sortedDocIds = docIds;
 	}
 
+	public ExplicitDocIdsQuery(int[] docIds) {
+		int[] sortedDocIds = Arrays.copyOf( docIds, docIds.length );
+		Arrays.sort( sortedDocIds );
+		this.sortedDocIds = sortedDocIds;
+	}
+
 	@Override
 	public String toString(String field) {
 		return getClass().getName() + "{" + Arrays.toString( sortedDocIds ) + "}";
@@ -0,0 +1,130 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.io.IOException;
+import java.util.BitSet;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
+
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.FixedBitSet;
+
+/**
+ * A query matching documents that the hash sharding strategy would route
+ * to one of the given shards, for a given number of shards.
+ * <p>
+ * The routing key, or the document identifier when there is no routing key,
+ * is retrieved from the indexed terms, so this works for nested documents, too.
+ */
+public final class HashShardRoutingQuery extends Query {
+
+	private final int shardCount;
+	private final BitSet shardIndexes;
+
+	public HashShardRoutingQuery(int shardCount, BitSet shardIndexes) {
+		this.shardCount = shardCount;
+		this.shardIndexes = (BitSet) shardIndexes.clone();
+	}
+
+	@Override
+	public String toString(String field) {
+		return getClass().getName() + "{shardCount=" + shardCount + ", shardIndexes=" + shardIndexes + "}";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		HashShardRoutingQuery other = (HashShardRoutingQuery) obj;
+		return shardCount == other.shardCount && shardIndexes.equals( other.shardIndexes );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * shardCount + shardIndexes.hashCode();
+	}
+
+	@Override
+	public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+		return new ConstantScoreWeight( this, 1.0f ) {
+			@Override
+			public Scorer scorer(LeafReaderContext context) throws IOException {
+				FixedBitSet matchingDocs = computeMatchingDocs( context.reader() );
+				DocIdSetIterator iterator = new BitSetIterator( matchingDocs, matchingDocs.cardinality() );
+				return new ConstantScoreScorer( this, this.score(), scoreMode, iterator );
+			}
+
+			@Override
+			public boolean isCacheable(LeafReaderContext ctx) {
+				// Not sure what the requirements for caching are: let's not bother.
+				return false;
+			}
+		};
+	}
+
+	private FixedBitSet computeMatchingDocs(LeafReader reader) throws IOException {
+		int maxDoc = reader.maxDoc();
+		FixedBitSet matchingDocs = new FixedBitSet( maxDoc );
+		FixedBitSet docsWithRoutingKey = new FixedBitSet( maxDoc );
+
+		// The routing key, when present, takes precedence over the document identifier.
+		Terms routingKeys = reader.terms( MetadataFields.routingKeyFieldName() );
+		if ( routingKeys != null ) {
+			TermsEnum termsEnum = routingKeys.iterator();
+			PostingsEnum postings = null;
+			for ( BytesRef term = termsEnum.next(); term != null; term = termsEnum.next() ) {
+				boolean matches = shardIndexes.get( SimpleHashFunction.pickIndex( shardCount, term.utf8ToString() ) );
+				postings = termsEnum.postings( postings, PostingsEnum.NONE );
+				for ( int doc = postings.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = postings.nextDoc() ) {
+					docsWithRoutingKey.set( doc );
+					if ( matches ) {
+						matchingDocs.set( doc );
+					}
+				}
+			}
+		}
+
+		Terms ids = reader.terms( MetadataFields.idFieldName() );
+		if ( ids != null ) {
+			TermsEnum termsEnum = ids.iterator();
+			PostingsEnum postings = null;
+			for ( BytesRef term = termsEnum.next(); term != null; term = termsEnum.next() ) {
+				if ( !shardIndexes.get( SimpleHashFunction.pickIndex( shardCount, term.utf8ToString() ) ) ) {
+					continue;
+				}
+				postings = termsEnum.postings( postings, PostingsEnum.NONE );
+				for ( int doc = postings.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = postings.nextDoc() ) {
+					if ( !docsWithRoutingKey.get( doc ) ) {
+						matchingDocs.set( doc );
+					}
+				}
+			}
+		}
+
+		return matchingDocs;
+	}
+}
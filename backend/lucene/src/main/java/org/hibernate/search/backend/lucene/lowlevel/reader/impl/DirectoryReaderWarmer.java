@@ -0,0 +1,79 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexWarmingContext;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.search.IndexSearcher;
+
+/**
+ * Applies an {@link IndexWarmer} to freshly opened index readers of a given index or shard.
+ */
+public final class DirectoryReaderWarmer {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final IndexWarmer warmer;
+	private final EventContext eventContext;
+	private final String indexName;
+	private final Optional<String> shardId;
+
+	public DirectoryReaderWarmer(IndexWarmer warmer, EventContext eventContext,
+			String indexName, Optional<String> shardId) {
+		this.warmer = warmer;
+		this.eventContext = eventContext;
+		this.indexName = indexName;
+		this.shardId = shardId;
+	}
+
+	void warm(DirectoryReader reader) {
+		try {
+			warmer.warm( new IndexWarmingContextImpl( new IndexSearcher( reader ) ) );
+		}
+		catch (IOException | RuntimeException e) {
+			// A cold index reader is still better than no index reader at all
+			log.unableToWarmIndexReader( e.getMessage(), eventContext, e );
+		}
+	}
+
+	private class IndexWarmingContextImpl implements IndexWarmingContext {
+		private final IndexSearcher indexSearcher;
+
+		private IndexWarmingContextImpl(IndexSearcher indexSearcher) {
+			this.indexSearcher = indexSearcher;
+		}
+
+		@Override
+		public EventContext eventContext() {
+			return eventContext;
+		}
+
+		@Override
+		public String indexName() {
+			return indexName;
+		}
+
+		@Override
+		public Optional<String> shardId() {
+			return shardId;
+		}
+
+		@Override
+		public IndexSearcher indexSearcher() {
+			return indexSearcher;
+		}
+	}
+}
@@ -0,0 +1,29 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.util.List;
+
+import org.hibernate.search.util.common.data.Range;
+
+/**
+ * Ranges of field values that documents must have in order to match a query,
+ * used to skip shards that cannot contain any matching document.
+ */
+public interface FieldValueRanges {
+
+	FieldValueRanges NONE = absoluteFieldPath -> null;
+
+	/**
+	 * @param absoluteFieldPath The absolute path of a field.
+	 * @return Ranges of values of the given field, such that any matching document
+	 * has a value in at least one of these ranges,
+	 * or {@code null} if matching documents may have any value.
+	 */
+	List<Range<?>> get(String absoluteFieldPath);
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.CodecReader;
+import org.apache.lucene.index.FilterCodecReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+
+/**
+ * A codec reader exposing only the live documents of another reader that match a given query,
+ * for use with {@link org.apache.lucene.index.IndexWriter#addIndexes(CodecReader...)}.
+ */
+public final class FilteredCodecReader extends FilterCodecReader {
+
+	public static CodecReader filter(CodecReader reader, Query query) throws IOException {
+		FixedBitSet liveDocs = matchingLiveDocs( reader, query );
+		return new FilteredCodecReader( reader, liveDocs, liveDocs.cardinality() );
+	}
+
+	/**
+	 * @param reader A leaf reader.
+	 * @param query A query.
+	 * @return The live documents of the given reader that match the given query.
+	 * @throws IOException If the query cannot be executed.
+	 */
+	static FixedBitSet matchingLiveDocs(LeafReader reader, Query query) throws IOException {
+		IndexSearcher searcher = new IndexSearcher( reader );
+		searcher.setQueryCache( null );
+		Weight weight = searcher.createWeight( searcher.rewrite( query ), ScoreMode.COMPLETE_NO_SCORES, 1.0f );
+		LeafReaderContext context = reader.getContext();
+
+		FixedBitSet liveDocs = new FixedBitSet( reader.maxDoc() );
+		Bits originalLiveDocs = reader.getLiveDocs();
+		Scorer scorer = weight.scorer( context );
+		if ( scorer != null ) {
+			DocIdSetIterator iterator = scorer.iterator();
+			for ( int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc() ) {
+				if ( originalLiveDocs == null || originalLiveDocs.get( doc ) ) {
+					liveDocs.set( doc );
+				}
+			}
+		}
+		return liveDocs;
+	}
+
+	private final Bits liveDocs;
+	private final int numDocs;
+
+	private FilteredCodecReader(CodecReader in, Bits liveDocs, int numDocs) {
+		super( in );
+		this.liveDocs = liveDocs;
+		this.numDocs = numDocs;
+	}
+
+	@Override
+	public Bits getLiveDocs() {
+		return liveDocs;
+	}
+
+	@Override
+	public int numDocs() {
+		return numDocs;
+	}
+
+	@Override
+	public CacheHelper getCoreCacheHelper() {
+		// Live docs are different from the wrapped reader: don't share caches.
+		return null;
+	}
+
+	@Override
+	public CacheHelper getReaderCacheHelper() {
+		return null;
+	}
+}
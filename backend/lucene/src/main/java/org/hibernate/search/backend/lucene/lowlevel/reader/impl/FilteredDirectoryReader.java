@@ -0,0 +1,102 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FilterDirectoryReader;
+import org.apache.lucene.index.FilterLeafReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+
+/**
+ * A directory reader exposing only the live documents of another reader that match a given query,
+ * for use in searches.
+ * <p>
+ * Matching documents are computed eagerly for each segment, and nothing is cached:
+ * this is only meant to be used temporarily, e.g. while shards are being split.
+ * <p>
+ * Closing this reader decrements the reference count of the wrapped reader.
+ */
+public final class FilteredDirectoryReader extends FilterDirectoryReader {
+
+	public static DirectoryReader filter(DirectoryReader reader, Query query) throws IOException {
+		Map<LeafReader, FixedBitSet> liveDocsByLeaf = new IdentityHashMap<>();
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			liveDocsByLeaf.put( leaf.reader(), FilteredCodecReader.matchingLiveDocs( leaf.reader(), query ) );
+		}
+		return new FilteredDirectoryReader( reader, query, liveDocsByLeaf );
+	}
+
+	private final Query query;
+
+	private FilteredDirectoryReader(DirectoryReader in, Query query, Map<LeafReader, FixedBitSet> liveDocsByLeaf)
+			throws IOException {
+		super( in, new SubReaderWrapper() {
+			@Override
+			public LeafReader wrap(LeafReader reader) {
+				FixedBitSet liveDocs = liveDocsByLeaf.get( reader );
+				return new FilteredLeafReader( reader, liveDocs, liveDocs.cardinality() );
+			}
+		} );
+		this.query = query;
+	}
+
+	@Override
+	protected DirectoryReader doWrapDirectoryReader(DirectoryReader in) throws IOException {
+		return filter( in, query );
+	}
+
+	@Override
+	protected void doClose() throws IOException {
+		// The wrapped reader may be shared: don't close it, just release our reference.
+		in.decRef();
+	}
+
+	@Override
+	public CacheHelper getReaderCacheHelper() {
+		// Live docs are different from the wrapped reader: don't share caches.
+		return null;
+	}
+
+	private static final class FilteredLeafReader extends FilterLeafReader {
+		private final Bits liveDocs;
+		private final int numDocs;
+
+		private FilteredLeafReader(LeafReader in, Bits liveDocs, int numDocs) {
+			super( in );
+			this.liveDocs = liveDocs;
+			this.numDocs = numDocs;
+		}
+
+		@Override
+		public Bits getLiveDocs() {
+			return liveDocs;
+		}
+
+		@Override
+		public int numDocs() {
+			return numDocs;
+		}
+
+		@Override
+		public CacheHelper getCoreCacheHelper() {
+			return null;
+		}
+
+		@Override
+		public CacheHelper getReaderCacheHelper() {
+			return null;
+		}
+	}
+}
@@ -10,6 +10,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,8 +40,9 @@ public class HibernateSearchMultiReader extends MultiReader {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	public static HibernateSearchMultiReader open(Set<String> indexNames,
-			Collection<? extends ReadIndexManagerContext> indexManagerContexts, Set<String> routingKeys) {
+	public static HibernateSearchMultiReader open(String tenantId, Set<String> indexNames,
+			Collection<? extends ReadIndexManagerContext> indexManagerContexts, Set<String> routingKeys,
+			FieldValueRanges fieldValueRanges) {
 		if ( indexManagerContexts.isEmpty() ) {
 			return null;
 		}
@@ -48,7 +50,7 @@ public static HibernateSearchMultiReader open(Set<String> indexNames,
 			Builder builder = new Builder();
 			try {
 				for ( ReadIndexManagerContext indexManagerContext : indexManagerContexts ) {
-					indexManagerContext.openIndexReaders( routingKeys, builder );
+					indexManagerContext.openIndexReaders( tenantId, routingKeys, fieldValueRanges, builder );
 				}
 				return builder.build();
 			}
@@ -76,6 +78,14 @@ public IndexReaderMetadataResolver getMetadataResolver() {
 		return metadataResolver;
 	}
 
+	/**
+	 * @return The directory readers of each targeted index or shard, in order.
+	 * A new directory reader is used each time an index or shard is refreshed.
+	 */
+	public List<DirectoryReader> getDirectoryReaders() {
+		return Collections.unmodifiableList( directoryReaders );
+	}
+
 	@Override
 	protected synchronized void doClose() throws IOException {
 		final boolean debugEnabled = log.isDebugEnabled();
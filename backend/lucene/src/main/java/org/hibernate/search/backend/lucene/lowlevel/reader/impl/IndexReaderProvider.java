@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.lucene.index.DirectoryReader;
 
@@ -25,6 +26,14 @@ public interface IndexReaderProvider {
 	 */
 	void refresh();
 
+	/**
+	 * Wait for the next refresh, without forcing it.
+	 *
+	 * @return A future that completes when the index reader returned by {@link #getOrCreate()}
+	 * reflects all changes applied to the index writer before this method was called.
+	 */
+	CompletableFuture<?> waitForRefresh();
+
 	/**
 	 * @return A ready-to-use index reader, with its reference count already increased.
 	 * Callers are responsible for calling {@link DirectoryReader#decRef()} when they are done with the index reader.
@@ -33,4 +42,12 @@ public interface IndexReaderProvider {
 	 */
 	DirectoryReader getOrCreate() throws IOException;
 
+	/**
+	 * Opens and warms up an index reader eagerly, if this provider is configured to warm up index readers,
+	 * so that the first search queries don't have to.
+	 * <p>
+	 * Must only be called if the index exists.
+	 */
+	void warmUp() throws IOException;
+
 }
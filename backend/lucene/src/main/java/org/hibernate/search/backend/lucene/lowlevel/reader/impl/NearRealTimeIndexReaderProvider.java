@@ -7,9 +7,17 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.common.timing.impl.TimingSource;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.resources.impl.IdleIndexResourceEvictor;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
 
@@ -22,14 +30,34 @@
  * i.e. as long as there were no changes
  * from the directory every time an index reader is requested.
  * <p>
+ * Callers waiting for the next refresh share a single refresh,
+ * executed at most once per refresh interval.
+ * <p>
+ * While the index writer is bulk loading, the index reader is not refreshed,
+ * unless a refresh is forced or waited for.
+ * <p>
  * Heavily inspired by {@code org.hibernate.search.backend.impl.lucene.NRTWorkspaceImpl} from Hibernate Search 5
  * by Sanne Grinovero.
  */
-public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
+public class NearRealTimeIndexReaderProvider implements IndexReaderProvider, IdleIndexResourceEvictor.Resource {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final DirectoryReaderWarmer warmer;
+	private final EventContext eventContext;
+	private final IdleIndexResourceEvictor idleEvictor;
+	private final BackendThreads threads;
+
+	private volatile long lastUseTime;
+
+	private final Object nextRefreshLock = new Object();
+	/**
+	 * Future completed by the next scheduled refresh, or null if no refresh is scheduled.
+	 */
+	private CompletableFuture<Void> nextRefreshFuture = null;
 
 	/**
 	 * Current open IndexReader, or null when closed.
@@ -37,15 +65,25 @@ public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
 	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+			TimingSource timingSource, int refreshInterval, DirectoryReaderWarmer warmer,
+			EventContext eventContext, IdleIndexResourceEvictor idleEvictor, BackendThreads threads) {
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.warmer = warmer;
+		this.eventContext = eventContext;
+		this.idleEvictor = idleEvictor;
+		this.threads = threads;
 	}
 
 	@Override
 	public synchronized void clear() throws IOException {
 		setCurrentReaderEntry( null );
+		// The next call to getOrCreate() will open a new reader: no need to wait anymore.
+		CompletableFuture<Void> future = takeNextRefreshFuture();
+		if ( future != null ) {
+			future.complete( null );
+		}
 	}
 
 	@Override
@@ -59,15 +97,34 @@ public void refresh() {
 		entry.forceRefresh();
 	}
 
+	@Override
+	public CompletableFuture<?> waitForRefresh() {
+		if ( refreshInterval == 0 ) {
+			// Nothing to wait for: getOrCreate() always checks whether the reader is up-to-date
+			return CompletableFuture.completedFuture( null );
+		}
+		synchronized ( nextRefreshLock ) {
+			if ( nextRefreshFuture == null ) {
+				nextRefreshFuture = new CompletableFuture<>();
+				threads.getTimingExecutor().schedule( this::refreshForWaiters, refreshInterval, TimeUnit.MILLISECONDS );
+			}
+			return nextRefreshFuture;
+		}
+	}
+
 	@Override
 	public DirectoryReader getOrCreate() throws IOException {
+		if ( idleEvictor != null ) {
+			lastUseTime = idleEvictor.currentTime();
+		}
 		IndexReaderEntry entry = currentReaderEntry;
 
 		// Optimistic locking and checks to avoid synchronization
 		if ( entry != null && entry.reader.tryIncRef() ) {
 			// Do this *after* tryIncRef,
 			// otherwise the reader could get closed between the call to isFresh and the return
-			if ( entry.isFresh() ) {
+			// During bulk loading, refreshes are suspended unless explicitly requested
+			if ( entry.isFresh( indexWriterProvider.isBulkLoading() ) ) {
 				return entry.reader;
 			}
 			else {
@@ -78,11 +135,69 @@ public DirectoryReader getOrCreate() throws IOException {
 		return getFreshIndexReader().reader;
 	}
 
+	@Override
+	public void warmUp() throws IOException {
+		if ( warmer == null ) {
+			return;
+		}
+		getOrCreate().decRef();
+	}
+
+	@Override
+	public long lastUseTime() {
+		return lastUseTime;
+	}
+
+	@Override
+	public synchronized boolean closeIfUnusedSince(long unusedSince) {
+		if ( currentReaderEntry == null || lastUseTime > unusedSince ) {
+			return false;
+		}
+		log.closingUnusedIndexReader( eventContext );
+		try {
+			// Readers currently used by searches hold a reference and will only be closed once the search ends.
+			setCurrentReaderEntry( null );
+		}
+		catch (RuntimeException | IOException e) {
+			throw log.unableToCloseUnusedIndexResource( e.getMessage(), eventContext, e );
+		}
+		return true;
+	}
+
+	private void refreshForWaiters() {
+		CompletableFuture<Void> future = takeNextRefreshFuture();
+		if ( future == null ) {
+			// Already handled by clear()
+			return;
+		}
+		try {
+			if ( currentReaderEntry != null ) {
+				// Open the new reader now, so that changes are visible to searches
+				// even if no search is executed until the reader expires.
+				// If there is no current reader, the next search will open a fresh one anyway.
+				getFreshIndexReader().reader.decRef();
+			}
+			future.complete( null );
+		}
+		catch (RuntimeException | IOException e) {
+			future.completeExceptionally( log.unableToRefreshIndexReader( e.getMessage(), eventContext, e ) );
+		}
+	}
+
+	private CompletableFuture<Void> takeNextRefreshFuture() {
+		synchronized ( nextRefreshLock ) {
+			CompletableFuture<Void> future = nextRefreshFuture;
+			nextRefreshFuture = null;
+			return future;
+		}
+	}
+
 	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		IndexReaderEntry freshEntry;
 		if ( oldEntry == null ) {
 			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
+			warm( newReader );
 			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
 		}
 		else {
@@ -92,6 +207,7 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 				freshEntry = oldEntry;
 			}
 			else {
+				warm( newReaderOrNull );
 				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
 			}
 		}
@@ -107,9 +223,24 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		return freshEntry;
 	}
 
+	private void warm(DirectoryReader newReader) {
+		// Warm up the reader before it gets published: until then, searches keep using the previous reader
+		if ( warmer != null ) {
+			warmer.warm( newReader );
+		}
+	}
+
 	private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		currentReaderEntry = newEntry;
+		if ( idleEvictor != null ) {
+			if ( newEntry == null ) {
+				idleEvictor.onReaderClosed( this );
+			}
+			else if ( oldEntry == null ) {
+				idleEvictor.onReaderOpened( this );
+			}
+		}
 		if ( oldEntry != null ) {
 			// Make sure to close the old reader as soon as no user thread is using it.
 			oldEntry.reader.decRef();
@@ -134,16 +265,22 @@ public void forceRefresh() {
 		}
 
 		/**
+		 * @param refreshSuspended Whether refreshes are suspended, in which case the reader is considered fresh
+		 * unless refresh was forced.
 		 * @return {@code true} if the reader is still fresh enough to be used,
 		 * i.e. if it is completely up-to-date with the state of the index writer
-		 * OR is out-of-date by less than the configured refresh interval,
+		 * OR is out-of-date by less than the configured refresh interval
+		 * OR refreshes are suspended,
 		 * and refresh wasn't forced by a previous write.
 		 * @throws IOException If an I/O failure occurs.
 		 */
-		boolean isFresh() throws IOException {
+		boolean isFresh(boolean refreshSuspended) throws IOException {
 			if ( refreshForced ) {
 				return false;
 			}
+			if ( refreshSuspended ) {
+				return true;
+			}
 			if ( expiration == 0 || expiration < timingSource.monotonicTimeEstimate() ) {
 				// The last refresh was a long time ago. Let's check if the reader is really fresh.
 				return reader.isCurrent();
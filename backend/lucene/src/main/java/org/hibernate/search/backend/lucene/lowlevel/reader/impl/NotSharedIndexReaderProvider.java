@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 
@@ -34,9 +35,20 @@ public void refresh() {
 		// Nothing to do
 	}
 
+	@Override
+	public CompletableFuture<?> waitForRefresh() {
+		// Nothing to wait for: each call to getOrCreate() opens a new index reader
+		return CompletableFuture.completedFuture( null );
+	}
+
 	@Override
 	public DirectoryReader getOrCreate() throws IOException {
 		return DirectoryReader.open( directoryHolder.get() );
 	}
 
+	@Override
+	public void warmUp() {
+		// Nothing to do: index readers are not shared, so warming them up would be pointless
+	}
+
 }
@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+
+/**
+ * An index searcher that searches each index or shard of a {@link HibernateSearchMultiReader}
+ * as a separate slice, so that indexes and shards are searched concurrently using the given executor.
+ * <p>
+ * Similarly to how Elasticsearch fans out a search to each shard,
+ * the latency of a search targeting multiple indexes thus depends on the slowest index,
+ * instead of the sum of all indexes.
+ * Segments of a same index are still searched sequentially, in the same slice.
+ */
+public class PerIndexSlicingIndexSearcher extends IndexSearcher {
+
+	public PerIndexSlicingIndexSearcher(HibernateSearchMultiReader reader, Executor executor) {
+		super( reader, executor );
+	}
+
+	@Override
+	protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+		// Leaves are ordered by index (i.e. by sub-reader of the multi-reader): group consecutive leaves with the same parent.
+		List<LeafSlice> slices = new ArrayList<>();
+		List<LeafReaderContext> currentSliceLeaves = new ArrayList<>();
+		IndexReaderContext currentParent = null;
+		for ( LeafReaderContext leaf : leaves ) {
+			if ( !currentSliceLeaves.isEmpty() && leaf.parent != currentParent ) {
+				slices.add( toSlice( currentSliceLeaves ) );
+				currentSliceLeaves.clear();
+			}
+			currentParent = leaf.parent;
+			currentSliceLeaves.add( leaf );
+		}
+		if ( !currentSliceLeaves.isEmpty() ) {
+			slices.add( toSlice( currentSliceLeaves ) );
+		}
+		return slices.toArray( new LeafSlice[0] );
+	}
+
+	private static LeafSlice toSlice(List<LeafReaderContext> leaves) {
+		return new LeafSlice( leaves.toArray( new LeafReaderContext[0] ) );
+	}
+}
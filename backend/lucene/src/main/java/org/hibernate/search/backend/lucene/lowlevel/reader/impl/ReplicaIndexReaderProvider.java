@@ -0,0 +1,252 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.common.timing.impl.TimingSource;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.Directory;
+
+/**
+ * An index reader holder for replicas,
+ * that pulls the latest commit from the primary into the local directory
+ * and opens an index reader on that directory.
+ * <p>
+ * The index reader is instantiated once and shared among all threads.
+ * When the refresh interval expires, the latest commit is pulled in the background,
+ * and searches keep using the index reader on the last pulled commit until the pull completes,
+ * so that searches never wait for a commit to be copied.
+ * Only when there is no local copy of the index at all is the latest commit pulled
+ * in the thread requesting an index reader.
+ */
+public class ReplicaIndexReaderProvider implements IndexReaderProvider {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final DirectoryHolder directoryHolder;
+	private final ReplicationTransport replicationTransport;
+	private final TimingSource timingSource;
+	private final int refreshInterval;
+	private final DirectoryReaderWarmer warmer;
+	private final BackendThreads threads;
+
+	private final Object nextPullLock = new Object();
+	/**
+	 * Future completed by the next background pull, or null if no pull is scheduled.
+	 */
+	private CompletableFuture<Void> nextPullFuture = null;
+
+	/**
+	 * Current open IndexReader, or null when closed.
+	 */
+	private volatile IndexReaderEntry currentReaderEntry = null;
+
+	public ReplicaIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
+			ReplicationTransport replicationTransport,
+			TimingSource timingSource, int refreshInterval, DirectoryReaderWarmer warmer,
+			BackendThreads threads) {
+		this.eventContext = eventContext;
+		this.directoryHolder = directoryHolder;
+		this.replicationTransport = replicationTransport;
+		this.timingSource = timingSource;
+		this.refreshInterval = refreshInterval;
+		this.warmer = warmer;
+		this.threads = threads;
+	}
+
+	@Override
+	public synchronized void clear() throws IOException {
+		setCurrentReaderEntry( null );
+	}
+
+	@Override
+	public void refresh() {
+		// Explicit refreshes are executed by management works, not by searches: we can afford to pull right away.
+		try {
+			pullAndReopen();
+		}
+		catch (RuntimeException | IOException e) {
+			throw log.unableToRefreshIndexReader( e.getMessage(), eventContext, e );
+		}
+	}
+
+	@Override
+	public CompletableFuture<?> waitForRefresh() {
+		// Changes reach replicas through commits pulled from the primary:
+		// we can't tell when the next commit will be published, so we just pull now.
+		return pullInBackground();
+	}
+
+	@Override
+	public DirectoryReader getOrCreate() throws IOException {
+		IndexReaderEntry entry = currentReaderEntry;
+
+		// Optimistic locking and checks to avoid synchronization
+		if ( entry != null && entry.reader.tryIncRef() ) {
+			if ( !entry.isFresh() ) {
+				// Keep using the last pulled commit until the pull completes
+				pullInBackground();
+			}
+			return entry.reader;
+		}
+
+		return openIndexReader().reader;
+	}
+
+	@Override
+	public void warmUp() throws IOException {
+		if ( warmer == null ) {
+			return;
+		}
+		getOrCreate().decRef();
+	}
+
+	private synchronized IndexReaderEntry openIndexReader() throws IOException {
+		IndexReaderEntry entry = currentReaderEntry;
+		if ( entry != null && entry.reader.tryIncRef() ) {
+			// Another thread opened the reader while we were waiting for the lock
+			return entry;
+		}
+
+		Directory directory = directoryHolder.get();
+		if ( DirectoryReader.indexExists( directory ) ) {
+			// Serve the local copy right away, and catch up with the primary in the background
+			pullInBackground();
+		}
+		else {
+			// Nothing to serve yet: we have no choice but to wait for the pull
+			pullLatestCommit();
+		}
+
+		DirectoryReader newReader = DirectoryReader.open( directory );
+		warm( newReader );
+		entry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
+		setCurrentReaderEntry( entry );
+
+		// At this point the reference count is at least one, for the holder.
+		// Let's also increment the reference for the caller.
+		entry.reader.incRef();
+
+		return entry;
+	}
+
+	private CompletableFuture<Void> pullInBackground() {
+		synchronized ( nextPullLock ) {
+			if ( nextPullFuture == null ) {
+				CompletableFuture<Void> future = new CompletableFuture<>();
+				nextPullFuture = future;
+				try {
+					threads.getWriteExecutor().execute( this::pullForWaiters );
+				}
+				catch (RuntimeException e) {
+					// The executor is probably shutting down
+					nextPullFuture = null;
+					future.completeExceptionally( log.unableToRefreshIndexReader( e.getMessage(), eventContext, e ) );
+				}
+				return future;
+			}
+			return nextPullFuture;
+		}
+	}
+
+	private void pullForWaiters() {
+		CompletableFuture<Void> future;
+		synchronized ( nextPullLock ) {
+			// Callers arriving from now on will need another pull
+			future = nextPullFuture;
+			nextPullFuture = null;
+		}
+		try {
+			pullAndReopen();
+			future.complete( null );
+		}
+		catch (RuntimeException | IOException e) {
+			future.completeExceptionally( log.unableToRefreshIndexReader( e.getMessage(), eventContext, e ) );
+		}
+	}
+
+	private synchronized void pullAndReopen() throws IOException {
+		pullLatestCommit();
+
+		IndexReaderEntry oldEntry = currentReaderEntry;
+		if ( oldEntry == null ) {
+			// The next call to getOrCreate() will open a reader on the commit we just pulled
+			return;
+		}
+
+		DirectoryReader newReaderOrNull = DirectoryReader.openIfChanged( oldEntry.reader );
+		if ( newReaderOrNull != null ) {
+			warm( newReaderOrNull );
+		}
+		// Even if there was no change, reset the expiration so that we don't pull again right away
+		IndexReaderEntry freshEntry = new IndexReaderEntry(
+				newReaderOrNull == null ? oldEntry.reader : newReaderOrNull,
+				timingSource, refreshInterval );
+		if ( newReaderOrNull == null ) {
+			// The new entry shares the reader of the old entry: make sure it won't get closed
+			oldEntry.reader.incRef();
+		}
+		setCurrentReaderEntry( freshEntry );
+	}
+
+	private void pullLatestCommit() {
+		try {
+			replicationTransport.pull( directoryHolder.get() );
+		}
+		catch (RuntimeException | IOException e) {
+			// Keep serving the data we already have: it's stale, but better than nothing.
+			log.unableToPullCommit( e.getMessage(), eventContext, e );
+		}
+	}
+
+	private void warm(DirectoryReader newReader) {
+		// Warm up the reader before it gets published: until then, searches keep using the previous reader
+		if ( warmer != null ) {
+			warmer.warm( newReader );
+		}
+	}
+
+	private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throws IOException {
+		IndexReaderEntry oldEntry = currentReaderEntry;
+		currentReaderEntry = newEntry;
+		if ( oldEntry != null ) {
+			// Make sure to close the old reader as soon as no user thread is using it.
+			oldEntry.reader.decRef();
+		}
+	}
+
+	private static class IndexReaderEntry {
+		private final DirectoryReader reader;
+		private final TimingSource timingSource;
+		private final long expiration;
+
+		private IndexReaderEntry(DirectoryReader reader, TimingSource timingSource, int refreshInterval) {
+			this.reader = reader;
+			this.timingSource = timingSource;
+			this.expiration = refreshInterval == 0 ? 0 : timingSource.monotonicTimeEstimate() + refreshInterval;
+		}
+
+		/**
+		 * @return {@code true} if the reader is still fresh enough to be used without pulling,
+		 * i.e. if the refresh interval did not expire yet.
+		 */
+		boolean isFresh() {
+			return expiration != 0 && timingSource.monotonicTimeEstimate() <= expiration;
+		}
+	}
+}
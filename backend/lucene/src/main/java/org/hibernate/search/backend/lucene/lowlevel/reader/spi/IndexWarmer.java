@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.spi;
+
+import java.io.IOException;
+
+/**
+ * A component warming up freshly opened index readers before they are used for search queries,
+ * typically by executing a few representative queries
+ * so that the relevant data (doc values, norms, terms dictionaries, ...) gets loaded into memory.
+ * <p>
+ * Warmers are called on the first index reader opened after startup,
+ * and on every index reader opened after a refresh.
+ * Search queries keep using the previous index reader (if any) until warming is complete.
+ */
+public interface IndexWarmer {
+
+	/**
+	 * Warm up an index reader.
+	 * <p>
+	 * Failures will be logged, but will not prevent the index reader from being used.
+	 *
+	 * @param context A context giving access to an index searcher for the index reader to warm up.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	void warm(IndexWarmingContext context) throws IOException;
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum ReplicationRoleName {
+
+	/**
+	 * The default: no replication.
+	 * The index is written to and read from locally.
+	 */
+	NONE( "none" ),
+	/**
+	 * The index is written to locally,
+	 * and each commit is published through the replication transport so that replicas can copy it.
+	 */
+	PRIMARY( "primary" ),
+	/**
+	 * The index is never written to locally:
+	 * commits published by the primary are copied from the replication transport,
+	 * and index readers are opened on the local copy.
+	 */
+	REPLICA( "replica" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static ReplicationRoleName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				ReplicationRoleName.values(),
+				ReplicationRoleName::externalRepresentation,
+				log::invalidReplicationRoleName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	ReplicationRoleName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	private String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.directory.impl.FileSystemUtils;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+
+/**
+ * A replication transport that copies commits to and from a directory shared between all nodes.
+ * <p>
+ * Files are only copied if they are missing from the target directory, or differ,
+ * and the segments file of each commit is copied last, under a temporary name,
+ * then atomically renamed, so that a commit is never visible before all its files were copied.
+ * <p>
+ * The shared directory retains the files of the last two published commits,
+ * so that replicas copying the previous commit while a new one is being published are not disrupted.
+ */
+final class LocalDirectoryReplicationTransport implements ReplicationTransport {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Path sharedDirectoryPath;
+	private final EventContext eventContext;
+
+	private Directory sharedDirectory;
+
+	private String lastPublishedSegmentsFileName;
+	private Set<String> lastPublishedFileNames = Collections.emptySet();
+
+	private String lastPulledSegmentsFileName;
+
+	LocalDirectoryReplicationTransport(Path sharedDirectoryPath, EventContext eventContext) {
+		this.sharedDirectoryPath = sharedDirectoryPath;
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public void start() throws IOException {
+		try {
+			FileSystemUtils.initializeWriteableDirectory( sharedDirectoryPath );
+		}
+		catch (Exception e) {
+			throw log.unableToInitializeReplicationDirectory( e.getMessage(), eventContext, e );
+		}
+
+		this.sharedDirectory = FSDirectory.open( sharedDirectoryPath );
+	}
+
+	@Override
+	public void close() throws IOException {
+		if ( sharedDirectory != null ) {
+			sharedDirectory.close();
+		}
+		sharedDirectory = null;
+	}
+
+	@Override
+	public synchronized void publish(IndexCommit commit) throws IOException {
+		String segmentsFileName = commit.getSegmentsFileName();
+		if ( segmentsFileName.equals( lastPublishedSegmentsFileName ) ) {
+			// Already published
+			return;
+		}
+
+		Set<String> fileNames = new HashSet<>( commit.getFileNames() );
+		copyCommit( commit.getDirectory(), sharedDirectory, fileNames, segmentsFileName );
+
+		Set<String> retainedFileNames = new HashSet<>( fileNames );
+		retainedFileNames.addAll( lastPublishedFileNames );
+		deleteAllExcept( sharedDirectory, retainedFileNames );
+
+		lastPublishedSegmentsFileName = segmentsFileName;
+		lastPublishedFileNames = fileNames;
+		log.tracef( "Published commit '%s' to '%s'", segmentsFileName, sharedDirectoryPath );
+	}
+
+	@Override
+	public synchronized boolean pull(Directory target) throws IOException {
+		String segmentsFileName = SegmentInfos.getLastCommitSegmentsFileName( sharedDirectory.listAll() );
+		if ( segmentsFileName == null ) {
+			// Nothing was published yet
+			return false;
+		}
+		if ( segmentsFileName.equals( lastPulledSegmentsFileName ) ) {
+			// Already up-to-date
+			return false;
+		}
+
+		SegmentInfos segmentInfos = SegmentInfos.readCommit( sharedDirectory, segmentsFileName );
+		Set<String> fileNames = new HashSet<>( segmentInfos.files( true ) );
+		copyCommit( sharedDirectory, target, fileNames, segmentsFileName );
+
+		deleteAllExcept( target, fileNames );
+
+		lastPulledSegmentsFileName = segmentsFileName;
+		log.tracef( "Pulled commit '%s' from '%s'", segmentsFileName, sharedDirectoryPath );
+		return true;
+	}
+
+	private static void copyCommit(Directory source, Directory target, Collection<String> fileNames,
+			String segmentsFileName) throws IOException {
+		Set<String> existingFileNames = new HashSet<>( Arrays.asList( target.listAll() ) );
+		List<String> copiedFileNames = new ArrayList<>();
+
+		for ( String fileName : fileNames ) {
+			if ( fileName.equals( segmentsFileName ) ) {
+				// Copied last, see below
+				continue;
+			}
+			if ( existingFileNames.contains( fileName ) ) {
+				if ( isSameFile( source, target, fileName ) ) {
+					continue;
+				}
+				target.deleteFile( fileName );
+			}
+			target.copyFrom( source, fileName, fileName, IOContext.DEFAULT );
+			copiedFileNames.add( fileName );
+		}
+
+		// Copy the segments file under a temporary name, then rename it,
+		// so that the commit only becomes visible once all its files are there.
+		String pendingSegmentsFileName = IndexFileNames.PENDING_SEGMENTS
+				+ segmentsFileName.substring( IndexFileNames.SEGMENTS.length() );
+		if ( existingFileNames.contains( pendingSegmentsFileName ) ) {
+			target.deleteFile( pendingSegmentsFileName );
+		}
+		target.copyFrom( source, segmentsFileName, pendingSegmentsFileName, IOContext.DEFAULT );
+		copiedFileNames.add( pendingSegmentsFileName );
+		target.sync( copiedFileNames );
+		if ( existingFileNames.contains( segmentsFileName ) ) {
+			target.deleteFile( segmentsFileName );
+		}
+		target.rename( pendingSegmentsFileName, segmentsFileName );
+		target.syncMetaData();
+	}
+
+	private static boolean isSameFile(Directory source, Directory target, String fileName) throws IOException {
+		if ( source.fileLength( fileName ) != target.fileLength( fileName ) ) {
+			return false;
+		}
+		try {
+			return retrieveChecksum( source, fileName ) == retrieveChecksum( target, fileName );
+		}
+		catch (IOException e) {
+			// Invalid footer: the file is corrupt or truncated, in which case we'd better copy it again.
+			log.tracef( e, "Unable to compare checksums for file '%s', assuming it changed", fileName );
+			return false;
+		}
+	}
+
+	private static long retrieveChecksum(Directory directory, String fileName) throws IOException {
+		try ( IndexInput input = directory.openInput( fileName, IOContext.READONCE ) ) {
+			return CodecUtil.retrieveChecksum( input );
+		}
+	}
+
+	private void deleteAllExcept(Directory directory, Set<String> retainedFileNames) throws IOException {
+		for ( String fileName : directory.listAll() ) {
+			if ( retainedFileNames.contains( fileName ) || IndexWriter.WRITE_LOCK_NAME.equals( fileName ) ) {
+				continue;
+			}
+			try {
+				directory.deleteFile( fileName );
+			}
+			catch (IOException e) {
+				// The file may still be in use (e.g. on Windows): we'll try again next time,
+				// but let users know in case the problem persists and files pile up.
+				log.unableToDeleteObsoleteReplicatedFile( fileName, e.getMessage(), eventContext, e );
+			}
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransportCreationContext;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransportProvider;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A provider of replication transports relying on a directory shared between all nodes,
+ * typically on a network filesystem (NFS, ...).
+ */
+public class LocalDirectoryReplicationTransportProvider implements ReplicationTransportProvider {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static final String NAME = "local-directory";
+
+	private static final OptionalConfigurationProperty<Path> ROOT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.ReplicationTransportRadicals.ROOT )
+					.as( Path.class, Paths::get )
+					.build();
+
+	@Override
+	public ReplicationTransport createTransport(ReplicationTransportCreationContext context) {
+		Path root = ROOT.getOrThrow(
+				context.configurationPropertySource(),
+				key -> log.missingPropertyValueForReplicationTransport( NAME, key )
+		).toAbsolutePath();
+
+		Path path = root.resolve( context.indexName() );
+		Optional<String> shardId = context.shardId();
+		if ( shardId.isPresent() ) {
+			path = path.resolve( shardId.get() );
+		}
+
+		return new LocalDirectoryReplicationTransport( path, context.eventContext() );
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.impl;
+
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransportCreationContext;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.bean.BeanResolver;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+public class ReplicationTransportCreationContextImpl implements ReplicationTransportCreationContext {
+
+	private final EventContext eventContext;
+	private final String indexName;
+	private final Optional<String> shardId;
+	private final BeanResolver beanResolver;
+	private final ConfigurationPropertySource configurationPropertySource;
+
+	public ReplicationTransportCreationContextImpl(EventContext eventContext, String indexName,
+			Optional<String> shardId, BeanResolver beanResolver,
+			ConfigurationPropertySource configurationPropertySource) {
+		this.eventContext = eventContext;
+		this.indexName = indexName;
+		this.shardId = shardId;
+		this.beanResolver = beanResolver;
+		this.configurationPropertySource = configurationPropertySource;
+	}
+
+	@Override
+	public EventContext eventContext() {
+		return eventContext;
+	}
+
+	@Override
+	public String indexName() {
+		return indexName;
+	}
+
+	@Override
+	public Optional<String> shardId() {
+		return shardId;
+	}
+
+	@Override
+	public BeanResolver beanResolver() {
+		return beanResolver;
+	}
+
+	@Override
+	public ConfigurationPropertySource configurationPropertySource() {
+		return configurationPropertySource;
+	}
+
+}
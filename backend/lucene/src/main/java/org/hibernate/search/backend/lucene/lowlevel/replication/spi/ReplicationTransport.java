@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.spi;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.store.Directory;
+
+/**
+ * A channel through which a primary node publishes index commits
+ * and replica nodes retrieve them.
+ * <p>
+ * Implementations must be thread-safe.
+ */
+public interface ReplicationTransport extends Closeable {
+
+	/**
+	 * Allocate internal resources (filesystem directories, connections, ...) as necessary.
+	 *
+	 * @throws IOException If an error occurs while creating resources.
+	 * @throws RuntimeException If an error occurs while creating resources.
+	 */
+	void start() throws IOException;
+
+	/**
+	 * Release any resource currently held by the {@link ReplicationTransport}.
+	 *
+	 * @throws IOException If an error occurs while releasing resources.
+	 * @throws RuntimeException If an error occurs while releasing resources.
+	 */
+	@Override
+	void close() throws IOException;
+
+	/**
+	 * Publish an index commit, making it available to replicas.
+	 * <p>
+	 * Called on the primary node, in a background thread, after each commit.
+	 * Never called concurrently for the same index (or shard),
+	 * and commits that happened while a previous commit was being published may be skipped,
+	 * only the latest one being published.
+	 * Files of the commit are guaranteed not to be deleted from the commit's directory until this method returns.
+	 * <p>
+	 * Implementations should only transfer files that were not already published,
+	 * and must make the commit visible to replicas atomically, after all its files have been transferred.
+	 *
+	 * @param commit The commit to publish.
+	 * @throws IOException If an error occurs while publishing the commit.
+	 */
+	void publish(IndexCommit commit) throws IOException;
+
+	/**
+	 * Copy the latest published index commit to the given directory, if necessary.
+	 * <p>
+	 * Called on replica nodes.
+	 * Implementations should only copy files that are missing from the target directory or differ,
+	 * must make the commit visible in the target directory atomically, after all its files have been copied,
+	 * and may delete files that are no longer referenced by the latest commit from the target directory.
+	 *
+	 * @param target The directory to copy the commit to. Never written to by anything other than this method.
+	 * @return {@code true} if a new commit was copied to the target directory,
+	 * {@code false} if the target directory was already up-to-date or no commit was published yet.
+	 * @throws IOException If an error occurs while copying the commit.
+	 */
+	boolean pull(Directory target) throws IOException;
+
+}
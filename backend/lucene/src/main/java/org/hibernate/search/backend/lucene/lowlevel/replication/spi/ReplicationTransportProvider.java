@@ -0,0 +1,25 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.spi;
+
+public interface ReplicationTransportProvider {
+
+	/**
+	 * Creates a {@link ReplicationTransport} for a given index (or shard),
+	 * but do <strong>not</strong> allocate resources yet
+	 * (wait until {@link ReplicationTransport#start()} is called).
+	 * <p>
+	 * The primary and its replicas are expected to be configured identically,
+	 * so that transports created for the same index name and shard identifier on each node
+	 * exchange commits with each other, and only with each other.
+	 *
+	 * @param context The creation context, giving access to configuration and environment.
+	 * @return The replication transport to use for that index (or shard).
+	 */
+	ReplicationTransport createTransport(ReplicationTransportCreationContext context);
+
+}
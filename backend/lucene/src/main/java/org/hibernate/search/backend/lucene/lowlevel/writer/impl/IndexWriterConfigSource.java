@@ -8,12 +8,15 @@
 
 import java.util.List;
 
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.similarities.Similarity;
 
 /**
@@ -29,20 +32,42 @@
  */
 public class IndexWriterConfigSource {
 
-	public static IndexWriterConfigSource create(Similarity similarity, Analyzer analyzer,
+	private static final ConfigurationProperty<Integer> BULK_RAM_BUFFER_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_BULK_RAM_BUFFER_SIZE )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.IO_WRITER_BULK_RAM_BUFFER_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> BULK_PARALLEL_WRITERS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_BULK_PARALLEL_WRITERS )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.IO_WRITER_BULK_PARALLEL_WRITERS )
+					.build();
+
+	public static IndexWriterConfigSource create(Similarity similarity, Analyzer analyzer, Sort indexSort,
 			ConfigurationPropertySource propertySource, EventContext eventContext) {
 		List<IndexWriterSettingValue<?>> values = IndexWriterSettings.extractAll( propertySource, eventContext );
-		return new IndexWriterConfigSource( similarity, analyzer, values );
+		int bulkRamBufferSize = BULK_RAM_BUFFER_SIZE.get( propertySource );
+		int bulkParallelWriters = BULK_PARALLEL_WRITERS.get( propertySource );
+		return new IndexWriterConfigSource( similarity, analyzer, indexSort, values,
+				bulkRamBufferSize, bulkParallelWriters );
 	}
 
 	private final Similarity similarity;
 	private final Analyzer analyzer;
+	private final Sort indexSort;
 	private final List<IndexWriterSettingValue<?>> values;
+	private final int bulkRamBufferSize;
+	private final int bulkParallelWriters;
 
-	private IndexWriterConfigSource(Similarity similarity, Analyzer analyzer, List<IndexWriterSettingValue<?>> values) {
+	private IndexWriterConfigSource(Similarity similarity, Analyzer analyzer, Sort indexSort,
+			List<IndexWriterSettingValue<?>> values, int bulkRamBufferSize, int bulkParallelWriters) {
 		this.similarity = similarity;
 		this.analyzer = analyzer;
+		this.indexSort = indexSort;
 		this.values = values;
+		this.bulkRamBufferSize = bulkRamBufferSize;
+		this.bulkParallelWriters = bulkParallelWriters;
 	}
 
 	@Override
@@ -57,6 +82,9 @@ public String toString() {
 	public IndexWriterConfig createIndexWriterConfig() {
 		IndexWriterConfig writerConfig = new IndexWriterConfig( analyzer );
 		writerConfig.setSimilarity( similarity );
+		if ( indexSort != null ) {
+			writerConfig.setIndexSort( indexSort );
+		}
 		for ( IndexWriterSettingValue<?> value : values ) {
 			value.applySetting( writerConfig );
 		}
@@ -64,6 +92,21 @@ public IndexWriterConfig createIndexWriterConfig() {
 		return writerConfig;
 	}
 
+	/**
+	 * @return The size of the RAM buffer to use during bulk loading, in megabytes.
+	 */
+	public int getBulkRamBufferSize() {
+		return bulkRamBufferSize;
+	}
+
+	/**
+	 * @return The number of temporary indexes to build in parallel during bulk loading,
+	 * or a number lower than or equal to 1 to add documents to the index directly.
+	 */
+	public int getBulkParallelWriters() {
+		return bulkParallelWriters;
+	}
+
 	private LogByteSizeMergePolicy createMergePolicy() {
 		LogByteSizeMergePolicy logByteSizeMergePolicy = new LogByteSizeMergePolicy();
 		for ( IndexWriterSettingValue<?> value : values ) {
@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 
+import org.apache.lucene.index.CodecReader;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
@@ -28,4 +29,14 @@ public interface IndexWriterDelegator {
 
 	long deleteDocuments(Query query) throws IOException;
 
+	long addIndexes(CodecReader... readers) throws IOException;
+
+	/**
+	 * Adds an entry to the user data stored with the next commit, and with all subsequent commits.
+	 *
+	 * @param key The key of the entry.
+	 * @param value The value of the entry.
+	 */
+	void putCommitUserData(String key, String value);
+
 }
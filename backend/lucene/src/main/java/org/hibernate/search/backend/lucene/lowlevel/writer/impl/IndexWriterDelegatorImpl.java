@@ -8,13 +8,20 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.common.timing.impl.TimingSource;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
 import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
@@ -22,11 +29,19 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.index.CodecReader;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LiveIndexWriterConfig;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.SnapshotDeletionPolicy;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.store.AlreadyClosedException;
 
 /**
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
@@ -39,22 +54,39 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 	private final EventContext eventContext;
 	private final TimingSource timingSource;
 	private final int commitInterval;
+	private final ReplicationTransport publishingTransport;
 	private final FailureHandler failureHandler;
 
 	private final SingletonTask delayedCommitTask;
+	private final SingletonTask publishingTask;
 	private final Object commitLock = new Object();
+	private final AtomicInteger ongoingOperations = new AtomicInteger();
 
 	private long commitExpiration;
 
+	// Only modified while holding the writer modification lock in IndexWriterProvider
+	private volatile boolean bulkLoading;
+	private double regularRamBufferSize;
+	private MergePolicy regularMergePolicy;
+	/*
+	 * Writers to temporary indexes that added documents are sent to during bulk loading, if enabled.
+	 * Only used while holding the read lock, and only set to null while holding the write lock,
+	 * so that writers are not closed while a document is being added.
+	 */
+	private volatile ParallelBulkIndexWriters parallelBulkWriters;
+	private final ReadWriteLock parallelBulkWritersLock = new ReentrantReadWriteLock();
+
 	public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 			ScheduledExecutorService delayedCommitExecutor,
 			TimingSource timingSource, int commitInterval,
+			ReplicationTransport publishingTransport, ExecutorService publishingExecutor,
 			FailureHandler failureHandler,
 			DelayedCommitFailureHandler delayedCommitFailureHandler) {
 		this.delegate = delegate;
 		this.eventContext = eventContext;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.publishingTransport = publishingTransport;
 		this.failureHandler = failureHandler;
 
 		if ( commitInterval == 0L ) {
@@ -69,38 +101,274 @@ public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 			);
 		}
 
+		if ( publishingTransport == null ) {
+			publishingTask = null;
+		}
+		else {
+			publishingTask = new SingletonTask(
+					"Publishing of commits for " + eventContext.render(),
+					new LuceneCommitPublishingWorker(),
+					publishingExecutor::submit,
+					failureHandler
+			);
+		}
+
 		updateCommitExpiration();
 	}
 
 	@Override
 	public long addDocuments(Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
-		return delegate.addDocuments( docs );
+		ongoingOperations.incrementAndGet();
+		ParallelBulkIndexWriters bulkWriters = lockParallelBulkWriters();
+		try {
+			if ( bulkWriters != null ) {
+				return bulkWriters.addDocuments( docs );
+			}
+			return delegate.addDocuments( docs );
+		}
+		finally {
+			unlockParallelBulkWriters( bulkWriters );
+			ongoingOperations.decrementAndGet();
+		}
 	}
 
 	@Override
 	public long updateDocuments(Term term, Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
-		return delegate.updateDocuments( term, docs );
+		ongoingOperations.incrementAndGet();
+		ParallelBulkIndexWriters bulkWriters = lockParallelBulkWriters();
+		try {
+			if ( bulkWriters != null ) {
+				// The previous version of the document may be in the index or in any temporary index
+				delegate.deleteDocuments( term );
+				bulkWriters.deleteDocuments( term );
+				return bulkWriters.addDocuments( docs );
+			}
+			return delegate.updateDocuments( term, docs );
+		}
+		finally {
+			unlockParallelBulkWriters( bulkWriters );
+			ongoingOperations.decrementAndGet();
+		}
 	}
 
 	@Override
 	public long deleteDocuments(Term term) throws IOException {
-		return delegate.deleteDocuments( term );
+		ongoingOperations.incrementAndGet();
+		ParallelBulkIndexWriters bulkWriters = lockParallelBulkWriters();
+		try {
+			if ( bulkWriters != null ) {
+				bulkWriters.deleteDocuments( term );
+			}
+			return delegate.deleteDocuments( term );
+		}
+		finally {
+			unlockParallelBulkWriters( bulkWriters );
+			ongoingOperations.decrementAndGet();
+		}
 	}
 
 	@Override
 	public long deleteDocuments(Query query) throws IOException {
-		return delegate.deleteDocuments( query );
+		ongoingOperations.incrementAndGet();
+		ParallelBulkIndexWriters bulkWriters = lockParallelBulkWriters();
+		try {
+			if ( bulkWriters != null ) {
+				bulkWriters.deleteDocuments( query );
+			}
+			return delegate.deleteDocuments( query );
+		}
+		finally {
+			unlockParallelBulkWriters( bulkWriters );
+			ongoingOperations.decrementAndGet();
+		}
+	}
+
+	@Override
+	public long addIndexes(CodecReader... readers) throws IOException {
+		ongoingOperations.incrementAndGet();
+		try {
+			return delegate.addIndexes( readers );
+		}
+		finally {
+			ongoingOperations.decrementAndGet();
+		}
+	}
+
+	@Override
+	public void putCommitUserData(String key, String value) {
+		Map<String, String> userData = new LinkedHashMap<>();
+		Iterable<Map.Entry<String, String>> currentUserData = delegate.getLiveCommitData();
+		if ( currentUserData != null ) {
+			for ( Map.Entry<String, String> entry : currentUserData ) {
+				userData.put( entry.getKey(), entry.getValue() );
+			}
+		}
+		userData.put( key, value );
+		delegate.setLiveCommitData( userData.entrySet() );
+	}
+
+	/**
+	 * @return The memory currently used by the writer to buffer added documents and deletions, in bytes,
+	 * including the memory used by writers to temporary indexes during bulk loading.
+	 */
+	long ramBytesUsed() {
+		ParallelBulkIndexWriters bulkWriters = lockParallelBulkWriters();
+		try {
+			long result = delegate.ramBytesUsed();
+			if ( bulkWriters != null ) {
+				result += bulkWriters.ramBytesUsed();
+			}
+			return result;
+		}
+		finally {
+			unlockParallelBulkWriters( bulkWriters );
+		}
+	}
+
+	/**
+	 * Flushes buffered added documents and deletions to the directory, without committing,
+	 * as well as the buffers of writers to temporary indexes during bulk loading.
+	 */
+	void flush() {
+		ParallelBulkIndexWriters bulkWriters = lockParallelBulkWriters();
+		try {
+			if ( bulkWriters != null ) {
+				bulkWriters.flush();
+			}
+			delegate.flush();
+		}
+		catch (AlreadyClosedException e) {
+			// The writer was closed concurrently: its buffers were freed anyway.
+			log.tracef( e, "Ignoring flush of closed IndexWriter for %s", eventContext.render() );
+		}
+		catch (RuntimeException | IOException e) {
+			throw log.unableToFlushIndexWriter( e.getMessage(), eventContext, e );
+		}
+		finally {
+			unlockParallelBulkWriters( bulkWriters );
+		}
 	}
 
 	public void mergeSegments() throws IOException {
-		delegate.forceMerge( 1 );
+		ongoingOperations.incrementAndGet();
+		try {
+			delegate.forceMerge( 1 );
+		}
+		finally {
+			ongoingOperations.decrementAndGet();
+		}
 	}
 
 	public void commit() {
 		doCommit();
 	}
 
+	/**
+	 * Switches the writer to settings suited to bulk loading:
+	 * a larger RAM buffer, no merges, and no commits except explicit ones.
+	 * <p>
+	 * If configured, also creates temporary indexes that added documents will be sent to,
+	 * in parallel, until bulk loading ends.
+	 *
+	 * @param configSource The source of configuration for index writers.
+	 * @throws IOException If temporary indexes cannot be created.
+	 */
+	void beginBulkLoading(IndexWriterConfigSource configSource) throws IOException {
+		LiveIndexWriterConfig config = delegate.getConfig();
+		double currentRamBufferSize = config.getRAMBufferSizeMB();
+		// Never shrink the buffer if the user configured a larger one
+		double bulkRamBufferSize = Math.max( currentRamBufferSize, configSource.getBulkRamBufferSize() );
+		int bulkParallelWriters = configSource.getBulkParallelWriters();
+		if ( bulkParallelWriters > 1 ) {
+			parallelBulkWriters = ParallelBulkIndexWriters.create( bulkParallelWriters, delegate.getDirectory(),
+					configSource, bulkRamBufferSize );
+		}
+		regularRamBufferSize = currentRamBufferSize;
+		regularMergePolicy = config.getMergePolicy();
+		if ( regularRamBufferSize != IndexWriterConfig.DISABLE_AUTO_FLUSH ) {
+			config.setRAMBufferSizeMB( bulkRamBufferSize );
+		}
+		// Segments will be merged once, with the regular merge policy, when bulk loading ends
+		config.setMergePolicy( NoMergePolicy.INSTANCE );
+		bulkLoading = true;
+	}
+
+	/**
+	 * Restores the regular settings of the writer, triggers the merges they require,
+	 * and commits changes applied during bulk loading.
+	 */
+	void endBulkLoading() throws IOException {
+		bulkLoading = false;
+		addParallelBulkWriters();
+		LiveIndexWriterConfig config = delegate.getConfig();
+		config.setMergePolicy( regularMergePolicy );
+		if ( regularRamBufferSize != IndexWriterConfig.DISABLE_AUTO_FLUSH ) {
+			config.setRAMBufferSizeMB( regularRamBufferSize );
+		}
+		ongoingOperations.incrementAndGet();
+		try {
+			// Merges are executed in the background: this will not wait for them to finish
+			delegate.maybeMerge();
+		}
+		finally {
+			ongoingOperations.decrementAndGet();
+		}
+		doCommit();
+	}
+
+	/**
+	 * Adds the temporary indexes built during bulk loading, if any, to the index, then deletes them.
+	 */
+	private void addParallelBulkWriters() throws IOException {
+		ParallelBulkIndexWriters bulkWriters = parallelBulkWriters;
+		if ( bulkWriters == null ) {
+			return;
+		}
+		// Wait for ongoing operations on temporary indexes to finish
+		parallelBulkWritersLock.writeLock().lock();
+		try {
+			parallelBulkWriters = null;
+		}
+		finally {
+			parallelBulkWritersLock.writeLock().unlock();
+		}
+		log.addingParallelBulkIndexes( bulkWriters.count(), eventContext );
+		ongoingOperations.incrementAndGet();
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( writers -> writers.addTo( delegate ), bulkWriters );
+			closer.push( ParallelBulkIndexWriters::discard, bulkWriters );
+		}
+		finally {
+			ongoingOperations.decrementAndGet();
+		}
+	}
+
+	private ParallelBulkIndexWriters lockParallelBulkWriters() {
+		if ( parallelBulkWriters == null ) {
+			// Fast path: no need to lock
+			return null;
+		}
+		parallelBulkWritersLock.readLock().lock();
+		ParallelBulkIndexWriters bulkWriters = parallelBulkWriters;
+		if ( bulkWriters == null ) {
+			// Removed concurrently
+			parallelBulkWritersLock.readLock().unlock();
+		}
+		return bulkWriters;
+	}
+
+	private void unlockParallelBulkWriters(ParallelBulkIndexWriters lockedBulkWriters) {
+		if ( lockedBulkWriters != null ) {
+			parallelBulkWritersLock.readLock().unlock();
+		}
+	}
+
 	public void commitOrDelay() {
+		if ( bulkLoading ) {
+			// Changes will be committed when bulk loading ends
+			return;
+		}
+
 		if ( !delegate.hasUncommittedChanges() ) {
 			// No need to either commit or plan a delayed commit: there's nothing to commit.
 			return;
@@ -126,11 +394,32 @@ public void commitOrDelay() {
 	}
 
 	public DirectoryReader openReader() throws IOException {
-		return DirectoryReader.open( delegate );
+		ongoingOperations.incrementAndGet();
+		try {
+			return DirectoryReader.open( delegate );
+		}
+		finally {
+			ongoingOperations.decrementAndGet();
+		}
 	}
 
 	public DirectoryReader openReaderIfChanged(DirectoryReader oldReader) throws IOException {
-		return DirectoryReader.openIfChanged( oldReader, delegate );
+		ongoingOperations.incrementAndGet();
+		try {
+			return DirectoryReader.openIfChanged( oldReader, delegate );
+		}
+		finally {
+			ongoingOperations.decrementAndGet();
+		}
+	}
+
+	/**
+	 * @return {@code true} if an operation is currently being executed on this writer,
+	 * in which case it must not be closed.
+	 */
+	boolean isInUse() {
+		// Temporary indexes built during bulk loading must not be dropped
+		return ongoingOperations.get() > 0 || parallelBulkWriters != null;
 	}
 
 	public IndexWriter getDelegateForTests() {
@@ -140,9 +429,19 @@ public IndexWriter getDelegateForTests() {
 	void close() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
 			closer.push( SingletonTask::stop, delayedCommitTask );
+			// Do not lose documents added to temporary indexes during bulk loading
+			closer.push( IndexWriterDelegatorImpl::addParallelBulkWriters, this );
 			// Avoid problems with closing while a (delayed) commit is in progress:
 			// Lucene throws an exception in that case.
 			synchronized (commitLock) {
+				if ( publishingTransport != null && delegate.hasUncommittedChanges() ) {
+					// Commit explicitly instead of relying on the implicit commit on close,
+					// so that the last changes get published to replicas.
+					closer.push( IndexWriterDelegatorImpl::doCommit, this );
+				}
+				// Make sure the last commit reaches replicas before closing,
+				// and that no commit gets deleted by another writer while it's being published.
+				closer.push( IndexWriterDelegatorImpl::awaitPublishing, this );
 				closer.push( IndexWriter::close, delegate );
 			}
 			log.trace( "IndexWriter closed" );
@@ -181,6 +480,55 @@ private void doCommit() {
 		catch (RuntimeException | IOException e) {
 			throw log.unableToCommitIndex( eventContext, e );
 		}
+		if ( publishingTask != null ) {
+			// Copying files to replicas may take a while: don't make the commit wait.
+			publishingTask.ensureScheduled();
+		}
+	}
+
+	private void awaitPublishing() {
+		if ( publishingTask == null ) {
+			return;
+		}
+		try {
+			publishingTask.completion().join();
+		}
+		finally {
+			publishingTask.stop();
+		}
+	}
+
+	/**
+	 * Publishes the last commit, which may be more recent than the commit that triggered publishing:
+	 * commits that happen while a previous commit is being published are coalesced.
+	 * <p>
+	 * Failures are reported to the failure handler, since the commit itself succeeded.
+	 */
+	private void publishLastCommit() {
+		SnapshotDeletionPolicy deletionPolicy = (SnapshotDeletionPolicy) delegate.getConfig().getIndexDeletionPolicy();
+		IndexCommit commit = null;
+		try {
+			// Prevent the writer from deleting the commit's files while we're publishing them
+			commit = deletionPolicy.snapshot();
+			publishingTransport.publish( commit );
+		}
+		catch (RuntimeException | IOException e) {
+			// The commit itself succeeded: just report the failure, replicas will catch up on the next commit.
+			FailureContext.Builder failureContextBuilder = FailureContext.builder();
+			failureContextBuilder.throwable( log.unableToPublishCommit( e.getMessage(), eventContext, e ) );
+			failureContextBuilder.failingOperation( "Publishing of commit to replicas" );
+			failureHandler.handle( failureContextBuilder.build() );
+		}
+		finally {
+			if ( commit != null ) {
+				try {
+					deletionPolicy.release( commit );
+				}
+				catch (RuntimeException | IOException e) {
+					log.debugf( e, "Unable to release commit snapshot for %s", eventContext.render() );
+				}
+			}
+		}
 	}
 
 	/**
@@ -253,6 +601,22 @@ public Future<?> schedule(Runnable runnable) {
 		}
 	}
 
+	private class LuceneCommitPublishingWorker implements SingletonTask.Worker {
+		private final CompletableFuture<?> completedFuture = CompletableFuture.completedFuture( null );
+
+		@Override
+		public CompletableFuture<?> work() {
+			// The task will be re-scheduled if there was another commit in the meantime.
+			publishLastCommit();
+			return completedFuture;
+		}
+
+		@Override
+		public void complete() {
+			// Nothing to do: each commit triggers publishing.
+		}
+	}
+
 	interface DelayedCommitFailureHandler {
 
 		void handle(Throwable throwable, Object failingOperation);
@@ -0,0 +1,189 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Keeps the combined size of the RAM buffers of all index writers in a backend under a global limit,
+ * by periodically flushing the writers with the largest buffers.
+ * <p>
+ * Lucene only enforces a limit per writer, which is not enough
+ * when a backend holds many indexes or shards that are all indexed concurrently.
+ */
+public final class IndexWriterMemoryController {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final OptionalConfigurationProperty<Integer> GLOBAL_RAM_BUFFER_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.IO_WRITER_GLOBAL_RAM_BUFFER_SIZE )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<Integer> GLOBAL_RAM_BUFFER_CHECK_INTERVAL =
+			ConfigurationProperty.forKey( LuceneBackendSettings.IO_WRITER_GLOBAL_RAM_BUFFER_CHECK_INTERVAL )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.IO_WRITER_GLOBAL_RAM_BUFFER_CHECK_INTERVAL )
+					.build();
+
+	/**
+	 * @param propertySource The backend property source.
+	 * @param threads The backend threads.
+	 * @param failureHandler The failure handler.
+	 * @return A controller, or an empty optional if no global limit was configured.
+	 */
+	public static Optional<IndexWriterMemoryController> create(ConfigurationPropertySource propertySource,
+			BackendThreads threads, FailureHandler failureHandler) {
+		Optional<Integer> sizeInMegabytes = GLOBAL_RAM_BUFFER_SIZE.getAndMap( propertySource, size -> {
+			if ( size <= 0 ) {
+				throw log.invalidGlobalRamBufferSize( size );
+			}
+			return size;
+		} );
+		if ( !sizeInMegabytes.isPresent() ) {
+			return Optional.empty();
+		}
+		int checkInterval = GLOBAL_RAM_BUFFER_CHECK_INTERVAL.getAndTransform( propertySource, interval -> {
+			if ( interval <= 0 ) {
+				throw log.invalidGlobalRamBufferCheckInterval( interval );
+			}
+			return interval;
+		} );
+		return Optional.of( new IndexWriterMemoryController( sizeInMegabytes.get() * 1024L * 1024L,
+				checkInterval, threads, failureHandler ) );
+	}
+
+	private final long ramBytesLimit;
+	private final int checkInterval;
+	private final BackendThreads threads;
+	private final FailureHandler failureHandler;
+
+	private final Set<IndexWriterDelegatorImpl> writers = ConcurrentHashMap.newKeySet();
+
+	// Guarded by synchronization on this
+	private ScheduledFuture<?> future;
+
+	private IndexWriterMemoryController(long ramBytesLimit, int checkInterval,
+			BackendThreads threads, FailureHandler failureHandler) {
+		this.ramBytesLimit = ramBytesLimit;
+		this.checkInterval = checkInterval;
+		this.threads = threads;
+		this.failureHandler = failureHandler;
+	}
+
+	public synchronized void start() {
+		if ( future != null ) {
+			return;
+		}
+		// Flushing involves I/O: use the write executor, not the timing executor.
+		future = threads.getWriteExecutor()
+				.scheduleWithFixedDelay( this::checkSafely, checkInterval, checkInterval, TimeUnit.MILLISECONDS );
+	}
+
+	public synchronized void stop() {
+		if ( future != null ) {
+			future.cancel( false );
+			future = null;
+		}
+		writers.clear();
+	}
+
+	void register(IndexWriterDelegatorImpl writer) {
+		writers.add( writer );
+	}
+
+	void unregister(IndexWriterDelegatorImpl writer) {
+		writers.remove( writer );
+	}
+
+	public long ramBytesLimit() {
+		return ramBytesLimit;
+	}
+
+	/**
+	 * Flushes the writers with the largest buffers until the combined size of buffers is back under the limit.
+	 * <p>
+	 * Called periodically, but may also be called directly, e.g. in tests.
+	 */
+	public void check() {
+		List<WriterMemoryUsage> usages = new ArrayList<>( writers.size() );
+		long totalRamBytesUsed = 0L;
+		for ( IndexWriterDelegatorImpl writer : writers ) {
+			long ramBytesUsed = writer.ramBytesUsed();
+			if ( ramBytesUsed > 0L ) {
+				usages.add( new WriterMemoryUsage( writer, ramBytesUsed ) );
+				totalRamBytesUsed += ramBytesUsed;
+			}
+		}
+		if ( totalRamBytesUsed <= ramBytesLimit ) {
+			return;
+		}
+
+		log.flushingIndexWritersAboveGlobalRamBufferSize( totalRamBytesUsed, ramBytesLimit );
+		usages.sort( Comparator.comparingLong( WriterMemoryUsage::ramBytesUsed ).reversed() );
+		for ( WriterMemoryUsage usage : usages ) {
+			if ( totalRamBytesUsed <= ramBytesLimit ) {
+				break;
+			}
+			try {
+				usage.writer.flush();
+			}
+			catch (RuntimeException e) {
+				FailureContext.Builder failureContextBuilder = FailureContext.builder();
+				failureContextBuilder.throwable( e );
+				failureContextBuilder.failingOperation( "Flush of index writer buffers above the global limit" );
+				failureHandler.handle( failureContextBuilder.build() );
+			}
+			totalRamBytesUsed -= usage.ramBytesUsed;
+		}
+	}
+
+	private void checkSafely() {
+		try {
+			check();
+		}
+		catch (Throwable t) {
+			// Exceptions would cancel the periodic task: report them instead.
+			FailureContext.Builder failureContextBuilder = FailureContext.builder();
+			failureContextBuilder.throwable( t );
+			failureContextBuilder.failingOperation( "Check of index writer buffers against the global limit" );
+			failureHandler.handle( failureContextBuilder.build() );
+		}
+	}
+
+	private static final class WriterMemoryUsage {
+		private final IndexWriterDelegatorImpl writer;
+		private final long ramBytesUsed;
+
+		private WriterMemoryUsage(IndexWriterDelegatorImpl writer, long ramBytesUsed) {
+			this.writer = writer;
+			this.ramBytesUsed = ramBytesUsed;
+		}
+
+		long ramBytesUsed() {
+			return ramBytesUsed;
+		}
+	}
+}
@@ -13,21 +13,29 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.resources.impl.IdleIndexResourceEvictor;
 import org.hibernate.search.backend.lucene.common.timing.impl.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.index.KeepOnlyLastCommitDeletionPolicy;
 import org.apache.lucene.index.MergeScheduler;
+import org.apache.lucene.index.SnapshotDeletionPolicy;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.Lock;
+import org.apache.lucene.store.LockObtainFailedException;
 
 /**
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
  */
-public class IndexWriterProvider {
+public class IndexWriterProvider implements IdleIndexResourceEvictor.Resource {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -37,8 +45,13 @@ public class IndexWriterProvider {
 	private final IndexWriterConfigSource configSource;
 	private final TimingSource timingSource;
 	private final int commitInterval;
+	private final ReplicationTransport publishingTransport;
 	private BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final IndexWriterMemoryController memoryController;
+	private final IdleIndexResourceEvictor idleEvictor;
+
+	private volatile long lastUseTime;
 
 	/**
 	 * Current open IndexWriter, or null when closed.
@@ -50,19 +63,31 @@ public class IndexWriterProvider {
 	 */
 	private final ReentrantLock currentWriterModificationLock = new ReentrantLock();
 
+	/**
+	 * Number of bulk loading operations in progress.
+	 * Only modified while holding {@link #currentWriterModificationLock}.
+	 */
+	private volatile int bulkLoadingCount = 0;
+
 	public IndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
 			TimingSource timingSource, int commitInterval,
+			ReplicationTransport publishingTransport,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			IndexWriterMemoryController memoryController,
+			IdleIndexResourceEvictor idleEvictor) {
 		this.indexName = indexName;
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
 		this.configSource = configSource;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.publishingTransport = publishingTransport;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.memoryController = memoryController;
+		this.idleEvictor = idleEvictor;
 	}
 
 	/**
@@ -71,8 +96,17 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 	 * Should be used when stopping the index.
 	 */
 	public void clear() throws IOException {
-		IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.getAndSet( null );
+		IndexWriterDelegatorImpl indexWriterDelegator;
+		// Acquire the lock so that we don't conflict with closeIfUnusedSince()
+		currentWriterModificationLock.lock();
+		try {
+			indexWriterDelegator = currentWriter.getAndSet( null );
+		}
+		finally {
+			currentWriterModificationLock.unlock();
+		}
 		if ( indexWriterDelegator != null ) {
+			unregister( indexWriterDelegator );
 			indexWriterDelegator.close();
 		}
 	}
@@ -95,6 +129,7 @@ public void clearAfterFailure(Throwable throwable, Object failingOperation) {
 		try {
 			indexWriterDelegator = currentWriter.getAndSet( null );
 			if ( indexWriterDelegator != null ) {
+				unregister( indexWriterDelegator );
 				indexWriterDelegator.closeAfterFailure( throwable, failingOperation );
 			}
 		}
@@ -103,13 +138,75 @@ public void clearAfterFailure(Throwable throwable, Object failingOperation) {
 		}
 	}
 
+	/**
+	 * Switches the current index writer, and any index writer created later, to bulk loading settings,
+	 * until {@link #endBulkLoading()} is called.
+	 * <p>
+	 * Calls may be nested, e.g. when two mass indexers target the same index:
+	 * regular settings are only restored when the last bulk loading ends.
+	 */
+	public void beginBulkLoading() throws IOException {
+		currentWriterModificationLock.lock();
+		try {
+			if ( bulkLoadingCount > 0 ) {
+				bulkLoadingCount++;
+				return;
+			}
+			log.beginningBulkLoading( eventContext );
+			IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.get();
+			if ( indexWriterDelegator != null ) {
+				indexWriterDelegator.beginBulkLoading( configSource );
+			}
+			bulkLoadingCount++;
+		}
+		finally {
+			currentWriterModificationLock.unlock();
+		}
+	}
+
+	/**
+	 * Restores regular settings on the current index writer, if this is the last bulk loading in progress,
+	 * and commits the changes applied during bulk loading.
+	 */
+	public void endBulkLoading() throws IOException {
+		currentWriterModificationLock.lock();
+		try {
+			if ( bulkLoadingCount == 0 ) {
+				return;
+			}
+			bulkLoadingCount--;
+			if ( bulkLoadingCount > 0 ) {
+				return;
+			}
+			log.endingBulkLoading( eventContext );
+			IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.get();
+			if ( indexWriterDelegator != null ) {
+				indexWriterDelegator.endBulkLoading();
+			}
+		}
+		finally {
+			currentWriterModificationLock.unlock();
+		}
+	}
+
+	/**
+	 * @return {@code true} if bulk loading is in progress, see {@link #beginBulkLoading()}.
+	 */
+	public boolean isBulkLoading() {
+		return bulkLoadingCount > 0;
+	}
+
 	public IndexWriterDelegatorImpl getOrNull() {
 		return currentWriter.get();
 	}
 
 	public IndexWriterDelegatorImpl getOrCreate() throws IOException {
+		if ( idleEvictor != null ) {
+			lastUseTime = idleEvictor.currentTime();
+		}
 		IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.get();
 		if ( indexWriterDelegator == null ) {
+			boolean created = false;
 			currentWriterModificationLock.lock();
 			try {
 				indexWriterDelegator = currentWriter.get();
@@ -119,20 +216,105 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 							indexWriter, eventContext,
 							threads.getWriteExecutor(),
 							timingSource, commitInterval,
+							publishingTransport,
+							publishingTransport == null ? null : threads.getReplicationExecutor(),
 							failureHandler,
 							this::clearAfterFailure
 					);
 					log.trace( "IndexWriter opened" );
+					if ( bulkLoadingCount > 0 ) {
+						try {
+							indexWriterDelegator.beginBulkLoading( configSource );
+						}
+						catch (RuntimeException | IOException e) {
+							new SuppressingCloser( e ).push( indexWriter );
+							throw e;
+						}
+					}
 					currentWriter.set( indexWriterDelegator );
+					if ( memoryController != null ) {
+						memoryController.register( indexWriterDelegator );
+					}
+					created = true;
 				}
 			}
 			finally {
 				currentWriterModificationLock.unlock();
 			}
+			// Outside of the lock: this may close other writers
+			if ( created && idleEvictor != null ) {
+				idleEvictor.onWriterOpened( this );
+			}
 		}
 		return indexWriterDelegator;
 	}
 
+	@Override
+	public long lastUseTime() {
+		return lastUseTime;
+	}
+
+	@Override
+	public boolean closeIfUnusedSince(long unusedSince) {
+		if ( !currentWriterModificationLock.tryLock() ) {
+			// The writer is being opened or closed concurrently
+			return false;
+		}
+		try {
+			IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.get();
+			// Checking the last use time isn't enough: an operation (e.g. a merge) may have started long ago
+			if ( indexWriterDelegator == null || lastUseTime > unusedSince || indexWriterDelegator.isInUse() ) {
+				return false;
+			}
+			currentWriter.set( null );
+			// getOrCreate() sets the last use time *before* retrieving the current writer:
+			// if it retrieved the writer before we removed it, we will see the new last use time now.
+			if ( lastUseTime > unusedSince ) {
+				currentWriter.set( indexWriterDelegator );
+				return false;
+			}
+			log.closingUnusedIndexWriter( eventContext );
+			unregister( indexWriterDelegator );
+			// Closing the writer commits pending changes
+			indexWriterDelegator.close();
+			return true;
+		}
+		catch (RuntimeException | IOException e) {
+			throw log.unableToCloseUnusedIndexResource( e.getMessage(), eventContext, e );
+		}
+		finally {
+			currentWriterModificationLock.unlock();
+		}
+	}
+
+	/**
+	 * Deletes temporary indexes left over by a bulk loading that did not end normally, e.g. because of a crash.
+	 * <p>
+	 * Does nothing if the index is locked by a writer, since that writer may be using these temporary indexes.
+	 * Failures are logged, but do not prevent the index from starting.
+	 */
+	public void deleteLeftoverBulkLoadingIndexes() {
+		Directory directory = directoryHolder.get();
+		try ( Lock lock = directory.obtainLock( IndexWriter.WRITE_LOCK_NAME ) ) {
+			ParallelBulkIndexWriters.deleteLeftovers( directory );
+		}
+		catch (LockObtainFailedException e) {
+			// The index is being written to, possibly by another JVM: leave the temporary indexes alone
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToDeleteLeftoverBulkLoadingIndexes( e.getMessage(), eventContext, e );
+		}
+	}
+
+	private void unregister(IndexWriterDelegatorImpl indexWriterDelegator) {
+		if ( memoryController != null ) {
+			memoryController.unregister( indexWriterDelegator );
+		}
+		if ( idleEvictor != null ) {
+			idleEvictor.onWriterClosed( this );
+		}
+	}
+
 	private IndexWriter createNewIndexWriter() throws IOException {
 		// Each writer config can be attached only once to an IndexWriter
 		final IndexWriterConfig indexWriterConfig = createWriterConfig();
@@ -147,6 +329,10 @@ private IndexWriterConfig createWriterConfig() {
 		);
 		writerConfig.setMergeScheduler( mergeScheduler );
 		writerConfig.setOpenMode( OpenMode.CREATE_OR_APPEND );
+		if ( publishingTransport != null ) {
+			// Commits must not be deleted while they are being published to replicas
+			writerConfig.setIndexDeletionPolicy( new SnapshotDeletionPolicy( new KeepOnlyLastCommitDeletionPolicy() ) );
+		}
 		return writerConfig;
 	}
 }
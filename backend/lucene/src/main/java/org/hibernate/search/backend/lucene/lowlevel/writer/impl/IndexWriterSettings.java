@@ -12,6 +12,7 @@
 import static org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings.IO_MERGE_MAX_FORCED_SIZE;
 import static org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings.IO_MERGE_MAX_SIZE;
 import static org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings.IO_MERGE_MIN_SIZE;
+import static org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings.IO_WARMING_MERGED_SEGMENTS;
 import static org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings.IO_WRITER_INFOSTREAM;
 import static org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS;
 import static org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings.IO_WRITER_RAM_BUFFER_SIZE;
@@ -32,6 +33,7 @@
 
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.index.SimpleMergedSegmentWarmer;
 
 /**
  * Represents possible options to be applied to an
@@ -67,6 +69,9 @@ public static List<IndexWriterSettingValue<?>> extractAll(ConfigurationPropertyS
 		registerSetting( Extractor.fromBoolean( IO_WRITER_INFOSTREAM,
 				enabled -> Boolean.TRUE.equals( enabled ) ? new LoggerInfoStream() : null,
 				IndexWriterConfig::setInfoStream, (logByteSizeMergePolicy, integer) -> { } ) );
+		registerSetting( Extractor.fromBoolean( IO_WARMING_MERGED_SEGMENTS,
+				enabled -> Boolean.TRUE.equals( enabled ) ? new SimpleMergedSegmentWarmer( new LoggerInfoStream() ) : null,
+				IndexWriterConfig::setMergedSegmentWarmer, (logByteSizeMergePolicy, integer) -> { } ) );
 
 		registerIntegerMergePolicySetting( IO_MERGE_MAX_DOCS, LogByteSizeMergePolicy::setMaxMergeDocs );
 		registerIntegerMergePolicySetting( IO_MERGE_FACTOR, LogByteSizeMergePolicy::setMergeFactor );
@@ -0,0 +1,211 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.NoMergeScheduler;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.IOUtils;
+
+/**
+ * Private, temporary indexes that documents are added to in parallel during bulk loading,
+ * each through its own index writer,
+ * and that are eventually added to the actual index with {@link IndexWriter#addIndexes(Directory...)}.
+ * <p>
+ * Spreading documents over multiple writers avoids contention on the flushes of a single writer.
+ * <p>
+ * For indexes stored on the filesystem, temporary indexes are stored next to the index directory,
+ * under the same root, so that adding them to the index does not involve copying data across filesystems.
+ * Their name starts with a dot, so that they are not mistaken for shards of the index,
+ * and they are deleted on startup if they were left over by a crash: see {@link #deleteLeftovers(Directory)}.
+ */
+final class ParallelBulkIndexWriters {
+
+	private static final String ROOT_PREFIX = ".";
+	private static final String ROOT_INFIX = "-bulk-";
+
+	/**
+	 * @param count The number of temporary indexes.
+	 * @param indexDirectory The directory of the actual index.
+	 * @param configSource The source of configuration for index writers.
+	 * @param ramBufferSize The size of the RAM buffer to share between the writers, in megabytes.
+	 * @return Writers to empty, temporary indexes.
+	 * @throws IOException If the temporary indexes cannot be created.
+	 */
+	static ParallelBulkIndexWriters create(int count, Directory indexDirectory, IndexWriterConfigSource configSource,
+			double ramBufferSize)
+			throws IOException {
+		Path root = createRoot( indexDirectory );
+		ParallelBulkIndexWriters result = new ParallelBulkIndexWriters( root, count );
+		try {
+			double ramBufferSizePerWriter = Math.max( ramBufferSize / count, IndexWriterConfig.DEFAULT_RAM_BUFFER_SIZE_MB );
+			for ( int i = 0; i < count; i++ ) {
+				Directory directory = FSDirectory.open( root.resolve( String.valueOf( i ) ) );
+				result.directories[i] = directory;
+				IndexWriterConfig writerConfig = configSource.createIndexWriterConfig();
+				writerConfig.setOpenMode( IndexWriterConfig.OpenMode.CREATE );
+				writerConfig.setRAMBufferSizeMB( ramBufferSizePerWriter );
+				// Segments will be merged after they are added to the actual index
+				writerConfig.setMergePolicy( NoMergePolicy.INSTANCE );
+				writerConfig.setMergeScheduler( NoMergeScheduler.INSTANCE );
+				result.writers[i] = new IndexWriter( directory, writerConfig );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			new SuppressingCloser( e ).push( ParallelBulkIndexWriters::discard, result );
+			throw e;
+		}
+		return result;
+	}
+
+	private static Path createRoot(Directory indexDirectory) throws IOException {
+		Directory unwrapped = FilterDirectory.unwrap( indexDirectory );
+		if ( unwrapped instanceof FSDirectory ) {
+			Path indexPath = ( (FSDirectory) unwrapped ).getDirectory();
+			return Files.createTempDirectory( indexPath.getParent(), rootPrefix( indexPath ) );
+		}
+		// The index is not stored on the filesystem (e.g. heap directory): there is no index root to use
+		return Files.createTempDirectory( "hibernate-search-bulk-" );
+	}
+
+	/**
+	 * Deletes temporary indexes left over by a bulk loading that did not end normally, e.g. because of a crash.
+	 * <p>
+	 * Must only be called while holding the write lock of the index,
+	 * so as not to delete temporary indexes that are still in use.
+	 *
+	 * @param indexDirectory The directory of the actual index.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	static void deleteLeftovers(Directory indexDirectory) throws IOException {
+		Directory unwrapped = FilterDirectory.unwrap( indexDirectory );
+		if ( !( unwrapped instanceof FSDirectory ) ) {
+			// Temporary indexes are in the default temporary directory: cleaning it up is left to the operating system
+			return;
+		}
+		Path indexPath = ( (FSDirectory) unwrapped ).getDirectory();
+		String prefix = rootPrefix( indexPath );
+		List<Path> leftovers = new ArrayList<>();
+		try ( DirectoryStream<Path> stream = Files.newDirectoryStream( indexPath.getParent(),
+				path -> path.getFileName().toString().startsWith( prefix ) ) ) {
+			for ( Path leftover : stream ) {
+				leftovers.add( leftover );
+			}
+		}
+		IOUtils.rm( leftovers.toArray( new Path[0] ) );
+	}
+
+	private static String rootPrefix(Path indexPath) {
+		return ROOT_PREFIX + indexPath.getFileName() + ROOT_INFIX;
+	}
+
+	private final Path root;
+	private final Directory[] directories;
+	private final IndexWriter[] writers;
+	private final AtomicInteger nextWriter = new AtomicInteger();
+
+	private ParallelBulkIndexWriters(Path root, int count) {
+		this.root = root;
+		this.directories = new Directory[count];
+		this.writers = new IndexWriter[count];
+	}
+
+	int count() {
+		return writers.length;
+	}
+
+	long addDocuments(Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
+		// Round-robin: any writer will do, as long as the load is balanced
+		IndexWriter writer = writers[Math.floorMod( nextWriter.getAndIncrement(), writers.length )];
+		return writer.addDocuments( docs );
+	}
+
+	void deleteDocuments(Term term) throws IOException {
+		for ( IndexWriter writer : writers ) {
+			writer.deleteDocuments( term );
+		}
+	}
+
+	void deleteDocuments(Query query) throws IOException {
+		for ( IndexWriter writer : writers ) {
+			writer.deleteDocuments( query );
+		}
+	}
+
+	long ramBytesUsed() {
+		long result = 0L;
+		for ( IndexWriter writer : writers ) {
+			result += writer.ramBytesUsed();
+		}
+		return result;
+	}
+
+	void flush() throws IOException {
+		for ( IndexWriter writer : writers ) {
+			writer.flush();
+		}
+	}
+
+	/**
+	 * Closes the temporary indexes and adds their segments to the given index.
+	 * <p>
+	 * Temporary indexes must still be {@link #discard() discarded} afterwards.
+	 *
+	 * @param target The writer of the actual index.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	void addTo(IndexWriter target) throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			// Closing commits changes
+			closer.pushAll( IndexWriter::close, writers );
+		}
+		target.addIndexes( directories );
+	}
+
+	/**
+	 * Closes and deletes the temporary indexes, dropping any change that was not added to the actual index.
+	 *
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	void discard() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.pushAll( IndexWriter::rollback, writers );
+			closer.pushAll( ParallelBulkIndexWriters::deleteAndClose, directories );
+			closer.push( Files::deleteIfExists, root );
+		}
+	}
+
+	private static void deleteAndClose(Directory directory) throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			for ( String file : directory.listAll() ) {
+				closer.push( directory::deleteFile, file );
+			}
+			if ( directory instanceof FSDirectory ) {
+				closer.push( Files::deleteIfExists, ( (FSDirectory) directory ).getDirectory() );
+			}
+			closer.push( Directory::close, directory );
+		}
+	}
+}
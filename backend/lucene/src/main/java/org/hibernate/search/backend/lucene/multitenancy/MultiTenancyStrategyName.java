@@ -22,7 +22,15 @@ public enum MultiTenancyStrategyName {
 	/**
 	 * The multi-tenancy information is stored in the index as a discriminator field.
 	 */
-	DISCRIMINATOR("discriminator");
+	DISCRIMINATOR("discriminator"),
+
+	/**
+	 * Each tenant gets its own index directory, created lazily the first time the tenant is used.
+	 * <p>
+	 * Queries only open the index of the current tenant,
+	 * and purging the documents of a tenant simply deletes all segments of its index.
+	 */
+	INDEX_PER_TENANT("index-per-tenant");
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.multitenancy.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.regex.Pattern;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.search.Query;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.reporting.EventContext;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A strategy storing the documents of each tenant in a dedicated shard,
+ * whose identifier is the tenant identifier.
+ * <p>
+ * Documents do not need a discriminator field, and queries do not need a filter:
+ * isolation is achieved by only ever targeting the shard of the current tenant.
+ */
+public class IndexPerTenantMultiTenancyStrategy implements MultiTenancyStrategy {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/*
+	 * Tenant identifiers are used as directory names:
+	 * restrict them to characters that are safe on all filesystems,
+	 * and prevent things like "..".
+	 */
+	private static final Pattern TENANT_ID_PATTERN = Pattern.compile( "[A-Za-z0-9_-][A-Za-z0-9_.-]*" );
+
+	@Override
+	public boolean isMultiTenancySupported() {
+		return true;
+	}
+
+	@Override
+	public boolean isIndexPerTenant() {
+		return true;
+	}
+
+	@Override
+	public void contributeToIndexedDocument(Document document, String tenantId) {
+		// No need to add anything to documents, each tenant has its own index
+	}
+
+	@Override
+	public Query filterOrNull(String tenantId) {
+		return null;
+	}
+
+	@Override
+	public void checkTenantId(String tenantId, EventContext backendContext) {
+		if ( tenantId == null ) {
+			throw log.multiTenancyEnabledButNoTenantIdProvided( backendContext );
+		}
+		if ( !TENANT_ID_PATTERN.matcher( tenantId ).matches() ) {
+			throw log.invalidTenantIdForIndexPerTenant( tenantId, backendContext );
+		}
+	}
+}
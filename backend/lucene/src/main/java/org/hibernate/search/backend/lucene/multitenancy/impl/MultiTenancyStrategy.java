@@ -22,6 +22,14 @@ public interface MultiTenancyStrategy {
 	 */
 	boolean isMultiTenancySupported();
 
+	/**
+	 * Indicates if the strategy stores each tenant in a dedicated shard,
+	 * whose identifier is the tenant identifier.
+	 *
+	 * @return {@code true} if each tenant has its own shard, {@code false} otherwise.
+	 */
+	boolean isIndexPerTenant();
+
 	/**
 	 * Contributes additional information to the indexed document.
 	 *
@@ -97,4 +97,9 @@ public void forceRefresh() {
 		indexAccessor.refresh();
 	}
 
+	// Note this may be called outside of a batch
+	public CompletableFuture<?> waitForRefresh() {
+		return indexAccessor.waitForRefresh();
+	}
+
 }
@@ -40,4 +40,11 @@ default <T> void submit(CompletableFuture<T> future, IndexingWork<T> work) {
 	 */
 	void forceRefreshInCurrentThread();
 
+	/**
+	 * Wait for the next refresh, without forcing it.
+	 *
+	 * @return A future that completes when changes applied so far are visible to searches.
+	 */
+	CompletableFuture<?> waitForRefresh();
+
 }
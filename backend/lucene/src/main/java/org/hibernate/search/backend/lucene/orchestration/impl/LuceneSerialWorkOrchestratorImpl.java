@@ -34,6 +34,12 @@
 					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COALESCE_WORKS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_COALESCE_WORKS )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_COALESCE_WORKS )
+					.build();
+
 	private final LuceneBatchedWorkProcessor processor;
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
@@ -66,11 +72,17 @@ public void forceRefreshInCurrentThread() {
 		processor.forceRefresh();
 	}
 
+	@Override
+	public CompletableFuture<?> waitForRefresh() {
+		return processor.waitForRefresh();
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // We aren't allowed to create generic arrays, so we have to use a raw type here.
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		boolean coalesceWorks = COALESCE_WORKS.get( propertySource );
 
 		executors = new BatchingExecutor[queueCount];
 		for ( int i = 0; i < executors.length; i++ ) {
@@ -79,6 +91,7 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 					processor,
 					queueSize,
 					true,
+					coalesceWorks,
 					failureHandler
 			);
 		}
@@ -94,8 +107,11 @@ protected void doSubmit(LuceneBatchedWork<?> work) throws InterruptedException {
 				.submit( work );
 	}
 
+	/**
+	 * @return A future that completes when all works submitted to this orchestrator so far are completely executed.
+	 */
 	@Override
-	protected CompletableFuture<?> completion() {
+	public CompletableFuture<?> completion() {
 		CompletableFuture<?>[] completions = new CompletableFuture[executors.length];
 		for ( int i = 0; i < executors.length; i++ ) {
 			completions[i] = executors[i].completion();
@@ -9,6 +9,7 @@
 import java.util.Collection;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.FieldValueRanges;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 
@@ -22,7 +23,7 @@
  */
 public interface LuceneSyncWorkOrchestrator {
 
-	<T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work);
+	<T> T submit(String tenantId, Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> routingKeys, FieldValueRanges fieldValueRanges, ReadWork<T> work);
 
 }
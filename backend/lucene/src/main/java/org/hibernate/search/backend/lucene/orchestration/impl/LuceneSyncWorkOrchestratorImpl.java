@@ -11,11 +11,15 @@
 import java.util.Collection;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.FieldValueRanges;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.PerIndexSlicingIndexSearcher;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 import org.hibernate.search.backend.lucene.work.impl.ReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
@@ -35,18 +39,20 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final Similarity similarity;
+	private final BackendThreads threads;
 
-	public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity) {
+	public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity, BackendThreads threads) {
 		super( name );
 		this.similarity = similarity;
+		this.threads = threads;
 		start( null ); // Nothing to start, just force the superclass to go to the right state.
 	}
 
 	@Override
-	public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work) {
+	public <T> T submit(String tenantId, Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> routingKeys, FieldValueRanges fieldValueRanges, ReadWork<T> work) {
 		WorkExecution<T> workExecution = new WorkExecution<>(
-				similarity, indexNames, indexManagerContexts, routingKeys, work
+				similarity, threads.getSearchExecutor(), tenantId, indexNames, indexManagerContexts, routingKeys, fieldValueRanges, work
 		);
 		Throwable throwable = null;
 		try {
@@ -94,24 +100,29 @@ protected void doStop() {
 
 	static class WorkExecution<T> implements AutoCloseable, ReadWorkExecutionContext {
 		private final Similarity similarity;
+		private final Executor searchExecutor;
 		private final Set<String> indexNames;
 		private final HibernateSearchMultiReader indexReader;
 		private final ReadWork<T> work;
 
 		private T result;
 
-		WorkExecution(Similarity similarity, Set<String> indexNames,
+		WorkExecution(Similarity similarity, Executor searchExecutor, String tenantId, Set<String> indexNames,
 				Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-				Set<String> routingKeys, ReadWork<T> work) {
+				Set<String> routingKeys, FieldValueRanges fieldValueRanges, ReadWork<T> work) {
 			this.similarity = similarity;
+			this.searchExecutor = searchExecutor;
 			this.indexNames = indexNames;
-			this.indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts, routingKeys );
+			this.indexReader = HibernateSearchMultiReader.open( tenantId, indexNames, indexManagerContexts,
+					routingKeys, fieldValueRanges );
 			this.work = work;
 		}
 
 		@Override
 		public IndexSearcher createSearcher() {
-			IndexSearcher searcher = new IndexSearcher( indexReader );
+			IndexSearcher searcher = searchExecutor == null
+					? new IndexSearcher( indexReader )
+					: new PerIndexSlicingIndexSearcher( indexReader, searchExecutor );
 			searcher.setSimilarity( similarity );
 			return searcher;
 		}
@@ -25,12 +25,21 @@ public class BackendThreads {
 					.asInteger()
 					.build();
 
+	private static final ConfigurationProperty<Integer> SEARCH_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_THREAD_POOL_SIZE )
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
+	private int threadPoolSize;
 
 	private ScheduledExecutorService timingExecutor;
 	private ScheduledExecutorService writeExecutor;
+	private ExecutorService searchExecutor;
+	private ExecutorService replicationExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -43,19 +52,30 @@ public void onStart(ConfigurationPropertySource propertySource, ThreadPoolProvid
 		}
 		this.threadPoolProvider = threadPoolProvider;
 
-		int threadPoolSize = THREAD_POOL_SIZE.get( propertySource )
+		this.threadPoolSize = THREAD_POOL_SIZE.get( propertySource )
 				.orElse( Runtime.getRuntime().availableProcessors() );
 		// We use a scheduled executor for write so that we perform all commits,
 		// scheduled or not, in the *same* thread pool.
 		this.writeExecutor = threadPoolProvider.newScheduledExecutor(
 				threadPoolSize, prefix + " - Worker thread"
 		);
+
+		int searchThreadPoolSize = SEARCH_THREAD_POOL_SIZE.get( propertySource );
+		if ( searchThreadPoolSize > 0 ) {
+			// Search threads only ever search one slice of an index reader and never wait for other tasks,
+			// so they don't need to be shared with write operations.
+			this.searchExecutor = threadPoolProvider.newFixedThreadPool(
+					searchThreadPoolSize, prefix + " - Search thread"
+			);
+		}
 	}
 
 	public void onStop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( ExecutorService::shutdownNow, writeExecutor );
 			closer.push( ExecutorService::shutdownNow, timingExecutor );
+			closer.push( ExecutorService::shutdownNow, searchExecutor );
+			closer.push( ExecutorService::shutdownNow, replicationExecutor );
 		}
 	}
 
@@ -87,6 +107,37 @@ public ScheduledExecutorService getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	/**
+	 * @return The executor to use to search multiple indexes or shards concurrently,
+	 * or {@code null} if they should be searched sequentially.
+	 */
+	public ExecutorService getSearchExecutor() {
+		checkStarted();
+		return searchExecutor;
+	}
+
+	/**
+	 * @return The executor to use to publish index commits to replicas.
+	 */
+	public ExecutorService getReplicationExecutor() {
+		checkStarted();
+		// Lazy initialization - not all configurations need this executor
+		ExecutorService executor = replicationExecutor;
+		if ( executor != null ) {
+			return executor;
+		}
+		synchronized (this) {
+			if ( replicationExecutor != null ) {
+				return replicationExecutor;
+			}
+			// Copying files to replicas may be slow: don't block write threads while doing so.
+			this.replicationExecutor = threadPoolProvider.newFixedThreadPool(
+					threadPoolSize, prefix + " - Replication thread"
+			);
+			return replicationExecutor;
+		}
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
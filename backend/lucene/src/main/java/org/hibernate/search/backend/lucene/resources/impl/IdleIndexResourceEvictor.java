@@ -0,0 +1,254 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.resources.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.common.timing.impl.TimingSource;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Closes index writers and readers that have not been used for some time,
+ * and caps the number of simultaneously open index writers,
+ * so that backends with many mostly-idle indexes do not keep resources (heap, file handles, merge threads)
+ * allocated for each of them.
+ * <p>
+ * Closed resources are re-opened transparently the next time they are needed.
+ */
+public final class IdleIndexResourceEvictor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final OptionalConfigurationProperty<Integer> IDLE_TIMEOUT =
+			ConfigurationProperty.forKey( LuceneBackendSettings.IO_IDLE_TIMEOUT )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> WRITER_MAX_OPEN =
+			ConfigurationProperty.forKey( LuceneBackendSettings.IO_WRITER_MAX_OPEN )
+					.asInteger()
+					.build();
+
+	/**
+	 * Writers used more recently than this are never closed to enforce the maximum number of open writers,
+	 * because a thread may have just retrieved them and be about to use them.
+	 */
+	private static final long RECENT_USE_GRACE_PERIOD = 1000L;
+
+	/**
+	 * @param propertySource The backend property source.
+	 * @param threads The backend threads.
+	 * @param timingSource The backend timing source.
+	 * @param failureHandler The failure handler.
+	 * @return An evictor, or an empty optional if neither an idle timeout nor a maximum number of open writers
+	 * was configured.
+	 */
+	public static Optional<IdleIndexResourceEvictor> create(ConfigurationPropertySource propertySource,
+			BackendThreads threads, TimingSource timingSource, FailureHandler failureHandler) {
+		int idleTimeout = IDLE_TIMEOUT.getAndMap( propertySource, timeout -> {
+			if ( timeout <= 0 ) {
+				throw log.invalidIdleTimeout( timeout );
+			}
+			return timeout;
+		} )
+				.orElse( 0 );
+		int writerMaxOpen = WRITER_MAX_OPEN.getAndMap( propertySource, max -> {
+			if ( max <= 0 ) {
+				throw log.invalidMaxOpenWriters( max );
+			}
+			return max;
+		} )
+				.orElse( 0 );
+		if ( idleTimeout == 0 && writerMaxOpen == 0 ) {
+			return Optional.empty();
+		}
+		return Optional.of( new IdleIndexResourceEvictor( idleTimeout, writerMaxOpen,
+				threads, timingSource, failureHandler ) );
+	}
+
+	private final int idleTimeout;
+	private final int writerMaxOpen;
+	private final BackendThreads threads;
+	private final TimingSource timingSource;
+	private final FailureHandler failureHandler;
+
+	private final Set<Resource> openWriters = ConcurrentHashMap.newKeySet();
+	private final Set<Resource> openReaders = ConcurrentHashMap.newKeySet();
+
+	// Guarded by synchronization on this
+	private ScheduledFuture<?> future;
+
+	private IdleIndexResourceEvictor(int idleTimeout, int writerMaxOpen,
+			BackendThreads threads, TimingSource timingSource, FailureHandler failureHandler) {
+		this.idleTimeout = idleTimeout;
+		this.writerMaxOpen = writerMaxOpen;
+		this.threads = threads;
+		this.timingSource = timingSource;
+		this.failureHandler = failureHandler;
+	}
+
+	public synchronized void start() {
+		if ( future != null ) {
+			return;
+		}
+		timingSource.ensureInitialized();
+		if ( idleTimeout != 0 ) {
+			int checkInterval = Math.max( 1, idleTimeout / 2 );
+			// Closing writers involves I/O (commits): use the write executor, not the timing executor.
+			future = threads.getWriteExecutor()
+					.scheduleWithFixedDelay( this::evictIdleSafely, checkInterval, checkInterval, TimeUnit.MILLISECONDS );
+		}
+	}
+
+	public synchronized void stop() {
+		if ( future != null ) {
+			future.cancel( false );
+			future = null;
+		}
+		openWriters.clear();
+		openReaders.clear();
+	}
+
+	/**
+	 * @return The current time, to be passed to {@link Resource#lastUseTime()}.
+	 */
+	public long currentTime() {
+		return timingSource.monotonicTimeEstimate();
+	}
+
+	/**
+	 * To be called after an index writer was opened.
+	 * <p>
+	 * If the maximum number of open writers is exceeded,
+	 * this will close the least recently used writers that are not currently in use.
+	 * Writers that were used very recently are kept open, so the maximum may be exceeded temporarily.
+	 *
+	 * @param writer The resource holding the writer.
+	 */
+	public void onWriterOpened(Resource writer) {
+		openWriters.add( writer );
+		if ( writerMaxOpen == 0 ) {
+			return;
+		}
+		int excess = openWriters.size() - writerMaxOpen;
+		if ( excess <= 0 ) {
+			return;
+		}
+		long unusedSince = currentTime() - RECENT_USE_GRACE_PERIOD;
+		List<Resource> candidates = new ArrayList<>( openWriters );
+		candidates.remove( writer );
+		candidates.sort( Comparator.comparingLong( Resource::lastUseTime ) );
+		for ( Resource candidate : candidates ) {
+			if ( excess <= 0 ) {
+				break;
+			}
+			if ( candidate.lastUseTime() > unusedSince ) {
+				// Sorted by last use time: all remaining candidates were used recently
+				break;
+			}
+			if ( closeSafely( candidate, unusedSince, "Closing of least recently used index writer" ) ) {
+				--excess;
+			}
+		}
+	}
+
+	public void onWriterClosed(Resource writer) {
+		openWriters.remove( writer );
+	}
+
+	public void onReaderOpened(Resource reader) {
+		openReaders.add( reader );
+	}
+
+	public void onReaderClosed(Resource reader) {
+		openReaders.remove( reader );
+	}
+
+	/**
+	 * Closes all writers and readers that were not used during the idle timeout.
+	 * <p>
+	 * Called periodically, but may also be called directly, e.g. in tests.
+	 */
+	public void evictIdle() {
+		long unusedSince = currentTime() - idleTimeout;
+		for ( Resource writer : openWriters ) {
+			if ( writer.lastUseTime() <= unusedSince ) {
+				closeSafely( writer, unusedSince, "Closing of idle index writer" );
+			}
+		}
+		for ( Resource reader : openReaders ) {
+			if ( reader.lastUseTime() <= unusedSince ) {
+				closeSafely( reader, unusedSince, "Closing of idle index reader" );
+			}
+		}
+	}
+
+	private void evictIdleSafely() {
+		try {
+			evictIdle();
+		}
+		catch (Throwable t) {
+			// Exceptions would cancel the periodic task: report them instead.
+			FailureContext.Builder failureContextBuilder = FailureContext.builder();
+			failureContextBuilder.throwable( t );
+			failureContextBuilder.failingOperation( "Closing of idle index writers and readers" );
+			failureHandler.handle( failureContextBuilder.build() );
+		}
+	}
+
+	private boolean closeSafely(Resource resource, long unusedSince, String operation) {
+		try {
+			return resource.closeIfUnusedSince( unusedSince );
+		}
+		catch (RuntimeException e) {
+			FailureContext.Builder failureContextBuilder = FailureContext.builder();
+			failureContextBuilder.throwable( e );
+			failureContextBuilder.failingOperation( operation );
+			failureHandler.handle( failureContextBuilder.build() );
+			return false;
+		}
+	}
+
+	/**
+	 * An index writer or reader holder that can be closed when idle,
+	 * and will be re-opened transparently on next use.
+	 */
+	public interface Resource {
+
+		/**
+		 * @return The {@link #currentTime() time} of the last use of this resource.
+		 */
+		long lastUseTime();
+
+		/**
+		 * Closes the resource if it is open, was not used since the given time, and is not currently being used.
+		 * <p>
+		 * Implementations should not wait if the resource is being opened or closed concurrently:
+		 * they should just return {@code false}.
+		 *
+		 * @param unusedSince A {@link #currentTime() time}.
+		 * @return {@code true} if the resource was closed, {@code false} otherwise.
+		 */
+		boolean closeIfUnusedSince(long unusedSince);
+
+	}
+}
@@ -6,17 +6,23 @@
  */
 package org.hibernate.search.backend.lucene.schema.management.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.IndexManagementWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public class LuceneIndexSchemaManager implements IndexSchemaManager {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final LuceneWorkFactory luceneWorkFactory;
 	private final SchemaManagementIndexManagerContext indexManagerContext;
 
@@ -60,6 +66,21 @@ public CompletableFuture<?> validate(ContextualFailureCollector failureCollector
 		return doSubmit( luceneWorkFactory.validateIndexExists() );
 	}
 
+	@Override
+	public CompletableFuture<?> beginReindexing() {
+		// Lucene indexes have no equivalent to aliases that we could switch atomically.
+		return Futures.create( () -> {
+			throw log.reindexingIntoNewIndexNotSupported();
+		} );
+	}
+
+	@Override
+	public CompletableFuture<?> completeReindexing() {
+		return Futures.create( () -> {
+			throw log.reindexingIntoNewIndexNotSupported();
+		} );
+	}
+
 	private CompletableFuture<?> doSubmit(IndexManagementWork<?> work) {
 		Collection<LuceneParallelWorkOrchestrator> orchestrators =
 				indexManagerContext.getAllManagementOrchestrators();
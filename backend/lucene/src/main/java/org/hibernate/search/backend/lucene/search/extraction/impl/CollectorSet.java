@@ -7,10 +7,12 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CacheableCollector;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
@@ -30,6 +32,32 @@ private CollectorSet(Collector composed, Map<CollectorKey<?>, Collector> compone
 		this.components = components;
 	}
 
+	/**
+	 * @param components Collectors obtained by merging the collectors of each slice of a concurrent search.
+	 * @return A collector set exposing the given collectors, which cannot be used to collect documents.
+	 */
+	static CollectorSet merged(Map<CollectorKey<?>, Collector> components) {
+		return new CollectorSet( null, components );
+	}
+
+	/**
+	 * @return A collector set exposing immutable copies of the collectors in this set,
+	 * which cannot be used to collect documents but can be shared between multiple executions of a query,
+	 * or {@code null} if one of the collectors cannot be copied.
+	 * @see CacheableCollector
+	 */
+	public CollectorSet immutableCopyOrNull() {
+		Map<CollectorKey<?>, Collector> copies = new LinkedHashMap<>();
+		for ( Map.Entry<CollectorKey<?>, Collector> entry : components.entrySet() ) {
+			Collector collector = entry.getValue();
+			if ( !( collector instanceof CacheableCollector ) ) {
+				return null;
+			}
+			copies.put( entry.getKey(), ( (CacheableCollector<?>) collector ).immutableCopy() );
+		}
+		return new CollectorSet( null, Collections.unmodifiableMap( copies ) );
+	}
+
 	public Collector getComposed() {
 		return composed;
 	}
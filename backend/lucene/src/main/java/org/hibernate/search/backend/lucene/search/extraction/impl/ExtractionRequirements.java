@@ -7,12 +7,17 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollapseCollector;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsCollector;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
@@ -34,76 +39,177 @@
 public final class ExtractionRequirements {
 
 	private final boolean requireScore;
+	private final String collapseField;
+	private final Long totalHitCountThreshold;
 	private final Set<CollectorFactory<?>> requiredCollectorForAllMatchingDocsFactories;
 	private final Set<CollectorFactory<?>> requiredCollectorForTopDocsFactories;
+	private final boolean requireAllStoredFields;
+	private final Set<String> requiredStoredFields;
+	private final Set<String> requiredNestedDocumentPathsForStoredFields;
 
 	private ExtractionRequirements(Builder builder) {
 		requireScore = builder.requireScore;
+		collapseField = builder.collapseField;
+		totalHitCountThreshold = builder.totalHitCountThreshold;
 		requiredCollectorForAllMatchingDocsFactories = builder.requiredCollectorForAllMatchingDocsFactories;
 		requiredCollectorForTopDocsFactories = builder.requiredCollectorForTopDocsFactories;
+		requireAllStoredFields = builder.requireAllStoredFields;
+		requiredStoredFields = builder.requiredStoredFields;
+		requiredNestedDocumentPathsForStoredFields = builder.requiredNestedDocumentPathsForStoredFields;
+	}
+
+	/*
+	 * Two requirements are equal if they lead to collecting the same data,
+	 * so that the collected data can be retrieved from the search result cache.
+	 * Collector factories are compared through their keys,
+	 * which are equal when the factories create collectors that collect the same data.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+			return false;
+		}
+		ExtractionRequirements other = (ExtractionRequirements) obj;
+		return requireScore == other.requireScore
+				&& Objects.equals( collapseField, other.collapseField )
+				&& Objects.equals( totalHitCountThreshold, other.totalHitCountThreshold )
+				&& collectorKeys( requiredCollectorForAllMatchingDocsFactories )
+						.equals( collectorKeys( other.requiredCollectorForAllMatchingDocsFactories ) )
+				&& collectorKeys( requiredCollectorForTopDocsFactories )
+						.equals( collectorKeys( other.requiredCollectorForTopDocsFactories ) )
+				&& requireAllStoredFields == other.requireAllStoredFields
+				&& requiredStoredFields.equals( other.requiredStoredFields )
+				&& requiredNestedDocumentPathsForStoredFields.equals( other.requiredNestedDocumentPathsForStoredFields );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( requireScore, collapseField, totalHitCountThreshold,
+				collectorKeys( requiredCollectorForTopDocsFactories ), requiredStoredFields );
 	}
 
 	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luceneQuery, Sort sort,
 			IndexReaderMetadataResolver metadataResolver, int maxDocs, TimeoutManager timeoutManager)
 			throws IOException {
-		TopDocsCollector<?> topDocsCollector;
 		Integer scoreSortFieldIndexForRescoring = null;
 		boolean requireFieldDocRescoring = false;
 
+		if ( maxDocs > 0 && sort != null && requireScore ) {
+			// Since https://issues.apache.org/jira/browse/LUCENE-8412 (Lucene 8.0.0),
+			// TopFieldCollector returns TopDocs whose ScoreDocs do not contain a score...
+			// Thus we will have to set the scores ourselves.
+			requireFieldDocRescoring = true;
+			// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
+			scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
+		}
+
 		CollectorExecutionContext executionContext =
 				new CollectorExecutionContext( metadataResolver, indexSearcher, luceneQuery, maxDocs );
 
-		CollectorSet.Builder collectorsForAllMatchingDocsBuilder =
-				new CollectorSet.Builder( executionContext, timeoutManager );
-
-		if ( maxDocs > 0 ) {
-			if ( sort == null ) {
-				topDocsCollector = TopScoreDocCollector.create(
-						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
-				);
-			}
-			else {
-				if ( requireScore ) {
-					// Since https://issues.apache.org/jira/browse/LUCENE-8412 (Lucene 8.0.0),
-					// TopFieldCollector returns TopDocs whose ScoreDocs do not contain a score...
-					// Thus we will have to set the scores ourselves.
-					requireFieldDocRescoring = true;
-					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
-					scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
+		// When the total hit count does not need to be exact, let the top docs collector count hits:
+		// it can skip non-competitive documents once the threshold is reached.
+		// Collapsing requires the top docs collector to run on group heads only, so we can't rely on it then.
+		boolean countHitsWithTopDocsCollector = totalHitCountThreshold != null && maxDocs > 0
+				&& collapseField == null;
+		int topDocsTotalHitsThreshold = countHitsWithTopDocsCollector
+				? (int) Math.min( totalHitCountThreshold, Integer.MAX_VALUE )
+				: maxDocs;
+
+		// When the searcher can search each index (or shard) concurrently,
+		// each slice needs its own collectors, whose results will be merged after the search.
+		// Empty readers have no slice at all, but we still need one set of collectors.
+		int sliceCount = indexSearcher.getExecutor() != null && canMergeSlices()
+				? Math.max( 1, indexSearcher.getSlices().length )
+				: 1;
+		List<CollectorSet> collectorsForAllMatchingDocsPerSlice = new ArrayList<>( sliceCount );
+		for ( int i = 0; i < sliceCount; i++ ) {
+			CollectorSet.Builder collectorsForAllMatchingDocsBuilder =
+					new CollectorSet.Builder( executionContext, timeoutManager );
+
+			if ( maxDocs > 0 ) {
+				if ( collapseField == null ) {
+					collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY,
+							createTopDocsCollector( sort, maxDocs, countHitsWithTopDocsCollector,
+									topDocsTotalHitsThreshold ) );
+				}
+				else {
+					// Top docs will be collected in a second pass, among the heads of each group only
+					collectorsForAllMatchingDocsBuilder.add( CollapseCollector.KEY,
+							new CollapseCollector( collapseField, sort ) );
 				}
-				topDocsCollector = TopFieldCollector.create(
-						sort,
-						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
-				);
 			}
-			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollector );
-		}
 
-		TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
-		collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, totalHitCountCollector );
+			if ( !countHitsWithTopDocsCollector ) {
+				TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
+				collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, totalHitCountCollector );
+			}
+
+			collectorsForAllMatchingDocsBuilder.addAll( requiredCollectorForAllMatchingDocsFactories );
+			collectorsForAllMatchingDocsPerSlice.add( collectorsForAllMatchingDocsBuilder.build() );
+		}
 
-		collectorsForAllMatchingDocsBuilder.addAll( requiredCollectorForAllMatchingDocsFactories );
-		CollectorSet collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
+		TopDocsCollector<?> topDocsCollectorForGroupHeads = null;
+		if ( maxDocs > 0 && collapseField != null ) {
+			topDocsCollectorForGroupHeads = createTopDocsCollector( sort, maxDocs, false, topDocsTotalHitsThreshold );
+		}
 
 		return new LuceneCollectors(
 				metadataResolver,
 				indexSearcher,
 				luceneQuery,
+				sort,
 				requireFieldDocRescoring, scoreSortFieldIndexForRescoring,
-				collectorsForAllMatchingDocs,
+				collectorsForAllMatchingDocsPerSlice,
+				topDocsCollectorForGroupHeads,
 				requiredCollectorForTopDocsFactories,
 				timeoutManager
 		);
 	}
 
+	private TopDocsCollector<?> createTopDocsCollector(Sort sort, int maxDocs,
+			boolean countHitsWithTopDocsCollector, int topDocsTotalHitsThreshold) {
+		if ( sort == null ) {
+			return TopScoreDocCollector.create(
+					maxDocs,
+					countHitsWithTopDocsCollector ? topDocsTotalHitsThreshold : Integer.MAX_VALUE
+			);
+		}
+		else {
+			return TopFieldCollector.create(
+					sort,
+					maxDocs,
+					// This collector can stop collecting a segment as soon as no other hit can be competitive,
+					// which happens when the segment is sorted in the same order as the query,
+					// provided it does not need to count more hits.
+					topDocsTotalHitsThreshold
+			);
+		}
+	}
+
+	private boolean canMergeSlices() {
+		if ( collapseField != null ) {
+			// Group heads must be selected among the documents of all slices
+			return false;
+		}
+		for ( CollectorFactory<?> factory : requiredCollectorForAllMatchingDocsFactories ) {
+			if ( !LuceneCollectors.canMergeSlices( factory.getCollectorKey() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static Set<CollectorKey<?>> collectorKeys(Set<CollectorFactory<?>> factories) {
+		Set<CollectorKey<?>> keys = new HashSet<>();
+		for ( CollectorFactory<?> factory : factories ) {
+			keys.add( factory.getCollectorKey() );
+		}
+		return keys;
+	}
+
 	private Integer getScoreSortFieldIndexOrNull(Sort sort) {
 		SortField[] sortFields = sort.getSort();
 		for ( int i = 0; i < sortFields.length; i++ ) {
@@ -118,6 +224,8 @@ private Integer getScoreSortFieldIndexOrNull(Sort sort) {
 	public static class Builder {
 
 		private boolean requireScore;
+		private String collapseField;
+		private Long totalHitCountThreshold;
 		private final Set<CollectorFactory<?>> requiredCollectorForAllMatchingDocsFactories = new LinkedHashSet<>();
 		private final Set<CollectorFactory<?>> requiredCollectorForTopDocsFactories = new LinkedHashSet<>();
 
@@ -129,6 +237,14 @@ public void requireScore() {
 			this.requireScore = true;
 		}
 
+		public void collapse(String absoluteFieldPath) {
+			this.collapseField = absoluteFieldPath;
+		}
+
+		public void totalHitCountThreshold(long totalHitCountThreshold) {
+			this.totalHitCountThreshold = totalHitCountThreshold;
+		}
+
 		public <C extends Collector> void requireCollectorForAllMatchingDocs(CollectorFactory<C> collectorFactory) {
 			requiredCollectorForAllMatchingDocsFactories.add( collectorFactory );
 		}
@@ -7,99 +7,136 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollapseCollector;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.FacetsCollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.ExplicitDocIdsQuery;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionPhase;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionReport;
 
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsCollectorManager;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TimeLimitingCollector;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopFieldDocs;
 import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.search.TotalHits;
 
 public class LuceneCollectors {
 
 	static final CollectorKey<TotalHitCountCollector> TOTAL_HIT_COUNT_KEY = CollectorKey.create();
 	static final CollectorKey<TopDocsCollector<?>> TOP_DOCS_KEY = CollectorKey.create();
 
+	private static final FacetsCollectorManager FACETS_COLLECTOR_MANAGER = new FacetsCollectorManager();
+
 	private final IndexReaderMetadataResolver metadataResolver;
 
 	private final IndexSearcher indexSearcher;
 	private final Query luceneQuery;
+	private final Sort sort;
 
 	private final boolean requireFieldDocRescoring;
 	private final Integer scoreSortFieldIndexForRescoring;
 
-	private final CollectorSet collectorsForAllMatchingDocs;
+	private final List<CollectorSet> collectorsForAllMatchingDocsPerSlice;
+	private CollectorSet collectorsForAllMatchingDocs;
+	private final TopDocsCollector<?> topDocsCollectorForGroupHeads;
 	private final Set<CollectorFactory<?>> collectorsForTopDocsFactories;
 	private CollectorSet collectorsForTopDocs;
 
 	private final TimeoutManager timeoutManager;
 
 	private long totalHitCount = 0;
+	private boolean totalHitCountExact = true;
 	private TopDocs topDocs = null;
 
 	LuceneCollectors(IndexReaderMetadataResolver metadataResolver, IndexSearcher indexSearcher, Query luceneQuery,
+			Sort sort,
 			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
-			CollectorSet collectorsForAllMatchingDocs,
+			List<CollectorSet> collectorsForAllMatchingDocsPerSlice,
+			TopDocsCollector<?> topDocsCollectorForGroupHeads,
 			Set<CollectorFactory<?>> collectorsForTopDocsFactories,
 			TimeoutManager timeoutManager) {
 		this.metadataResolver = metadataResolver;
 		this.indexSearcher = indexSearcher;
 		this.luceneQuery = luceneQuery;
+		this.sort = sort;
 		this.requireFieldDocRescoring = requireFieldDocRescoring;
 		this.scoreSortFieldIndexForRescoring = scoreSortFieldIndexForRescoring;
-		this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocs;
+		this.collectorsForAllMatchingDocsPerSlice = collectorsForAllMatchingDocsPerSlice;
+		// Replaced with the merged collectors after a concurrent search
+		this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocsPerSlice.get( 0 );
+		this.topDocsCollectorForGroupHeads = topDocsCollectorForGroupHeads;
 		this.collectorsForTopDocsFactories = collectorsForTopDocsFactories;
 		this.timeoutManager = timeoutManager;
 	}
 
-	public void collect(int offset, Integer limit) throws IOException {
+	/**
+	 * @param key The key of a collector applied to all matching documents.
+	 * @return {@code true} if collectors with this key can be applied to each slice of a concurrent search
+	 * and their results merged afterwards, {@code false} otherwise.
+	 */
+	static boolean canMergeSlices(CollectorKey<?> key) {
+		return FacetsCollectorFactory.KEY.equals( key );
+	}
+
+	public void collect(int offset, Integer limit, SearchQueryExecutionReport.Builder reportBuilder)
+			throws IOException {
 		if ( timeoutManager.checkTimedOut() ) {
 			// in case of timeout before the query execution, skip the query
 			return;
 		}
 
 		// Phase 1: collect top docs and aggregations
-		try {
-			indexSearcher.search( luceneQuery, collectorsForAllMatchingDocs.getComposed() );
-		}
-		catch (TimeLimitingCollector.TimeExceededException e) {
-			timeoutManager.forceTimedOut();
+		long phaseStart = System.nanoTime();
+		if ( collectorsForAllMatchingDocsPerSlice.size() > 1 ) {
+			collectSlicesConcurrently( offset, limit );
 		}
-
-		this.totalHitCount = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY ).getTotalHits();
-
-		TopDocsCollector<?> topDocsCollector = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
-		if ( topDocsCollector == null ) {
-			return;
+		else {
+			collect( offset, limit );
 		}
-
-		extractTopDocs( topDocsCollector, offset, limit );
-		if ( requireFieldDocRescoring ) {
+		if ( topDocs != null && requireFieldDocRescoring ) {
 			handleRescoring( indexSearcher, luceneQuery );
 		}
+		reportBuilder.phaseDuration( SearchQueryExecutionPhase.MATCHING_DOCUMENTS_COLLECTION,
+				System.nanoTime() - phaseStart );
 
 		// Phase 2: apply collectors to top docs
-		if ( collectorsForTopDocsFactories.isEmpty() ) {
+		if ( topDocs == null || collectorsForTopDocsFactories.isEmpty() ) {
 			return;
 		}
+		phaseStart = System.nanoTime();
 		try {
 			applyCollectorsToTopDocs();
 		}
 		catch (TimeLimitingCollector.TimeExceededException e) {
 			timeoutManager.forceTimedOut();
 		}
+		reportBuilder.phaseDuration( SearchQueryExecutionPhase.TOP_DOCUMENTS_COLLECTION,
+				System.nanoTime() - phaseStart );
 	}
 
 	public CollectorSet getCollectorsForAllMatchingDocs() {
@@ -114,10 +151,136 @@ public long getTotalHitCount() {
 		return totalHitCount;
 	}
 
+	public boolean isTotalHitCountExact() {
+		return totalHitCountExact;
+	}
+
 	public TopDocs getTopDocs() {
 		return topDocs;
 	}
 
+	private void collect(int offset, Integer limit) throws IOException {
+		try {
+			indexSearcher.search( luceneQuery, collectorsForAllMatchingDocs.getComposed() );
+		}
+		catch (TimeLimitingCollector.TimeExceededException e) {
+			timeoutManager.forceTimedOut();
+		}
+
+		TopDocsCollector<?> topDocsCollector;
+		if ( topDocsCollectorForGroupHeads != null ) {
+			// Collapsing: collect top docs among the heads of each group only
+			topDocsCollector = topDocsCollectorForGroupHeads;
+			collectGroupHeadsTopDocs( topDocsCollector );
+		}
+		else {
+			topDocsCollector = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
+		}
+		if ( topDocsCollector != null ) {
+			extractTopDocs( topDocsCollector, offset, limit );
+		}
+
+		TotalHitCountCollector totalHitCountCollector = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY );
+		if ( totalHitCountCollector != null ) {
+			this.totalHitCount = totalHitCountCollector.getTotalHits();
+		}
+		else {
+			extractTotalHitCountFromTopDocs();
+		}
+	}
+
+	private void collectSlicesConcurrently(int offset, Integer limit) throws IOException {
+		// The searcher requests one collector per slice, in order, before searching slices concurrently
+		Iterator<CollectorSet> sliceCollectorSets = collectorsForAllMatchingDocsPerSlice.iterator();
+		try {
+			indexSearcher.search( luceneQuery, new CollectorManager<Collector, Void>() {
+				@Override
+				public Collector newCollector() {
+					return sliceCollectorSets.next().getComposed();
+				}
+
+				@Override
+				public Void reduce(Collection<Collector> collectors) {
+					// Results are merged below, even if the search timed out
+					return null;
+				}
+			} );
+		}
+		catch (RuntimeException e) {
+			// Slices are searched in other threads: the timeout exception is wrapped
+			if ( !isTimeExceeded( e ) ) {
+				throw e;
+			}
+			timeoutManager.forceTimedOut();
+		}
+
+		int sliceCount = collectorsForAllMatchingDocsPerSlice.size();
+		CollectorSet firstSliceCollectorSet = collectorsForAllMatchingDocsPerSlice.get( 0 );
+
+		if ( firstSliceCollectorSet.get( TOP_DOCS_KEY ) != null ) {
+			TopDocs[] sliceTopDocs = sort == null ? new TopDocs[sliceCount] : new TopFieldDocs[sliceCount];
+			int sliceHitCount = 0;
+			for ( int i = 0; i < sliceCount; i++ ) {
+				sliceTopDocs[i] = collectorsForAllMatchingDocsPerSlice.get( i ).get( TOP_DOCS_KEY ).topDocs();
+				sliceHitCount += sliceTopDocs[i].scoreDocs.length;
+			}
+			int topN = limit == null ? Math.max( 0, sliceHitCount - offset ) : limit;
+			// Ties are broken by slice, then by rank within the slice, i.e. by document ID as in a sequential search
+			if ( sort == null ) {
+				topDocs = TopDocs.merge( offset, topN, sliceTopDocs, true );
+			}
+			else {
+				topDocs = TopDocs.merge( sort, offset, topN, (TopFieldDocs[]) sliceTopDocs, true );
+			}
+		}
+
+		if ( firstSliceCollectorSet.get( TOTAL_HIT_COUNT_KEY ) != null ) {
+			for ( CollectorSet sliceCollectorSet : collectorsForAllMatchingDocsPerSlice ) {
+				this.totalHitCount += sliceCollectorSet.get( TOTAL_HIT_COUNT_KEY ).getTotalHits();
+			}
+		}
+		else {
+			extractTotalHitCountFromTopDocs();
+		}
+
+		// Other collectors are necessarily facets collectors: see canMergeSlices()
+		Map<CollectorKey<?>, Collector> mergedCollectors = new LinkedHashMap<>();
+		if ( firstSliceCollectorSet.get( FacetsCollectorFactory.KEY ) != null ) {
+			List<FacetsCollector> sliceFacetsCollectors = new ArrayList<>( sliceCount );
+			for ( CollectorSet sliceCollectorSet : collectorsForAllMatchingDocsPerSlice ) {
+				sliceFacetsCollectors.add( sliceCollectorSet.get( FacetsCollectorFactory.KEY ) );
+			}
+			mergedCollectors.put( FacetsCollectorFactory.KEY,
+					FACETS_COLLECTOR_MANAGER.reduce( sliceFacetsCollectors ) );
+		}
+		this.collectorsForAllMatchingDocs = CollectorSet.merged( mergedCollectors );
+	}
+
+	private void extractTotalHitCountFromTopDocs() {
+		// No exact count was requested: rely on the top docs collector, which may only provide a lower bound
+		this.totalHitCount = topDocs.totalHits.value;
+		this.totalHitCountExact = TotalHits.Relation.EQUAL_TO.equals( topDocs.totalHits.relation );
+	}
+
+	private static boolean isTimeExceeded(Throwable throwable) {
+		for ( Throwable cause = throwable; cause != null; cause = cause.getCause() ) {
+			if ( cause instanceof TimeLimitingCollector.TimeExceededException ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void collectGroupHeadsTopDocs(TopDocsCollector<?> topDocsCollector) throws IOException {
+		int[] groupHeadDocIds = collectorsForAllMatchingDocs.get( CollapseCollector.KEY ).groupHeadDocIds();
+		// Keep the original query so that scores are computed just like without collapsing
+		Query groupHeadsQuery = new BooleanQuery.Builder()
+				.add( luceneQuery, BooleanClause.Occur.MUST )
+				.add( new ExplicitDocIdsQuery( groupHeadDocIds ), BooleanClause.Occur.FILTER )
+				.build();
+		indexSearcher.search( groupHeadsQuery, topDocsCollector );
+	}
+
 	private void extractTopDocs(TopDocsCollector<?> topDocsCollector, int offset, Integer limit) {
 		if ( limit == null ) {
 			topDocs = topDocsCollector.topDocs( offset );
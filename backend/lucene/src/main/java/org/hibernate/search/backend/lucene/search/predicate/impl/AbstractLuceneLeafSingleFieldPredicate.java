@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -25,10 +27,13 @@ public abstract class AbstractLuceneLeafSingleFieldPredicate extends AbstractLuc
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final Query query;
+	private final List<Range<?>> fieldValueRanges;
 
 	protected AbstractLuceneLeafSingleFieldPredicate(AbstractBuilder<?> builder) {
 		super( builder );
 		query = builder.buildQuery();
+		fieldValueRanges = builder.fieldValueRange == null ? null
+				: Collections.singletonList( builder.fieldValueRange );
 	}
 
 	@Override
@@ -36,10 +41,21 @@ protected final Query doToQuery(PredicateRequestContext context) {
 		return query;
 	}
 
+	@Override
+	public List<Range<?>> fieldValueRanges(String absoluteFieldPath) {
+		return this.absoluteFieldPath.equals( absoluteFieldPath ) ? fieldValueRanges : null;
+	}
+
 	public abstract static class AbstractBuilder<F>
 			extends AbstractLuceneSingleFieldPredicate.AbstractBuilder {
 		protected final LuceneSearchValueFieldContext<F> field;
 
+		/**
+		 * The range of (converted, but not encoded) values that the field must have for a document to match,
+		 * if known.
+		 */
+		protected Range<F> fieldValueRange;
+
 		protected AbstractBuilder(LuceneSearchContext searchContext, LuceneSearchValueFieldContext<F> field) {
 			super( searchContext, field );
 			this.field = field;
@@ -70,6 +86,44 @@ protected <E> Range<E> convertAndEncode(LuceneStandardFieldCodec<F, E> codec, Ra
 			);
 		}
 
+		protected F convert(Object value, ValueConvert convert) {
+			DslConverter<?, ? extends F> toFieldValueConverter = field.type().dslConverter( convert );
+			try {
+				return toFieldValueConverter.convertUnknown( value,
+						searchContext.toDocumentFieldValueConvertContext() );
+			}
+			catch (RuntimeException e) {
+				throw log.cannotConvertDslParameter( e.getMessage(), e, field.eventContext() );
+			}
+		}
+
+		protected Range<F> convert(Range<?> range, ValueConvert convertLowerBound, ValueConvert convertUpperBound) {
+			return Range.between(
+					range.lowerBoundValue().isPresent() ? convert( range.lowerBoundValue().get(), convertLowerBound ) : null,
+					range.lowerBoundInclusion(),
+					range.upperBoundValue().isPresent() ? convert( range.upperBoundValue().get(), convertUpperBound ) : null,
+					range.upperBoundInclusion()
+			);
+		}
+
+		protected <E> E encode(LuceneStandardFieldCodec<F, E> codec, F value) {
+			try {
+				return codec.encode( value );
+			}
+			catch (RuntimeException e) {
+				throw log.cannotConvertDslParameter( e.getMessage(), e, field.eventContext() );
+			}
+		}
+
+		protected <E> Range<E> encode(LuceneStandardFieldCodec<F, E> codec, Range<F> range) {
+			return Range.between(
+					range.lowerBoundValue().isPresent() ? encode( codec, range.lowerBoundValue().get() ) : null,
+					range.lowerBoundInclusion(),
+					range.upperBoundValue().isPresent() ? encode( codec, range.upperBoundValue().get() ) : null,
+					range.upperBoundInclusion()
+			);
+		}
+
 		private <E> E convertAndEncode(LuceneStandardFieldCodec<F, E> codec, Optional<?> valueOptional,
 				ValueConvert convert) {
 			if ( !valueOptional.isPresent() ) {
@@ -6,10 +6,12 @@
  */
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.engine.search.predicate.spi.SearchPredicateBuilder;
+import org.hibernate.search.util.common.data.Range;
 
 import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.ConstantScoreQuery;
@@ -51,6 +53,11 @@ public Query toQuery(PredicateRequestContext context) {
 
 	protected abstract Query doToQuery(PredicateRequestContext context);
 
+	@Override
+	public List<Range<?>> fieldValueRanges(String absoluteFieldPath) {
+		return null;
+	}
+
 	public abstract static class AbstractBuilder implements SearchPredicateBuilder {
 		protected final LuceneSearchContext searchContext;
 
@@ -17,6 +17,7 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.predicate.spi.BooleanPredicateBuilder;
+import org.hibernate.search.util.common.data.Range;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.BooleanClause.Occur;
@@ -88,6 +89,49 @@ protected Query doToQuery(PredicateRequestContext context) {
 		return booleanQueryBuilder.build();
 	}
 
+	@Override
+	public List<Range<?>> fieldValueRanges(String absoluteFieldPath) {
+		// Any required clause constraining the field is enough
+		List<Range<?>> ranges = firstFieldValueRanges( absoluteFieldPath, mustClauses );
+		if ( ranges != null ) {
+			return ranges;
+		}
+		ranges = firstFieldValueRanges( absoluteFieldPath, filterClauses );
+		if ( ranges != null ) {
+			return ranges;
+		}
+		if ( shouldClauses == null || shouldClauses.isEmpty()
+				|| mustClauses != null && !mustClauses.isEmpty()
+				|| filterClauses != null && !filterClauses.isEmpty() ) {
+			return null;
+		}
+		// Without required clauses, at least one should clause must match:
+		// we can only rely on should clauses if they all constrain the field.
+		List<Range<?>> union = new ArrayList<>();
+		for ( LuceneSearchPredicate clause : shouldClauses ) {
+			List<Range<?>> clauseRanges = clause.fieldValueRanges( absoluteFieldPath );
+			if ( clauseRanges == null ) {
+				return null;
+			}
+			union.addAll( clauseRanges );
+		}
+		return union;
+	}
+
+	private static List<Range<?>> firstFieldValueRanges(String absoluteFieldPath,
+			List<LuceneSearchPredicate> clauses) {
+		if ( clauses == null ) {
+			return null;
+		}
+		for ( LuceneSearchPredicate clause : clauses ) {
+			List<Range<?>> ranges = clause.fieldValueRanges( absoluteFieldPath );
+			if ( ranges != null ) {
+				return ranges;
+			}
+		}
+		return null;
+	}
+
 	private void contributeQueries(PredicateRequestContext context, BooleanQuery.Builder booleanQueryBuilder,
 			List<LuceneSearchPredicate> clauses, Occur occur) {
 		if ( clauses == null ) {
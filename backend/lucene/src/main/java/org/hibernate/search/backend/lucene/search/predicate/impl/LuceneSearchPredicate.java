@@ -7,11 +7,13 @@
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.util.common.data.Range;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.Query;
@@ -26,6 +28,14 @@ public interface LuceneSearchPredicate extends SearchPredicate {
 
 	Query toQuery(PredicateRequestContext context);
 
+	/**
+	 * @param absoluteFieldPath The absolute path of a field.
+	 * @return Ranges of values of the given field, such that any document matching this predicate
+	 * has a value in at least one of these ranges,
+	 * or {@code null} if this predicate does not constrain values of this field.
+	 */
+	List<Range<?>> fieldValueRanges(String absoluteFieldPath);
+
 	static LuceneSearchPredicate from(LuceneSearchContext searchContext, SearchPredicate predicate) {
 		if ( !( predicate instanceof LuceneSearchPredicate ) ) {
 			throw log.cannotMixLuceneSearchQueryWithOtherPredicates( predicate );
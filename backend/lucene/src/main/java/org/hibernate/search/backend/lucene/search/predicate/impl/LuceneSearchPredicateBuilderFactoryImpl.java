@@ -43,6 +43,7 @@ public LuceneSearchPredicateBuilderFactoryImpl(LuceneSearchContext searchContext
 	public void contribute(LuceneSearchPredicateCollector collector, SearchPredicate predicate) {
 		LuceneSearchPredicate lucenePredicate = LuceneSearchPredicate.from( searchContext, predicate );
 		collector.collectPredicate( lucenePredicate.toQuery( PredicateRequestContext.root() ) );
+		collector.collectFieldValueRanges( lucenePredicate::fieldValueRanges );
 	}
 
 	@Override
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.FieldValueRanges;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 
 import org.apache.lucene.search.Query;
@@ -21,4 +22,6 @@
 public interface LuceneSearchPredicateCollector {
 
 	void collectPredicate(Query luceneQuery);
+
+	void collectFieldValueRanges(FieldValueRanges fieldValueRanges);
 }
@@ -6,9 +6,11 @@
  */
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.util.common.data.Range;
 
 import org.apache.lucene.search.Query;
 
@@ -37,4 +39,10 @@ public void checkNestableWithin(String expectedParentNestedPath) {
 	public Query toQuery(PredicateRequestContext context) {
 		return luceneQuery;
 	}
+
+	@Override
+	public List<Range<?>> fieldValueRanges(String absoluteFieldPath) {
+		// We can't inspect native queries.
+		return null;
+	}
 }
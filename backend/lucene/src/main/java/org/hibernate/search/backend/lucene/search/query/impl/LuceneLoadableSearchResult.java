@@ -18,6 +18,8 @@
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionPhase;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionReport;
 
 /**
  * A search result from the backend that offers a method to load data from the mapper.
@@ -35,26 +37,41 @@
 	private final LuceneSearchProjection<?, H> rootProjection;
 
 	private final long hitCount;
+	private final boolean hitCountExact;
 	private List<Object> extractedData;
 	private final Map<AggregationKey<?>, ?> extractedAggregations;
 	private Duration took;
 	private Boolean timedOut;
+	private final SearchQueryExecutionReport.Builder reportBuilder;
 
 	LuceneLoadableSearchResult(LuceneSearchQueryExtractContext extractContext,
 			LuceneSearchProjection<?, H> rootProjection,
-			long hitCount, List<Object> extractedData,
+			long hitCount, boolean hitCountExact, List<Object> extractedData,
 			Map<AggregationKey<?>, ?> extractedAggregations,
-			Duration took, boolean timedOut) {
+			Duration took, boolean timedOut,
+			SearchQueryExecutionReport.Builder reportBuilder) {
 		this.extractContext = extractContext;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
+		this.hitCountExact = hitCountExact;
 		this.extractedData = extractedData;
 		this.extractedAggregations = extractedAggregations;
 		this.took = took;
 		this.timedOut = timedOut;
+		this.reportBuilder = reportBuilder;
+	}
+
+	/**
+	 * @return The builder for the execution report of this query,
+	 * with the phases executed so far already recorded.
+	 */
+	SearchQueryExecutionReport.Builder reportBuilder() {
+		return reportBuilder;
 	}
 
 	LuceneSearchResult<H> loadBlocking() {
+		long phaseStart = System.nanoTime();
+
 		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
 
 		LoadingResult<?> loadingResult = extractContext.getProjectionHitMapper().loadBlocking();
@@ -88,6 +105,9 @@ LuceneSearchResult<H> loadBlocking() {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new LuceneSearchResultImpl<>( hitCount, loadedHits, extractedAggregations, took, timedOut, extractContext.getTopDocs() );
+		reportBuilder.phaseDuration( SearchQueryExecutionPhase.LOADING, System.nanoTime() - phaseStart );
+
+		return new LuceneSearchResultImpl<>( hitCount, hitCountExact, loadedHits, extractedAggregations,
+				took, timedOut, extractContext.getTopDocs() );
 	}
 }
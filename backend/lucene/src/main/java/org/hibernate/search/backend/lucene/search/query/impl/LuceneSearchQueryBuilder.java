@@ -18,6 +18,7 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.FieldValueRanges;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationRequestContext;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
@@ -25,9 +26,11 @@
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchQueryElementCollector;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchValueFieldContext;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionRequestContext;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
+import org.hibernate.search.backend.lucene.search.sort.impl.SortTypeKeys;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneFieldComparatorSource;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
@@ -36,6 +39,7 @@
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionListener;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.BooleanClause;
@@ -63,11 +67,17 @@
 	private List<LuceneFieldComparatorSource> nestedFieldSorts;
 
 	private Query luceneQuery;
+	private FieldValueRanges fieldValueRanges = FieldValueRanges.NONE;
 	private List<SortField> sortFields;
 	private Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private Long timeout;
 	private TimeUnit timeUnit;
 	private boolean exceptionOnTimeout;
+	private String collapseField;
+	private Long totalHitCountThreshold;
+
+	private final SearchQueryExecutionListener queryExecutionListener;
+	private final LuceneSearchResultCache resultCache;
 
 	public LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
@@ -75,7 +85,9 @@ public LuceneSearchQueryBuilder(
 			LuceneSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContextBuilder<?, ?, ?> loadingContextBuilder,
-			LuceneSearchProjection<?, H> rootProjection) {
+			LuceneSearchProjection<?, H> rootProjection,
+			SearchQueryExecutionListener queryExecutionListener,
+			LuceneSearchResultCache resultCache) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 
@@ -85,6 +97,8 @@ public LuceneSearchQueryBuilder(
 
 		this.loadingContextBuilder = loadingContextBuilder;
 		this.rootProjection = rootProjection;
+		this.queryExecutionListener = queryExecutionListener;
+		this.resultCache = resultCache;
 	}
 
 	@Override
@@ -113,11 +127,31 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		this.exceptionOnTimeout = true;
 	}
 
+	@Override
+	public void collapse(String absoluteFieldPath) {
+		LuceneSearchValueFieldContext<?> field = searchContext.indexes().field( absoluteFieldPath );
+		// Collapsing relies on doc values of the main documents, just like sorts
+		if ( field.nestedDocumentPath() != null || field.type().queryElementFactory( SortTypeKeys.FIELD ) == null ) {
+			throw log.cannotCollapseOnField( absoluteFieldPath, field.eventContext() );
+		}
+		this.collapseField = absoluteFieldPath;
+	}
+
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		this.totalHitCountThreshold = totalHitCountThreshold;
+	}
+
 	@Override
 	public void collectPredicate(Query luceneQuery) {
 		this.luceneQuery = luceneQuery;
 	}
 
+	@Override
+	public void collectFieldValueRanges(FieldValueRanges fieldValueRanges) {
+		this.fieldValueRanges = fieldValueRanges;
+	}
+
 	@Override
 	public void collectSortField(SortField sortField) {
 		if ( sortFields == null ) {
@@ -166,6 +200,8 @@ public <A> void collectAggregation(AggregationKey<A> key, LuceneSearchAggregatio
 	public LuceneSearchQuery<H> build() {
 		LoadingContext<?, ?> loadingContext = loadingContextBuilder.build();
 
+		long start = System.nanoTime();
+
 		BooleanQuery.Builder luceneQueryBuilder = new BooleanQuery.Builder();
 		luceneQueryBuilder.add( luceneQuery, Occur.MUST );
 		luceneQueryBuilder.add( Queries.mainDocumentQuery(), Occur.FILTER );
@@ -197,6 +233,12 @@ public LuceneSearchQuery<H> build() {
 		);
 
 		ExtractionRequirements.Builder extractionRequirementsBuilder = new ExtractionRequirements.Builder();
+		if ( collapseField != null ) {
+			extractionRequirementsBuilder.collapse( collapseField );
+		}
+		if ( totalHitCountThreshold != null ) {
+			extractionRequirementsBuilder.totalHitCountThreshold( totalHitCountThreshold );
+		}
 		SearchProjectionRequestContext projectionRequestContext =
 				new SearchProjectionRequestContext( extractionRequirementsBuilder );
 		rootProjection.request( projectionRequestContext );
@@ -216,7 +258,8 @@ public LuceneSearchQuery<H> build() {
 				rootProjection,
 				aggregations == null ? Collections.emptyMap() : aggregations,
 				extractionRequirements,
-				timeoutManager
+				timeoutManager,
+				resultCache
 		);
 
 		return new LuceneSearchQueryImpl<>(
@@ -225,10 +268,12 @@ public LuceneSearchQuery<H> build() {
 				sessionContext,
 				loadingContext,
 				routingKeys,
+				fieldValueRanges,
 				timeoutManager,
 				definitiveLuceneQuery,
 				luceneSort,
-				searcher
+				searcher,
+				queryExecutionListener, System.nanoTime() - start
 		);
 	}
 }
@@ -7,7 +7,7 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
-import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
+import org.hibernate.search.backend.lucene.search.extraction.impl.CollectorSet;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionTransformContext;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
@@ -29,17 +29,21 @@ class LuceneSearchQueryExtractContext {
 	private final FromDocumentFieldValueConvertContext convertContext;
 	private final IndexSearcher indexSearcher;
 	private final Query luceneQuery;
-	private final LuceneCollectors luceneCollectors;
+	private final TopDocs topDocs;
+	private final CollectorSet collectorsForTopDocs;
+	private final CollectorSet collectorsForAllMatchingDocs;
 
 	LuceneSearchQueryExtractContext(BackendSessionContext sessionContext,
 			ProjectionHitMapper<?, ?> projectionHitMapper,
 			IndexSearcher indexSearcher, Query luceneQuery,
-			LuceneCollectors luceneCollectors) {
+			TopDocs topDocs, CollectorSet collectorsForTopDocs, CollectorSet collectorsForAllMatchingDocs) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.convertContext = new FromDocumentFieldValueConvertContextImpl( sessionContext );
 		this.indexSearcher = indexSearcher;
 		this.luceneQuery = luceneQuery;
-		this.luceneCollectors = luceneCollectors;
+		this.topDocs = topDocs;
+		this.collectorsForTopDocs = collectorsForTopDocs;
+		this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocs;
 	}
 
 	ProjectionHitMapper<?, ?> getProjectionHitMapper() {
@@ -47,13 +51,13 @@ class LuceneSearchQueryExtractContext {
 	}
 
 	TopDocs getTopDocs() {
-		return luceneCollectors.getTopDocs();
+		return topDocs;
 	}
 
 	SearchProjectionExtractContext createProjectionExtractContext() {
 		return new SearchProjectionExtractContext(
 				indexSearcher, luceneQuery,
-				luceneCollectors.getCollectorsForTopDocs()
+				collectorsForTopDocs
 		);
 	}
 
@@ -65,7 +69,7 @@ AggregationExtractContext createAggregationExtractContext() {
 		return new AggregationExtractContext(
 				indexSearcher.getIndexReader(), luceneQuery,
 				convertContext,
-				luceneCollectors.getCollectorsForAllMatchingDocs()
+				collectorsForAllMatchingDocs
 		);
 	}
 }
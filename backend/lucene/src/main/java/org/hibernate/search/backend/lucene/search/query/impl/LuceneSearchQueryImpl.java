@@ -7,11 +7,13 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.FieldValueRanges;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchIndexContext;
@@ -27,6 +29,9 @@
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionListener;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionPhase;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionReport;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -47,9 +52,12 @@
 	private final BackendSessionContext sessionContext;
 	private final LoadingContext<?, ?> loadingContext;
 	private final Set<String> routingKeys;
+	private final FieldValueRanges fieldValueRanges;
 	private final Query luceneQuery;
 	private final Sort luceneSort;
 	private final LuceneSearcher<LuceneLoadableSearchResult<H>> searcher;
+	private final SearchQueryExecutionListener queryExecutionListener;
+	private final long queryBuildingNanos;
 
 	private TimeoutManager timeoutManager;
 
@@ -57,20 +65,24 @@
 			LuceneWorkFactory workFactory, LuceneSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContext<?, ?> loadingContext,
-			Set<String> routingKeys,
+			Set<String> routingKeys, FieldValueRanges fieldValueRanges,
 			TimeoutManager timeoutManager,
 			Query luceneQuery, Sort luceneSort,
-			LuceneSearcher<LuceneLoadableSearchResult<H>> searcher) {
+			LuceneSearcher<LuceneLoadableSearchResult<H>> searcher,
+			SearchQueryExecutionListener queryExecutionListener, long queryBuildingNanos) {
 		this.queryOrchestrator = queryOrchestrator;
 		this.workFactory = workFactory;
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
 		this.routingKeys = routingKeys;
+		this.fieldValueRanges = fieldValueRanges;
 		this.timeoutManager = timeoutManager;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
 		this.searcher = searcher;
+		this.queryExecutionListener = queryExecutionListener;
+		this.queryBuildingNanos = queryBuildingNanos;
 	}
 
 	@Override
@@ -92,9 +104,11 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public LuceneSearchResult<H> fetch(Integer offset, Integer limit) {
+		long start = System.nanoTime();
 		timeoutManager.start();
 		ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit );
-		LuceneSearchResult<H> result = doSubmit( work )
+		LuceneLoadableSearchResult<H> loadableResult = doSubmit( work );
+		LuceneSearchResult<H> result = loadableResult
 				/*
 				 * WARNING: the following call must run in the user thread.
 				 * If we introduce async processing, we will have to add a loadAsync method here,
@@ -104,15 +118,29 @@ public LuceneSearchResult<H> fetch(Integer offset, Integer limit) {
 				 */
 				.loadBlocking();
 		timeoutManager.stop();
+		if ( queryExecutionListener != null ) {
+			reportExecution( loadableResult.reportBuilder()
+					.totalHitCount( result.totalHitCount() )
+					.hitCount( result.hits().size() )
+					.timedOut( result.timedOut() ),
+					start );
+		}
 		return result;
 	}
 
 	@Override
 	public long fetchTotalHitCount() {
+		long start = System.nanoTime();
 		timeoutManager.start();
 		ReadWork<Integer> work = workFactory.count( searcher );
 		Integer result = doSubmit( work );
 		timeoutManager.stop();
+		if ( queryExecutionListener != null ) {
+			reportExecution( SearchQueryExecutionReport.builder()
+					.totalHitCount( result )
+					.timedOut( timeoutManager.isTimedOut() ),
+					start );
+		}
 		return result;
 	}
 
@@ -165,13 +193,23 @@ public Sort luceneSort() {
 
 	private <T> T doSubmit(ReadWork<T> work) {
 		return queryOrchestrator.submit(
+				sessionContext.tenantIdentifier(),
 				searchContext.indexes().indexNames(),
 				searchContext.indexes().elements(),
 				routingKeys,
+				fieldValueRanges,
 				work
 		);
 	}
 
+	private void reportExecution(SearchQueryExecutionReport.Builder reportBuilder, long start) {
+		reportBuilder.took( Duration.ofNanos( System.nanoTime() - start ) )
+				.phaseDuration( SearchQueryExecutionPhase.QUERY_BUILDING, queryBuildingNanos )
+				.indexNames( searchContext.indexes().indexNames() )
+				.queryString( queryString() );
+		queryExecutionListener.onExecution( reportBuilder.build() );
+	}
+
 	private Explanation doExplain(String typeName, String id) {
 		timeoutManager.start();
 		Query filter = searchContext.filterOrNull( sessionContext.tenantIdentifier() );
@@ -53,7 +53,23 @@ LuceneSearchQueryExtractContext createExtractContext(IndexSearcher indexSearcher
 				loadingContext.createProjectionHitMapper(),
 				indexSearcher,
 				luceneQuery,
-				luceneCollectors
+				luceneCollectors.getTopDocs(),
+				luceneCollectors.getCollectorsForTopDocs(),
+				luceneCollectors.getCollectorsForAllMatchingDocs()
+		);
+	}
+
+	LuceneSearchQueryExtractContext createExtractContext(IndexSearcher indexSearcher,
+			LuceneSearchResultCache.CachedResult cachedResult) {
+		// Aggregations are cached already extracted: no need for the collectors for all matching docs.
+		return new LuceneSearchQueryExtractContext(
+				sessionContext,
+				loadingContext.createProjectionHitMapper(),
+				indexSearcher,
+				luceneQuery,
+				cachedResult.topDocs,
+				cachedResult.collectorsForTopDocs,
+				null
 		);
 	}
 
@@ -0,0 +1,247 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.search.extraction.impl.CollectorSet;
+import org.hibernate.search.backend.lucene.search.extraction.impl.ExtractionRequirements;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.spi.SearchResultCache;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+
+/**
+ * Caches the data collected by search queries, so that identical queries do not search the index again.
+ * <p>
+ * Cached data includes the top docs, the total hit count, the data collected for top docs
+ * (document references, stored fields, ...) and extracted aggregations.
+ * Hits are still extracted and loaded for each execution, since that depends on the session.
+ * <p>
+ * Cached data refers to documents by their Lucene doc ID,
+ * so the key of each entry includes the exact index readers the query was executed against,
+ * and the entry is invalidated as soon as one of these readers is closed, i.e. after the index is refreshed.
+ * <p>
+ * The size of the cache is bounded by its number of entries, not by an estimate of their size in memory:
+ * the memory used by each entry grows with the limit of the query (top docs, stored fields, ...)
+ * and with the number of aggregation buckets.
+ */
+public final class LuceneSearchResultCache {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final ConfigurationProperty<Integer> MAX_ENTRIES =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_RESULT_CACHE_MAX_ENTRIES )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_RESULT_CACHE_MAX_ENTRIES )
+					.build();
+
+	/**
+	 * @param propertySource The backend property source.
+	 * @return A search result cache, or an empty optional if caching is disabled.
+	 */
+	public static Optional<LuceneSearchResultCache> create(ConfigurationPropertySource propertySource) {
+		int maxEntries = MAX_ENTRIES.getAndTransform( propertySource, max -> {
+			if ( max < 0 ) {
+				throw log.invalidSearchResultCacheMaxEntries( max );
+			}
+			return max;
+		} );
+		if ( maxEntries == 0 ) {
+			return Optional.empty();
+		}
+		return Optional.of( new LuceneSearchResultCache( maxEntries ) );
+	}
+
+	private final SearchResultCache<Key, CachedResult> delegate;
+	// Readers we already registered a listener on, to invalidate cache entries when they are closed
+	private final Set<IndexReader.CacheKey> watchedReaders = ConcurrentHashMap.newKeySet();
+
+	private LuceneSearchResultCache(int maxEntries) {
+		// No time-to-live: entries are invalidated when the index is refreshed.
+		this.delegate = new SearchResultCache<>( maxEntries, 0L, TimeUnit.MILLISECONDS );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + delegate + "]";
+	}
+
+	/**
+	 * @return The key for the given query executed against the given searcher,
+	 * or {@code null} if the results of this query cannot be cached.
+	 */
+	Key key(IndexSearcher indexSearcher, Query luceneQuery, Sort luceneSort, int offset, Integer limit,
+			ExtractionRequirements extractionRequirements,
+			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations) {
+		List<DirectoryReader> directoryReaders =
+				( (HibernateSearchMultiReader) indexSearcher.getIndexReader() ).getDirectoryReaders();
+		List<IndexReader.CacheHelper> readerCacheHelpers = new ArrayList<>( directoryReaders.size() );
+		for ( DirectoryReader directoryReader : directoryReaders ) {
+			IndexReader.CacheHelper cacheHelper = directoryReader.getReaderCacheHelper();
+			if ( cacheHelper == null ) {
+				// We would not be notified when this reader is closed.
+				return null;
+			}
+			readerCacheHelpers.add( cacheHelper );
+		}
+		return new Key( readerCacheHelpers, luceneQuery, luceneSort, offset, limit,
+				extractionRequirements, aggregations );
+	}
+
+	CachedResult get(Key key) {
+		return delegate.get( key );
+	}
+
+	void put(Key key, CachedResult result) {
+		for ( IndexReader.CacheHelper cacheHelper : key.readerCacheHelpers ) {
+			// The reader is still open: the query that produced the result holds a reference to it.
+			if ( watchedReaders.add( cacheHelper.getKey() ) ) {
+				cacheHelper.addClosedListener( this::onReaderClosed );
+			}
+		}
+		delegate.put( key, result );
+	}
+
+	private void onReaderClosed(IndexReader.CacheKey readerKey) {
+		watchedReaders.remove( readerKey );
+		delegate.invalidate( key -> key.readerKeys.contains( readerKey ) );
+	}
+
+	static final class Key {
+		private final List<IndexReader.CacheHelper> readerCacheHelpers;
+		private final List<IndexReader.CacheKey> readerKeys;
+		private final Query luceneQuery;
+		private final Sort luceneSort;
+		private final int offset;
+		private final Integer limit;
+		private final ExtractionRequirements extractionRequirements;
+		private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
+		private final int hashCode;
+
+		private Key(List<IndexReader.CacheHelper> readerCacheHelpers, Query luceneQuery, Sort luceneSort,
+				int offset, Integer limit, ExtractionRequirements extractionRequirements,
+				Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations) {
+			this.readerCacheHelpers = readerCacheHelpers;
+			this.readerKeys = new ArrayList<>( readerCacheHelpers.size() );
+			for ( IndexReader.CacheHelper cacheHelper : readerCacheHelpers ) {
+				readerKeys.add( cacheHelper.getKey() );
+			}
+			this.luceneQuery = luceneQuery;
+			this.luceneSort = luceneSort;
+			this.offset = offset;
+			this.limit = limit;
+			this.extractionRequirements = extractionRequirements;
+			this.aggregations = aggregations;
+			this.hashCode = Objects.hash( readerKeys, luceneQuery, luceneSort, offset, limit,
+					extractionRequirements, aggregations );
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return hashCode == other.hashCode
+					&& offset == other.offset
+					&& Objects.equals( limit, other.limit )
+					&& readerKeys.equals( other.readerKeys )
+					&& luceneQuery.equals( other.luceneQuery )
+					&& Objects.equals( luceneSort, other.luceneSort )
+					&& extractionRequirements.equals( other.extractionRequirements )
+					&& aggregations.equals( other.aggregations );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	/**
+	 * The data collected by a query, shared between all executions that hit the cache.
+	 * <p>
+	 * Everything that could be mutated by an execution or by the user
+	 * (data collected for top docs, aggregation results) is copied into immutable structures.
+	 */
+	static final class CachedResult {
+
+		/**
+		 * @return A result to cache, or {@code null} if the given data cannot be cached.
+		 */
+		static CachedResult createOrNull(TopDocs topDocs, long totalHitCount, boolean totalHitCountExact,
+				CollectorSet collectorsForTopDocs, Map<AggregationKey<?>, ?> extractedAggregations) {
+			CollectorSet collectorsForTopDocsCopy = null;
+			if ( collectorsForTopDocs != null ) {
+				collectorsForTopDocsCopy = collectorsForTopDocs.immutableCopyOrNull();
+				if ( collectorsForTopDocsCopy == null ) {
+					// Some collected data cannot be shared between executions
+					return null;
+				}
+			}
+			return new CachedResult( topDocs, totalHitCount, totalHitCountExact, collectorsForTopDocsCopy,
+					immutableCopy( extractedAggregations ) );
+		}
+
+		final TopDocs topDocs;
+		final long totalHitCount;
+		final boolean totalHitCountExact;
+		final CollectorSet collectorsForTopDocs;
+		final Map<AggregationKey<?>, ?> extractedAggregations;
+
+		private CachedResult(TopDocs topDocs, long totalHitCount, boolean totalHitCountExact,
+				CollectorSet collectorsForTopDocs, Map<AggregationKey<?>, ?> extractedAggregations) {
+			this.topDocs = topDocs;
+			this.totalHitCount = totalHitCount;
+			this.totalHitCountExact = totalHitCountExact;
+			this.collectorsForTopDocs = collectorsForTopDocs;
+			this.extractedAggregations = extractedAggregations;
+		}
+
+		private static Map<AggregationKey<?>, ?> immutableCopy(Map<AggregationKey<?>, ?> extractedAggregations) {
+			if ( extractedAggregations.isEmpty() ) {
+				return Collections.emptyMap();
+			}
+			Map<AggregationKey<?>, Object> copy = new LinkedHashMap<>();
+			for ( Map.Entry<AggregationKey<?>, ?> entry : extractedAggregations.entrySet() ) {
+				Object value = entry.getValue();
+				if ( value instanceof Map ) {
+					// Results of aggregations are maps, returned to users: preserve the order, prevent mutations
+					value = Collections.unmodifiableMap( new LinkedHashMap<>( (Map<?, ?>) value ) );
+				}
+				copy.put( entry.getKey(), value );
+			}
+			return Collections.unmodifiableMap( copy );
+		}
+	}
+}
@@ -21,9 +21,10 @@
 
 	private final TopDocs topDocs;
 
-	LuceneSearchResultImpl(long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
+	LuceneSearchResultImpl(long hitCount, boolean hitCountExact, List<H> hits,
+			Map<AggregationKey<?>, ?> aggregationResults,
 			Duration took, Boolean timedOut, TopDocs topDocs) {
-		super( hitCount, hits, aggregationResults, took, timedOut );
+		super( hitCount, hitCountExact, hits, aggregationResults, took, timedOut );
 		this.topDocs = topDocs;
 	}
 
@@ -28,6 +28,8 @@
 import org.hibernate.search.backend.lucene.work.impl.LuceneSearcher;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionPhase;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionReport;
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -48,6 +50,7 @@
 	private final LuceneSearchProjection<?, H> rootProjection;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private final ExtractionRequirements extractionRequirements;
+	private final LuceneSearchResultCache resultCache;
 
 	private TimeoutManager timeoutManager;
 
@@ -55,12 +58,14 @@
 			LuceneSearchProjection<?, H> rootProjection,
 			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations,
 			ExtractionRequirements extractionRequirements,
-			TimeoutManager timeoutManager) {
+			TimeoutManager timeoutManager,
+			LuceneSearchResultCache resultCache) {
 		this.requestContext = requestContext;
 		this.rootProjection = rootProjection;
 		this.aggregations = aggregations;
 		this.extractionRequirements = extractionRequirements;
 		this.timeoutManager = timeoutManager;
+		this.resultCache = resultCache;
 	}
 
 	@Override
@@ -79,26 +84,88 @@ public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
 			int offset, Integer limit) throws IOException {
 		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
 
+		SearchQueryExecutionReport.Builder reportBuilder = SearchQueryExecutionReport.builder();
+
+		LuceneSearchResultCache.Key cacheKey = null;
+		if ( resultCache != null ) {
+			cacheKey = resultCache.key( indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
+					offset, limit, extractionRequirements, aggregations );
+			LuceneSearchResultCache.CachedResult cachedResult = cacheKey == null ? null : resultCache.get( cacheKey );
+			if ( cachedResult != null ) {
+				return searchFromCache( indexSearcher, cachedResult, reportBuilder );
+			}
+		}
+
 		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, offset, limit );
 
-		luceneCollectors.collect( offset, limit );
+		luceneCollectors.collect( offset, limit, reportBuilder );
 
 		LuceneSearchQueryExtractContext extractContext = requestContext.createExtractContext(
 				indexSearcher, luceneCollectors
 		);
 
+		long phaseStart = System.nanoTime();
 		List<Object> extractedData = extractHits( extractContext );
+		reportBuilder.phaseDuration( SearchQueryExecutionPhase.HIT_EXTRACTION, System.nanoTime() - phaseStart );
+
+		Map<AggregationKey<?>, ?> extractedAggregations;
+		if ( aggregations.isEmpty() ) {
+			extractedAggregations = Collections.emptyMap();
+		}
+		else {
+			phaseStart = System.nanoTime();
+			extractedAggregations = extractAggregations( extractContext );
+			reportBuilder.phaseDuration( SearchQueryExecutionPhase.AGGREGATION_EXTRACTION,
+					System.nanoTime() - phaseStart );
+		}
 
-		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
-				Collections.emptyMap() : extractAggregations( extractContext );
+		if ( cacheKey != null && !timeoutManager.isTimedOut() ) {
+			// Only cache complete results
+			LuceneSearchResultCache.CachedResult cachedResult = LuceneSearchResultCache.CachedResult.createOrNull(
+					luceneCollectors.getTopDocs(),
+					luceneCollectors.getTotalHitCount(), luceneCollectors.isTotalHitCountExact(),
+					luceneCollectors.getCollectorsForTopDocs(),
+					extractedAggregations
+			);
+			if ( cachedResult != null ) {
+				resultCache.put( cacheKey, cachedResult );
+			}
+		}
 
 		return new LuceneLoadableSearchResult<>(
 				extractContext, rootProjection,
 				luceneCollectors.getTotalHitCount(),
+				luceneCollectors.isTotalHitCountExact(),
 				extractedData,
 				extractedAggregations,
 				timeoutManager.getTookTime(),
-				timeoutManager.isTimedOut()
+				timeoutManager.isTimedOut(),
+				reportBuilder
+		);
+	}
+
+	private LuceneLoadableSearchResult<H> searchFromCache(IndexSearcher indexSearcher,
+			LuceneSearchResultCache.CachedResult cachedResult, SearchQueryExecutionReport.Builder reportBuilder) {
+		reportBuilder.fromCache( true );
+
+		// Hits still need to be extracted, since extraction relies on the session (e.g. to load entities)
+		LuceneSearchQueryExtractContext extractContext = requestContext.createExtractContext(
+				indexSearcher, cachedResult
+		);
+
+		long phaseStart = System.nanoTime();
+		List<Object> extractedData = extractHits( extractContext );
+		reportBuilder.phaseDuration( SearchQueryExecutionPhase.HIT_EXTRACTION, System.nanoTime() - phaseStart );
+
+		return new LuceneLoadableSearchResult<>(
+				extractContext, rootProjection,
+				cachedResult.totalHitCount,
+				cachedResult.totalHitCountExact,
+				extractedData,
+				cachedResult.extractedAggregations,
+				timeoutManager.getTookTime(),
+				timeoutManager.isTimedOut(),
+				reportBuilder
 		);
 	}
 
@@ -12,6 +12,7 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.FacetsCollectorFactory;
@@ -53,6 +54,24 @@
 		this.minDocCount = builder.minDocCount;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		AbstractLuceneFacetsBasedTermsAggregation<?, ?, ?> other = (AbstractLuceneFacetsBasedTermsAggregation<?, ?, ?>) obj;
+		// Converters are created once per field type, so comparing them by identity is enough
+		return fromFieldValueConverter == other.fromFieldValueConverter
+				&& order == other.order
+				&& maxTermCount == other.maxTermCount
+				&& minDocCount == other.minDocCount;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Objects.hash( order, maxTermCount, minDocCount );
+	}
+
 	@Override
 	public void request(AggregationRequestContext context) {
 		context.requireCollector( FacetsCollectorFactory.INSTANCE );
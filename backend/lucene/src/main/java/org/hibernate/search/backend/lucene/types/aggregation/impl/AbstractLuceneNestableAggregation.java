@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.types.aggregation.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Objects;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
@@ -34,6 +35,28 @@
 		this.nestedFilter = builder.nestedFilter;
 	}
 
+	/*
+	 * Aggregations are compared by value,
+	 * so that results of an identical aggregation can be retrieved from the search result cache.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+			return false;
+		}
+		AbstractLuceneNestableAggregation<?> other = (AbstractLuceneNestableAggregation<?>) obj;
+		return Objects.equals( nestedDocumentPath, other.nestedDocumentPath )
+				&& Objects.equals( nestedFilter, other.nestedFilter );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( getClass(), nestedDocumentPath, nestedFilter );
+	}
+
 	protected NestedDocsProvider createNestedDocsProvider(AggregationExtractContext context) {
 		NestedDocsProvider nestedDocsProvider = null;
 		if ( nestedDocumentPath != null ) {
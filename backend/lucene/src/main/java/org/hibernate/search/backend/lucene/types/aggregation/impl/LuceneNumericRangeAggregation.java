@@ -57,6 +57,22 @@ private LuceneNumericRangeAggregation(Builder<F, E, K> builder) {
 		this.encodedRangesInOrder = builder.encodedRangesInOrder;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneNumericRangeAggregation<?, ?, ?> other = (LuceneNumericRangeAggregation<?, ?, ?>) obj;
+		return codec == other.codec
+				&& rangesInOrder.equals( other.rangesInOrder )
+				&& encodedRangesInOrder.equals( other.encodedRangesInOrder );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + rangesInOrder.hashCode();
+	}
+
 	@Override
 	public void request(AggregationRequestContext context) {
 		context.requireCollector( FacetsCollectorFactory.INSTANCE );
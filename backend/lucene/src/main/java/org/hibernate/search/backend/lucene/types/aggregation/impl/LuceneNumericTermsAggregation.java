@@ -49,6 +49,16 @@ private LuceneNumericTermsAggregation(Builder<F, E, K> builder) {
 		this.termComparator = numericDomain.createComparator();
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		return super.equals( obj ) && codec == ( (LuceneNumericTermsAggregation<?, ?, ?>) obj ).codec;
+	}
+
+	@Override
+	public int hashCode() {
+		return super.hashCode();
+	}
+
 	@Override
 	FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider, int limit) throws IOException {
@@ -29,6 +29,7 @@
 import org.apache.lucene.search.DoubleValues;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.util.NumericUtils;
 
 public class LuceneDoubleDomain implements LuceneNumericDomain<Double> {
@@ -122,6 +123,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Doubl
 		return new SortedNumericDocValuesField( absoluteFieldPath, NumericUtils.doubleToSortableLong( numericValue ) );
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.DOUBLE;
+	}
+
 	@Override
 	public FieldComparator.NumericComparator<Double> createFieldComparator(String fieldName, int numHits,
 			MultiValueMode multiValueMode, Double missingValue, NestedDocsProvider nestedDocsProvider) {
@@ -25,6 +25,7 @@
 import org.apache.lucene.search.DoubleValues;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesToSingleValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongMultiValueFacetCounts;
@@ -115,6 +116,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Integ
 		return new SortedNumericDocValuesField( absoluteFieldPath, numericValue.longValue() );
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.INT;
+	}
+
 	@Override
 	public FieldComparator.NumericComparator<Integer> createFieldComparator(String fieldName, int numHits,
 			MultiValueMode multiValueMode, Integer missingValue, NestedDocsProvider nestedDocsProvider) {
@@ -25,6 +25,7 @@
 import org.apache.lucene.search.DoubleValues;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesToSingleValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongMultiValueFacetCounts;
@@ -115,6 +116,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Long
 		return new SortedNumericDocValuesField( absoluteFieldPath, numericValue );
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.LONG;
+	}
+
 	@Override
 	public FieldComparator.NumericComparator<Long> createFieldComparator(String fieldName, int numHits,
 			MultiValueMode multiValueMode, Long missingValue, NestedDocsProvider nestedDocsProvider) {
@@ -18,6 +18,7 @@
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 
 public interface LuceneNumericDomain<E extends Number> {
@@ -49,6 +50,12 @@ Facets createRangeFacetCounts(String absoluteFieldPath,
 
 	IndexableField createSortedDocValuesField(String absoluteFieldPath, E numericValue);
 
+	/**
+	 * @return The type to use when sorting on doc values created by
+	 * {@link #createSortedDocValuesField(String, Number)} through Lucene's native sort fields.
+	 */
+	SortField.Type getSortFieldType();
+
 	FieldComparator.NumericComparator<E> createFieldComparator(String absoluteFieldPath, int numHits,
 			MultiValueMode multiValueMode, E missingValue, NestedDocsProvider nestedDocsProvider);
 }
@@ -17,6 +17,8 @@
 import org.hibernate.search.engine.search.common.ValueConvert;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.predicate.spi.MatchPredicateBuilder;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.common.data.RangeBoundInclusion;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.Query;
@@ -54,7 +56,10 @@ private Builder(AbstractLuceneNumericFieldCodec<F, E> codec, LuceneSearchContext
 
 		@Override
 		public void value(Object value, ValueConvert convert) {
-			this.value = convertAndEncode( codec, value, convert );
+			F converted = convert( value, convert );
+			this.fieldValueRange = Range.between( converted, RangeBoundInclusion.INCLUDED,
+					converted, RangeBoundInclusion.INCLUDED );
+			this.value = encode( codec, converted );
 		}
 
 		@Override
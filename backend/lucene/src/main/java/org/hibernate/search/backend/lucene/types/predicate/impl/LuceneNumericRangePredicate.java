@@ -54,7 +54,8 @@ public Builder<F, E> create(LuceneSearchContext searchContext, LuceneSearchValue
 
 		@Override
 		public void range(Range<?> range, ValueConvert convertLowerBound, ValueConvert convertUpperBound) {
-			this.range = convertAndEncode( codec, range, convertLowerBound, convertUpperBound );
+			this.fieldValueRange = convert( range, convertLowerBound, convertUpperBound );
+			this.range = encode( codec, fieldValueRange );
 		}
 
 		@Override
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
+import java.util.Objects;
+
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 
 import org.apache.lucene.search.FieldComparatorSource;
@@ -23,6 +25,29 @@ public LuceneFieldComparatorSource(String nestedDocumentPath, Query filter) {
 		this.filter = filter;
 	}
 
+	/*
+	 * Comparator sources are compared by value, so that sorts are equal if they sort on the same field the same way,
+	 * which allows to retrieve the results of identical queries from the search result cache.
+	 * The nested docs provider is derived from the query, so it is ignored.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+			return false;
+		}
+		LuceneFieldComparatorSource other = (LuceneFieldComparatorSource) obj;
+		return Objects.equals( nestedDocumentPath, other.nestedDocumentPath )
+				&& Objects.equals( filter, other.filter );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( getClass(), nestedDocumentPath, filter );
+	}
+
 	public String getNestedDocumentPath() {
 		return nestedDocumentPath;
 	}
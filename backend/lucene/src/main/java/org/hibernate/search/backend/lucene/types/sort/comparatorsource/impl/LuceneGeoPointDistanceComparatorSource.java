@@ -30,6 +30,20 @@ public LuceneGeoPointDistanceComparatorSource(String nestedDocumentPath, GeoPoin
 		this.mode = mode;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneGeoPointDistanceComparatorSource other = (LuceneGeoPointDistanceComparatorSource) obj;
+		return center.equals( other.center ) && mode == other.mode;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + center.hashCode();
+	}
+
 	@Override
 	public FieldComparator<?> newComparator(String fieldname, int numHits, int sortPos, boolean reversed) {
 		GeoPointDistanceMultiValuesToSingleValuesSource source = new GeoPointDistanceMultiValuesToSingleValuesSource(
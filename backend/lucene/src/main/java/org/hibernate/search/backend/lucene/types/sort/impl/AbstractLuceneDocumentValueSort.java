@@ -37,9 +37,16 @@ public abstract class AbstractLuceneDocumentValueSort extends AbstractLuceneReve
 
 	protected AbstractLuceneDocumentValueSort(AbstractBuilder builder) {
 		super( builder );
-		LuceneFieldComparatorSource fieldComparatorSource = builder.toFieldComparatorSource();
-		sortField = new SortField( builder.absoluteFieldPath, fieldComparatorSource, order == SortOrder.DESC );
-		nestedFieldSort = builder.nestedDocumentPath != null ? fieldComparatorSource : null;
+		SortField nativeSortField = builder.toNativeSortFieldOrNull();
+		if ( nativeSortField != null ) {
+			sortField = nativeSortField;
+			nestedFieldSort = null;
+		}
+		else {
+			LuceneFieldComparatorSource fieldComparatorSource = builder.toFieldComparatorSource();
+			sortField = new SortField( builder.absoluteFieldPath, fieldComparatorSource, order == SortOrder.DESC );
+			nestedFieldSort = builder.nestedDocumentPath != null ? fieldComparatorSource : null;
+		}
 	}
 
 	@Override
@@ -84,6 +91,15 @@ public void filter(SearchPredicate filter) {
 
 		protected abstract LuceneFieldComparatorSource toFieldComparatorSource();
 
+		/**
+		 * @return A native Lucene sort field equivalent to this sort,
+		 * allowing early termination in segments sorted the same way (see {@link IndexSortFields}),
+		 * or {@code null} to rely on {@link #toFieldComparatorSource()}.
+		 */
+		protected SortField toNativeSortFieldOrNull() {
+			return null;
+		}
+
 		protected final MultiValueMode getMultiValueMode() {
 			MultiValueMode multiValueMode;
 			if ( mode == null ) {
@@ -113,6 +129,11 @@ protected final MultiValueMode getMultiValueMode() {
 			return multiValueMode;
 		}
 
+		protected final boolean hasDefaultMultiValueMode() {
+			MultiValueMode defaultMultiValueMode = order == SortOrder.DESC ? MultiValueMode.MAX : MultiValueMode.MIN;
+			return defaultMultiValueMode == getMultiValueMode();
+		}
+
 		protected Query getNestedFilter() {
 			return nestedFilter;
 		}
@@ -0,0 +1,130 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.sort.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaValueFieldNode;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStringFieldCodec;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
+import org.hibernate.search.engine.backend.document.model.spi.IndexFieldFilter;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.search.SortedSetSelector;
+import org.apache.lucene.search.SortedSetSortField;
+
+/**
+ * Creates native Lucene sort fields for value fields,
+ * with the same semantics as a field sort with the default mode and missing value behavior.
+ * <p>
+ * The same sort fields are used to sort the index when writing
+ * and to sort search results whenever possible:
+ * Lucene only terminates collection early in sorted segments
+ * if the sort of the query is equal to (or a prefix of) the sort of the index.
+ */
+public final class IndexSortFields {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String ASC_SUFFIX = ":asc";
+	private static final String DESC_SUFFIX = ":desc";
+
+	private IndexSortFields() {
+	}
+
+	/**
+	 * @param model The index model.
+	 * @param fieldSortRepresentations A list of absolute field paths, each optionally followed by ':asc' or ':desc'.
+	 * @param eventContext The event context of the index.
+	 * @return The sort to apply to documents within each segment of the index,
+	 * or {@code null} if the list is empty.
+	 */
+	public static Sort createIndexSort(LuceneIndexModel model, List<String> fieldSortRepresentations,
+			EventContext eventContext) {
+		if ( fieldSortRepresentations.isEmpty() ) {
+			return null;
+		}
+		if ( model.mayContainNestedDocuments() ) {
+			throw log.cannotSortIndexWithNestedDocuments( eventContext );
+		}
+		SortField[] sortFields = new SortField[fieldSortRepresentations.size()];
+		for ( int i = 0; i < sortFields.length; i++ ) {
+			sortFields[i] = createIndexSortField( model, fieldSortRepresentations.get( i ), eventContext );
+		}
+		return new Sort( sortFields );
+	}
+
+	static SortField forNumericField(String absoluteFieldPath, LuceneNumericDomain<?> domain, boolean reverse) {
+		SortedNumericSortField sortField = new SortedNumericSortField( absoluteFieldPath, domain.getSortFieldType(),
+				reverse, reverse ? SortedNumericSelector.Type.MAX : SortedNumericSelector.Type.MIN );
+		// Missing values always come last, regardless of the order
+		sortField.setMissingValue( reverse ? domain.getMinValue() : domain.getMaxValue() );
+		return sortField;
+	}
+
+	static SortField forTextField(String absoluteFieldPath, boolean reverse) {
+		SortedSetSortField sortField = new SortedSetSortField( absoluteFieldPath,
+				reverse, reverse ? SortedSetSelector.Type.MAX : SortedSetSelector.Type.MIN );
+		// Missing values always come last, regardless of the order
+		sortField.setMissingValue( reverse ? SortField.STRING_FIRST : SortField.STRING_LAST );
+		return sortField;
+	}
+
+	private static SortField createIndexSortField(LuceneIndexModel model, String fieldSortRepresentation,
+			EventContext eventContext) {
+		String trimmed = fieldSortRepresentation.trim();
+		String lowerCase = trimmed.toLowerCase( Locale.ROOT );
+		String absoluteFieldPath;
+		boolean reverse;
+		if ( lowerCase.endsWith( DESC_SUFFIX ) ) {
+			absoluteFieldPath = trimmed.substring( 0, trimmed.length() - DESC_SUFFIX.length() );
+			reverse = true;
+		}
+		else if ( lowerCase.endsWith( ASC_SUFFIX ) ) {
+			absoluteFieldPath = trimmed.substring( 0, trimmed.length() - ASC_SUFFIX.length() );
+			reverse = false;
+		}
+		else {
+			absoluteFieldPath = trimmed;
+			reverse = false;
+		}
+		if ( absoluteFieldPath.isEmpty() || absoluteFieldPath.contains( ":" ) ) {
+			throw log.invalidIndexSort( fieldSortRepresentation );
+		}
+
+		LuceneIndexSchemaValueFieldNode<?> fieldNode =
+				model.getFieldNode( absoluteFieldPath, IndexFieldFilter.INCLUDED_ONLY );
+		if ( fieldNode == null || !fieldNode.type().sortable() ) {
+			throw log.cannotSortIndexOnField( absoluteFieldPath,
+					eventContext.append( EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) ) );
+		}
+		LuceneFieldCodec<?> codec = fieldNode.type().codec();
+		if ( codec instanceof AbstractLuceneNumericFieldCodec ) {
+			return forNumericField( absoluteFieldPath,
+					( (AbstractLuceneNumericFieldCodec<?, ?>) codec ).getDomain(), reverse );
+		}
+		else if ( codec instanceof LuceneStringFieldCodec ) {
+			return forTextField( absoluteFieldPath, reverse );
+		}
+		else {
+			throw log.cannotSortIndexOnField( absoluteFieldPath,
+					eventContext.append( EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) ) );
+		}
+	}
+}
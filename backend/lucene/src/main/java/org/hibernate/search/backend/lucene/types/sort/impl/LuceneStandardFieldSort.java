@@ -102,6 +102,11 @@ protected Object encodeMissingAs(F converted) {
 			return codec.encode( converted );
 		}
 
+		protected final boolean hasDefaultBehavior() {
+			return nestedDocumentPath == null && missingValue == SortMissingValue.MISSING_LAST
+					&& hasDefaultMultiValueMode();
+		}
+
 		protected final Object getEffectiveMissingValue() {
 			Object effectiveMissingValue;
 			if ( missingValue == SortMissingValue.MISSING_FIRST ) {
@@ -143,6 +148,14 @@ protected LuceneFieldComparatorSource toFieldComparatorSource() {
 			return new LuceneNumericFieldComparatorSource<>( nestedDocumentPath, codec.getDomain(),
 					(E) getEffectiveMissingValue(), getMultiValueMode(), getNestedFilter() );
 		}
+
+		@Override
+		protected SortField toNativeSortFieldOrNull() {
+			if ( !hasDefaultBehavior() ) {
+				return null;
+			}
+			return IndexSortFields.forNumericField( absoluteFieldPath, codec.getDomain(), order == SortOrder.DESC );
+		}
 	}
 
 	public static class TextFieldFactory<F>
@@ -189,6 +202,14 @@ protected LuceneFieldComparatorSource toFieldComparatorSource() {
 					getMultiValueMode(), getNestedFilter() );
 		}
 
+		@Override
+		protected SortField toNativeSortFieldOrNull() {
+			if ( !hasDefaultBehavior() ) {
+				return null;
+			}
+			return IndexSortFields.forTextField( absoluteFieldPath, order == SortOrder.DESC );
+		}
+
 		private BytesRef normalize(String value) {
 			if ( value == null ) {
 				return null;
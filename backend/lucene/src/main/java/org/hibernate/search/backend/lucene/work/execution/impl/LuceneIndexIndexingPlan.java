@@ -36,7 +36,12 @@
 	private final DocumentCommitStrategy commitStrategy;
 	private final DocumentRefreshStrategy refreshStrategy;
 
-	private final Map<LuceneSerialWorkOrchestrator, List<SingleDocumentIndexingWork>> worksByOrchestrator = new HashMap<>();
+	/*
+	 * Works are only routed to shards when the plan is executed,
+	 * so that they are routed according to the shards that exist at that time:
+	 * shards may be split between the moment works are added and the moment they are executed.
+	 */
+	private final List<PendingWork> works = new ArrayList<>();
 
 	public LuceneIndexIndexingPlan(LuceneWorkFactory factory,
 			WorkExecutionIndexManagerContext indexManagerContext,
@@ -100,6 +105,15 @@ public void process() {
 	@Override
 	public CompletableFuture<IndexIndexingPlanExecutionReport<R>> executeAndReport() {
 		try {
+			// Route the works to the appropriate shard
+			Map<LuceneSerialWorkOrchestrator, List<SingleDocumentIndexingWork>> worksByOrchestrator = new HashMap<>();
+			for ( PendingWork pendingWork : works ) {
+				LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.getIndexingOrchestrator( tenantId,
+						pendingWork.documentId, pendingWork.routingKey );
+				worksByOrchestrator.computeIfAbsent( orchestrator, ignored -> new ArrayList<>() )
+						.add( pendingWork.work );
+			}
+
 			List<CompletableFuture<IndexIndexingPlanExecutionReport<R>>> shardReportFutures = new ArrayList<>();
 			for ( Map.Entry<LuceneSerialWorkOrchestrator, List<SingleDocumentIndexingWork>> entry : worksByOrchestrator.entrySet() ) {
 				LuceneSerialWorkOrchestrator orchestrator = entry.getKey();
@@ -114,24 +128,28 @@ public CompletableFuture<IndexIndexingPlanExecutionReport<R>> executeAndReport()
 			return IndexIndexingPlanExecutionReport.allOf( shardReportFutures );
 		}
 		finally {
-			worksByOrchestrator.clear();
+			works.clear();
 		}
 	}
 
 	@Override
 	public void discard() {
-		worksByOrchestrator.clear();
+		works.clear();
 	}
 
 	private void collect(String documentId, String routingKey, SingleDocumentIndexingWork work) {
-		// Route the work to the appropriate shard
-		LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.getIndexingOrchestrator( documentId, routingKey );
+		works.add( new PendingWork( documentId, routingKey, work ) );
+	}
+
+	private static final class PendingWork {
+		private final String documentId;
+		private final String routingKey;
+		private final SingleDocumentIndexingWork work;
 
-		List<SingleDocumentIndexingWork> works = worksByOrchestrator.get( orchestrator );
-		if ( works == null ) {
-			works = new ArrayList<>();
-			worksByOrchestrator.put( orchestrator, works );
+		private PendingWork(String documentId, String routingKey, SingleDocumentIndexingWork work) {
+			this.documentId = documentId;
+			this.routingKey = routingKey;
+			this.work = work;
 		}
-		works.add( work );
 	}
 }
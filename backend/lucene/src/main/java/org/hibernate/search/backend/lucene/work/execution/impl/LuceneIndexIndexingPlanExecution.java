@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.SingleDocumentIndexingWork;
@@ -65,7 +66,8 @@ CompletableFuture<IndexIndexingPlanExecutionReport<R>> execute() {
 		CompletableFuture<IndexIndexingPlanExecutionReport<R>> reportFuture = CompletableFuture.allOf( futures )
 				// We don't care about the throwable, as it comes from a work and
 				// work failures are handled in onAllWorksFinished
-				.handle( (result, throwable) -> onAllWorksFinished() );
+				.handle( (result, throwable) -> onAllWorksFinished() )
+				.thenCompose( Function.identity() );
 
 		for ( int i = 0; i < works.size(); i++ ) {
 			CompletableFuture<Long> future = futures[i];
@@ -76,28 +78,39 @@ CompletableFuture<IndexIndexingPlanExecutionReport<R>> execute() {
 		return reportFuture;
 	}
 
-	private IndexIndexingPlanExecutionReport<R> onAllWorksFinished() {
-		Throwable commitOrRefreshThrowable = null;
+	private CompletableFuture<IndexIndexingPlanExecutionReport<R>> onAllWorksFinished() {
+		CompletableFuture<?> commitOrRefreshFuture;
 		try {
-			commitOrRefreshAsNecessary();
+			commitOrRefreshFuture = commitOrRefreshAsNecessary();
 		}
 		catch (RuntimeException e) {
-			commitOrRefreshThrowable = e;
+			commitOrRefreshFuture = new CompletableFuture<>();
+			commitOrRefreshFuture.completeExceptionally( e );
 		}
 
-		return buildReport( commitOrRefreshThrowable );
+		return commitOrRefreshFuture.handle( Futures.<Object, IndexIndexingPlanExecutionReport<R>>handler(
+				(result, commitOrRefreshThrowable) -> buildReport( commitOrRefreshThrowable )
+		) );
 	}
 
-	private void commitOrRefreshAsNecessary() {
+	private CompletableFuture<?> commitOrRefreshAsNecessary() {
 		if ( DocumentCommitStrategy.FORCE == commitStrategy ) {
 			// In case of failure, just propagate the exception.
 			// We'll skip the refresh, but that's okay: the underlying writers/readers are reset anyway.
 			orchestrator.forceCommitInCurrentThread();
 		}
 
-		if ( DocumentRefreshStrategy.FORCE == refreshStrategy ) {
-			orchestrator.forceRefreshInCurrentThread();
+		switch ( refreshStrategy ) {
+			case FORCE:
+				orchestrator.forceRefreshInCurrentThread();
+				break;
+			case WAIT_FOR:
+				// Don't block the current thread: the refresh is shared with other executions.
+				return orchestrator.waitForRefresh();
+			case NONE:
+				break;
 		}
+		return CompletableFuture.completedFuture( null );
 	}
 
 	private IndexIndexingPlanExecutionReport<R> buildReport(Throwable commitOrRefreshThrowable) {
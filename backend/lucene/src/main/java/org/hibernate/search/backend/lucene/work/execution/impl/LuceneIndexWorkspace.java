@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.work.execution.impl;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -32,13 +33,13 @@ public LuceneIndexWorkspace(LuceneWorkFactory factory,
 
 	@Override
 	public CompletableFuture<?> mergeSegments() {
-		return doSubmit( indexManagerContext.getAllManagementOrchestrators(), factory.mergeSegments(), false );
+		return doSubmit( tenantManagementOrchestrators(), factory.mergeSegments(), false );
 	}
 
 	@Override
 	public CompletableFuture<?> purge(Set<String> routingKeys) {
 		return doSubmit(
-				indexManagerContext.getManagementOrchestrators( routingKeys ),
+				indexManagerContext.getManagementOrchestrators( sessionContext.tenantIdentifier(), routingKeys ),
 				factory.deleteAll( sessionContext.tenantIdentifier(), routingKeys ),
 				true
 		);
@@ -46,12 +47,28 @@ public CompletableFuture<?> purge(Set<String> routingKeys) {
 
 	@Override
 	public CompletableFuture<?> flush() {
-		return doSubmit( indexManagerContext.getAllManagementOrchestrators(), factory.flush(), false );
+		return doSubmit( tenantManagementOrchestrators(), factory.flush(), false );
 	}
 
 	@Override
 	public CompletableFuture<?> refresh() {
-		return doSubmit( indexManagerContext.getAllManagementOrchestrators(), factory.refresh(), false );
+		return doSubmit( tenantManagementOrchestrators(), factory.refresh(), false );
+	}
+
+	@Override
+	public CompletableFuture<?> beginBulkLoading() {
+		return doSubmit( tenantManagementOrchestrators(), factory.beginBulkLoading(), false );
+	}
+
+	@Override
+	public CompletableFuture<?> endBulkLoading() {
+		return doSubmit( tenantManagementOrchestrators(), factory.endBulkLoading(), false );
+	}
+
+	private List<LuceneParallelWorkOrchestrator> tenantManagementOrchestrators() {
+		// With one index per tenant, only target the index of the current tenant
+		return indexManagerContext.getManagementOrchestrators( sessionContext.tenantIdentifier(),
+				Collections.emptySet() );
 	}
 
 	private <T> CompletableFuture<?> doSubmit(List<LuceneParallelWorkOrchestrator> orchestrators,
@@ -29,9 +29,7 @@ public interface WorkExecutionIndexManagerContext {
 
 	String getMappedTypeName();
 
-	LuceneSerialWorkOrchestrator getIndexingOrchestrator(String documentId, String routingKey);
+	LuceneSerialWorkOrchestrator getIndexingOrchestrator(String tenantId, String documentId, String routingKey);
 
-	List<LuceneParallelWorkOrchestrator> getManagementOrchestrators(Set<String> routingKeys);
-
-	List<LuceneParallelWorkOrchestrator> getAllManagementOrchestrators();
+	List<LuceneParallelWorkOrchestrator> getManagementOrchestrators(String tenantId, Set<String> routingKeys);
 }
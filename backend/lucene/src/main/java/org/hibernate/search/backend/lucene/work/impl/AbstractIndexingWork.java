@@ -19,4 +19,14 @@ public Object getInfo() {
 		// TODO extract immutable work relevant info. We need to think about it. See HSEARCH-3110.
 		return this;
 	}
+
+	@Override
+	public Object getCoalescingKey() {
+		return null;
+	}
+
+	@Override
+	public boolean isSupersedingPreviousWorks() {
+		return false;
+	}
 }
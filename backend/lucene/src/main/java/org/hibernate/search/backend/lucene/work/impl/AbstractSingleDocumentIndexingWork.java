@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.util.Arrays;
+
 public abstract class AbstractSingleDocumentIndexingWork extends AbstractIndexingWork<Long>
 		implements SingleDocumentIndexingWork {
 
@@ -49,4 +51,10 @@ public Object getEntityIdentifier() {
 	public String getQueuingKey() {
 		return documentIdentifier;
 	}
+
+	@Override
+	public Object getCoalescingKey() {
+		// The document identifier is not enough when using discriminator-based multi-tenancy.
+		return Arrays.asList( tenantId, documentIdentifier );
+	}
 }
@@ -32,6 +32,12 @@ public class DeleteEntryWork extends AbstractSingleDocumentIndexingWork {
 		this.filter = filter;
 	}
 
+	@Override
+	public boolean isSupersedingPreviousWorks() {
+		// Any previous version of the document will be deleted.
+		return true;
+	}
+
 	@Override
 	public Long execute(IndexingWorkExecutionContext context) {
 		try {
@@ -21,4 +21,19 @@
 	 */
 	String getQueuingKey();
 
+	/**
+	 * @return An object identifying the document affected by this work,
+	 * used to coalesce works pertaining to the same document within a batch,
+	 * or {@code null} if this work must never be coalesced.
+	 * @see org.hibernate.search.engine.backend.orchestration.spi.CoalescableBatchedWork#getCoalescingKey()
+	 */
+	Object getCoalescingKey();
+
+	/**
+	 * @return {@code true} if this work replaces the document affected by this work regardless of its previous state,
+	 * making any previous work on the same document irrelevant.
+	 * @see org.hibernate.search.engine.backend.orchestration.spi.CoalescableBatchedWork#isSupersedingPreviousWorks()
+	 */
+	boolean isSupersedingPreviousWorks();
+
 }
@@ -6,9 +6,11 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.Query;
@@ -28,6 +30,10 @@ public interface LuceneWorkFactory {
 
 	IndexManagementWork<?> mergeSegments();
 
+	IndexManagementWork<?> beginBulkLoading();
+
+	IndexManagementWork<?> endBulkLoading();
+
 	SingleDocumentIndexingWork add(String tenantId, String entityTypeName, Object entityIdentifier,
 			String documentIdentifier, LuceneIndexEntry indexEntry);
 
@@ -38,6 +44,21 @@ SingleDocumentIndexingWork update(String tenantId, String entityTypeName, Object
 
 	IndexManagementWork<?> deleteAll(String tenantId, Set<String> routingKeys);
 
+	/**
+	 * @param newShardCount The number of shards after the split.
+	 * @param targetAccessors The index accessors of the shards to copy documents to, by index in the new shard layout.
+	 * @return A work copying to each target shard the documents that the hash sharding strategy routes to that shard.
+	 */
+	IndexManagementWork<?> splitHashShard(int newShardCount, Map<Integer, IndexAccessor> targetAccessors);
+
+	/**
+	 * @param shardCount The number of shards.
+	 * @param shardIndex The index of the shard the work will be executed against.
+	 * @return A work deleting the documents that the hash sharding strategy routes to other shards,
+	 * and storing the number of shards in the commit user data.
+	 */
+	IndexManagementWork<?> purgeOtherHashShards(int shardCount, int shardIndex);
+
 	<R> ReadWork<R> search(LuceneSearcher<R> searcher, Integer offset, Integer limit);
 
 	ReadWork<Integer> count(LuceneSearcher<?> searcher);
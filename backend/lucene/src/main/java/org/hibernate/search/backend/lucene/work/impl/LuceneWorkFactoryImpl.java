@@ -8,10 +8,12 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 
@@ -57,6 +59,16 @@ public IndexManagementWork<?> mergeSegments() {
 		return new MergeSegmentsWork();
 	}
 
+	@Override
+	public IndexManagementWork<?> beginBulkLoading() {
+		return new BeginBulkLoadingWork();
+	}
+
+	@Override
+	public IndexManagementWork<?> endBulkLoading() {
+		return new EndBulkLoadingWork();
+	}
+
 	@Override
 	public SingleDocumentIndexingWork add(String tenantId, String entityTypeName, Object entityIdentifier,
 			String documentIdentifier, LuceneIndexEntry indexEntry) {
@@ -93,6 +105,16 @@ public IndexManagementWork<?> deleteAll(String tenantId, Set<String> routingKeys
 		return new DeleteEntriesByQueryWork( Queries.boolFilter( new MatchAllDocsQuery(), filters ) );
 	}
 
+	@Override
+	public IndexManagementWork<?> splitHashShard(int newShardCount, Map<Integer, IndexAccessor> targetAccessors) {
+		return new SplitHashShardWork( newShardCount, targetAccessors );
+	}
+
+	@Override
+	public IndexManagementWork<?> purgeOtherHashShards(int shardCount, int shardIndex) {
+		return new PurgeOtherHashShardsWork( shardCount, shardIndex );
+	}
+
 	@Override
 	public <R> ReadWork<R> search(LuceneSearcher<R> searcher, Integer offset, Integer limit) {
 		return new SearchWork<>( searcher, offset, limit );
@@ -0,0 +1,70 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.HashShardRoutingQuery;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.Query;
+
+/**
+ * Deletes the documents of a shard that the hash sharding strategy routes to other shards
+ * after increasing the number of shards,
+ * and stores the new number of shards in the commit user data.
+ *
+ * @see SplitHashShardWork
+ */
+public class PurgeOtherHashShardsWork implements IndexManagementWork<Long> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final int shardCount;
+	private final Query query;
+
+	PurgeOtherHashShardsWork(int shardCount, int shardIndex) {
+		this.shardCount = shardCount;
+		BitSet otherShardIndexes = new BitSet( shardCount );
+		otherShardIndexes.set( 0, shardCount );
+		otherShardIndexes.clear( shardIndex );
+		this.query = new HashShardRoutingQuery( shardCount, otherShardIndexes );
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "shardCount=" ).append( shardCount )
+				.append( ", query=" ).append( query )
+				.append( "]" );
+		return sb.toString();
+	}
+
+	@Override
+	public Long execute(IndexManagementWorkExecutionContext context) {
+		try {
+			IndexWriterDelegator indexWriterDelegator = context.getIndexAccessor().getIndexWriterDelegator();
+			long result = indexWriterDelegator.deleteDocuments( query );
+			indexWriterDelegator.putCommitUserData( SplitHashShardWork.SHARD_COUNT_COMMIT_USER_DATA_KEY,
+					String.valueOf( shardCount ) );
+			return result;
+		}
+		catch (IOException e) {
+			throw log.unableToDeleteAllEntriesFromIndex( query, context.getEventContext(), e );
+		}
+	}
+
+	@Override
+	public Object getInfo() {
+		return this;
+	}
+}
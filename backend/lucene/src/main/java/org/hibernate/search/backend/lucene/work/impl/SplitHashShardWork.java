@@ -0,0 +1,110 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.HashShardRoutingQuery;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.FilteredCodecReader;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.index.CodecReader;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SlowCodecReaderWrapper;
+
+/**
+ * Copies the documents of a shard that the hash sharding strategy
+ * would route to other shards after increasing the number of shards
+ * to these other shards, using {@link org.apache.lucene.index.IndexWriter#addIndexes(CodecReader...)}.
+ * <p>
+ * Documents are not removed from the source shard: see {@link LuceneWorkFactory#purgeOtherHashShards(int, int)}.
+ * <p>
+ * The new number of shards is stored in the commit user data of the target shards.
+ */
+public class SplitHashShardWork implements IndexManagementWork<Void> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * The key of the commit user data holding the number of shards after a split,
+	 * so that a mismatch with the configured number of shards can be detected on startup.
+	 */
+	public static final String SHARD_COUNT_COMMIT_USER_DATA_KEY = "hibernate_search.hash_sharding.number_of_shards";
+
+	private final int newShardCount;
+	private final Map<Integer, IndexAccessor> targetAccessors;
+
+	SplitHashShardWork(int newShardCount, Map<Integer, IndexAccessor> targetAccessors) {
+		this.newShardCount = newShardCount;
+		this.targetAccessors = targetAccessors;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "newShardCount=" ).append( newShardCount )
+				.append( ", targetShardIndexes=" ).append( targetAccessors.keySet() )
+				.append( "]" );
+		return sb.toString();
+	}
+
+	@Override
+	public Void execute(IndexManagementWorkExecutionContext context) {
+		IndexAccessor sourceAccessor = context.getIndexAccessor();
+		try {
+			// Make sure to copy the latest changes
+			sourceAccessor.refresh();
+			DirectoryReader reader = sourceAccessor.getIndexReader();
+			try {
+				List<LeafReaderContext> leaves = reader.leaves();
+				for ( Map.Entry<Integer, IndexAccessor> entry : targetAccessors.entrySet() ) {
+					BitSet targetShardIndexes = new BitSet();
+					targetShardIndexes.set( entry.getKey() );
+					HashShardRoutingQuery query = new HashShardRoutingQuery( newShardCount, targetShardIndexes );
+					CodecReader[] filteredReaders = new CodecReader[leaves.size()];
+					for ( int i = 0; i < filteredReaders.length; i++ ) {
+						filteredReaders[i] = FilteredCodecReader.filter( toCodecReader( leaves.get( i ).reader() ), query );
+					}
+					IndexAccessor targetAccessor = entry.getValue();
+					IndexWriterDelegator targetWriter = targetAccessor.getIndexWriterDelegator();
+					targetWriter.addIndexes( filteredReaders );
+					targetWriter.putCommitUserData( SHARD_COUNT_COMMIT_USER_DATA_KEY, String.valueOf( newShardCount ) );
+					targetAccessor.commit();
+				}
+			}
+			finally {
+				reader.decRef();
+			}
+		}
+		catch (IOException e) {
+			throw log.unableToSplitShard( e.getMessage(), context.getEventContext(), e );
+		}
+		return null;
+	}
+
+	@Override
+	public Object getInfo() {
+		return this;
+	}
+
+	private static CodecReader toCodecReader(LeafReader reader) throws IOException {
+		if ( reader instanceof CodecReader ) {
+			return (CodecReader) reader;
+		}
+		return SlowCodecReaderWrapper.wrap( reader );
+	}
+}
@@ -36,6 +36,12 @@ public class UpdateEntryWork extends AbstractSingleDocumentIndexingWork {
 		this.indexEntry = indexEntry;
 	}
 
+	@Override
+	public boolean isSupersedingPreviousWorks() {
+		// Any previous version of the document will be deleted.
+		return true;
+	}
+
 	@Override
 	public Long execute(IndexingWorkExecutionContext context) {
 		try {
@@ -39,7 +39,7 @@ public class IndexAccessorTest extends EasyMockSupport {
 	private DirectoryReader indexReaderMock = createStrictMock( DirectoryReader.class );
 
 	private IndexAccessorImpl accessor = new IndexAccessorImpl(
-			indexEventContext, directoryHolderMock,
+			indexEventContext, directoryHolderMock, null,
 			indexWriterProviderMock, indexReaderProviderMock
 	);
 
@@ -47,6 +47,7 @@ public class IndexAccessorTest extends EasyMockSupport {
 	public void start() throws IOException {
 		resetAll();
 		directoryHolderMock.start();
+		indexWriterProviderMock.deleteLeftoverBulkLoadingIndexes();
 		replayAll();
 		accessor.start();
 		verifyAll();
@@ -119,6 +119,10 @@ public void success() {
 		if ( DocumentRefreshStrategy.FORCE.equals( refreshStrategy ) ) {
 			orchestratorMock.forceRefreshInCurrentThread();
 		}
+		if ( DocumentRefreshStrategy.WAIT_FOR.equals( refreshStrategy ) ) {
+			EasyMock.<CompletableFuture<?>>expect( orchestratorMock.waitForRefresh() )
+					.andReturn( CompletableFuture.completedFuture( null ) );
+		}
 		replayAll();
 		work3FutureCapture.getValue().complete( work3Result );
 		verifyAll();
@@ -184,6 +188,10 @@ public void failure_work() {
 		if ( DocumentRefreshStrategy.FORCE.equals( refreshStrategy ) ) {
 			orchestratorMock.forceRefreshInCurrentThread();
 		}
+		if ( DocumentRefreshStrategy.WAIT_FOR.equals( refreshStrategy ) ) {
+			EasyMock.<CompletableFuture<?>>expect( orchestratorMock.waitForRefresh() )
+					.andReturn( CompletableFuture.completedFuture( null ) );
+		}
 		expectWorkGetInfo( 0 );
 		replayAll();
 		work3FutureCapture.getValue().complete( work3Result );
@@ -260,6 +268,10 @@ public void failure_multipleWorks() {
 		if ( DocumentRefreshStrategy.FORCE.equals( refreshStrategy ) ) {
 			orchestratorMock.forceRefreshInCurrentThread();
 		}
+		if ( DocumentRefreshStrategy.WAIT_FOR.equals( refreshStrategy ) ) {
+			EasyMock.<CompletableFuture<?>>expect( orchestratorMock.waitForRefresh() )
+					.andReturn( CompletableFuture.completedFuture( null ) );
+		}
 		expectWorkGetInfo( 0, 2 );
 		replayAll();
 		work4FutureCapture.getValue().complete( work4Result );
@@ -339,6 +351,10 @@ public void failure_multipleWorksAndCreateEntityReference() {
 		if ( DocumentRefreshStrategy.FORCE.equals( refreshStrategy ) ) {
 			orchestratorMock.forceRefreshInCurrentThread();
 		}
+		if ( DocumentRefreshStrategy.WAIT_FOR.equals( refreshStrategy ) ) {
+			EasyMock.<CompletableFuture<?>>expect( orchestratorMock.waitForRefresh() )
+					.andReturn( CompletableFuture.completedFuture( null ) );
+		}
 		expectFailingWorkGetInfo( 0, entityReferenceFactoryException );
 		expectWorkGetInfo( 2 );
 		replayAll();
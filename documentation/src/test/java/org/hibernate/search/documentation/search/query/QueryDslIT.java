@@ -343,6 +343,49 @@ public void failAfter() {
 		} );
 	}
 
+	@Test
+	public void collapse() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::collapse[]
+			SearchResult<Book> result = searchSession.search( Book.class ) // <1>
+					.where( f -> f.match()
+							.field( "title" )
+							.matching( "robot" ) )
+					.collapse( "title_sort" ) // <2>
+					.fetch( 20 ); // <3>
+
+			long totalHitCount = result.totalHitCount(); // <4>
+			List<Book> hits = result.hits(); // <5>
+			// end::collapse[]
+
+			assertThat( totalHitCount ).isEqualTo( 2 );
+			assertThat( hits ).extracting( Book::getId )
+					.containsExactlyInAnyOrder( BOOK1_ID, BOOK3_ID );
+		} );
+	}
+
+	@Test
+	public void totalHitCountThreshold() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::totalHitCountThreshold[]
+			SearchResult<Book> result = searchSession.search( Book.class ) // <1>
+					.where( f -> f.match()
+							.field( "title" )
+							.matching( "robot" ) )
+					.totalHitCountThreshold( 1000 ) // <2>
+					.fetch( 20 ); // <3>
+
+			long totalHitCount = result.totalHitCount(); // <4>
+			boolean totalHitCountExact = result.totalHitCountExact(); // <5>
+			// end::totalHitCountThreshold[]
+
+			assertThat( totalHitCount ).isEqualTo( 2 );
+			assertThat( totalHitCountExact ).isTrue();
+		} );
+	}
+
 	@Test
 	public void cacheLookupStrategy() {
 		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
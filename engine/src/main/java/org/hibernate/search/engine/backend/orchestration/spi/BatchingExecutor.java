@@ -8,7 +8,10 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
@@ -48,15 +51,18 @@
 	 * @param fair if {@code true} tasks are always submitted to the
 	 * processor in FIFO order, if {@code false} tasks submitted
 	 * when the internal queue is full may be submitted out of order.
+	 * @param coalesce if {@code true}, {@link CoalescableBatchedWork coalescable works}
+	 * superseded by a later work in the same batch will not be submitted to the processor;
+	 * if {@code false}, all works are always submitted to the processor.
 	 * @param failureHandler A failure handler to report failures of the background thread.
 	 */
 	public BatchingExecutor(String name,
-			P processor, int maxTasksPerBatch, boolean fair,
+			P processor, int maxTasksPerBatch, boolean fair, boolean coalesce,
 			FailureHandler failureHandler) {
 		this.name = name;
 		this.failureHandler = failureHandler;
 		this.workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
-		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch );
+		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch, coalesce );
 	}
 
 	@Override
@@ -141,14 +147,16 @@ public CompletableFuture<?> completion() {
 		private final BlockingQueue<BatchedWork<? super P>> workQueue;
 		private final int maxTasksPerBatch;
 		private final List<BatchedWork<? super P>> workBuffer;
+		private final Map<Object, CoalescableBatchedWork<?>> supersedingWorks;
 
 		private BatchWorker(String name, P processor, BlockingQueue<BatchedWork<? super P>> workQueue,
-				int maxTasksPerBatch) {
+				int maxTasksPerBatch, boolean coalesce) {
 			this.name = name;
 			this.processor = processor;
 			this.workQueue = workQueue;
 			this.maxTasksPerBatch = maxTasksPerBatch;
 			this.workBuffer = new ArrayList<>( maxTasksPerBatch );
+			this.supersedingWorks = coalesce ? new HashMap<>() : null;
 		}
 
 		@Override
@@ -162,9 +170,13 @@ public CompletableFuture<?> work() {
 			}
 
 			int workCount = workBuffer.size();
+			if ( supersedingWorks != null ) {
+				coalesce();
+			}
 			boolean debugEnabled = log.isDebugEnabled();
 			if ( debugEnabled ) {
-				log.debugf( "Processing %d works in executor '%s'", workCount, name );
+				log.debugf( "Processing %d works (%d after coalescing) in executor '%s'",
+						workCount, workBuffer.size(), name );
 			}
 
 			processor.beginBatch();
@@ -193,6 +205,40 @@ public CompletableFuture<?> work() {
 		public void complete() {
 			processor.complete();
 		}
+
+		/**
+		 * Removes from the buffer any work superseded by a later work of the same batch.
+		 * <p>
+		 * Works are inspected from last to first,
+		 * so that the superseding work is always the last superseding work for a given key.
+		 */
+		private void coalesce() {
+			try {
+				for ( int i = workBuffer.size() - 1; i >= 0; i-- ) {
+					BatchedWork<? super P> work = workBuffer.get( i );
+					if ( !( work instanceof CoalescableBatchedWork ) ) {
+						continue;
+					}
+					CoalescableBatchedWork<?> coalescableWork = (CoalescableBatchedWork<?>) work;
+					Object key = coalescableWork.getCoalescingKey();
+					if ( key == null ) {
+						continue;
+					}
+					CoalescableBatchedWork<?> supersedingWork = supersedingWorks.get( key );
+					if ( supersedingWork != null ) {
+						coalescableWork.markAsSupersededBy( supersedingWork );
+						workBuffer.set( i, null );
+					}
+					else if ( coalescableWork.isSupersedingPreviousWorks() ) {
+						supersedingWorks.put( key, coalescableWork );
+					}
+				}
+			}
+			finally {
+				supersedingWorks.clear();
+			}
+			workBuffer.removeIf( Objects::isNull );
+		}
 	}
 
 	private static final class BatchScheduler implements SingletonTask.Scheduler {
@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+/**
+ * A {@link BatchedWork} that may be coalesced with other works of the same batch
+ * when the {@link BatchingExecutor} is configured to do so.
+ * <p>
+ * Coalescing means that a work will not be submitted to the processor at all
+ * if a later work in the same batch, with the same {@link #getCoalescingKey() coalescing key},
+ * {@link #isSupersedingPreviousWorks() supersedes} it.
+ *
+ * @param <P> The type of processor this work can be submitted to.
+ *
+ * @see BatchingExecutor
+ */
+public interface CoalescableBatchedWork<P> extends BatchedWork<P> {
+
+	/**
+	 * @return A key identifying the data affected by this work (for example a document),
+	 * with a correct implementation of {@link Object#equals(Object)} and {@link Object#hashCode()},
+	 * or {@code null} if this work must never be coalesced.
+	 */
+	Object getCoalescingKey();
+
+	/**
+	 * @return {@code true} if the effects of this work on the data identified by its coalescing key
+	 * make the effects of any previous work with the same coalescing key irrelevant,
+	 * {@code false} otherwise.
+	 */
+	boolean isSupersedingPreviousWorks();
+
+	/**
+	 * Mark this work as superseded by another, later work with the same coalescing key.
+	 * <p>
+	 * This work will not be submitted to the processor,
+	 * so it should complete as soon as the given work completes.
+	 *
+	 * @param supersedingWork The work superseding this one. Always has the same coalescing key as this work,
+	 * and is always of the same concrete type as this work.
+	 */
+	void markAsSupersededBy(CoalescableBatchedWork<?> supersedingWork);
+
+}
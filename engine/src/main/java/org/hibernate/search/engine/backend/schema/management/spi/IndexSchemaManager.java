@@ -86,4 +86,28 @@ public interface IndexSchemaManager {
 	 */
 	CompletableFuture<?> validate(ContextualFailureCollector failureCollector);
 
+	/**
+	 * Creates a new, empty copy of the schema to reindex into,
+	 * and redirects write operations to that copy,
+	 * while read operations keep targeting the current schema and its data.
+	 * <p>
+	 * Reindexing must then be completed by calling {@link #completeReindexing()}.
+	 * <p>
+	 * Not all backends support this operation:
+	 * when it is not supported, the future will ultimately be completed with a {@link SearchException}.
+	 *
+	 * @return A future.
+	 */
+	CompletableFuture<?> beginReindexing();
+
+	/**
+	 * Redirects read operations to the copy of the schema created by {@link #beginReindexing()},
+	 * then drops the schema previously targeted by read operations and all its data.
+	 * <p>
+	 * If no reindexing is in progress, the future will ultimately be completed with a {@link SearchException}.
+	 *
+	 * @return A future.
+	 */
+	CompletableFuture<?> completeReindexing();
+
 }
@@ -6,11 +6,14 @@
  */
 package org.hibernate.search.engine.backend.spi;
 
+import java.util.Optional;
+
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionListener;
 
 /**
  * A build context for backends.
@@ -27,4 +30,9 @@ public interface BackendBuildContext {
 
 	FailureHandler failureHandler();
 
+	/**
+	 * @return The listener to notify of every search query execution, if any.
+	 */
+	Optional<SearchQueryExecutionListener> queryExecutionListener();
+
 }
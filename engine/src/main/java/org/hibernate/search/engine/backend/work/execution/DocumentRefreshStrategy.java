@@ -27,6 +27,16 @@ public enum DocumentRefreshStrategy {
 	 * force a refresh of the corresponding shard to make the updated document searchable immediately,
 	 * and wait for that refresh to finish.
 	 */
-	FORCE
+	FORCE,
+	/**
+	 * After a change to an indexed document,
+	 * wait for the next refresh of the corresponding shard to make the updated document searchable,
+	 * without forcing that refresh.
+	 * <p>
+	 * This provides the same guarantees as {@link #FORCE}, i.e. the updated document will be searchable
+	 * when the operation completes, but refreshes are shared between concurrent changes,
+	 * at the cost of a delay that depends on the refresh interval of the index.
+	 */
+	WAIT_FOR
 
 }
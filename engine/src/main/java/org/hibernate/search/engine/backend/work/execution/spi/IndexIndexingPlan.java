@@ -6,8 +6,10 @@
  */
 package org.hibernate.search.engine.backend.work.execution.spi;
 
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.util.common.impl.Throwables;
 
 /**
@@ -41,6 +43,25 @@
 	 */
 	void update(DocumentReferenceProvider documentReferenceProvider, DocumentContributor documentContributor);
 
+	/**
+	 * Update some fields of a document in the index, leaving other fields untouched.
+	 * <p>
+	 * Backends that do not support partial updates, or for which partial updates are disabled,
+	 * will simply {@link #update(DocumentReferenceProvider, DocumentContributor) update the whole document}
+	 * using {@code documentContributor}.
+	 *
+	 * @param documentReferenceProvider A source of information about the identity of the document to update.
+	 * @param updatedFields References to the updated fields, all located at the root of the document.
+	 * Fields for which {@code partialDocumentContributor} does not add any value must be cleared.
+	 * @param partialDocumentContributor A contributor adding values to the updated fields only.
+	 * @param documentContributor A contributor to the whole document, used when a partial update cannot be performed.
+	 */
+	default void updatePartially(DocumentReferenceProvider documentReferenceProvider,
+			Collection<? extends IndexFieldReference<?>> updatedFields,
+			DocumentContributor partialDocumentContributor, DocumentContributor documentContributor) {
+		update( documentReferenceProvider, documentContributor );
+	}
+
 	/**
 	 * Delete a document from the index.
 	 *
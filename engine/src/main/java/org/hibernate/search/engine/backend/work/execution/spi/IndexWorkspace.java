@@ -22,4 +22,23 @@ public interface IndexWorkspace {
 
 	CompletableFuture<?> refresh();
 
+	/**
+	 * Switches the index to a mode suited to loading a large number of documents,
+	 * e.g. by deferring commits and refreshes, until {@link #endBulkLoading()} is called.
+	 * <p>
+	 * Backends that do not need a specific mode for bulk loading may do nothing.
+	 *
+	 * @return A future that completes when the index is ready for bulk loading.
+	 */
+	CompletableFuture<?> beginBulkLoading();
+
+	/**
+	 * Restores the regular mode of the index after {@link #beginBulkLoading()}.
+	 * <p>
+	 * Must be called even if bulk loading failed.
+	 *
+	 * @return A future that completes when the regular mode of the index is restored.
+	 */
+	CompletableFuture<?> endBulkLoading();
+
 }
@@ -14,6 +14,7 @@
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurer;
 import org.hibernate.search.engine.environment.thread.impl.DefaultThreadProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionListener;
 
 /**
  * Configuration properties for the Hibernate Search engine that are considered SPI (and not API).
@@ -49,6 +50,16 @@ private EngineSpiSettings() {
 	 */
 	public static final String THREAD_PROVIDER = PREFIX + Radicals.THREAD_PROVIDER;
 
+	/**
+	 * The {@link SearchQueryExecutionListener} notified of every search query execution,
+	 * with per-phase timings.
+	 * <p>
+	 * Expects a reference to a bean of type {@link SearchQueryExecutionListener}.
+	 * <p>
+	 * Defaults to no value, meaning query executions are not reported.
+	 */
+	public static final String QUERY_EXECUTION_LISTENER = PREFIX + Radicals.QUERY_EXECUTION_LISTENER;
+
 	/**
 	 * Configuration property keys without the {@link #PREFIX prefix}.
 	 */
@@ -59,6 +70,7 @@ private Radicals() {
 
 		public static final String BEAN_CONFIGURERS = "bean_configurers";
 		public static final String THREAD_PROVIDER = "thread_provider";
+		public static final String QUERY_EXECUTION_LISTENER = "query_execution_listener";
 	}
 
 	/**
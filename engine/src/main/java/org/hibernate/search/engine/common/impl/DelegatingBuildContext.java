@@ -6,12 +6,15 @@
  */
 package org.hibernate.search.engine.common.impl;
 
+import java.util.Optional;
+
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionListener;
 
 class DelegatingBuildContext {
 
@@ -44,4 +47,8 @@ public ThreadPoolProvider threadPoolProvider() {
 	public FailureHandler failureHandler() {
 		return delegate.getFailureHandler();
 	}
+
+	public Optional<SearchQueryExecutionListener> queryExecutionListener() {
+		return Optional.ofNullable( delegate.getQueryExecutionListener() );
+	}
 }
@@ -13,6 +13,7 @@
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
 import org.hibernate.search.engine.reporting.spi.FailureCollector;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionListener;
 
 class RootBuildContext {
 
@@ -25,12 +26,14 @@ class RootBuildContext {
 	private final FailureCollector failureCollector;
 	private final ThreadPoolProvider threadPoolProvider;
 	private final FailureHandler failureHandler;
+	private final SearchQueryExecutionListener queryExecutionListener;
 
 	RootBuildContext(ConfigurationPropertySource propertySource,
 			ClassResolver classResolver, ResourceResolver resourceResolver,
 			BeanResolver beanResolver,
 			FailureCollector failureCollector,
-			ThreadPoolProvider threadPoolProvider, FailureHandler failureHandler) {
+			ThreadPoolProvider threadPoolProvider, FailureHandler failureHandler,
+			SearchQueryExecutionListener queryExecutionListener) {
 		this.propertySource = propertySource;
 		this.classResolver = classResolver;
 		this.resourceResolver = resourceResolver;
@@ -38,6 +41,7 @@ class RootBuildContext {
 		this.failureCollector = failureCollector;
 		this.threadPoolProvider = threadPoolProvider;
 		this.failureHandler = failureHandler;
+		this.queryExecutionListener = queryExecutionListener;
 	}
 
 	ConfigurationPropertySource getConfigurationPropertySource() {
@@ -67,4 +71,8 @@ ThreadPoolProvider getThreadPoolProvider() {
 	FailureHandler getFailureHandler() {
 		return failureHandler;
 	}
+
+	SearchQueryExecutionListener getQueryExecutionListener() {
+		return queryExecutionListener;
+	}
 }
@@ -25,6 +25,7 @@
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertyChecker;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.EngineSpiSettings;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.common.spi.SearchIntegrationBuilder;
@@ -60,6 +61,8 @@
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
+import org.hibernate.search.engine.search.query.impl.FailSafeSearchQueryExecutionListenerWrapper;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionListener;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 
 public class SearchIntegrationBuilderImpl implements SearchIntegrationBuilder {
@@ -76,6 +79,11 @@ public class SearchIntegrationBuilderImpl implements SearchIntegrationBuilder {
 					.withDefault( EngineSpiSettings.Defaults.THREAD_PROVIDER )
 					.build();
 
+	private static final OptionalConfigurationProperty<BeanReference<? extends SearchQueryExecutionListener>> QUERY_EXECUTION_LISTENER =
+			ConfigurationProperty.forKey( EngineSpiSettings.Radicals.QUERY_EXECUTION_LISTENER )
+					.asBeanReference( SearchQueryExecutionListener.class )
+					.build();
+
 	private final ConfigurationPropertyChecker propertyChecker;
 	private final ConfigurationPropertySource propertySource;
 	private final Map<MappingKey<?, ?>, MappingInitiator<?, ?>> mappingInitiators = new LinkedHashMap<>();
@@ -149,6 +157,7 @@ public <PBM extends MappingPartialBuildState> SearchIntegrationBuilder addMappin
 	public SearchIntegrationPartialBuildState prepareBuild() {
 		BeanHolder<? extends FailureHandler> failureHandlerHolder = null;
 		BeanHolder<? extends ThreadProvider> threadProviderHolder = null;
+		BeanHolder<? extends SearchQueryExecutionListener> queryExecutionListenerHolder = null;
 		IndexManagerBuildingStateHolder indexManagerBuildingStateHolder = null;
 		// Use a LinkedHashMap for deterministic iteration
 		List<MappingBuildingState<?, ?>> mappingBuildingStates = new ArrayList<>();
@@ -192,13 +201,27 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 					.withDependencyAutoClosing( failureHandlerHolder );
 			FailureHandler failureHandler = failureHandlerHolder.get();
 
+			Optional<BeanHolder<? extends SearchQueryExecutionListener>> queryExecutionListenerHolderOptional =
+					QUERY_EXECUTION_LISTENER.getAndMap( propertySource, beanResolver::resolve );
+			SearchQueryExecutionListener queryExecutionListener = null;
+			if ( queryExecutionListenerHolderOptional.isPresent() ) {
+				queryExecutionListenerHolder = queryExecutionListenerHolderOptional.get();
+				// Wrap the listener to prevent it from throwing exceptions
+				queryExecutionListenerHolder = BeanHolder.of(
+						new FailSafeSearchQueryExecutionListenerWrapper( queryExecutionListenerHolder.get() )
+				)
+						.withDependencyAutoClosing( queryExecutionListenerHolder );
+				queryExecutionListener = queryExecutionListenerHolder.get();
+			}
+
 			threadProviderHolder = THREAD_PROVIDER.getAndTransform( propertySource, beanResolver::resolve );
 			ThreadPoolProviderImpl threadPoolProvider = new ThreadPoolProviderImpl( threadProviderHolder );
 
 			RootBuildContext rootBuildContext = new RootBuildContext(
 					propertySource,
 					classResolver, resourceResolver, beanResolver,
-					failureCollector, threadPoolProvider, failureHandler
+					failureCollector, threadPoolProvider, failureHandler,
+					queryExecutionListener
 			);
 
 			indexManagerBuildingStateHolder = new IndexManagerBuildingStateHolder( beanResolver, propertySource, rootBuildContext );
@@ -262,6 +285,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			return new SearchIntegrationPartialBuildStateImpl(
 					beanProvider, beanResolver,
 					failureHandlerHolder,
+					queryExecutionListenerHolder,
 					threadPoolProvider,
 					partiallyBuiltMappings,
 					indexManagerBuildingStateHolder.getBackendNonStartedStates(),
@@ -299,6 +323,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			SuppressingCloser closer = new SuppressingCloser( rethrownException );
 			// Release the failure handler before aborting
 			closer.push( failureHandlerHolder );
+			closer.pushAll( BeanHolder::close, queryExecutionListenerHolder );
 			// Close the mappers and mappings created so far before aborting
 			closer.pushAll( MappingPartialBuildState::closeOnFailure, partiallyBuiltMappings.values() );
 			closer.pushAll( MappingBuildingState::closeOnFailure, mappingBuildingStates );
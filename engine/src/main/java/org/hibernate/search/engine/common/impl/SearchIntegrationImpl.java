@@ -23,6 +23,7 @@
 import org.hibernate.search.engine.mapper.mapping.spi.MappingImplementor;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.impl.EngineEventContextMessages;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionListener;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.engine.reporting.spi.RootFailureCollector;
 import org.hibernate.search.util.common.impl.Closer;
@@ -35,6 +36,7 @@ public class SearchIntegrationImpl implements SearchIntegration {
 
 	private final BeanProvider beanProvider;
 	private final BeanHolder<? extends FailureHandler> failureHandlerHolder;
+	private final BeanHolder<? extends SearchQueryExecutionListener> queryExecutionListenerHolder;
 	private final ThreadPoolProviderImpl threadPoolProvider;
 
 	private final Map<MappingKey<?, ?>, MappingImplementor<?>> mappings;
@@ -43,12 +45,14 @@ public class SearchIntegrationImpl implements SearchIntegration {
 
 	SearchIntegrationImpl(BeanProvider beanProvider,
 			BeanHolder<? extends FailureHandler> failureHandlerHolder,
+			BeanHolder<? extends SearchQueryExecutionListener> queryExecutionListenerHolder,
 			ThreadPoolProviderImpl threadPoolProvider,
 			Map<MappingKey<?, ?>, MappingImplementor<?>> mappings,
 			Map<String, BackendImplementor> backends,
 			Map<String, IndexManagerImplementor> indexManagers) {
 		this.beanProvider = beanProvider;
 		this.failureHandlerHolder = failureHandlerHolder;
+		this.queryExecutionListenerHolder = queryExecutionListenerHolder;
 		this.threadPoolProvider = threadPoolProvider;
 		this.mappings = mappings;
 		this.backends = backends;
@@ -94,6 +98,7 @@ public void close() {
 			closer.pushAll( BackendImplementor::stop, backends.values() );
 			closer.pushAll( ThreadPoolProviderImpl::close, threadPoolProvider );
 			closer.pushAll( BeanHolder::close, failureHandlerHolder );
+			closer.pushAll( BeanHolder::close, queryExecutionListenerHolder );
 			closer.pushAll( BeanProvider::close, beanProvider );
 		}
 		catch (RuntimeException e) {
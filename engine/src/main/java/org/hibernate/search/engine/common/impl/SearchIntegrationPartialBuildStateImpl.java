@@ -28,6 +28,7 @@
 import org.hibernate.search.engine.mapper.mapping.spi.MappingImplementor;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.impl.EngineEventContextMessages;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionListener;
 import org.hibernate.search.engine.reporting.spi.RootFailureCollector;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Closer;
@@ -38,6 +39,7 @@ class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartial
 	private final BeanProvider beanProvider;
 	private final BeanResolver beanResolver;
 	private final BeanHolder<? extends FailureHandler> failureHandlerHolder;
+	private final BeanHolder<? extends SearchQueryExecutionListener> queryExecutionListenerHolder;
 	private final ThreadPoolProviderImpl threadPoolProvider;
 
 	private final Map<MappingKey<?, ?>, MappingPartialBuildState> partiallyBuiltMappings;
@@ -55,6 +57,7 @@ class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartial
 	SearchIntegrationPartialBuildStateImpl(
 			BeanProvider beanProvider, BeanResolver beanResolver,
 			BeanHolder<? extends FailureHandler> failureHandlerHolder,
+			BeanHolder<? extends SearchQueryExecutionListener> queryExecutionListenerHolder,
 			ThreadPoolProviderImpl threadPoolProvider,
 			Map<MappingKey<?, ?>, MappingPartialBuildState> partiallyBuiltMappings,
 			Map<String, BackendNonStartedState> nonStartedBackends,
@@ -63,6 +66,7 @@ class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartial
 		this.beanProvider = beanProvider;
 		this.beanResolver = beanResolver;
 		this.failureHandlerHolder = failureHandlerHolder;
+		this.queryExecutionListenerHolder = queryExecutionListenerHolder;
 		this.threadPoolProvider = threadPoolProvider;
 		this.partiallyBuiltMappings = partiallyBuiltMappings;
 		this.nonStartedBackends = nonStartedBackends;
@@ -82,6 +86,7 @@ public void closeOnFailure() {
 			closer.pushAll( BackendImplementor::stop, startedBackends.values() );
 			closer.pushAll( ThreadPoolProviderImpl::close, threadPoolProvider );
 			closer.pushAll( BeanHolder::close, failureHandlerHolder );
+			closer.pushAll( BeanHolder::close, queryExecutionListenerHolder );
 			closer.pushAll( BeanProvider::close, beanProvider );
 		}
 	}
@@ -180,6 +185,7 @@ public SearchIntegration finalizeIntegration() {
 			return new SearchIntegrationImpl(
 					beanProvider,
 					failureHandlerHolder,
+					queryExecutionListenerHolder,
 					threadPoolProvider,
 					fullyBuiltStartedMappings,
 					startedBackends,
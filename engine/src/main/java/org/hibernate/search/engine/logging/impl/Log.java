@@ -360,4 +360,10 @@ SearchException invalidOutputTypeForField(@FormatWith(ClassFormatter.class) Clas
 					+ " For example, set 'hibernate.search.backend.indexing.queue_size'"
 					+ " instead of 'hibernate.search.backend.index_defaults.indexing.queue_size'.")
 	void deprecatedIndexDefaultsPrefix(String key);
+
+	@LogMessage(level = Logger.Level.ERROR)
+	@Message(id = ID_OFFSET_2 + 86,
+			value = "The query execution listener threw an exception while handling the report of a query execution."
+					+ " The query execution may not have been reported.")
+	void failureInQueryExecutionListener(@Cause Throwable t);
 }
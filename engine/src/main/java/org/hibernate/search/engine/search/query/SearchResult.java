@@ -21,6 +21,14 @@
 	 */
 	long totalHitCount();
 
+	/**
+	 * @return {@code true} if {@link #totalHitCount()} is the exact number of matching entities,
+	 * {@code false} if it is only a lower bound,
+	 * which may happen when a {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#totalHitCountThreshold(long)
+	 * total hit count threshold} was set.
+	 */
+	boolean totalHitCountExact();
+
 	/**
 	 * @return The total number of matching entities, ignoring pagination settings.
 	 * @deprecated Use {@link #totalHitCount()} instead.
@@ -92,6 +92,41 @@
 	 */
 	S failAfter(long timeout, TimeUnit timeUnit);
 
+	/**
+	 * Collapse hits that have the same value for a given field, returning only one hit per value.
+	 * <p>
+	 * For each value, the returned hit is the first one according to the sorts of this query,
+	 * or the one with the highest score if there is no sort.
+	 * Hits without any value for the field are collapsed together.
+	 * <p>
+	 * Only the returned hits are affected:
+	 * the {@link SearchResult#totalHitCount() total hit count} and aggregations
+	 * still take into account all documents matching the query.
+	 * <p>
+	 * The field must be sortable, and should be single-valued.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field whose value will be used to collapse hits.
+	 * @return {@code this}, for method chaining.
+	 */
+	S collapse(String absoluteFieldPath);
+
+	/**
+	 * Stop counting hits exactly once a given number of hits has been reached.
+	 * <p>
+	 * By default, the {@link SearchResult#totalHitCount() total hit count} is always exact,
+	 * which requires visiting every matching document.
+	 * With a threshold, the backend may skip non-competitive documents once that many hits have been counted,
+	 * which can considerably speed up queries matching many documents.
+	 * The total hit count is then only a lower bound, see {@link SearchResult#totalHitCountExact()}.
+	 * <p>
+	 * This only affects the total hit count returned with hits:
+	 * {@link org.hibernate.search.engine.search.query.SearchFetchable#fetchTotalHitCount()} is always exact.
+	 *
+	 * @param totalHitCountThreshold The number of hits after which the total hit count no longer needs to be exact.
+	 * @return {@code this}, for method chaining.
+	 */
+	S totalHitCountThreshold(long totalHitCountThreshold);
+
 	/**
 	 * Configure entity loading for this query.
 	 * @param loadingOptionsContributor A consumer that will alter the loading options passed in parameter.
@@ -39,6 +39,7 @@
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 import org.hibernate.search.engine.search.sort.spi.SearchSortBuilderFactory;
+import org.hibernate.search.util.common.impl.Contracts;
 
 public abstract class AbstractSearchQueryOptionsStep<
 				S extends SearchQueryOptionsStep<S, H, LOS, SF, AF>,
@@ -105,6 +106,19 @@ public S failAfter(long timeout, TimeUnit timeUnit) {
 		return thisAsS();
 	}
 
+	@Override
+	public S collapse(String absoluteFieldPath) {
+		searchQueryBuilder.collapse( absoluteFieldPath );
+		return thisAsS();
+	}
+
+	@Override
+	public S totalHitCountThreshold(long totalHitCountThreshold) {
+		Contracts.assertPositiveOrZero( totalHitCountThreshold, "totalHitCountThreshold" );
+		searchQueryBuilder.totalHitCountThreshold( totalHitCountThreshold );
+		return thisAsS();
+	}
+
 	@Override
 	public S loading(Consumer<? super LOS> loadingOptionsContributor) {
 		loadingOptionsContributor.accept( loadingContextBuilder.toAPI() );
@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionListener;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionReport;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public class FailSafeSearchQueryExecutionListenerWrapper implements SearchQueryExecutionListener {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SearchQueryExecutionListener delegate;
+
+	public FailSafeSearchQueryExecutionListenerWrapper(SearchQueryExecutionListener delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void onExecution(SearchQueryExecutionReport report) {
+		try {
+			delegate.onExecution( report );
+		}
+		catch (Throwable t) {
+			log.failureInQueryExecutionListener( t );
+		}
+	}
+
+}
@@ -26,6 +26,10 @@
 
 	void failAfter(long timeout, TimeUnit timeUnit);
 
+	void collapse(String absoluteFieldPath);
+
+	void totalHitCountThreshold(long totalHitCountThreshold);
+
 	SearchQuery<H> build();
 
 }
@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+/**
+ * A listener notified of the execution of every search query, with per-phase timings.
+ * <p>
+ * Listeners are expected to be fast and to never block, since they are called in the thread executing the query,
+ * right before the query results are returned.
+ * They are typically used to feed metrics to a monitoring system:
+ * Hibernate Search does not depend on any particular metrics library.
+ * <p>
+ * Exceptions thrown by listeners are logged and otherwise ignored.
+ * <p>
+ * A listener can be set using the configuration property
+ * {@link org.hibernate.search.engine.cfg.spi.EngineSpiSettings#QUERY_EXECUTION_LISTENER}.
+ */
+public interface SearchQueryExecutionListener {
+
+	/**
+	 * Handle the report of a successful search query execution.
+	 *
+	 * @param report The report, with information about the query, its results and timings.
+	 */
+	void onExecution(SearchQueryExecutionReport report);
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+/**
+ * A phase in the execution of a search query,
+ * used to report timings to {@link SearchQueryExecutionListener}s.
+ * <p>
+ * Not every phase is relevant for every backend or every query:
+ * phases that did not happen are simply absent from the {@link SearchQueryExecutionReport}.
+ */
+public enum SearchQueryExecutionPhase {
+
+	/**
+	 * Building the backend query (Lucene query, Elasticsearch JSON payload, ...)
+	 * from the predicates, sorts, projections and aggregations
+	 * when creating the {@link org.hibernate.search.engine.search.query.SearchQuery}.
+	 * <p>
+	 * This does not include the time spent in user code creating predicates, sorts, etc. through the DSL.
+	 */
+	QUERY_BUILDING,
+
+	/**
+	 * Sending the request to a remote cluster and waiting for the response,
+	 * for backends that execute queries remotely (e.g. Elasticsearch).
+	 */
+	REQUEST_EXECUTION,
+
+	/**
+	 * Collecting all matching documents, for backends that execute queries locally (e.g. Lucene):
+	 * counting hits, determining the top hits and collecting aggregation data.
+	 */
+	MATCHING_DOCUMENTS_COLLECTION,
+
+	/**
+	 * Collecting data for the top hits only, for backends that execute queries locally (e.g. Lucene):
+	 * stored fields, nested documents, ...
+	 */
+	TOP_DOCUMENTS_COLLECTION,
+
+	/**
+	 * Extracting projections from the top hits.
+	 */
+	HIT_EXTRACTION,
+
+	/**
+	 * Extracting aggregation results.
+	 */
+	AGGREGATION_EXTRACTION,
+
+	/**
+	 * Loading entities from the mapper (e.g. from the database) and transforming hits into their final form.
+	 */
+	LOADING
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A report about the execution of a search query, passed to {@link SearchQueryExecutionListener}s.
+ */
+public final class SearchQueryExecutionReport {
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	private final Set<String> indexNames;
+	private final String queryString;
+	private final long totalHitCount;
+	private final int hitCount;
+	private final boolean timedOut;
+	private final boolean fromCache;
+	private final Duration took;
+	private final Map<SearchQueryExecutionPhase, Duration> phaseDurations;
+
+	private SearchQueryExecutionReport(Builder builder) {
+		this.indexNames = builder.indexNames == null ? Collections.emptySet()
+				: Collections.unmodifiableSet( builder.indexNames );
+		this.queryString = builder.queryString;
+		this.totalHitCount = builder.totalHitCount;
+		this.hitCount = builder.hitCount;
+		this.timedOut = builder.timedOut;
+		this.fromCache = builder.fromCache;
+		this.took = builder.took;
+		this.phaseDurations = Collections.unmodifiableMap( builder.phaseDurations );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "indexNames=" + indexNames
+				+ ", totalHitCount=" + totalHitCount
+				+ ", hitCount=" + hitCount
+				+ ", timedOut=" + timedOut
+				+ ", fromCache=" + fromCache
+				+ ", took=" + took
+				+ ", phaseDurations=" + phaseDurations
+				+ "]";
+	}
+
+	/**
+	 * @return The names of the indexes targeted by the query.
+	 */
+	public Set<String> indexNames() {
+		return indexNames;
+	}
+
+	/**
+	 * @return A textual representation of the query, as returned by {@link SearchQueryImplementor#queryString()}.
+	 * Might be large: avoid using it as a metric tag.
+	 */
+	public String queryString() {
+		return queryString;
+	}
+
+	/**
+	 * @return The total number of hits matching the query,
+	 * or {@code -1} if it was not computed.
+	 */
+	public long totalHitCount() {
+		return totalHitCount;
+	}
+
+	/**
+	 * @return The number of hits actually returned by the query,
+	 * i.e. at most the limit passed when fetching.
+	 */
+	public int hitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return {@code true} if the query timed out and returned partial results, {@code false} otherwise.
+	 */
+	public boolean timedOut() {
+		return timedOut;
+	}
+
+	/**
+	 * @return {@code true} if the results were retrieved from the backend's {@link SearchResultCache result cache}
+	 * instead of executing the query against the index, {@code false} otherwise.
+	 */
+	public boolean fromCache() {
+		return fromCache;
+	}
+
+	/**
+	 * @return The total duration of the query execution, as measured by Hibernate Search,
+	 * from the moment the query was submitted to the moment results were ready to be returned.
+	 * Does not include {@link SearchQueryExecutionPhase#QUERY_BUILDING query building}.
+	 */
+	public Duration took() {
+		return took;
+	}
+
+	/**
+	 * @param phase A phase of query execution.
+	 * @return The duration of the given phase, or an empty optional if this phase did not happen for this query.
+	 */
+	public Optional<Duration> phaseDuration(SearchQueryExecutionPhase phase) {
+		return Optional.ofNullable( phaseDurations.get( phase ) );
+	}
+
+	/**
+	 * @return The duration of every phase that happened for this query, in execution order.
+	 */
+	public Map<SearchQueryExecutionPhase, Duration> phaseDurations() {
+		return phaseDurations;
+	}
+
+	public static final class Builder {
+
+		private Set<String> indexNames;
+		private String queryString;
+		private long totalHitCount = -1L;
+		private int hitCount;
+		private boolean timedOut;
+		private boolean fromCache;
+		private Duration took = Duration.ZERO;
+		private final Map<SearchQueryExecutionPhase, Duration> phaseDurations =
+				new EnumMap<>( SearchQueryExecutionPhase.class );
+
+		private Builder() {
+		}
+
+		public Builder indexNames(Set<String> indexNames) {
+			this.indexNames = indexNames;
+			return this;
+		}
+
+		public Builder queryString(String queryString) {
+			this.queryString = queryString;
+			return this;
+		}
+
+		public Builder totalHitCount(long totalHitCount) {
+			this.totalHitCount = totalHitCount;
+			return this;
+		}
+
+		public Builder hitCount(int hitCount) {
+			this.hitCount = hitCount;
+			return this;
+		}
+
+		public Builder timedOut(boolean timedOut) {
+			this.timedOut = timedOut;
+			return this;
+		}
+
+		public Builder fromCache(boolean fromCache) {
+			this.fromCache = fromCache;
+			return this;
+		}
+
+		public Builder took(Duration took) {
+			this.took = took;
+			return this;
+		}
+
+		/**
+		 * Record the duration of a phase.
+		 * <p>
+		 * If a duration was already recorded for this phase, the given duration is added to it.
+		 *
+		 * @param phase The phase.
+		 * @param nanos The duration of the phase in nanoseconds, typically computed from {@link System#nanoTime()}.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder phaseDuration(SearchQueryExecutionPhase phase, long nanos) {
+			phaseDurations.merge( phase, Duration.ofNanos( nanos ), Duration::plus );
+			return this;
+		}
+
+		public SearchQueryExecutionReport build() {
+			return new SearchQueryExecutionReport( this );
+		}
+	}
+}
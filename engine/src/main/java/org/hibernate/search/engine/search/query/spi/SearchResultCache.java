@@ -0,0 +1,124 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * A bounded, least-recently-used cache for the results of search queries,
+ * shared by all sessions of a backend.
+ * <p>
+ * Keys are expected to be a canonical form of the query as executed by the backend
+ * (query, sort, paging, targeted indexes, ...),
+ * and values to be backend-specific results that do not depend on the session,
+ * i.e. results collected before the loading of entities.
+ * <p>
+ * Entries are evicted when the cache is full (least recently used first),
+ * when they expire (if a time-to-live was set),
+ * or when they are explicitly invalidated, e.g. when the index is refreshed.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <K> The type of keys.
+ * @param <V> The type of cached results.
+ */
+public final class SearchResultCache<K, V> {
+
+	private final int maxEntries;
+	private final long timeToLiveNanos;
+	private final Map<K, CachedValue<V>> entries;
+
+	/**
+	 * @param maxEntries The maximum number of entries in the cache. Must be strictly positive.
+	 * @param timeToLive The time after which an entry expires, or {@code 0} for entries that never expire.
+	 * @param timeToLiveUnit The unit of {@code timeToLive}.
+	 */
+	public SearchResultCache(int maxEntries, long timeToLive, TimeUnit timeToLiveUnit) {
+		this.maxEntries = maxEntries;
+		this.timeToLiveNanos = timeToLiveUnit.toNanos( timeToLive );
+		// Access order: iterating starts with the least recently used entry.
+		this.entries = new LinkedHashMap<K, CachedValue<V>>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, CachedValue<V>> eldest) {
+				return size() > SearchResultCache.this.maxEntries;
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxEntries=" + maxEntries
+				+ ", timeToLive=" + TimeUnit.NANOSECONDS.toMillis( timeToLiveNanos ) + "ms"
+				+ "]";
+	}
+
+	/**
+	 * @param key The key of the query.
+	 * @return The cached result for this query, or {@code null} if there is none or if it expired.
+	 */
+	public synchronized V get(K key) {
+		CachedValue<V> entry = entries.get( key );
+		if ( entry == null ) {
+			return null;
+		}
+		if ( entry.isExpired( System.nanoTime() ) ) {
+			entries.remove( key );
+			return null;
+		}
+		return entry.value;
+	}
+
+	/**
+	 * @param key The key of the query.
+	 * @param value The result of the query, to be returned by subsequent calls to {@link #get(Object)}.
+	 */
+	public synchronized void put(K key, V value) {
+		long expiration = timeToLiveNanos > 0L ? System.nanoTime() + timeToLiveNanos : 0L;
+		entries.put( key, new CachedValue<>( value, expiration ) );
+	}
+
+	/**
+	 * Remove all entries whose key matches the given predicate.
+	 *
+	 * @param keyPredicate A predicate returning {@code true} for keys that should be invalidated.
+	 */
+	public synchronized void invalidate(Predicate<? super K> keyPredicate) {
+		Iterator<K> iterator = entries.keySet().iterator();
+		while ( iterator.hasNext() ) {
+			if ( keyPredicate.test( iterator.next() ) ) {
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Remove all entries.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	private static final class CachedValue<V> {
+		private final V value;
+		// 0 means "never expires"
+		private final long expirationNanos;
+
+		private CachedValue(V value, long expirationNanos) {
+			this.value = value;
+			this.expirationNanos = expirationNanos;
+		}
+
+		private boolean isExpired(long nowNanos) {
+			return expirationNanos != 0L && nowNanos - expirationNanos >= 0L;
+		}
+	}
+}
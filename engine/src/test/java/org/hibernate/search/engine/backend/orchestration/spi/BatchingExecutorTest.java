@@ -288,6 +288,52 @@ public void endBatchFailure() throws InterruptedException {
 		checkPostExecution();
 	}
 
+	@Test
+	public void coalescing() throws InterruptedException {
+		createAndStartExecutor( 4, true, true );
+
+		Runnable unblockExecutorSwitch = blockExecutor();
+
+		StubCoalescableWork work1Mock = createMock( StubCoalescableWork.class );
+		StubCoalescableWork work2Mock = createMock( StubCoalescableWork.class );
+		StubCoalescableWork work3Mock = createMock( StubCoalescableWork.class );
+		StubCoalescableWork work4Mock = createMock( StubCoalescableWork.class );
+		resetAll();
+		replayAll();
+		executor.submit( work1Mock );
+		executor.submit( work2Mock );
+		executor.submit( work3Mock );
+		executor.submit( work4Mock );
+		verifyAll();
+
+		StubCompletionListener completionListenerAfterSubmit = addPendingCompletionListener();
+
+		CompletableFuture<Object> batch1Future = CompletableFuture.completedFuture( null );
+		resetAll();
+		expect( work1Mock.getCoalescingKey() ).andStubReturn( "doc1" );
+		expect( work1Mock.isSupersedingPreviousWorks() ).andStubReturn( true );
+		expect( work2Mock.getCoalescingKey() ).andStubReturn( "doc2" );
+		expect( work2Mock.isSupersedingPreviousWorks() ).andStubReturn( false );
+		expect( work3Mock.getCoalescingKey() ).andStubReturn( "doc1" );
+		expect( work3Mock.isSupersedingPreviousWorks() ).andStubReturn( true );
+		expect( work4Mock.getCoalescingKey() ).andStubReturn( null );
+		// work1 is superseded by work3: it should not be submitted to the processor
+		work1Mock.markAsSupersededBy( work3Mock );
+		processorMock.beginBatch();
+		work2Mock.submitTo( processorMock );
+		work3Mock.submitTo( processorMock );
+		work4Mock.submitTo( processorMock );
+		expect( processorMock.endBatch() ).andReturn( (CompletableFuture) batch1Future );
+		// Since the queue is empty, works should be considered complete.
+		processorMock.complete();
+		completionListenerAfterSubmit.onComplete();
+		replayAll();
+		unblockExecutorSwitch.run();
+		verifyAllAsynchronously();
+
+		checkPostExecution();
+	}
+
 	private void verifyAllAsynchronously() {
 		await().untilAsserted( () -> {
 			// Synchronize on the processor, like in the batching executor,
@@ -318,8 +364,12 @@ private Runnable blockExecutor()
 	}
 
 	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair) {
+		createAndStartExecutor( maxTasksPerBatch, fair, false );
+	}
+
+	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair, boolean coalesce) {
 		this.executor = new BatchingExecutor<>(
-				NAME, processorMock, maxTasksPerBatch, fair, failureHandlerMock
+				NAME, processorMock, maxTasksPerBatch, fair, coalesce, failureHandlerMock
 		);
 
 		// Having multiple threads should not matter:
@@ -383,6 +433,9 @@ private void checkPostExecution() throws InterruptedException {
 	private interface StubWork extends BatchedWork<StubWorkProcessor> {
 	}
 
+	private interface StubCoalescableWork extends CoalescableBatchedWork<StubWorkProcessor> {
+	}
+
 	private interface StubWorkProcessor extends BatchedWorkProcessor {
 	}
 
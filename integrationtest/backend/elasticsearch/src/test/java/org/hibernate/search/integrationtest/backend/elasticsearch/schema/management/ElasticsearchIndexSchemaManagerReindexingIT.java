@@ -0,0 +1,182 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.schema.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.integrationtest.backend.elasticsearch.schema.management.ElasticsearchIndexSchemaManagerTestUtils.simpleReadAliasDefinition;
+import static org.hibernate.search.integrationtest.backend.elasticsearch.schema.management.ElasticsearchIndexSchemaManagerTestUtils.simpleWriteAliasDefinition;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultReadAlias;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultWriteAlias;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.encodeName;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+import static org.hibernate.search.util.impl.test.JsonHelper.assertJsonEquals;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.rule.TestElasticsearchClient;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests related to reindexing into a new index, then switching aliases to that new index.
+ */
+public class ElasticsearchIndexSchemaManagerReindexingIT {
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TestElasticsearchClient elasticsearchClient = new TestElasticsearchClient();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex( index )
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.setup();
+		elasticsearchClient.index( generation( 2 ), null, null ).ensureDoesNotExist().registerForCleanup();
+		elasticsearchClient.index( generation( 3 ), null, null ).ensureDoesNotExist().registerForCleanup();
+	}
+
+	@Test
+	public void success() {
+		index.bulkIndexer()
+				.add( "1", document -> document.addValue( index.binding().text, "text1" ) )
+				.join();
+
+		Futures.unwrappedExceptionJoin( index.schemaManager().beginReindexing() );
+
+		// Writes target the new index, which is tuned for bulk loading; reads still target the old index
+		assertJsonEquals(
+				"{'" + defaultReadAlias( index.name() ) + "': " + simpleReadAliasDefinition() + "}",
+				elasticsearchClient.index( generation( 1 ), null, null ).aliases().get()
+		);
+		assertJsonEquals(
+				"{'" + defaultWriteAlias( index.name() ) + "': " + simpleWriteAliasDefinition() + "}",
+				elasticsearchClient.index( generation( 2 ), null, null ).aliases().get()
+		);
+		assertJsonEquals(
+				"'-1'",
+				elasticsearchClient.index( generation( 2 ), null, null ).settings( "index.refresh_interval" ).get()
+		);
+
+		index.bulkIndexer()
+				.add( "2", document -> document.addValue( index.binding().text, "text2" ) )
+				.join();
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+
+		Futures.unwrappedExceptionJoin( index.schemaManager().completeReindexing() );
+
+		// Both aliases target the new index, and the old index was dropped
+		assertJsonEquals(
+				"{"
+						+ "'" + defaultWriteAlias( index.name() ) + "': " + simpleWriteAliasDefinition() + ", "
+						+ "'" + defaultReadAlias( index.name() ) + "': " + simpleReadAliasDefinition()
+				+ "}",
+				elasticsearchClient.index( generation( 2 ), null, null ).aliases().get()
+		);
+		assertThat( elasticsearchClient.index( generation( 1 ), null, null ).exists() ).isFalse();
+		assertJsonEquals(
+				elasticsearchClient.index( generation( 1 ), null, null ).settings( "index.refresh_interval" ).get(),
+				elasticsearchClient.index( generation( 2 ), null, null ).settings( "index.refresh_interval" ).get()
+		);
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "2" );
+	}
+
+	@Test
+	public void waitForRefreshDuringReindexing() throws Exception {
+		Futures.unwrappedExceptionJoin( index.schemaManager().beginReindexing() );
+
+		// Refreshes are disabled on the new index: writes waiting for the next refresh must not block
+		IndexIndexingPlan<?> plan = index.createIndexingPlan( new StubBackendSessionContext(),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.WAIT_FOR );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().text, "text1" ) );
+		plan.execute().get( 10, TimeUnit.SECONDS );
+		index.createIndexer()
+				.add( referenceProvider( "2" ), document -> document.addValue( index.binding().text, "text2" ),
+						DocumentCommitStrategy.NONE, DocumentRefreshStrategy.WAIT_FOR )
+				.get( 10, TimeUnit.SECONDS );
+
+		Futures.unwrappedExceptionJoin( index.schemaManager().completeReindexing() );
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2" );
+
+		// Once reindexing is complete, writes wait for the next refresh again
+		plan = index.createIndexingPlan( new StubBackendSessionContext(),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.WAIT_FOR );
+		plan.add( referenceProvider( "3" ), document -> document.addValue( index.binding().text, "text3" ) );
+		plan.execute().get( 10, TimeUnit.SECONDS );
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2", "3" );
+	}
+
+	@Test
+	public void beginAfterInterruptedReindexing() {
+		Futures.unwrappedExceptionJoin( index.schemaManager().beginReindexing() );
+		// Reindexing is interrupted, then started again
+		Futures.unwrappedExceptionJoin( index.schemaManager().beginReindexing() );
+
+		// The index of the interrupted reindexing was dropped
+		assertThat( elasticsearchClient.index( generation( 2 ), null, null ).exists() ).isFalse();
+		assertJsonEquals(
+				"{'" + defaultWriteAlias( index.name() ) + "': " + simpleWriteAliasDefinition() + "}",
+				elasticsearchClient.index( generation( 3 ), null, null ).aliases().get()
+		);
+
+		Futures.unwrappedExceptionJoin( index.schemaManager().completeReindexing() );
+
+		assertThat( elasticsearchClient.index( generation( 1 ), null, null ).exists() ).isFalse();
+		assertJsonEquals(
+				"{"
+						+ "'" + defaultWriteAlias( index.name() ) + "': " + simpleWriteAliasDefinition() + ", "
+						+ "'" + defaultReadAlias( index.name() ) + "': " + simpleReadAliasDefinition()
+				+ "}",
+				elasticsearchClient.index( generation( 3 ), null, null ).aliases().get()
+		);
+	}
+
+	@Test
+	public void completeWithoutBegin() {
+		assertThatThrownBy( () -> Futures.unwrappedExceptionJoin( index.schemaManager().completeReindexing() ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to complete reindexing" )
+				.hasMessageContaining( "point to the same index" );
+	}
+
+	private URLEncodedString generation(int generation) {
+		return encodeName( String.format( Locale.ROOT, "%s-%06d", index.name(), generation ) );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() ).toReference();
+		}
+	}
+}
@@ -10,7 +10,10 @@
 import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.encodeName;
 import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
 
+import java.util.Arrays;
+
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
 import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
@@ -76,6 +79,9 @@ public void setup() {
 				.withBackendProperty(
 						ElasticsearchBackendSettings.LAYOUT_STRATEGY, layoutStrategy
 				)
+				.withBackendProperty(
+						ElasticsearchIndexSettings.INDEXING_PARTIAL_UPDATE, true
+				)
 				.withIndex( index )
 				.setup();
 	}
@@ -136,12 +142,48 @@ public void addUpdateDelete_routing() {
 		clientSpy.verifyExpectationsMet();
 	}
 
+	@Test
+	public void updatePartially() {
+		Gson gson = new Gson();
+
+		IndexIndexingPlan<?> plan = index.createIndexingPlan();
+
+		plan.updatePartially( referenceProvider( "1" ),
+				Arrays.asList( index.binding().string, index.binding().otherString ),
+				document -> {
+					document.addValue( index.binding().string, "text2" );
+					// No value for otherString: it must be cleared
+				},
+				document -> {
+					throw new IllegalStateException( "The full document should not be built" );
+				} );
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( Paths._BULK )
+						.body( gson.fromJson( "{'update':{'_index': '" + writeAlias + "',"
+								+ dialect.getTypeNameForMappingAndBulkApi().map( name -> "'_type': '" + name + "'," ).orElse( "" )
+								+ "'_id': '1'}}", JsonObject.class ) )
+						// Only the updated fields are sent, and the missing document is created if necessary
+						.body( gson.fromJson( "{'doc': {'string': 'text2', 'otherString': null},"
+								+ "'upsert': {'string': 'text2', 'otherString': null,"
+								+ "'_entity_type': '" + index.typeName() + "'}}", JsonObject.class ) )
+						.build(),
+				ElasticsearchRequestAssertionMode.STRICT
+		);
+		// The document does not exist in the index yet: the update must succeed nonetheless
+		plan.execute().join();
+		clientSpy.verifyExpectationsMet();
+	}
+
 	private static class IndexBinding {
 		final IndexFieldReference<String> string;
+		final IndexFieldReference<String> otherString;
 
 		IndexBinding(IndexSchemaElement root) {
 			string = root.field( "string", f -> f.asString() )
 					.toReference();
+			otherString = root.field( "otherString", f -> f.asString() )
+					.toReference();
 		}
 	}
 
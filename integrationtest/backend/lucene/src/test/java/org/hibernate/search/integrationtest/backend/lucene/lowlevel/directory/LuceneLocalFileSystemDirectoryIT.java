@@ -11,6 +11,8 @@
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
@@ -30,6 +32,7 @@
 
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FileSwitchDirectory;
 import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.store.NIOFSDirectory;
 
@@ -124,6 +127,72 @@ public void filesystemAccessStrategy_invalid() {
 				);
 	}
 
+	@Test
+	public void filesystemAccess_preloadExtensions() {
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY, "nio" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS, "dvd,.tim" ) );
+
+		checkIndexingAndQuerying();
+
+		assertThat( directories() )
+				.allSatisfy( directory -> {
+					assertThat( directory ).isInstanceOf( FileSwitchDirectory.class );
+					FileSwitchDirectory switchDirectory = (FileSwitchDirectory) directory;
+					// Files with a listed extension are memory-mapped and preloaded
+					assertThat( switchDirectory.getPrimaryDir() ).isInstanceOf( MMapDirectory.class );
+					assertThat( ( (MMapDirectory) switchDirectory.getPrimaryDir() ).getPreload() ).isTrue();
+					// Other files are accessed through the configured strategy
+					assertThat( switchDirectory.getSecondaryDir() ).isInstanceOf( NIOFSDirectory.class );
+				} );
+	}
+
+	@Test
+	public void filesystemAccess_mmapAndPreloadExtensions() {
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY, "nio" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_MMAP_EXTENSIONS, "tip" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS, "dvd" ) );
+
+		checkIndexingAndQuerying();
+
+		assertThat( directories() )
+				.allSatisfy( directory -> {
+					assertThat( directory ).isInstanceOf( FileSwitchDirectory.class );
+					FileSwitchDirectory preloadSwitchDirectory = (FileSwitchDirectory) directory;
+					assertThat( preloadSwitchDirectory.getPrimaryDir() ).isInstanceOf( MMapDirectory.class );
+					assertThat( ( (MMapDirectory) preloadSwitchDirectory.getPrimaryDir() ).getPreload() ).isTrue();
+
+					assertThat( preloadSwitchDirectory.getSecondaryDir() ).isInstanceOf( FileSwitchDirectory.class );
+					FileSwitchDirectory mmapSwitchDirectory = (FileSwitchDirectory) preloadSwitchDirectory.getSecondaryDir();
+					assertThat( mmapSwitchDirectory.getPrimaryDir() ).isInstanceOf( MMapDirectory.class );
+					assertThat( ( (MMapDirectory) mmapSwitchDirectory.getPrimaryDir() ).getPreload() ).isFalse();
+					assertThat( mmapSwitchDirectory.getSecondaryDir() ).isInstanceOf( NIOFSDirectory.class );
+				} );
+	}
+
+	@Test
+	public void filesystemAccess_mmapMaxChunkSize() {
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY, "mmap" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_MMAP_MAX_CHUNK_SIZE, 1 ) );
+
+		checkIndexingAndQuerying();
+
+		assertThat( directories() )
+				.allSatisfy( directory -> {
+					assertThat( directory ).isInstanceOf( MMapDirectory.class );
+					assertThat( ( (MMapDirectory) directory ).getPreload() ).isFalse();
+				} );
+	}
+
+	@Test
+	public void filesystemAccess_mmapMaxChunkSize_negative() {
+		testInvalidMmapMaxChunkSize( -1 );
+	}
+
+	@Test
+	public void filesystemAccess_mmapMaxChunkSize_tooLarge() {
+		testInvalidMmapMaxChunkSize( 2048 );
+	}
+
 	@Override
 	protected Object getDirectoryType() {
 		return "local-filesystem";
@@ -165,6 +234,31 @@ private void testFileSystemAccessStrategy(String strategyName,
 				.allSatisfy( directory -> assertThat( directory ).isInstanceOf( expectedDirectoryClass ) );
 	}
 
+	private void testInvalidMmapMaxChunkSize(int invalidValue) {
+		Assertions.assertThatThrownBy( () -> setup( c -> c.withBackendProperty(
+				LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_MMAP_MAX_CHUNK_SIZE,
+				invalidValue
+		) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageMatching( FailureReportUtils.buildFailureReportPattern()
+						.indexContext( index.name() )
+						.failure(
+								"Invalid maximum chunk size for memory-mapped files",
+								"'" + invalidValue + "'",
+								"between 1 and 1024"
+						)
+						.build()
+				);
+	}
+
+	private List<Directory> directories() {
+		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
+		return luceneIndexManager.getShardsForTests().stream()
+				.map( Shard::getIndexAccessorForTests )
+				.map( IndexAccessorImpl::getDirectoryForTests )
+				.collect( Collectors.toList() );
+	}
+
 	private static long directorySize(Path directory) throws IOException {
 		return Files.walk( directory )
 				.filter( p -> p.toFile().isFile() )
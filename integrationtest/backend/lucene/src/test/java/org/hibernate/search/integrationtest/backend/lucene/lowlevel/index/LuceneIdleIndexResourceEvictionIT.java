@@ -0,0 +1,95 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.awaitility.Awaitility;
+
+public class LuceneIdleIndexResourceEvictionIT {
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index1 = SimpleMappedIndex.of( IndexBinding::new ).name( "index1" );
+	private final SimpleMappedIndex<IndexBinding> index2 = SimpleMappedIndex.of( IndexBinding::new ).name( "index2" );
+
+	@Test
+	public void idleTimeout() {
+		setupHelper.start().withIndexes( index1, index2 )
+				.withBackendProperty( LuceneBackendSettings.IO_IDLE_TIMEOUT, 200 )
+				.setup();
+
+		index1.bulkIndexer().add( "1", document -> document.addValue( index1.binding().text, "text1" ) ).join();
+		index2.bulkIndexer().add( "1", document -> document.addValue( index2.binding().text, "text1" ) ).join();
+		assertThat( accessor( index1 ).isWriterOpenForTests() ).isTrue();
+		assertThat( accessor( index2 ).isWriterOpenForTests() ).isTrue();
+
+		Awaitility.await().untilAsserted( () -> {
+			assertThat( accessor( index1 ).isWriterOpenForTests() ).isFalse();
+			assertThat( accessor( index2 ).isWriterOpenForTests() ).isFalse();
+		} );
+
+		// Writers and readers are re-opened transparently, and changes were committed when closing
+		SearchResultAssert.assertThat( index1.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index1.typeName(), "1" );
+		index1.bulkIndexer().add( "2", document -> document.addValue( index1.binding().text, "text2" ) ).join();
+		assertThat( accessor( index1 ).isWriterOpenForTests() ).isTrue();
+		SearchResultAssert.assertThat( index1.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index1.typeName(), "1", "2" );
+		SearchResultAssert.assertThat( index2.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index2.typeName(), "1" );
+	}
+
+	@Test
+	public void writerMaxOpen() throws InterruptedException {
+		setupHelper.start().withIndexes( index1, index2 )
+				.withBackendProperty( LuceneBackendSettings.IO_WRITER_MAX_OPEN, 1 )
+				.setup();
+
+		index1.bulkIndexer().add( "1", document -> document.addValue( index1.binding().text, "text1" ) ).join();
+		assertThat( accessor( index1 ).isWriterOpenForTests() ).isTrue();
+
+		// Writers used during the last second are never closed to enforce the maximum
+		Thread.sleep( 1100 );
+
+		index2.bulkIndexer().add( "1", document -> document.addValue( index2.binding().text, "text1" ) ).join();
+		assertThat( accessor( index1 ).isWriterOpenForTests() ).isFalse();
+		assertThat( accessor( index2 ).isWriterOpenForTests() ).isTrue();
+
+		SearchResultAssert.assertThat( index1.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index1.typeName(), "1" );
+		SearchResultAssert.assertThat( index2.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index2.typeName(), "1" );
+	}
+
+	private static IndexAccessorImpl accessor(SimpleMappedIndex<?> index) {
+		Shard shard = index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests().get( 0 );
+		return shard.getIndexAccessorForTests();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubUnusedContextualFailureCollector;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+public class LuceneLazyOpenIT {
+
+	private static final int SHARD_COUNT = 4;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public final SearchSetupHelper shardedSetupHelper = new SearchSetupHelper(
+			helper -> helper.createHashBasedShardingBackendSetupStrategy( SHARD_COUNT )
+	);
+
+	private final SimpleMappedIndex<IndexBinding> index1 = SimpleMappedIndex.of( IndexBinding::new ).name( "index1" );
+	private final SimpleMappedIndex<IndexBinding> index2 = SimpleMappedIndex.of( IndexBinding::new ).name( "index2" );
+
+	@Test
+	public void openOnFirstUse() {
+		setupHelper.start().withIndexes( index1, index2 )
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.NONE )
+				.withBackendProperty( LuceneIndexSettings.IO_LAZY_OPEN, true )
+				.setup();
+
+		index1.schemaManager().createIfMissing().join();
+		index2.schemaManager().createIfMissing().join();
+		// Schema management did not open directories
+		assertThat( accessors( index1 ) ).noneMatch( IndexAccessorImpl::isOpenForTests );
+		assertThat( accessors( index2 ) ).noneMatch( IndexAccessorImpl::isOpenForTests );
+
+		index1.bulkIndexer().add( "1", document -> document.addValue( index1.binding().text, "text1" ) ).join();
+		assertThat( accessors( index1 ) ).allMatch( IndexAccessorImpl::isOpenForTests );
+		assertThat( accessors( index2 ) ).noneMatch( IndexAccessorImpl::isOpenForTests );
+
+		SearchResultAssert.assertThat( index1.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index1.typeName(), "1" );
+
+		// The index was created when the directory was opened
+		SearchResultAssert.assertThat( index2.query().where( f -> f.matchAll() ).toQuery() )
+				.hasNoHits();
+		assertThat( accessors( index2 ) ).allMatch( IndexAccessorImpl::isOpenForTests );
+	}
+
+	@Test
+	public void validateOnFirstUse() {
+		setupHelper.start().withIndex( index1 )
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.NONE )
+				.withBackendProperty( LuceneIndexSettings.IO_LAZY_OPEN, true )
+				.setup();
+
+		// Does not fail even though the index does not exist: validation is deferred
+		index1.schemaManager().validate( new StubUnusedContextualFailureCollector() ).join();
+		assertThat( accessors( index1 ) ).noneMatch( IndexAccessorImpl::isOpenForTests );
+
+		assertThatThrownBy( () -> index1.query().where( f -> f.matchAll() ).fetchAllHits() )
+				.isInstanceOf( SearchException.class )
+				.hasStackTraceContaining( "Index does not exist for directory" );
+	}
+
+	@Test
+	public void sharding() {
+		shardedSetupHelper.start().withIndex( index1 )
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.NONE )
+				.withBackendProperty( LuceneIndexSettings.IO_LAZY_OPEN, true )
+				.setup();
+		index1.schemaManager().createIfMissing().join();
+
+		List<IndexAccessorImpl> accessors = accessors( index1 );
+		assertThat( accessors ).hasSize( SHARD_COUNT )
+				.noneMatch( IndexAccessorImpl::isOpenForTests );
+
+		index1.bulkIndexer().add( "1", document -> document.addValue( index1.binding().text, "text1" ) ).join();
+		assertThat( accessors ).filteredOn( IndexAccessorImpl::isOpenForTests ).hasSize( 1 );
+
+		SearchResultAssert.assertThat( index1.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index1.typeName(), "1" );
+		assertThat( accessors ).allMatch( IndexAccessorImpl::isOpenForTests );
+	}
+
+	private static List<IndexAccessorImpl> accessors(SimpleMappedIndex<?> index) {
+		List<Shard> shards = index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests();
+		return shards.stream().map( Shard::getIndexAccessorForTests ).collect( Collectors.toList() );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.reader;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexWarmingContext;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.test.rule.ExpectedLog4jLog;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.log4j.Level;
+import org.assertj.core.api.Assertions;
+
+public class LuceneIndexWarmingIT {
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public final ExpectedLog4jLog logged = ExpectedLog4jLog.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void warmedBeforeUse() throws InterruptedException {
+		BlockingIndexWarmer warmer = new BlockingIndexWarmer( 2 );
+		setup( warmer );
+
+		index( "1" );
+		assertThat( matchAllQuery() ).hasDocRefHitsAnyOrder( index.typeName(), "1" );
+		Assertions.assertThat( warmer.warmedReaderDocCounts ).contains( 1 );
+
+		index( "2" );
+		// This search opens a new reader, which blocks in the warmer
+		CompletableFuture<List<DocumentReference>> firstSearch =
+				CompletableFuture.supplyAsync( () -> matchAllQuery().fetchAllHits() );
+		Assertions.assertThat( warmer.warmingStarted.await( 10, TimeUnit.SECONDS ) ).isTrue();
+		// This search waits for the new reader too
+		CompletableFuture<List<DocumentReference>> secondSearch =
+				CompletableFuture.supplyAsync( () -> matchAllQuery().fetchAllHits() );
+
+		// As long as warming is not over, the new reader is not used by any search
+		Assertions.assertThat( firstSearch ).isNotDone();
+		Assertions.assertThat( secondSearch ).isNotDone();
+
+		warmer.warmingAllowed.countDown();
+		Assertions.assertThat( firstSearch.join() ).hasSize( 2 );
+		Assertions.assertThat( secondSearch.join() ).hasSize( 2 );
+		// The new reader was warmed exactly once, before being used by both searches
+		Assertions.assertThat( warmer.warmedReaderDocCounts ).containsOnlyOnce( 2 );
+	}
+
+	@Test
+	public void warmingFailure() {
+		logged.expectEvent( Level.WARN, "Unable to warm up index reader", "Simulated warming failure",
+				"The index reader will be used anyway" );
+
+		setup( context -> {
+			throw new IOException( "Simulated warming failure" );
+		} );
+
+		index( "1" );
+		index( "2" );
+
+		// Searches still work, with the unwarmed reader
+		assertThat( matchAllQuery() ).hasDocRefHitsAnyOrder( index.typeName(), "1", "2" );
+	}
+
+	private void setup(IndexWarmer warmer) {
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_WARMING_WARMER, BeanReference.ofInstance( warmer ) )
+				.setup();
+	}
+
+	private void index(String id) {
+		IndexIndexingPlan<?> plan = index.createIndexingPlan( new StubBackendSessionContext(),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE );
+		plan.add( referenceProvider( id ), document -> document.addValue( index.binding().text, "text" + id ) );
+		plan.execute().join();
+	}
+
+	private SearchQuery<DocumentReference> matchAllQuery() {
+		return index.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+	}
+
+	private static class BlockingIndexWarmer implements IndexWarmer {
+		private final int blockingDocCount;
+		private final List<Integer> warmedReaderDocCounts = Collections.synchronizedList( new ArrayList<>() );
+		private final CountDownLatch warmingStarted = new CountDownLatch( 1 );
+		private final CountDownLatch warmingAllowed = new CountDownLatch( 1 );
+
+		private BlockingIndexWarmer(int blockingDocCount) {
+			this.blockingDocCount = blockingDocCount;
+		}
+
+		@Override
+		public void warm(IndexWarmingContext context) throws IOException {
+			int docCount = context.indexSearcher().getIndexReader().numDocs();
+			if ( docCount == blockingDocCount ) {
+				warmingStarted.countDown();
+				try {
+					warmingAllowed.await( 10, TimeUnit.SECONDS );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException( e );
+				}
+			}
+			warmedReaderDocCounts.add( docCount );
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() ).toReference();
+		}
+	}
+}
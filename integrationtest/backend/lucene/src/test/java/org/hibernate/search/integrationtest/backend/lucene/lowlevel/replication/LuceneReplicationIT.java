@@ -0,0 +1,342 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.replication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.LocalDirectoryReplicationTransportProvider;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransportCreationContext;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransportProvider;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.reporting.EntityIndexingFailureContext;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.awaitility.Awaitility;
+
+/**
+ * Checks replication of an index from a primary to a replica through the "local-directory" transport,
+ * each node having its own index directory.
+ */
+public class LuceneReplicationIT {
+
+	private static final String INDEX_NAME = "replicatedIndex";
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Rule
+	public final SearchSetupHelper primarySetupHelper = new SearchSetupHelper();
+
+	@Rule
+	public final SearchSetupHelper replicaSetupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> primaryIndex =
+			SimpleMappedIndex.of( IndexBinding::new ).name( INDEX_NAME );
+	private final SimpleMappedIndex<IndexBinding> replicaIndex =
+			SimpleMappedIndex.of( IndexBinding::new ).name( INDEX_NAME );
+
+	private Path primaryRoot;
+	private Path sharedRoot;
+	private Path replicaRoot;
+
+	@Before
+	public void initDirectories() throws IOException {
+		primaryRoot = temporaryFolder.newFolder( "primary" ).toPath();
+		replicaRoot = temporaryFolder.newFolder( "replica" ).toPath();
+		sharedRoot = temporaryFolder.newFolder( "shared" ).toPath();
+	}
+
+	private void setup() {
+		setup( ignored -> { } );
+	}
+
+	private void setup(Consumer<SearchSetupHelper.SetupContext> primaryConfigurer) {
+		SearchSetupHelper.SetupContext primarySetupContext = primarySetupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( primaryIndex )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, primaryRoot.toString() )
+				.withBackendProperty( LuceneIndexSettings.IO_REPLICATION_ROLE, "primary" )
+				.withBackendProperty( LuceneIndexSettings.IO_REPLICATION_TRANSPORT_ROOT, sharedRoot.toString() );
+		primaryConfigurer.accept( primarySetupContext );
+		primarySetupContext.setup();
+
+		// Replicas never write to their index, not even to create it
+		replicaSetupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.NONE )
+				.withIndex( replicaIndex )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, replicaRoot.toString() )
+				.withBackendProperty( LuceneIndexSettings.IO_REPLICATION_ROLE, "replica" )
+				.withBackendProperty( LuceneIndexSettings.IO_REPLICATION_TRANSPORT_ROOT, sharedRoot.toString() )
+				.setup();
+	}
+
+	@Test
+	public void replicatedVisibility() {
+		setup();
+
+		indexAndCommit( "1", "text 1" );
+
+		// The replica has no local copy yet: the first search waits for the commit to be pulled
+		assertThat( replicaIndex.createScope().query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( replicaIndex.typeName(), "1" );
+
+		indexAndCommit( "2", "text 2" );
+
+		// With a refresh interval of 0, each search triggers a pull in the background,
+		// and later searches eventually see the new commit
+		Awaitility.await().untilAsserted( () -> assertThat(
+				replicaIndex.createScope().query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( replicaIndex.typeName(), "1", "2" ) );
+
+		indexAndCommit( "3", "text 3" );
+
+		// An explicit refresh pulls the latest commit before returning
+		replicaIndex.createWorkspace().refresh().join();
+		assertThat( replicaIndex.createScope().query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( replicaIndex.typeName(), "1", "2", "3" );
+	}
+
+	@Test
+	public void obsoleteCommitsDeleted() throws IOException {
+		setup();
+
+		for ( int i = 0; i < 5; i++ ) {
+			indexAndCommit( String.valueOf( i ), "text " + i );
+			replicaIndex.createWorkspace().refresh().join();
+		}
+
+		assertThat( replicaIndex.createScope().query().where( f -> f.matchAll() ).toQuery() )
+				.hasTotalHitCount( 5 );
+
+		// The replica only retains the last pulled commit
+		assertThat( segmentsFileCount( replicaRoot.resolve( INDEX_NAME ) ) ).isEqualTo( 1 );
+		// The shared directory retains the last two published commits
+		assertThat( segmentsFileCount( sharedRoot.resolve( INDEX_NAME ) ) ).isBetween( 1L, 2L );
+
+		// Purge the index: the segments of previous commits are no longer needed
+		primaryIndex.createWorkspace().purge( Collections.emptySet() ).join();
+		primaryIndex.createWorkspace().flush().join();
+		awaitPublished();
+		replicaIndex.createWorkspace().refresh().join();
+
+		assertThat( replicaIndex.createScope().query().where( f -> f.matchAll() ).toQuery() )
+				.hasNoHits();
+		assertThat( segmentsFileCount( replicaRoot.resolve( INDEX_NAME ) ) ).isEqualTo( 1 );
+		// Only the segments file is left in the replica directory: all segment files were deleted
+		try ( Stream<Path> files = Files.list( replicaRoot.resolve( INDEX_NAME ) ) ) {
+			assertThat( files.map( path -> path.getFileName().toString() ) )
+					.allMatch( name -> name.startsWith( IndexFileNames.SEGMENTS ) || "write.lock".equals( name ) );
+		}
+	}
+
+	@Test
+	public void publishingDoesNotBlockCommits() throws Exception {
+		BlockingReplicationTransportProvider transportProvider = new BlockingReplicationTransportProvider();
+		setup( context -> context.withBackendProperty( LuceneIndexSettings.IO_REPLICATION_TRANSPORT_TYPE,
+				BeanReference.ofInstance( transportProvider ) ) );
+
+		commit( "1", "text 1" ).get( 10, TimeUnit.SECONDS );
+		assertThat( transportProvider.publishingStarted.await( 10, TimeUnit.SECONDS ) ).isTrue();
+
+		// Publishing is blocked, but commits are not
+		commit( "2", "text 2" ).get( 10, TimeUnit.SECONDS );
+		commit( "3", "text 3" ).get( 10, TimeUnit.SECONDS );
+
+		transportProvider.publishingAllowed.countDown();
+		awaitPublished();
+		replicaIndex.createWorkspace().refresh().join();
+		assertThat( replicaIndex.createScope().query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( replicaIndex.typeName(), "1", "2", "3" );
+		// Commits that happened while publishing was blocked were coalesced: only the latest one was published
+		assertThat( transportProvider.publishedCommitCount ).hasValue( 2 );
+	}
+
+	@Test
+	public void publishingFailure() throws Exception {
+		FailingReplicationTransportProvider transportProvider = new FailingReplicationTransportProvider();
+		RecordingFailureHandler failureHandler = new RecordingFailureHandler();
+		setup( context -> context
+				.withBackendProperty( LuceneIndexSettings.IO_REPLICATION_TRANSPORT_TYPE,
+						BeanReference.ofInstance( transportProvider ) )
+				.withProperty( EngineSettings.BACKGROUND_FAILURE_HANDLER, BeanReference.ofInstance( failureHandler ) ) );
+
+		// The commit itself succeeds
+		commit( "1", "text 1" ).get( 10, TimeUnit.SECONDS );
+
+		// ... but the failure to publish it is reported
+		Awaitility.await().untilAsserted( () -> assertThat( failureHandler.failures.size() ).isEqualTo( 1 ) );
+		FailureContext failure = failureHandler.failures.get( 0 );
+		assertThat( failure.failingOperation() ).isEqualTo( "Publishing of commit to replicas" );
+		assertThat( failure.throwable() )
+				.hasMessageContaining( "Unable to publish index commit to replicas" )
+				.hasMessageContaining( "Simulated publishing failure" );
+
+		// Replicas catch up on the next commit
+		indexAndCommit( "2", "text 2" );
+		replicaIndex.createWorkspace().refresh().join();
+		assertThat( replicaIndex.createScope().query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( replicaIndex.typeName(), "1", "2" );
+		assertThat( failureHandler.failures.size() ).isEqualTo( 1 );
+	}
+
+	private void indexAndCommit(String id, String text) {
+		commit( id, text ).join();
+		// Commits are published to replicas in the background
+		awaitPublished();
+	}
+
+	private CompletableFuture<?> commit(String id, String text) {
+		IndexIndexingPlan<?> plan = primaryIndex.createIndexingPlan( new StubBackendSessionContext(),
+				// The primary publishes each commit to replicas
+				DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( id ), document -> document.addValue( primaryIndex.binding().string, text ) );
+		return plan.execute();
+	}
+
+	private void awaitPublished() {
+		Awaitility.await().untilAsserted( () -> assertThat( lastCommitSegmentsFileName( sharedRoot.resolve( INDEX_NAME ) ) )
+				.isEqualTo( lastCommitSegmentsFileName( primaryRoot.resolve( INDEX_NAME ) ) ) );
+	}
+
+	private static String lastCommitSegmentsFileName(Path directory) throws IOException {
+		try ( Stream<Path> files = Files.list( directory ) ) {
+			return SegmentInfos.getLastCommitSegmentsFileName(
+					files.map( path -> path.getFileName().toString() ).toArray( String[]::new ) );
+		}
+	}
+
+	private static long segmentsFileCount(Path directory) throws IOException {
+		try ( Stream<Path> files = Files.list( directory ) ) {
+			return files.map( path -> path.getFileName().toString() )
+					.filter( name -> name.startsWith( IndexFileNames.SEGMENTS + "_" ) )
+					.count();
+		}
+	}
+
+	private abstract static class DelegatingReplicationTransportProvider implements ReplicationTransportProvider {
+		private final ReplicationTransportProvider delegate = new LocalDirectoryReplicationTransportProvider();
+
+		@Override
+		public ReplicationTransport createTransport(ReplicationTransportCreationContext context) {
+			ReplicationTransport transport = delegate.createTransport( context );
+			return new ReplicationTransport() {
+				@Override
+				public void start() throws IOException {
+					transport.start();
+				}
+
+				@Override
+				public void close() throws IOException {
+					transport.close();
+				}
+
+				@Override
+				public void publish(IndexCommit commit) throws IOException {
+					beforePublish();
+					transport.publish( commit );
+				}
+
+				@Override
+				public boolean pull(Directory target) throws IOException {
+					return transport.pull( target );
+				}
+			};
+		}
+
+		abstract void beforePublish() throws IOException;
+	}
+
+	private static class BlockingReplicationTransportProvider extends DelegatingReplicationTransportProvider {
+		private final CountDownLatch publishingStarted = new CountDownLatch( 1 );
+		private final CountDownLatch publishingAllowed = new CountDownLatch( 1 );
+		private final AtomicInteger publishedCommitCount = new AtomicInteger();
+
+		@Override
+		void beforePublish() {
+			publishedCommitCount.incrementAndGet();
+			publishingStarted.countDown();
+			try {
+				publishingAllowed.await( 10, TimeUnit.SECONDS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( e );
+			}
+		}
+	}
+
+	private static class FailingReplicationTransportProvider extends DelegatingReplicationTransportProvider {
+		private final AtomicBoolean failed = new AtomicBoolean();
+
+		@Override
+		void beforePublish() throws IOException {
+			if ( failed.compareAndSet( false, true ) ) {
+				throw new IOException( "Simulated publishing failure" );
+			}
+		}
+	}
+
+	private static class RecordingFailureHandler implements FailureHandler {
+		private final List<FailureContext> failures = Collections.synchronizedList( new ArrayList<>() );
+
+		@Override
+		public void handle(FailureContext context) {
+			failures.add( context );
+		}
+
+		@Override
+		public void handle(EntityIndexingFailureContext context) {
+			failures.add( context );
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
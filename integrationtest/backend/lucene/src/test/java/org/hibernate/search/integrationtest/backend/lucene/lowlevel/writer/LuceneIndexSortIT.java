@@ -0,0 +1,221 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+
+public class LuceneIndexSortIT {
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void segmentsSorted() throws IOException {
+		setup( "rank:desc, title" );
+		initData();
+		index.createWorkspace().flush().join();
+
+		List<Sort> segmentSorts = LuceneIndexContentUtils.readIndex( setupHelper, index.name(), reader -> {
+			List<Sort> sorts = new ArrayList<>();
+			for ( LeafReaderContext leaf : reader.leaves() ) {
+				sorts.add( leaf.reader().getMetaData().getSort() );
+			}
+			return sorts;
+		} );
+		assertThat( segmentSorts ).isNotEmpty().allSatisfy( sort -> {
+			assertThat( sort ).isNotNull();
+			SortField[] sortFields = sort.getSort();
+			assertThat( sortFields ).hasSize( 2 );
+			assertThat( sortFields[0].getField() ).isEqualTo( "rank" );
+			assertThat( sortFields[0].getReverse() ).isTrue();
+			assertThat( sortFields[1].getField() ).isEqualTo( "title" );
+			assertThat( sortFields[1].getReverse() ).isFalse();
+		} );
+	}
+
+	@Test
+	public void querySortMatchingIndexSort() {
+		setup( "rank:desc" );
+		initData();
+
+		// Collection may stop early in each segment: this must not affect results or the total hit count
+		SearchResultAssert.assertThat( index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "rank" ).desc() )
+				.fetch( 2 ) )
+				.hasTotalHitCount( 5 )
+				.hasDocRefHitsExactOrder( index.typeName(), "4", "2" );
+
+		SearchResultAssert.assertThat( index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "rank" ).desc() )
+				.fetch( 2, 10 ) )
+				.hasTotalHitCount( 5 )
+				.hasDocRefHitsExactOrder( index.typeName(), "3", "1", "5" );
+	}
+
+	@Test
+	public void querySortMatchingIndexSort_totalHitCountThreshold() {
+		setup( "rank:desc" );
+		initData();
+		index.createWorkspace().flush().join();
+
+		// Collection stops early in each segment, and the total hit count is only a lower bound
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "rank" ).desc() )
+				.totalHitCountThreshold( 2 )
+				.fetch( 2 );
+		SearchResultAssert.assertThat( result )
+				.hasDocRefHitsExactOrder( index.typeName(), "4", "2" );
+		assertThat( result.totalHitCountExact() ).isFalse();
+		assertThat( result.totalHitCount() ).isBetween( 2L, 4L );
+	}
+
+	@Test
+	public void querySortNotMatchingIndexSort() {
+		setup( "rank:desc" );
+		initData();
+
+		SearchResultAssert.assertThat( index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "rank" ).asc() )
+				.fetch( 2 ) )
+				.hasTotalHitCount( 5 )
+				.hasDocRefHitsExactOrder( index.typeName(), "1", "3" );
+
+		SearchResultAssert.assertThat( index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "rank" ).desc().missing().first() )
+				.fetch( 2 ) )
+				.hasTotalHitCount( 5 )
+				.hasDocRefHitsExactOrder( index.typeName(), "5", "4" );
+
+		SearchResultAssert.assertThat( index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "title" ).desc() )
+				.fetch( 2 ) )
+				.hasTotalHitCount( 5 )
+				.hasDocRefHitsExactOrder( index.typeName(), "3", "2" );
+	}
+
+	@Test
+	public void invalidSyntax() {
+		assertThatThrownBy( () -> setup( "rank:sideways" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll(
+						"Unable to convert configuration property '", LuceneIndexSettings.IO_WRITER_INDEX_SORT,
+						"Invalid index sort: 'rank:sideways'"
+				);
+	}
+
+	@Test
+	public void invalidField() {
+		assertThatThrownBy( () -> setup( "notSortable" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll(
+						"Unable to convert configuration property '", LuceneIndexSettings.IO_WRITER_INDEX_SORT,
+						"Cannot sort the index on field 'notSortable'"
+				);
+
+		assertThatThrownBy( () -> setup( "unknownField" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Cannot sort the index on field 'unknownField'" );
+	}
+
+	@Test
+	public void nestedDocuments() {
+		SimpleMappedIndex<NestedIndexBinding> nestedIndex = SimpleMappedIndex.of( NestedIndexBinding::new )
+				.name( "nestedIndex" );
+		assertThatThrownBy( () -> setupHelper.start().withIndex( nestedIndex )
+				.withBackendProperty( LuceneIndexSettings.IO_WRITER_INDEX_SORT, "rank" )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Cannot sort an index that may contain nested documents" );
+	}
+
+	private void setup(String indexSort) {
+		setupHelper.start().withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_WRITER_INDEX_SORT, indexSort )
+				.setup();
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( "1", document -> {
+					document.addValue( index.binding().rank, 1 );
+					document.addValue( index.binding().title, "a" );
+				} )
+				.add( "2", document -> {
+					document.addValue( index.binding().rank, 5 );
+					document.addValue( index.binding().title, "d" );
+				} )
+				.add( "3", document -> {
+					document.addValue( index.binding().rank, 3 );
+					document.addValue( index.binding().title, "e" );
+				} )
+				.add( "4", document -> {
+					document.addValue( index.binding().rank, 8 );
+					document.addValue( index.binding().title, "b" );
+				} )
+				// No value: comes last regardless of the order
+				.add( "5", document -> {
+					document.addValue( index.binding().title, "c" );
+				} )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> rank;
+		final IndexFieldReference<String> title;
+		final IndexFieldReference<String> notSortable;
+
+		IndexBinding(IndexSchemaElement root) {
+			rank = root.field( "rank", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			title = root.field( "title", f -> f.asString().sortable( Sortable.YES ) ).toReference();
+			notSortable = root.field( "notSortable", f -> f.asString() ).toReference();
+		}
+	}
+
+	private static class NestedIndexBinding {
+		final IndexFieldReference<Integer> rank;
+		final IndexObjectFieldReference nested;
+
+		NestedIndexBinding(IndexSchemaElement root) {
+			rank = root.field( "rank", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			nested = root.objectField( "nested", ObjectStructure.NESTED ).toReference();
+		}
+	}
+}
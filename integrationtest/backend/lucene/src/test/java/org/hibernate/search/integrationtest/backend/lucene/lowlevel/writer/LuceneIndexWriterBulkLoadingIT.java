@@ -0,0 +1,234 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LiveIndexWriterConfig;
+import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
+
+public class LuceneIndexWriterBulkLoadingIT {
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final StubMappedIndex index = StubMappedIndex.withoutFields();
+
+	@Test
+	public void settings() throws IOException {
+		setup( null );
+		IndexWorkspace workspace = index.createWorkspace();
+
+		workspace.beginBulkLoading().join();
+		assertThat( writerConfigs() ).allSatisfy( config -> {
+			assertThat( config.getRAMBufferSizeMB() )
+					.isEqualTo( LuceneIndexSettings.Defaults.IO_WRITER_BULK_RAM_BUFFER_SIZE );
+			assertThat( config.getMergePolicy() ).isSameAs( NoMergePolicy.INSTANCE );
+		} );
+
+		workspace.endBulkLoading().join();
+		assertThat( writerConfigs() ).allSatisfy( config -> {
+			assertThat( config.getRAMBufferSizeMB() ).isEqualTo( IndexWriterConfig.DEFAULT_RAM_BUFFER_SIZE_MB );
+			assertThat( config.getMergePolicy() ).isInstanceOf( LogByteSizeMergePolicy.class );
+		} );
+	}
+
+	@Test
+	public void settings_custom() throws IOException {
+		setup( 42 );
+		IndexWorkspace workspace = index.createWorkspace();
+
+		// The writer does not exist yet: settings must be applied when it gets created
+		assertThat( accessors() ).noneMatch( IndexAccessorImpl::isWriterOpenForTests );
+		workspace.beginBulkLoading().join();
+		assertThat( writerConfigs() ).allSatisfy( config -> {
+			assertThat( config.getRAMBufferSizeMB() ).isEqualTo( 42 );
+			assertThat( config.getMergePolicy() ).isSameAs( NoMergePolicy.INSTANCE );
+		} );
+
+		workspace.endBulkLoading().join();
+		assertThat( writerConfigs() ).allSatisfy( config -> {
+			assertThat( config.getRAMBufferSizeMB() ).isEqualTo( IndexWriterConfig.DEFAULT_RAM_BUFFER_SIZE_MB );
+			assertThat( config.getMergePolicy() ).isInstanceOf( LogByteSizeMergePolicy.class );
+		} );
+	}
+
+	@Test
+	public void commitAndRefreshDeferred() throws IOException {
+		setup( null );
+		IndexWorkspace workspace = index.createWorkspace();
+
+		// Open an index reader
+		SearchResultAssert.assertThat( index.query().where( f -> f.matchAll() ).toQuery() ).hasNoHits();
+
+		workspace.beginBulkLoading().join();
+		index.bulkIndexer( false )
+				.add( "1", document -> { } )
+				.add( "2", document -> { } )
+				.join();
+
+		// Even with a commit interval of 0, changes are neither committed nor visible to searches
+		assertThat( countDocsOnDisk() ).isEqualTo( 0 );
+		SearchResultAssert.assertThat( index.query().where( f -> f.matchAll() ).toQuery() ).hasNoHits();
+
+		// ... unless a refresh is explicitly requested
+		workspace.refresh().join();
+		SearchResultAssert.assertThat( index.query().where( f -> f.matchAll() ).toQuery() ).hasTotalHitCount( 2 );
+
+		index.bulkIndexer( false )
+				.add( "3", document -> { } )
+				.join();
+		assertThat( countDocsOnDisk() ).isEqualTo( 0 );
+		SearchResultAssert.assertThat( index.query().where( f -> f.matchAll() ).toQuery() ).hasTotalHitCount( 2 );
+
+		// Ending bulk loading commits changes, and searches see them again
+		workspace.endBulkLoading().join();
+		assertThat( countDocsOnDisk() ).isEqualTo( 3 );
+		SearchResultAssert.assertThat( index.query().where( f -> f.matchAll() ).toQuery() ).hasTotalHitCount( 3 );
+	}
+
+	@Test
+	public void nested() throws IOException {
+		setup( null );
+		IndexWorkspace workspace = index.createWorkspace();
+
+		workspace.beginBulkLoading().join();
+		workspace.beginBulkLoading().join();
+		index.bulkIndexer( false ).add( "1", document -> { } ).join();
+
+		// Regular settings are only restored when the last bulk loading ends
+		workspace.endBulkLoading().join();
+		assertThat( countDocsOnDisk() ).isEqualTo( 0 );
+		assertThat( writerConfigs() ).allSatisfy( config ->
+				assertThat( config.getMergePolicy() ).isSameAs( NoMergePolicy.INSTANCE ) );
+
+		workspace.endBulkLoading().join();
+		assertThat( countDocsOnDisk() ).isEqualTo( 1 );
+		assertThat( writerConfigs() ).allSatisfy( config ->
+				assertThat( config.getMergePolicy() ).isInstanceOf( LogByteSizeMergePolicy.class ) );
+
+		// Extra calls are ignored
+		workspace.endBulkLoading().join();
+	}
+
+	@Test
+	public void parallelWriters() throws IOException {
+		setup( null, 4 );
+		IndexWorkspace workspace = index.createWorkspace();
+
+		index.bulkIndexer().add( "existing1", document -> { } ).add( "existing2", document -> { } ).join();
+
+		workspace.beginBulkLoading().join();
+		// Temporary indexes are stored next to the index directory
+		List<Path> temporaryIndexRoots = temporaryIndexRoots();
+		assertThat( temporaryIndexRoots ).hasSize( 1 );
+		try ( Stream<Path> temporaryIndexes = Files.list( temporaryIndexRoots.get( 0 ) ) ) {
+			assertThat( temporaryIndexes ).hasSize( 4 );
+		}
+		index.bulkIndexer( false )
+				.add( 100, i -> StubMapperUtils.documentProvider( String.valueOf( i ), document -> { } ) )
+				.join();
+		IndexIndexingPlan<?> plan = index.createIndexingPlan();
+		// Updates and deletes must apply to documents in the index as well as documents in temporary indexes
+		plan.update( referenceProvider( "existing1" ), document -> { } );
+		plan.update( referenceProvider( "42" ), document -> { } );
+		plan.delete( referenceProvider( "existing2" ) );
+		plan.delete( referenceProvider( "43" ) );
+		plan.execute().join();
+
+		// Documents added to temporary indexes are not visible until bulk loading ends, even after a refresh
+		workspace.refresh().join();
+		SearchResultAssert.assertThat( index.query().where( f -> f.matchAll() ).toQuery() ).hasNoHits();
+
+		workspace.endBulkLoading().join();
+		// Temporary indexes are deleted once added to the index
+		assertThat( temporaryIndexRoots() ).isEmpty();
+		assertThat( countDocsOnDisk() ).isEqualTo( 100 );
+		SearchResultAssert.assertThat( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hasTotalHitCount( 100 );
+		SearchResultAssert.assertThat( index.query().where( f -> f.id().matchingAny(
+						Arrays.asList( "existing1", "42", "existing2", "43" ) ) ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "existing1", "42" );
+	}
+
+	private int countDocsOnDisk() throws IOException {
+		return LuceneIndexContentUtils.readIndex(
+				setupHelper, index.name(),
+				// Deleted documents are not taken into account
+				DirectoryReader::numDocs
+		);
+	}
+
+	private List<IndexAccessorImpl> accessors() {
+		List<Shard> shards = index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests();
+		return shards.stream().map( Shard::getIndexAccessorForTests ).collect( Collectors.toList() );
+	}
+
+	private List<Path> temporaryIndexRoots() throws IOException {
+		List<Path> roots = new ArrayList<>();
+		for ( IndexAccessorImpl accessor : accessors() ) {
+			Path indexPath = ( (FSDirectory) FilterDirectory.unwrap( accessor.getDirectoryForTests() ) ).getDirectory();
+			String prefix = "." + indexPath.getFileName() + "-bulk-";
+			try ( Stream<Path> siblings = Files.list( indexPath.getParent() ) ) {
+				siblings.filter( path -> path.getFileName().toString().startsWith( prefix ) )
+						.forEach( roots::add );
+			}
+		}
+		return roots;
+	}
+
+	private List<LiveIndexWriterConfig> writerConfigs() throws IOException {
+		List<LiveIndexWriterConfig> configs = new ArrayList<>();
+		for ( IndexAccessorImpl accessor : accessors() ) {
+			configs.add( accessor.getWriterForTests().getConfig() );
+		}
+		return configs;
+	}
+
+	private void setup(Integer bulkRamBufferSize) {
+		setup( bulkRamBufferSize, null );
+	}
+
+	private void setup(Integer bulkRamBufferSize, Integer bulkParallelWriters) {
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, 0 )
+				.withBackendProperty( LuceneIndexSettings.IO_WRITER_BULK_RAM_BUFFER_SIZE, bulkRamBufferSize )
+				.withBackendProperty( LuceneIndexSettings.IO_WRITER_BULK_PARALLEL_WRITERS, bulkParallelWriters )
+				.setup();
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.BulkIndexer;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
+import org.awaitility.Awaitility;
+
+public class LuceneIndexWriterGlobalRamBufferIT {
+
+	private static final int SHARD_COUNT = 4;
+	private static final int DOCUMENT_COUNT = 2000;
+	private static final long GLOBAL_RAM_BUFFER_SIZE_IN_BYTES = 1024L * 1024L;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper(
+			helper -> helper.createHashBasedShardingBackendSetupStrategy( SHARD_COUNT )
+	);
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void flushLargestWriters() throws IOException {
+		setupHelper.start().withIndex( index )
+				.withBackendProperty( LuceneBackendSettings.IO_WRITER_GLOBAL_RAM_BUFFER_SIZE, 1 )
+				.withBackendProperty( LuceneBackendSettings.IO_WRITER_GLOBAL_RAM_BUFFER_CHECK_INTERVAL, 50 )
+				// Make sure writers never flush on their own during the test
+				.withBackendProperty( LuceneIndexSettings.IO_WRITER_RAM_BUFFER_SIZE, 256 )
+				.withBackendProperty( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS, 100_000 )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, 600_000 )
+				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, 600_000 )
+				.setup();
+
+		String text = text();
+		IndexIndexingPlan<?> plan = index.createIndexingPlan(
+				new StubBackendSessionContext(),
+				DocumentCommitStrategy.NONE,
+				// Refreshing would flush the writers
+				DocumentRefreshStrategy.NONE
+		);
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			String value = text + i;
+			plan.add( referenceProvider( String.valueOf( i ) ),
+					document -> document.addValue( index.binding().text, value ) );
+		}
+		plan.execute().join();
+
+		List<Shard> shards = index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests();
+		assertThat( shards ).hasSize( SHARD_COUNT );
+
+		Awaitility.await().untilAsserted( () -> {
+			long ramBytesUsed = 0L;
+			for ( Shard shard : shards ) {
+				ramBytesUsed += shard.getIndexAccessorForTests().getWriterForTests().ramBytesUsed();
+			}
+			assertThat( ramBytesUsed ).isLessThanOrEqualTo( GLOBAL_RAM_BUFFER_SIZE_IN_BYTES );
+		} );
+
+		// The buffers were flushed to segments, but nothing was lost
+		int documentCount = 0;
+		for ( Shard shard : shards ) {
+			IndexWriter writer = shard.getIndexAccessorForTests().getWriterForTests();
+			documentCount += writer.getDocStats().numDocs;
+		}
+		assertThat( documentCount ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void flushParallelBulkWriters() throws IOException {
+		setupHelper.start().withIndex( index )
+				.withBackendProperty( LuceneBackendSettings.IO_WRITER_GLOBAL_RAM_BUFFER_SIZE, 1 )
+				.withBackendProperty( LuceneBackendSettings.IO_WRITER_GLOBAL_RAM_BUFFER_CHECK_INTERVAL, 50 )
+				// Make sure writers never flush on their own during the test
+				.withBackendProperty( LuceneIndexSettings.IO_WRITER_BULK_RAM_BUFFER_SIZE, 256 )
+				.withBackendProperty( LuceneIndexSettings.IO_WRITER_BULK_PARALLEL_WRITERS, 2 )
+				.withBackendProperty( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS, 100_000 )
+				.setup();
+
+		IndexWorkspace workspace = index.createWorkspace();
+		workspace.beginBulkLoading().join();
+
+		BulkIndexer indexer = index.bulkIndexer( false );
+		String text = text();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			String value = text + i;
+			indexer.add( String.valueOf( i ), document -> document.addValue( index.binding().text, value ) );
+		}
+		indexer.join();
+
+		List<Shard> shards = index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests();
+
+		// Documents added during bulk loading are buffered by the writers to temporary indexes,
+		// which must be flushed as well to stay under the global limit
+		Awaitility.await().untilAsserted( () -> assertThat( flushedTemporarySegmentCount( shards ) ).isPositive() );
+
+		workspace.endBulkLoading().join();
+		assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	private static String text() {
+		// Each document takes a few kilobytes in the buffers: a few megabytes in total
+		StringBuilder text = new StringBuilder();
+		for ( int i = 0; i < 200; i++ ) {
+			text.append( "word" ).append( i ).append( ' ' );
+		}
+		return text.toString();
+	}
+
+	private static long flushedTemporarySegmentCount(List<Shard> shards) throws IOException {
+		long count = 0L;
+		for ( Shard shard : shards ) {
+			Directory directory = FilterDirectory.unwrap( shard.getIndexAccessorForTests().getDirectoryForTests() );
+			Path indexPath = ( (FSDirectory) directory ).getDirectory();
+			String prefix = "." + indexPath.getFileName() + "-bulk-";
+			try ( Stream<Path> files = Files.walk( indexPath.getParent() ) ) {
+				count += files.filter( path -> path.getParent().getParent().getFileName().toString().startsWith( prefix ) )
+						.filter( path -> path.getFileName().toString().endsWith( ".si" ) )
+						.count();
+			}
+		}
+		return count;
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() ).toReference();
+		}
+	}
+}
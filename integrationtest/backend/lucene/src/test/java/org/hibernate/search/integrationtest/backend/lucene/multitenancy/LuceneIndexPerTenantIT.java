@@ -0,0 +1,148 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.multitenancy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneTckBackendSetupStrategy;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+public class LuceneIndexPerTenantIT {
+
+	private static final String TENANT_1 = "tenant_1";
+	private static final String TENANT_2 = "tenant_2";
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper(
+			ignored -> new LuceneTckBackendSetupStrategy()
+					.setProperty( LuceneBackendSettings.MULTI_TENANCY_STRATEGY, "index-per-tenant" )
+	);
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private final StubBackendSessionContext tenant1SessionContext = new StubBackendSessionContext( TENANT_1 );
+	private final StubBackendSessionContext tenant2SessionContext = new StubBackendSessionContext( TENANT_2 );
+
+	@Test
+	public void shardPerTenant() {
+		setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+
+		// Shards are only created when a tenant is first used
+		assertThat( shards() ).isEmpty();
+		SearchResultAssert.assertThat( index.createScope().query( tenant1SessionContext )
+				.where( f -> f.matchAll() ).toQuery() )
+				.hasNoHits();
+
+		initData();
+		assertThat( shards() ).hasSize( 2 );
+
+		SearchResultAssert.assertThat( index.createScope().query( tenant1SessionContext )
+				.where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2" );
+		SearchResultAssert.assertThat( index.createScope().query( tenant2SessionContext )
+				.where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+
+		// Purging one tenant doesn't affect the others
+		index.createWorkspace( tenant1SessionContext ).purge( Collections.emptySet() ).join();
+		index.createWorkspace( tenant1SessionContext ).refresh().join();
+		SearchResultAssert.assertThat( index.createScope().query( tenant1SessionContext )
+				.where( f -> f.matchAll() ).toQuery() )
+				.hasNoHits();
+		SearchResultAssert.assertThat( index.createScope().query( tenant2SessionContext )
+				.where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+	}
+
+	@Test
+	public void restart() {
+		SearchIntegration integration = setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY );
+		initData();
+		integration.close();
+
+		// Shards of existing tenants must be found again on restart
+		setup( StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY );
+		assertThat( shards() ).hasSize( 2 );
+		SearchResultAssert.assertThat( index.createScope().query( tenant1SessionContext )
+				.where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2" );
+		SearchResultAssert.assertThat( index.createScope().query( tenant2SessionContext )
+				.where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+	}
+
+	@Test
+	public void invalidTenantId() {
+		setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+
+		assertThatThrownBy( () -> index.createIndexingPlan( new StubBackendSessionContext( "../tenant" ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid tenant identifier: '../tenant'" );
+	}
+
+	@Test
+	public void sharding() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withMultiTenancy()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, 2 )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "multi-tenancy strategy is 'index-per-tenant'" )
+				.hasMessageContaining( "cannot be combined with sharding" );
+	}
+
+	private SearchIntegration setup(StubMappingSchemaManagementStrategy schemaManagementStrategy) {
+		return setupHelper.start()
+				.withMultiTenancy()
+				.withSchemaManagement( schemaManagementStrategy )
+				.withIndex( index )
+				.setup();
+	}
+
+	private void initData() {
+		index.bulkIndexer( tenant1SessionContext, true )
+				.add( "1", document -> document.addValue( index.binding().text, "text1" ) )
+				.add( "2", document -> document.addValue( index.binding().text, "text2" ) )
+				.join();
+		index.bulkIndexer( tenant2SessionContext, true )
+				.add( "1", document -> document.addValue( index.binding().text, "text1" ) )
+				.join();
+	}
+
+	private List<Shard> shards() {
+		return index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() ).toReference();
+		}
+	}
+}
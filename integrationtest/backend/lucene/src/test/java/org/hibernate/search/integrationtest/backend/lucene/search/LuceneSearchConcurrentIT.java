@@ -0,0 +1,220 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.NormalizedDocRefHit;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.BulkIndexer;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Checks that searching multiple indexes concurrently returns the same results as searching them sequentially.
+ */
+@RunWith(Parameterized.class)
+public class LuceneSearchConcurrentIT {
+
+	private static final int DOCUMENT_COUNT = 100;
+
+	@Parameters(name = "Search thread pool size {0}")
+	public static Object[] data() {
+		return new Object[] { 0, 4 };
+	}
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	// Indexes of very different sizes
+	private final SimpleMappedIndex<IndexBinding> smallIndex =
+			SimpleMappedIndex.of( IndexBinding::new ).name( "small" );
+	private final SimpleMappedIndex<IndexBinding> mediumIndex =
+			SimpleMappedIndex.of( IndexBinding::new ).name( "medium" );
+	private final SimpleMappedIndex<IndexBinding> largeIndex =
+			SimpleMappedIndex.of( IndexBinding::new ).name( "large" );
+
+	private final int searchThreadPoolSize;
+
+	private StubMappingScope scope;
+
+	public LuceneSearchConcurrentIT(int searchThreadPoolSize) {
+		this.searchThreadPoolSize = searchThreadPoolSize;
+	}
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE, searchThreadPoolSize )
+				.withIndexes( smallIndex, mediumIndex, largeIndex )
+				.setup();
+
+		initData();
+
+		scope = smallIndex.createScope( mediumIndex, largeIndex );
+	}
+
+	@Test
+	public void sort() {
+		SearchResultAssert.assertThat( scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.fetch( 5 ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( c -> addDocs( c, 0, 1, 2, 3, 4 ) );
+
+		SearchResultAssert.assertThat( scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).desc() )
+				.fetch( 10, 3 ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( c -> addDocs( c, 89, 88, 87 ) );
+
+		SearchResultAssert.assertThat( scope.query()
+				.where( f -> f.range().field( "integer" ).atLeast( 90 ) )
+				.sort( f -> f.field( "integer" ) )
+				.fetch( 5, null ) )
+				.hasTotalHitCount( 10 )
+				.hasDocRefHitsExactOrder( c -> addDocs( c, 95, 96, 97, 98, 99 ) );
+	}
+
+	@Test
+	public void score() {
+		SearchResultAssert.assertThat( scope.query()
+				.where( f -> f.bool()
+						.should( f.match().field( "integer" ).matching( 42 ).boost( 3.0f ) )
+						.should( f.match().field( "integer" ).matching( 7 ).boost( 2.0f ) )
+						.should( f.match().field( "integer" ).matching( 61 ) ) )
+				.fetch( 2 ) )
+				.hasTotalHitCount( 3 )
+				.hasDocRefHitsExactOrder( c -> addDocs( c, 42, 7 ) );
+
+		SearchResultAssert.assertThat( scope.query()
+				.where( f -> f.matchAll() )
+				.fetchAll() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsAnyOrder( c -> addDocs( c, i -> true ) );
+	}
+
+	@Test
+	public void aggregation() {
+		AggregationKey<Map<String, Long>> aggregationKey = AggregationKey.of( "category" );
+
+		SearchResult<DocumentReference> result = scope.query()
+				.where( f -> f.matchAll() )
+				.aggregation( aggregationKey, f -> f.terms().field( "category", String.class ) )
+				.fetch( 1 );
+
+		// Aggregations take into account matching documents from all indexes, not just the top hits
+		assertThat( result.aggregation( aggregationKey ) )
+				.containsEntry( "0", 34L )
+				.containsEntry( "1", 33L )
+				.containsEntry( "2", 33L )
+				.hasSize( 3 );
+	}
+
+	@Test
+	public void totalHitCountThreshold() {
+		SearchResult<DocumentReference> result = scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.totalHitCountThreshold( 10 )
+				.fetch( 3 );
+
+		SearchResultAssert.assertThat( result )
+				.hasDocRefHitsExactOrder( c -> addDocs( c, 0, 1, 2 ) );
+		if ( result.totalHitCountExact() ) {
+			assertThat( result.totalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		}
+		else {
+			assertThat( result.totalHitCount() ).isBetween( 10L, (long) DOCUMENT_COUNT );
+		}
+	}
+
+	@Test
+	public void fetchTotalHitCount() {
+		assertThat( scope.query()
+				.where( f -> f.range().field( "integer" ).lessThan( 50 ) )
+				.fetchTotalHitCount() )
+				.isEqualTo( 50 );
+	}
+
+	private void addDocs(NormalizedDocRefHit.Builder builder, int... ids) {
+		for ( int id : ids ) {
+			builder.doc( indexFor( id ).typeName(), docId( id ) );
+		}
+	}
+
+	private void addDocs(NormalizedDocRefHit.Builder builder, IntPredicate filter) {
+		addDocs( builder, IntStream.range( 0, DOCUMENT_COUNT ).filter( filter ).toArray() );
+	}
+
+	private SimpleMappedIndex<IndexBinding> indexFor(int id) {
+		if ( id % 10 == 0 ) {
+			return smallIndex;
+		}
+		else if ( id % 3 == 0 ) {
+			return mediumIndex;
+		}
+		else {
+			return largeIndex;
+		}
+	}
+
+	private void initData() {
+		BulkIndexer smallIndexer = smallIndex.bulkIndexer();
+		BulkIndexer mediumIndexer = mediumIndex.bulkIndexer();
+		BulkIndexer largeIndexer = largeIndex.bulkIndexer();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			SimpleMappedIndex<IndexBinding> index = indexFor( i );
+			BulkIndexer indexer = index == smallIndex ? smallIndexer
+					: index == mediumIndex ? mediumIndexer
+					: largeIndexer;
+			int value = i;
+			indexer.add( documentProvider( docId( i ), document -> {
+				document.addValue( index.binding().integer, value );
+				document.addValue( index.binding().category, String.valueOf( value % 3 ) );
+			} ) );
+		}
+		smallIndexer.join( mediumIndexer, largeIndexer );
+	}
+
+	private static String docId(int i) {
+		return String.valueOf( i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<String> category;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			category = root.field( "category", f -> f.asString().aggregable( Aggregable.YES ) ).toReference();
+		}
+	}
+}
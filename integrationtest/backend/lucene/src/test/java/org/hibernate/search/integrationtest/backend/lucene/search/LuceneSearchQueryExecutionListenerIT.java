@@ -0,0 +1,117 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.cfg.spi.EngineSpiSettings;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionListener;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionPhase;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionReport;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class LuceneSearchQueryExecutionListenerIT {
+
+	private static final AggregationKey<Map<Range<Integer>, Long>> COUNT_KEY = AggregationKey.of( "count" );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private final List<SearchQueryExecutionReport> reports = new CopyOnWriteArrayList<>();
+
+	@Before
+	public void setup() {
+		SearchQueryExecutionListener listener = reports::add;
+		setupHelper.start()
+				.withPropertyRadical( EngineSpiSettings.Radicals.QUERY_EXECUTION_LISTENER,
+						BeanReference.ofInstance( listener ) )
+				.withIndex( index )
+				.setup();
+		initData();
+	}
+
+	@Test
+	public void fetch() {
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.aggregation( COUNT_KEY, f -> f.range().field( "number", Integer.class )
+						.range( 0, 10 ) )
+				.toQuery();
+		reports.clear();
+
+		SearchResult<DocumentReference> result = query.fetch( 2 );
+
+		assertThat( reports ).hasSize( 1 );
+		SearchQueryExecutionReport report = reports.get( 0 );
+		assertThat( report.indexNames() ).containsExactly( index.name() );
+		assertThat( report.queryString() ).isEqualTo( query.queryString() );
+		assertThat( report.totalHitCount() ).isEqualTo( 3L );
+		assertThat( report.hitCount() ).isEqualTo( result.hits().size() ).isEqualTo( 2 );
+		assertThat( report.timedOut() ).isFalse();
+		assertThat( report.took().isNegative() ).isFalse();
+		assertThat( report.phaseDurations() ).containsKeys(
+				SearchQueryExecutionPhase.QUERY_BUILDING,
+				SearchQueryExecutionPhase.MATCHING_DOCUMENTS_COLLECTION,
+				SearchQueryExecutionPhase.HIT_EXTRACTION,
+				SearchQueryExecutionPhase.AGGREGATION_EXTRACTION,
+				SearchQueryExecutionPhase.LOADING
+		);
+		assertThat( report.phaseDuration( SearchQueryExecutionPhase.REQUEST_EXECUTION ) ).isEmpty();
+	}
+
+	@Test
+	public void fetchTotalHitCount() {
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+		reports.clear();
+
+		assertThat( query.fetchTotalHitCount() ).isEqualTo( 3L );
+
+		assertThat( reports ).hasSize( 1 );
+		SearchQueryExecutionReport report = reports.get( 0 );
+		assertThat( report.totalHitCount() ).isEqualTo( 3L );
+		assertThat( report.hitCount() ).isEqualTo( 0 );
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( "1", document -> document.addValue( index.binding().number, 1 ) )
+				.add( "2", document -> document.addValue( index.binding().number, 2 ) )
+				.add( "3", document -> document.addValue( index.binding().number, 3 ) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", f -> f.asInteger().aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,284 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.cfg.spi.EngineSpiSettings;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionListener;
+import org.hibernate.search.engine.search.query.spi.SearchQueryExecutionReport;
+import org.hibernate.search.engine.spatial.GeoPoint;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.document.Document;
+
+public class LuceneSearchResultCacheIT {
+
+	private static final AggregationKey<Map<String, Long>> CATEGORY_KEY = AggregationKey.of( "category" );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private final List<SearchQueryExecutionReport> reports = new CopyOnWriteArrayList<>();
+
+	@Before
+	public void setup() {
+		SearchQueryExecutionListener listener = reports::add;
+		setupHelper.start()
+				.withPropertyRadical( EngineSpiSettings.Radicals.QUERY_EXECUTION_LISTENER,
+						BeanReference.ofInstance( listener ) )
+				.withBackendProperty( LuceneBackendSettings.SEARCH_RESULT_CACHE_MAX_ENTRIES, 10 )
+				.withIndex( index )
+				.setup();
+		initData();
+	}
+
+	@Test
+	public void identicalQueries() {
+		SearchResult<DocumentReference> result = facetQuery( 2 );
+		assertFromCache( false );
+
+		SearchResult<DocumentReference> cachedResult = facetQuery( 2 );
+		assertFromCache( true );
+
+		SearchResultAssert.assertThat( cachedResult )
+				.hasTotalHitCount( 5 )
+				.hasDocRefHitsExactOrder( index.typeName(), "1", "2" );
+		assertThat( cachedResult.hits() ).isEqualTo( result.hits() );
+		assertThat( cachedResult.aggregation( CATEGORY_KEY ) )
+				.isEqualTo( result.aggregation( CATEGORY_KEY ) )
+				.containsEntry( "even", 2L )
+				.containsEntry( "odd", 3L );
+	}
+
+	@Test
+	public void projections() {
+		assertThat( index.createScope().query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).desc() )
+				.fetchHits( 3 ) )
+				.containsExactly( 5, 4, 3 );
+		assertFromCache( false );
+
+		// Hits are extracted from the cached data on each execution
+		assertThat( index.createScope().query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).desc() )
+				.fetchHits( 3 ) )
+				.containsExactly( 5, 4, 3 );
+		assertFromCache( true );
+
+		// Different projections require different data
+		SearchResultAssert.assertThat( index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).desc() )
+				.fetch( 3 ) )
+				.hasDocRefHitsExactOrder( index.typeName(), "5", "4", "3" );
+		assertFromCache( false );
+	}
+
+	@Test
+	public void aggregations_immutable() {
+		SearchResult<DocumentReference> result = facetQuery( 2 );
+		assertFromCache( false );
+		// Results of executions that do not hit the cache belong to the caller
+		result.aggregation( CATEGORY_KEY ).put( "other", 42L );
+
+		SearchResult<DocumentReference> cachedResult = facetQuery( 2 );
+		assertFromCache( true );
+		Map<String, Long> cachedAggregation = cachedResult.aggregation( CATEGORY_KEY );
+		assertThat( cachedAggregation )
+				.containsOnly( entry( "even", 2L ), entry( "odd", 3L ) );
+		// Results shared between executions cannot be modified
+		assertThatThrownBy( () -> cachedAggregation.put( "other", 42L ) )
+				.isInstanceOf( UnsupportedOperationException.class );
+	}
+
+	@Test
+	public void documentProjection_copied() {
+		Document document = documentQuery();
+		assertFromCache( false );
+		document.removeFields( "number" );
+
+		Document cachedDocument = documentQuery();
+		assertFromCache( true );
+		assertThat( cachedDocument.getField( "number" ) ).isNotNull();
+		// Each execution gets its own document: modifications do not leak into other executions
+		cachedDocument.removeFields( "number" );
+		assertThat( documentQuery().getField( "number" ) ).isNotNull();
+		assertFromCache( true );
+	}
+
+	@Test
+	public void distanceProjection() {
+		assertThat( distanceQuery() ).hasSize( 3 );
+		assertFromCache( false );
+
+		// Distances are read from the cached data, possibly in a different order than they were collected
+		List<Double> cachedDistances = distanceQuery();
+		assertFromCache( true );
+		assertThat( cachedDistances ).isEqualTo( distanceQuery() ).isSortedAccordingTo( Comparator.reverseOrder() );
+		assertFromCache( true );
+	}
+
+	@Test
+	public void differentQueries() {
+		facetQuery( 2 );
+		assertFromCache( false );
+
+		// Different limit
+		facetQuery( 3 );
+		assertFromCache( false );
+
+		// Different predicate
+		index.createScope().query()
+				.where( f -> f.match().field( "category" ).matching( "odd" ) )
+				.sort( f -> f.field( "number" ) )
+				.aggregation( CATEGORY_KEY, f -> f.terms().field( "category", String.class ) )
+				.fetch( 2 );
+		assertFromCache( false );
+
+		// Different aggregation
+		index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ) )
+				.aggregation( CATEGORY_KEY, f -> f.terms().field( "category", String.class ).maxTermCount( 1 ) )
+				.fetch( 2 );
+		assertFromCache( false );
+
+		// Different sort
+		index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).desc() )
+				.aggregation( CATEGORY_KEY, f -> f.terms().field( "category", String.class ) )
+				.fetch( 2 );
+		assertFromCache( false );
+
+		// Same as the first query
+		facetQuery( 2 );
+		assertFromCache( true );
+	}
+
+	@Test
+	public void invalidatedOnRefresh() {
+		facetQuery( 2 );
+		assertFromCache( false );
+		facetQuery( 2 );
+		assertFromCache( true );
+
+		index.bulkIndexer()
+				.add( "6", document -> {
+					document.addValue( index.binding().number, 0 );
+					document.addValue( index.binding().category, "even" );
+				} )
+				.join();
+
+		SearchResult<DocumentReference> result = facetQuery( 2 );
+		assertFromCache( false );
+		SearchResultAssert.assertThat( result )
+				.hasTotalHitCount( 6 )
+				.hasDocRefHitsExactOrder( index.typeName(), "6", "1" );
+		assertThat( result.aggregation( CATEGORY_KEY ) )
+				.containsEntry( "even", 3L )
+				.containsEntry( "odd", 3L );
+
+		facetQuery( 2 );
+		assertFromCache( true );
+	}
+
+	private SearchResult<DocumentReference> facetQuery(int limit) {
+		StubMappingScope scope = index.createScope();
+		return scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ) )
+				.aggregation( CATEGORY_KEY, f -> f.terms().field( "category", String.class ) )
+				.fetch( limit );
+	}
+
+	private Document documentQuery() {
+		return index.createScope().query().extension( LuceneExtension.get() )
+				.select( f -> f.document() )
+				.where( f -> f.id().matching( "1" ) )
+				.fetchSingleHit()
+				.get();
+	}
+
+	private List<Double> distanceQuery() {
+		return index.createScope().query()
+				.select( f -> f.distance( "location", GeoPoint.of( 0.0, 0.0 ) ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).desc() )
+				.fetchHits( 3 );
+	}
+
+	private void assertFromCache(boolean expected) {
+		assertThat( reports ).isNotEmpty();
+		assertThat( reports.get( reports.size() - 1 ).fromCache() ).isEqualTo( expected );
+		reports.clear();
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( 5, i -> {
+					int number = i + 1;
+					return documentProvider(
+							String.valueOf( number ),
+							document -> {
+								document.addValue( index.binding().number, number );
+								document.addValue( index.binding().category, number % 2 == 0 ? "even" : "odd" );
+								document.addValue( index.binding().location, GeoPoint.of( number, number ) );
+							}
+					);
+				} )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+		final IndexFieldReference<String> category;
+		final IndexFieldReference<GeoPoint> location;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", f -> f.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			category = root.field( "category", f -> f.asString().aggregable( Aggregable.YES ) )
+					.toReference();
+			location = root.field( "location", f -> f.asGeoPoint().projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
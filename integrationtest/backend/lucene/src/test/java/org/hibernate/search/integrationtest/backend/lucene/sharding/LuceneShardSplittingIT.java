@@ -0,0 +1,277 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.backend.lucene.work.impl.SplitHashShardWork;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.mapper.mapping.building.spi.IndexedEntityBindingContext;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.NormalizedDocRefHit;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.BulkIndexer;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.DirectoryReader;
+
+public class LuceneShardSplittingIT {
+
+	private static final int INITIAL_SHARD_COUNT = 2;
+	private static final int ROUTING_KEY_COUNT = 10;
+	private static final int DOCUMENT_COUNT_PER_ROUTING_KEY = 10;
+	private static final int DOCUMENT_COUNT_WITHOUT_ROUTING_KEY = 100;
+	private static final int TOTAL_DOCUMENT_COUNT =
+			ROUTING_KEY_COUNT * DOCUMENT_COUNT_PER_ROUTING_KEY + DOCUMENT_COUNT_WITHOUT_ROUTING_KEY;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper(
+			helper -> helper.createHashBasedShardingBackendSetupStrategy( INITIAL_SHARD_COUNT )
+	);
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.ofAdvanced( IndexBinding::new );
+
+	private final List<String> allDocIds = new ArrayList<>();
+
+	@Test
+	public void split() throws IOException {
+		setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+		initData();
+
+		index.unwrapForTests( LuceneIndexManager.class ).splitShards( 3 ).join();
+
+		List<Shard> shards = index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests();
+		assertThat( shards ).hasSize( INITIAL_SHARD_COUNT * 3 );
+		// Each document must be in exactly one shard
+		int documentCountInShards = 0;
+		for ( Shard shard : shards ) {
+			DirectoryReader reader = shard.getIndexAccessorForTests().getIndexReader();
+			try {
+				assertThat( reader.numDocs() ).isGreaterThan( 0 );
+				documentCountInShards += reader.numDocs();
+			}
+			finally {
+				reader.decRef();
+			}
+		}
+		assertThat( documentCountInShards ).isEqualTo( TOTAL_DOCUMENT_COUNT );
+
+		SearchResultAssert.assertThat( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hits().asNormalizedDocRefs()
+				.hasSize( TOTAL_DOCUMENT_COUNT )
+				.containsExactlyInAnyOrder( docRefs( allDocIds ) );
+
+		// Routing must target the shard documents were moved to
+		String someRoutingKey = routingKey( 7 );
+		List<String> someRoutingKeyDocIds = new ArrayList<>();
+		for ( int j = 0; j < DOCUMENT_COUNT_PER_ROUTING_KEY; j++ ) {
+			someRoutingKeyDocIds.add( someRoutingKey + "_" + j );
+		}
+		SearchResultAssert.assertThat( index.query().where( f -> f.matchAll() ).routing( someRoutingKey ).toQuery() )
+				.hits().asNormalizedDocRefs()
+				.containsExactlyInAnyOrder( docRefs( someRoutingKeyDocIds ) );
+
+		// Updates must replace documents in the shard they were moved to
+		IndexIndexingPlan<?> plan = index.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT_WITHOUT_ROUTING_KEY; i++ ) {
+			plan.update( referenceProvider( "noRoutingKey_" + i ),
+					document -> document.addValue( index.binding().text, "updated" ) );
+		}
+		for ( String documentId : someRoutingKeyDocIds ) {
+			plan.update( referenceProvider( documentId, someRoutingKey ),
+					document -> document.addValue( index.binding().text, "updated" ) );
+		}
+		plan.execute().join();
+
+		SearchResultAssert.assertThat( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hits().asNormalizedDocRefs()
+				.hasSize( TOTAL_DOCUMENT_COUNT )
+				.containsExactlyInAnyOrder( docRefs( allDocIds ) );
+		SearchResultAssert.assertThat( index.query().where( f -> f.match().field( "text" ).matching( "updated" ) ).toQuery() )
+				.hits().asNormalizedDocRefs()
+				.hasSize( DOCUMENT_COUNT_WITHOUT_ROUTING_KEY + DOCUMENT_COUNT_PER_ROUTING_KEY );
+	}
+
+	@Test
+	public void split_indexingDuringSplit() {
+		setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+		initData();
+
+		CompletableFuture<?> splitFuture = index.unwrapForTests( LuceneIndexManager.class ).splitShards( 3 );
+
+		// Indexing is rejected until the split is complete
+		IndexIndexingPlan<?> plan = index.createIndexingPlan();
+		plan.add( referenceProvider( "new" ), document -> document.addValue( index.binding().text, "new" ) );
+		assertThatThrownBy( plan::execute )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to index documents in index '" + index.name() + "'" )
+				.hasMessageContaining( "the shards of this index are being split" );
+		assertThatThrownBy( () -> index.unwrapForTests( LuceneIndexManager.class ).splitShards( 2 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to split the shards of index '" + index.name() + "'" )
+				.hasMessageContaining( "a split of the shards of this index is already in progress" );
+
+		splitFuture.join();
+
+		plan.add( referenceProvider( "new" ), document -> document.addValue( index.binding().text, "new" ) );
+		plan.execute().join();
+		SearchResultAssert.assertThat( index.query().where( f -> f.match().field( "text" ).matching( "new" ) ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "new" );
+	}
+
+	@Test
+	public void split_searchDuringSplit() {
+		setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+		initData();
+
+		CompletableFuture<?> splitFuture = index.unwrapForTests( LuceneIndexManager.class ).splitShards( 3 );
+
+		// Documents are copied before being purged from their original shard, but must never be returned twice
+		do {
+			SearchResultAssert.assertThat( index.query().where( f -> f.matchAll() ).toQuery() )
+					.hits().asNormalizedDocRefs()
+					.hasSize( TOTAL_DOCUMENT_COUNT )
+					.containsExactlyInAnyOrder( docRefs( allDocIds ) );
+		}
+		while ( !splitFuture.isDone() );
+		splitFuture.join();
+
+		SearchResultAssert.assertThat( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hits().asNormalizedDocRefs()
+				.hasSize( TOTAL_DOCUMENT_COUNT )
+				.containsExactlyInAnyOrder( docRefs( allDocIds ) );
+	}
+
+	@Test
+	public void split_restart() {
+		SearchIntegration integration = setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY );
+		initData();
+		index.unwrapForTests( LuceneIndexManager.class ).splitShards( 3 ).join();
+		integration.close();
+
+		// The number of shards must be updated in the configuration before restarting
+		assertThatThrownBy( () -> setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.NONE )
+				.withIndex( index )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid number of shards for index '" + index.name() + "'" )
+				.hasMessageContaining( "is set to " + INITIAL_SHARD_COUNT )
+				.hasMessageContaining( "split into " + INITIAL_SHARD_COUNT * 3 + " shards" );
+
+		setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY )
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, INITIAL_SHARD_COUNT * 3 )
+				.setup();
+		assertThat( index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() )
+				.hasSize( INITIAL_SHARD_COUNT * 3 );
+		SearchResultAssert.assertThat( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hits().asNormalizedDocRefs()
+				.hasSize( TOTAL_DOCUMENT_COUNT )
+				.containsExactlyInAnyOrder( docRefs( allDocIds ) );
+	}
+
+	@Test
+	public void split_restart_incompleteSplit() throws IOException {
+		SearchIntegration integration = setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY );
+		initData();
+		index.unwrapForTests( LuceneIndexManager.class ).splitShards( 3 ).join();
+
+		// Simulate a split that was interrupted before shard "1" was purged
+		Shard interruptedShard = index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests().get( 1 );
+		IndexAccessorImpl indexAccessor = interruptedShard.getIndexAccessorForTests();
+		indexAccessor.getIndexWriterDelegator().putCommitUserData( SplitHashShardWork.SHARD_COUNT_COMMIT_USER_DATA_KEY,
+				String.valueOf( INITIAL_SHARD_COUNT ) );
+		indexAccessor.commit();
+		integration.close();
+
+		// The shard may still hold copies of documents that were moved: the index must not start
+		assertThatThrownBy( () -> setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.NONE )
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, INITIAL_SHARD_COUNT * 3 )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Incomplete split of the shards of index '" + index.name() + "'" )
+				.hasMessageContaining( "shard '1' was not split into " + INITIAL_SHARD_COUNT * 3 + " shards" );
+	}
+
+	@Test
+	public void split_invalidFactor() {
+		setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+
+		assertThatThrownBy( () -> index.unwrapForTests( LuceneIndexManager.class ).splitShards( 1 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid shard split factor: '1'" );
+	}
+
+	private SearchIntegration setup(StubMappingSchemaManagementStrategy schemaManagementStrategy) {
+		return setupHelper.start()
+				.withSchemaManagement( schemaManagementStrategy )
+				.withIndex( index )
+				.setup();
+	}
+
+	private void initData() {
+		BulkIndexer indexer = index.bulkIndexer();
+		for ( int i = 0; i < ROUTING_KEY_COUNT; i++ ) {
+			String routingKey = routingKey( i );
+			for ( int j = 0; j < DOCUMENT_COUNT_PER_ROUTING_KEY; j++ ) {
+				String documentId = routingKey + "_" + j;
+				allDocIds.add( documentId );
+				indexer.add( documentProvider( documentId, routingKey,
+						document -> document.addValue( index.binding().text, "initial" ) ) );
+			}
+		}
+		for ( int i = 0; i < DOCUMENT_COUNT_WITHOUT_ROUTING_KEY; i++ ) {
+			String documentId = "noRoutingKey_" + i;
+			allDocIds.add( documentId );
+			indexer.add( documentProvider( documentId,
+					document -> document.addValue( index.binding().text, "initial" ) ) );
+		}
+		indexer.join();
+	}
+
+	private static String routingKey(int i) {
+		return "routingKey_" + i;
+	}
+
+	private DocumentReference[] docRefs(List<String> docIds) {
+		return NormalizedDocRefHit.of( b -> docIds.forEach( docId -> b.doc( index.typeName(), docId ) ) );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexedEntityBindingContext ctx) {
+			ctx.explicitRouting();
+			text = ctx.schemaElement().field( "text", f -> f.asString() ).toReference();
+		}
+	}
+}
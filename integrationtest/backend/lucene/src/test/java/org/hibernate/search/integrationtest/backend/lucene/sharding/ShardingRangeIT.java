@@ -0,0 +1,206 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.mapper.mapping.building.spi.IndexedEntityBindingContext;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneTckBackendSetupStrategy;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubDocumentProvider;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
+
+/**
+ * A basic test for range sharding: shards created on the fly and skipped when searching.
+ */
+public class ShardingRangeIT {
+
+	private static final String JANUARY_1 = "january1";
+	private static final String JANUARY_2 = "january2";
+	private static final String FEBRUARY = "february";
+	private static final String MARCH = "march";
+	// Routed to the January shard, but with a date in February:
+	// only found if the January shard is searched.
+	private static final String MISROUTED = "misrouted";
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper(
+			ignored -> new LuceneTckBackendSetupStrategy()
+					.setProperty( LuceneIndexSettings.SHARDING_STRATEGY, "range" )
+					.setProperty( LuceneIndexSettings.SHARDING_RANGE_FIELD, "date" )
+					.setProperty( LuceneIndexSettings.SHARDING_RANGE_INTERVAL, "month" )
+	);
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.ofAdvanced( IndexBinding::new );
+
+	@Test
+	public void search() {
+		setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+		initData();
+
+		// One shard per month, plus the initial shard for the current month
+		assertThat( index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() ).hasSize( 4 );
+
+		SearchResultAssert.assertThat( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), JANUARY_1, JANUARY_2, FEBRUARY, MARCH, MISROUTED );
+
+		// Pruning: only the February shard is searched
+		SearchResultAssert.assertThat( index.query()
+				.where( f -> f.range().field( "date" )
+						.between( LocalDate.of( 2020, 2, 1 ), LocalDate.of( 2020, 2, 29 ) ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), FEBRUARY );
+		SearchResultAssert.assertThat( index.query()
+				.where( f -> f.bool()
+						.must( f.range().field( "date" ).atLeast( LocalDate.of( 2020, 2, 1 ) ) )
+						.must( f.matchAll() ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), FEBRUARY, MARCH );
+		SearchResultAssert.assertThat( index.query()
+				.where( f -> f.match().field( "date" ).matching( LocalDate.of( 2020, 2, 20 ) ) )
+				.toQuery() )
+				.hasNoHits();
+		SearchResultAssert.assertThat( index.query()
+				.where( f -> f.bool()
+						.should( f.range().field( "date" ).atMost( LocalDate.of( 2020, 1, 31 ) ) )
+						.should( f.range().field( "date" ).atLeast( LocalDate.of( 2020, 3, 1 ) ) ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), JANUARY_1, JANUARY_2, MARCH );
+
+		// No pruning when a should clause does not constrain the field
+		SearchResultAssert.assertThat( index.query()
+				.where( f -> f.bool()
+						.should( f.range().field( "date" ).atMost( LocalDate.of( 2020, 1, 5 ) ) )
+						.should( f.match().field( "date" ).matching( LocalDate.of( 2020, 2, 20 ) ) )
+						.should( f.id().matching( "unknown" ) ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), MISROUTED );
+
+		// Routing
+		SearchResultAssert.assertThat( index.query().where( f -> f.matchAll() ).routing( "2020-03-10T10:15:30Z" ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), MARCH );
+		// Routing to a shard that doesn't exist yet
+		SearchResultAssert.assertThat( index.query().where( f -> f.matchAll() ).routing( "2019-12-15" ).toQuery() )
+				.hasNoHits();
+	}
+
+	@Test
+	public void restart() {
+		SearchIntegration integration = setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY );
+		initData();
+		integration.close();
+
+		// Shards created on the fly must be found again on restart
+		setup( StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY );
+		assertThat( index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() ).hasSize( 4 );
+		SearchResultAssert.assertThat( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), JANUARY_1, JANUARY_2, FEBRUARY, MARCH, MISROUTED );
+	}
+
+	@Test
+	public void restart_leftoverBulkLoadingIndexes() throws IOException {
+		SearchIntegration integration = setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY );
+		initData();
+		Directory directory = index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests().get( 0 )
+				.getIndexAccessorForTests().getDirectoryForTests();
+		Path shardPath = ( (FSDirectory) FilterDirectory.unwrap( directory ) ).getDirectory();
+		integration.close();
+
+		// Simulate a crash during bulk loading, leaving temporary indexes behind, next to the shards
+		Path leftover = shardPath.resolveSibling( "." + shardPath.getFileName() + "-bulk-1234" );
+		Files.createDirectories( leftover.resolve( "0" ) );
+		Files.write( leftover.resolve( "0" ).resolve( "_0.cfs" ), new byte[] { 1, 2, 3 } );
+
+		setup( StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY );
+		// The temporary indexes must not be mistaken for a shard...
+		assertThat( index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() ).hasSize( 4 );
+		SearchResultAssert.assertThat( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), JANUARY_1, JANUARY_2, FEBRUARY, MARCH, MISROUTED );
+		// ... and must be deleted on startup
+		assertThat( leftover ).doesNotExist();
+	}
+
+	@Test
+	public void missingRoutingKey() {
+		setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+
+		assertThatThrownBy( () -> {
+			IndexIndexingPlan<?> plan = index.createIndexingPlan();
+			plan.add( referenceProvider( "1" ), document -> { } );
+			plan.execute().join();
+		} )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Missing routing key for document '1'" )
+				.hasMessageContaining( "'date'" );
+	}
+
+	@Test
+	public void invalidRoutingKey() {
+		setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+
+		assertThatThrownBy( () -> {
+			IndexIndexingPlan<?> plan = index.createIndexingPlan();
+			plan.add( referenceProvider( "1", "notADate" ), document -> { } );
+			plan.execute().join();
+		} )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid routing key: 'notADate'" );
+	}
+
+	private SearchIntegration setup(StubMappingSchemaManagementStrategy schemaManagementStrategy) {
+		return setupHelper.start()
+				.withSchemaManagement( schemaManagementStrategy )
+				.withIndex( index )
+				.setup();
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( document( JANUARY_1, "2020-01-10", LocalDate.of( 2020, 1, 10 ) ) )
+				.add( document( JANUARY_2, "2020-01-25", LocalDate.of( 2020, 1, 25 ) ) )
+				.add( document( FEBRUARY, "2020-02-10", LocalDate.of( 2020, 2, 10 ) ) )
+				.add( document( MARCH, "2020-03-10T10:15:30Z", LocalDate.of( 2020, 3, 10 ) ) )
+				.add( document( MISROUTED, "2020-01-20", LocalDate.of( 2020, 2, 20 ) ) )
+				.join();
+	}
+
+	private StubDocumentProvider document(String id, String routingKey, LocalDate date) {
+		return documentProvider( id, routingKey, document -> document.addValue( index.binding().date, date ) );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<LocalDate> date;
+
+		IndexBinding(IndexedEntityBindingContext ctx) {
+			ctx.explicitRouting();
+			date = ctx.schemaElement().field( "date", f -> f.asLocalDate() ).toReference();
+		}
+	}
+}
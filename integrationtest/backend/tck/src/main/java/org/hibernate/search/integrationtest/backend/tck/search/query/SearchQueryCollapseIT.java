@@ -0,0 +1,200 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.Locale;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class SearchQueryCollapseIT {
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+	private static final String DOCUMENT_4 = "4";
+	private static final String DOCUMENT_5 = "5";
+	private static final String DOCUMENT_6 = "6";
+	private static final String DOCUMENT_7 = "7";
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		initData();
+	}
+
+	@Test
+	public void sort() {
+		assertThat( index.query()
+				.where( f -> f.matchAll() )
+				.collapse( "family" )
+				.sort( f -> f.field( "rank" ) )
+				.fetchAll() )
+				// The total hit count is not affected by collapsing
+				.hasTotalHitCount( 7 )
+				.hasDocRefHitsExactOrder( index.typeName(), DOCUMENT_7, DOCUMENT_2, DOCUMENT_3, DOCUMENT_5 );
+
+		assertThat( index.query()
+				.where( f -> f.matchAll() )
+				.collapse( "family" )
+				.sort( f -> f.field( "rank" ).desc() )
+				.fetchAll() )
+				.hasTotalHitCount( 7 )
+				.hasDocRefHitsExactOrder( index.typeName(), DOCUMENT_6, DOCUMENT_4, DOCUMENT_5, DOCUMENT_1 );
+	}
+
+	@Test
+	public void numericField() {
+		assertThat( index.query()
+				.where( f -> f.matchAll() )
+				.collapse( "familyNumber" )
+				.sort( f -> f.field( "rank" ) )
+				.fetchAllHits() )
+				.hasDocRefHitsExactOrder( index.typeName(), DOCUMENT_7, DOCUMENT_2, DOCUMENT_3, DOCUMENT_5 );
+	}
+
+	@Test
+	public void offsetLimit() {
+		assertThat( index.query()
+				.where( f -> f.matchAll() )
+				.collapse( "family" )
+				.sort( f -> f.field( "rank" ) )
+				.fetch( 1, 2 ) )
+				.hasTotalHitCount( 7 )
+				.hasDocRefHitsExactOrder( index.typeName(), DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	@Test
+	public void score() {
+		// Document 2 has a higher score than document 1, even though it comes after it in index order
+		assertThat( index.query()
+				.where( f -> f.bool()
+						.should( f.match().field( "rank" ).matching( 1 ).boost( 10.0f ) )
+						.should( f.match().field( "rank" ).matching( 3 ) ) )
+				.collapse( "family" )
+				.fetchAll() )
+				.hasTotalHitCount( 2 )
+				.hasDocRefHitsExactOrder( index.typeName(), DOCUMENT_2 );
+	}
+
+	@Test
+	public void manyGroups_multipleSegments() {
+		int groupCount = 600;
+		// Indexed separately, to end up in different segments
+		index.bulkIndexer()
+				.add( groupCount, i -> documentProvider( "first_" + i, document -> {
+					document.addValue( index.binding().group, String.format( Locale.ROOT, "g%03d", i ) );
+					document.addValue( index.binding().label, "b" );
+					document.addValue( index.binding().rank, i );
+				} ) )
+				.join();
+		index.bulkIndexer()
+				.add( groupCount, i -> documentProvider( "second_" + i, document -> {
+					document.addValue( index.binding().group, String.format( Locale.ROOT, "g%03d", i ) );
+					document.addValue( index.binding().label, i % 2 == 0 ? "a" : "c" );
+					document.addValue( index.binding().rank, i );
+				} ) )
+				.join();
+
+		assertThat( index.query()
+				.where( f -> f.exists().field( "group" ) )
+				.collapse( "group" )
+				.sort( f -> f.field( "label" ).then().field( "rank" ) )
+				.fetchAllHits() )
+				// The head of even groups is in the second segment, the head of odd groups is in the first segment
+				.hasDocRefHitsExactOrder( ctx -> {
+					for ( int i = 0; i < groupCount; i += 2 ) {
+						ctx.doc( index.typeName(), "second_" + i );
+					}
+					for ( int i = 1; i < groupCount; i += 2 ) {
+						ctx.doc( index.typeName(), "first_" + i );
+					}
+				} );
+	}
+
+	@Test
+	public void invalidField() {
+		assertThatThrownBy( () -> index.query()
+				.where( f -> f.matchAll() )
+				.collapse( "notSortable" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Cannot collapse hits on field 'notSortable'" );
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_1, document -> {
+					document.addValue( index.binding().family, "a" );
+					document.addValue( index.binding().familyNumber, 1 );
+					document.addValue( index.binding().rank, 3 );
+				} )
+				.add( DOCUMENT_2, document -> {
+					document.addValue( index.binding().family, "a" );
+					document.addValue( index.binding().familyNumber, 1 );
+					document.addValue( index.binding().rank, 1 );
+				} )
+				.add( DOCUMENT_3, document -> {
+					document.addValue( index.binding().family, "b" );
+					document.addValue( index.binding().familyNumber, 2 );
+					document.addValue( index.binding().rank, 2 );
+				} )
+				.add( DOCUMENT_4, document -> {
+					document.addValue( index.binding().family, "b" );
+					document.addValue( index.binding().familyNumber, 2 );
+					document.addValue( index.binding().rank, 5 );
+				} )
+				.add( DOCUMENT_5, document -> {
+					document.addValue( index.binding().family, "c" );
+					document.addValue( index.binding().familyNumber, 3 );
+					document.addValue( index.binding().rank, 4 );
+				} )
+				// Documents without a value are collapsed together
+				.add( DOCUMENT_6, document -> {
+					document.addValue( index.binding().rank, 6 );
+				} )
+				.add( DOCUMENT_7, document -> {
+					document.addValue( index.binding().rank, 0 );
+				} )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> family;
+		final IndexFieldReference<Integer> familyNumber;
+		final IndexFieldReference<Integer> rank;
+		final IndexFieldReference<String> notSortable;
+		final IndexFieldReference<String> group;
+		final IndexFieldReference<String> label;
+
+		IndexBinding(IndexSchemaElement root) {
+			family = root.field( "family", f -> f.asString().sortable( Sortable.YES ) ).toReference();
+			familyNumber = root.field( "familyNumber", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			rank = root.field( "rank", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			notSortable = root.field( "notSortable", f -> f.asString() ).toReference();
+			group = root.field( "group", f -> f.asString().sortable( Sortable.YES ) ).toReference();
+			label = root.field( "label", f -> f.asString().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.Locale;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class SearchQueryTotalHitCountThresholdIT {
+
+	private static final int DOCUMENT_COUNT = 200;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		initData();
+	}
+
+	@Test
+	public void noThreshold() {
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.matchAll() )
+				.fetch( 5 );
+
+		SearchResultAssert.assertThat( result ).hasTotalHitCount( DOCUMENT_COUNT );
+		assertThat( result.totalHitCountExact() ).isTrue();
+	}
+
+	@Test
+	public void thresholdBelowHitCount() {
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.matchAll() )
+				.totalHitCountThreshold( 10 )
+				.fetch( 5 );
+
+		assertThat( result.hits() ).hasSize( 5 );
+		// Backends may stop counting once the threshold is reached, or may count all hits anyway
+		assertLowerBoundOrExact( result, 10 );
+
+		result = index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.totalHitCountThreshold( 10 )
+				.fetch( 5 );
+
+		// Counting fewer hits must not affect which hits are returned
+		SearchResultAssert.assertThat( result ).hasDocRefHitsExactOrder( index.typeName(),
+				docId( 0 ), docId( 1 ), docId( 2 ), docId( 3 ), docId( 4 ) );
+		assertLowerBoundOrExact( result, 10 );
+	}
+
+	@Test
+	public void thresholdAboveHitCount() {
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.matchAll() )
+				.totalHitCountThreshold( DOCUMENT_COUNT * 2 )
+				.fetch( 5 );
+
+		SearchResultAssert.assertThat( result ).hasTotalHitCount( DOCUMENT_COUNT );
+		assertThat( result.totalHitCountExact() ).isTrue();
+
+		result = index.query()
+				.where( f -> f.range().field( "integer" ).lessThan( 50 ) )
+				.totalHitCountThreshold( 100 )
+				.fetch( 5 );
+
+		SearchResultAssert.assertThat( result ).hasTotalHitCount( 50 );
+		assertThat( result.totalHitCountExact() ).isTrue();
+	}
+
+	@Test
+	public void fetchTotalHitCount() {
+		SearchQuery<DocumentReference> query = index.query()
+				.where( f -> f.matchAll() )
+				.totalHitCountThreshold( 10 )
+				.toQuery();
+
+		// The threshold only applies to the hit count returned along with hits
+		assertThat( query.fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void invalidThreshold() {
+		assertThatThrownBy( () -> index.query()
+				.where( f -> f.matchAll() )
+				.totalHitCountThreshold( -1 ) )
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "'totalHitCountThreshold' must be positive or zero" );
+	}
+
+	private static void assertLowerBoundOrExact(SearchResult<?> result, long threshold) {
+		if ( result.totalHitCountExact() ) {
+			assertThat( result.totalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		}
+		else {
+			assertThat( result.totalHitCount() ).isBetween( threshold, (long) DOCUMENT_COUNT );
+		}
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						docId( i ),
+						document -> document.addValue( index.binding().integer, i )
+				) )
+				.join();
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+}
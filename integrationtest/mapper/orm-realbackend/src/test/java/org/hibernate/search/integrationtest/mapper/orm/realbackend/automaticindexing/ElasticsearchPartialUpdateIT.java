@@ -0,0 +1,172 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.realbackend.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.rule.BackendConfiguration.BACKEND_TYPE;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
+import static org.junit.Assume.assumeTrue;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.integrationtest.mapper.orm.realbackend.testsupport.BackendConfigurations;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.work.SearchWorkspace;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that partial updates sent to Elasticsearch, when enabled, behave correctly:
+ * only dirty fields are sent, cleared fields are removed from the document,
+ * and updates of documents missing from the index do not fail.
+ */
+public class ElasticsearchPartialUpdateIT {
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withSingleBackend( BackendConfigurations.simple() );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		assumeTrue( "Partial updates are only supported by the Elasticsearch backend",
+				"elasticsearch".equals( BACKEND_TYPE ) );
+
+		sessionFactory = ormSetupHelper.start()
+				.withBackendProperty( ElasticsearchIndexSettings.INDEXING_PARTIAL_UPDATE, true )
+				.setup( IndexedEntity.class );
+
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity = new IndexedEntity();
+			entity.setId( 1 );
+			entity.setTitle( "initialTitle" );
+			entity.setSummary( "initialSummary" );
+			session.persist( entity );
+		} );
+		assertThat( count( "title", "initialTitle" ) ).isEqualTo( 1 );
+		assertThat( count( "summary", "initialSummary" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void onlyDirtyFieldsSent() {
+		// Change the summary behind Hibernate Search's back: automatic indexing will not notice
+		withinTransaction( sessionFactory, session -> {
+			session.createNativeQuery( "update " + IndexedEntity.NAME + " set summary = :summary where id = :id" )
+					.setParameter( "summary", "summaryChangedInDatabase" )
+					.setParameter( "id", 1 )
+					.executeUpdate();
+		} );
+
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity = session.get( IndexedEntity.class, 1 );
+			entity.setTitle( "updatedTitle" );
+		} );
+
+		assertThat( count( "title", "updatedTitle" ) ).isEqualTo( 1 );
+		assertThat( count( "title", "initialTitle" ) ).isZero();
+		// The summary was not dirty, so it was not sent: the indexed value is still the old one
+		assertThat( count( "summary", "initialSummary" ) ).isEqualTo( 1 );
+		assertThat( count( "summary", "summaryChangedInDatabase" ) ).isZero();
+	}
+
+	@Test
+	public void clearedField() {
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity = session.get( IndexedEntity.class, 1 );
+			entity.setSummary( null );
+		} );
+
+		assertThat( count( "summary", "initialSummary" ) ).isZero();
+		withinTransaction( sessionFactory, session -> {
+			assertThat( Search.session( session ).search( IndexedEntity.class )
+					.where( f -> f.exists().field( "summary" ) )
+					.fetchTotalHitCount() )
+					.isZero();
+			// The other fields are left untouched
+			assertThat( Search.session( session ).search( IndexedEntity.class )
+					.where( f -> f.exists().field( "title" ) )
+					.fetchTotalHitCount() )
+					.isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void missingDocument() {
+		SearchWorkspace workspace = Search.mapping( sessionFactory ).scope( IndexedEntity.class ).workspace();
+		workspace.purge();
+		workspace.refresh();
+		assertThat( count( "title", "initialTitle" ) ).isZero();
+
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity = session.get( IndexedEntity.class, 1 );
+			entity.setTitle( "updatedTitle" );
+		} );
+
+		// The document was created from the updated fields
+		assertThat( count( "title", "updatedTitle" ) ).isEqualTo( 1 );
+		// ... and only from the updated fields
+		assertThat( count( "summary", "initialSummary" ) ).isZero();
+	}
+
+	private long count(String field, String value) {
+		long[] result = new long[1];
+		withinTransaction( sessionFactory, session -> {
+			result[0] = Search.session( session ).search( IndexedEntity.class )
+					.where( f -> f.match().field( field ).matching( value ) )
+					.fetchTotalHitCount();
+		} );
+		return result[0];
+	}
+
+	@Entity(name = IndexedEntity.NAME)
+	@Indexed(index = IndexedEntity.NAME)
+	public static final class IndexedEntity {
+
+		static final String NAME = "indexed";
+
+		@Id
+		private Integer id;
+
+		@KeywordField
+		private String title;
+
+		@KeywordField
+		private String summary;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		public String getSummary() {
+			return summary;
+		}
+
+		public void setSummary(String summary) {
+			this.summary = summary;
+		}
+	}
+}
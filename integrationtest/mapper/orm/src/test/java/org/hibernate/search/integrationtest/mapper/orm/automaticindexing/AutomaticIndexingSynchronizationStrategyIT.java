@@ -175,6 +175,50 @@ public void success_sync() throws InterruptedException, TimeoutException, Execut
 		assertThat( transactionThreadFuture ).isSuccessful();
 	}
 
+	@Test
+	public void success_readSyncWaitForRefresh() throws InterruptedException, TimeoutException, ExecutionException {
+		SessionFactory sessionFactory = setup( AutomaticIndexingSynchronizationStrategyNames.READ_SYNC_WAIT_FOR_REFRESH );
+		CompletableFuture<?> indexingWorkFuture = new CompletableFuture<>();
+
+		CompletableFuture<?> transactionThreadFuture = runTransactionInDifferentThreadExpectingBlock(
+				sessionFactory, null,
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.WAIT_FOR, indexingWorkFuture
+		);
+
+		// The transaction thread should be blocked because the indexing work is not complete
+		assertThat( transactionThreadFuture ).isPending();
+
+		// Completing the work should allow the synchronization strategy to unblock the transaction thread
+		indexingWorkFuture.complete( null );
+		Awaitility.await().atMost( ALMOST_FOREVER_VALUE, ALMOST_FOREVER_UNIT )
+				.until( transactionThreadFuture::isDone );
+		// The transaction thread should proceed successfully,
+		// because the indexing work was successful.
+		assertThat( transactionThreadFuture ).isSuccessful();
+	}
+
+	@Test
+	public void success_syncWaitForRefresh() throws InterruptedException, TimeoutException, ExecutionException {
+		SessionFactory sessionFactory = setup( AutomaticIndexingSynchronizationStrategyNames.SYNC_WAIT_FOR_REFRESH );
+		CompletableFuture<?> indexingWorkFuture = new CompletableFuture<>();
+
+		CompletableFuture<?> transactionThreadFuture = runTransactionInDifferentThreadExpectingBlock(
+				sessionFactory, null,
+				DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.WAIT_FOR, indexingWorkFuture
+		);
+
+		// The transaction thread should be blocked because the indexing work is not complete
+		assertThat( transactionThreadFuture ).isPending();
+
+		// Completing the work should allow the synchronization strategy to unblock the transaction thread
+		indexingWorkFuture.complete( null );
+		Awaitility.await().atMost( ALMOST_FOREVER_VALUE, ALMOST_FOREVER_UNIT )
+				.until( transactionThreadFuture::isDone );
+		// The transaction thread should proceed successfully,
+		// because the indexing work was successful.
+		assertThat( transactionThreadFuture ).isSuccessful();
+	}
+
 	@Test
 	public void success_override_writeSyncToSync() throws InterruptedException, TimeoutException, ExecutionException {
 		SessionFactory sessionFactory = setup( AutomaticIndexingSynchronizationStrategyNames.WRITE_SYNC );
@@ -14,6 +14,7 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
@@ -287,6 +288,152 @@ public void pagination() {
 		} );
 	}
 
+	@Test
+	public void getResultStream() {
+		OrmUtils.withinEntityManager( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			TypedQuery<IndexedEntity> query = Search.toJpaQuery( searchSession.search( IndexedEntity.class )
+					.where( f -> f.matchAll() )
+					.loading( o -> o.fetchSize( 1 ) )
+					.toQuery() );
+
+			backendMock.expectSearchObjects(
+					Arrays.asList( IndexedEntity.NAME ),
+					b -> b
+							.offset( 0 )
+							.limit( 1 ),
+					StubSearchWorkBehavior.of(
+							2L,
+							reference( IndexedEntity.NAME, "1" )
+					)
+			);
+			backendMock.expectSearchObjects(
+					Arrays.asList( IndexedEntity.NAME ),
+					b -> b
+							.offset( 1 )
+							.limit( 1 ),
+					StubSearchWorkBehavior.of(
+							2L,
+							reference( IndexedEntity.NAME, "2" )
+					)
+			);
+			// The total hit count was reached: no more queries
+			List<IndexedEntity> result = query.getResultStream().collect( Collectors.toList() );
+			backendMock.verifyExpectationsMet();
+			assertThat( result )
+					.extracting( IndexedEntity::getId )
+					.containsExactly( 1, 2 );
+			// Entities are detached from the session as the stream moves on to the next chunk
+			assertThat( result.get( 0 ) ).matches( hit -> !entityManager.contains( hit ) );
+		} );
+	}
+
+	@Test
+	public void getResultStream_entityDeletedFromDatabase() {
+		OrmUtils.withinEntityManager( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			TypedQuery<IndexedEntity> query = Search.toJpaQuery( searchSession.search( IndexedEntity.class )
+					.where( f -> f.matchAll() )
+					.loading( o -> o.fetchSize( 1 ) )
+					.toQuery() );
+
+			backendMock.expectSearchObjects(
+					Arrays.asList( IndexedEntity.NAME ),
+					b -> b
+							.offset( 0 )
+							.limit( 1 ),
+					StubSearchWorkBehavior.of(
+							3L,
+							reference( IndexedEntity.NAME, "1" )
+					)
+			);
+			// This entity does not exist in the database: it will be skipped
+			backendMock.expectSearchObjects(
+					Arrays.asList( IndexedEntity.NAME ),
+					b -> b
+							.offset( 1 )
+							.limit( 1 ),
+					StubSearchWorkBehavior.of(
+							3L,
+							reference( IndexedEntity.NAME, "3" )
+					)
+			);
+			// The skipped hit must neither end the iteration nor shift the next page backwards
+			backendMock.expectSearchObjects(
+					Arrays.asList( IndexedEntity.NAME ),
+					b -> b
+							.offset( 2 )
+							.limit( 1 ),
+					StubSearchWorkBehavior.of(
+							3L,
+							reference( IndexedEntity.NAME, "2" )
+					)
+			);
+			List<IndexedEntity> result = query.getResultStream().collect( Collectors.toList() );
+			backendMock.verifyExpectationsMet();
+			assertThat( result )
+					.extracting( IndexedEntity::getId )
+					.containsExactly( 1, 2 );
+		} );
+	}
+
+	@Test
+	public void getResultStream_alreadyManagedEntity() {
+		OrmUtils.withinEntityManager( entityManagerFactory, entityManager -> {
+			IndexedEntity alreadyManaged = entityManager.find( IndexedEntity.class, 1 );
+			alreadyManaged.setText( "unflushed change" );
+
+			SearchSession searchSession = Search.session( entityManager );
+			TypedQuery<IndexedEntity> query = Search.toJpaQuery( searchSession.search( IndexedEntity.class )
+					.where( f -> f.matchAll() )
+					.loading( o -> o.fetchSize( 1 ) )
+					.toQuery() );
+
+			backendMock.expectSearchObjects(
+					Arrays.asList( IndexedEntity.NAME ),
+					b -> b
+							.offset( 0 )
+							.limit( 1 ),
+					StubSearchWorkBehavior.of(
+							3L,
+							reference( IndexedEntity.NAME, "1" )
+					)
+			);
+			backendMock.expectSearchObjects(
+					Arrays.asList( IndexedEntity.NAME ),
+					b -> b
+							.offset( 1 )
+							.limit( 1 ),
+					StubSearchWorkBehavior.of(
+							3L,
+							reference( IndexedEntity.NAME, "2" )
+					)
+			);
+			backendMock.expectSearchObjects(
+					Arrays.asList( IndexedEntity.NAME ),
+					b -> b
+							.offset( 2 )
+							.limit( 1 ),
+					StubSearchWorkBehavior.of(
+							3L,
+							reference( IndexedEntity.NAME, "3" )
+					)
+			);
+			List<IndexedEntity> result = query.getResultStream().collect( Collectors.toList() );
+			backendMock.verifyExpectationsMet();
+			assertThat( result )
+					.extracting( IndexedEntity::getId )
+					.containsExactly( 1, 2 );
+
+			// Entities managed before the iteration must be left untouched
+			assertThat( result.get( 0 ) ).isSameAs( alreadyManaged );
+			assertThat( entityManager.contains( alreadyManaged ) ).isTrue();
+			assertThat( alreadyManaged.getText() ).isEqualTo( "unflushed change" );
+			// ... but entities loaded by the iteration are detached
+			assertThat( entityManager.contains( result.get( 1 ) ) ).isFalse();
+		} );
+	}
+
 	@Test
 	public void timeout_dsl() {
 		OrmUtils.withinEntityManager( entityManagerFactory, entityManager -> {
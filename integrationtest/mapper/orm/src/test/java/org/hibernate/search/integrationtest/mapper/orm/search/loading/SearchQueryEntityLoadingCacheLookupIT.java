@@ -193,6 +193,83 @@ public void overriddenStrategy_2LC_fullCacheHits() {
 		);
 	}
 
+	@Test
+	public void overriddenStrategy_skip_multipleBatches() {
+		testLoadingCacheLookup(
+				EntityLoadingCacheLookupStrategy.SKIP,
+				// Persist that many entities
+				10,
+				// Load them in batches of that size
+				3,
+				// Add these to the second level cache
+				Arrays.asList( 0, 1 ),
+				// Add these to the session when searching
+				Arrays.asList( 2, 3 ),
+				// Expect no successful 2LC lookups (2LC lookup is disabled)
+				0,
+				// Expect a few successful PC lookups (they happen after the DB statements)
+				2,
+				// Expect one DB statement per batch of 3 entities, for all 10 entities
+				4
+		);
+	}
+
+	@Test
+	public void overriddenStrategy_persistenceContext_multipleBatches() {
+		if ( !primitives.isCacheLookupSupported() ) {
+			logged.expectEvent( Level.DEBUG, "The entity loader for '" + primitives.getIndexedEntityName()
+					+ "' will ignore the cache lookup strategy" );
+			overriddenStrategy_skip_multipleBatches();
+			return;
+		}
+
+		testLoadingCacheLookup(
+				EntityLoadingCacheLookupStrategy.PERSISTENCE_CONTEXT,
+				// Persist that many entities
+				10,
+				// Load them in batches of that size
+				3,
+				// Add these to the second level cache
+				Arrays.asList( 0, 1 ),
+				// Add these to the session when searching
+				Arrays.asList( 2, 3 ),
+				// Expect no successful 2LC lookups (2LC lookup is disabled)
+				0,
+				// Expect a few successful PC lookups
+				2,
+				// Expect one DB statement per batch of 3 entities, for the 8 entities missing from the PC
+				3
+		);
+	}
+
+	@Test
+	public void overriddenStrategy_2LC_multipleBatches() {
+		if ( !primitives.isCacheLookupSupported() ) {
+			logged.expectEvent( Level.DEBUG, "The entity loader for '" + primitives.getIndexedEntityName()
+					+ "' will ignore the cache lookup strategy" );
+			overriddenStrategy_skip_multipleBatches();
+			return;
+		}
+
+		testLoadingCacheLookup(
+				EntityLoadingCacheLookupStrategy.PERSISTENCE_CONTEXT_THEN_SECOND_LEVEL_CACHE,
+				// Persist that many entities
+				10,
+				// Load them in batches of that size
+				3,
+				// Add these to the second level cache
+				Arrays.asList( 0, 1 ),
+				// Add these to the session when searching
+				Arrays.asList( 2, 3 ),
+				// Expect a few successful 2LC lookups
+				2,
+				// Expect a few successful PC lookups
+				2,
+				// Expect one DB statement per batch of 3 entities, for the 6 entities missing from the PC and 2LC
+				2
+		);
+	}
+
 	@Override
 	protected SessionFactory sessionFactory() {
 		return sessionFactory;
@@ -269,7 +346,6 @@ private void testLoadingCacheLookupExpectingSecondLevelCacheLookup(
 		);
 	}
 
-	@SuppressWarnings({"unchecked", "deprecation"})
 	private void testLoadingCacheLookup(EntityLoadingCacheLookupStrategy overriddenLookupStrategy,
 			int entityCount,
 			List<Integer> entitiesToPutInSecondLevelCache,
@@ -277,6 +353,23 @@ private void testLoadingCacheLookup(EntityLoadingCacheLookupStrategy overriddenL
 			int expectedSecondLevelCacheHitCount,
 			int expectedPersistenceContextHitCount,
 			boolean expectStatementExecution) {
+		testLoadingCacheLookup(
+				overriddenLookupStrategy, entityCount, null,
+				entitiesToPutInSecondLevelCache, entitiesToLoadInSession,
+				expectedSecondLevelCacheHitCount, expectedPersistenceContextHitCount,
+				expectStatementExecution ? 1 : 0
+		);
+	}
+
+	@SuppressWarnings({"unchecked", "deprecation"})
+	private void testLoadingCacheLookup(EntityLoadingCacheLookupStrategy overriddenLookupStrategy,
+			int entityCount,
+			Integer fetchSize,
+			List<Integer> entitiesToPutInSecondLevelCache,
+			List<Integer> entitiesToLoadInSession,
+			int expectedSecondLevelCacheHitCount,
+			int expectedPersistenceContextHitCount,
+			int expectedStatementCount) {
 		sessionFactory.getStatistics().setStatisticsEnabled( true );
 		sessionFactory.getStatistics().clear();
 		persistThatManyEntities( entityCount );
@@ -305,6 +398,9 @@ private void testLoadingCacheLookup(EntityLoadingCacheLookupStrategy overriddenL
 					if ( overriddenLookupStrategy != null ) {
 						f.cacheLookupStrategy( overriddenLookupStrategy );
 					}
+					if ( fetchSize != null ) {
+						f.fetchSize( fetchSize );
+					}
 				},
 				entityCount,
 				c -> {
@@ -313,7 +409,7 @@ private void testLoadingCacheLookup(EntityLoadingCacheLookupStrategy overriddenL
 					c.assertSecondLevelCacheHitCount()
 							.isEqualTo( expectedSecondLevelCacheHitCount );
 					c.assertStatementExecutionCount()
-							.isEqualTo( expectStatementExecution ? 1 : 0 );
+							.isEqualTo( expectedStatementCount );
 				}
 		);
 	}
@@ -8,9 +8,11 @@
 
 import org.hibernate.search.mapper.orm.session.SearchSession;
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.ReadSyncAutomaticIndexingSynchronizationStrategy;
+import org.hibernate.search.mapper.orm.automaticindexing.session.impl.ReadSyncWaitForRefreshAutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.WriteSyncAutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.AsyncAutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.SyncAutomaticIndexingSynchronizationStrategy;
+import org.hibernate.search.mapper.orm.automaticindexing.session.impl.SyncWaitForRefreshAutomaticIndexingSynchronizationStrategy;
 
 /**
  * Determines how the thread will block upon committing a transaction
@@ -55,4 +57,22 @@ static AutomaticIndexingSynchronizationStrategy sync() {
 		return SyncAutomaticIndexingSynchronizationStrategy.INSTANCE;
 	}
 
+	/**
+	 * @return A strategy that waits for index changes to be queued and applied,
+	 * then waits for the next refresh without forcing it.
+	 * See the reference documentation for details.
+	 */
+	static AutomaticIndexingSynchronizationStrategy readSyncWaitForRefresh() {
+		return ReadSyncWaitForRefreshAutomaticIndexingSynchronizationStrategy.INSTANCE;
+	}
+
+	/**
+	 * @return A strategy that waits for index changes to be queued and applied, forces a commit,
+	 * then waits for the commit to complete and for the next refresh without forcing it.
+	 * See the reference documentation for details.
+	 */
+	static AutomaticIndexingSynchronizationStrategy syncWaitForRefresh() {
+		return SyncWaitForRefreshAutomaticIndexingSynchronizationStrategy.INSTANCE;
+	}
+
 }
@@ -40,4 +40,20 @@ private AutomaticIndexingSynchronizationStrategyNames() {
 	 */
 	public static final String SYNC = "sync";
 
+	/**
+	 * A strategy that waits for index changes to be queued and applied,
+	 * then waits for the next refresh without forcing it.
+	 * <p>
+	 * See the reference documentation for details.
+	 */
+	public static final String READ_SYNC_WAIT_FOR_REFRESH = "read-sync-wait-for-refresh";
+
+	/**
+	 * A strategy that waits for index changes to be queued and applied, forces a commit,
+	 * then waits for the commit to complete and for the next refresh without forcing it.
+	 * <p>
+	 * See the reference documentation for details.
+	 */
+	public static final String SYNC_WAIT_FOR_REFRESH = "sync-wait-for-refresh";
+
 }
@@ -26,7 +26,18 @@ public enum HibernateOrmReflectionStrategyName {
 	 * This means using {@link java.lang.invoke.MethodHandles.Lookup} and {@link java.lang.invoke.MethodHandle}
 	 * in particular.
 	 */
-	METHOD_HANDLE( "method-handle" );
+	METHOD_HANDLE( "method-handle" ),
+
+	/**
+	 * Use classes generated at bootstrap through {@link java.lang.invoke.LambdaMetafactory}
+	 * to call getters directly,
+	 * avoiding the overhead of reflection and non-constant {@link java.lang.invoke.MethodHandle}s
+	 * when building documents.
+	 * <p>
+	 * Falls back to {@link #METHOD_HANDLE} for fields,
+	 * on Java 8, and when classes cannot be generated (e.g. because the package is not open to Hibernate Search).
+	 */
+	LAMBDA_METAFACTORY( "lambda-metafactory" );
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -35,5 +35,15 @@ public void configure(BeanConfigurationContext context) {
 				AutomaticIndexingSynchronizationStrategyNames.SYNC,
 				BeanReference.ofInstance( AutomaticIndexingSynchronizationStrategy.sync() )
 		);
+		context.define(
+				AutomaticIndexingSynchronizationStrategy.class,
+				AutomaticIndexingSynchronizationStrategyNames.READ_SYNC_WAIT_FOR_REFRESH,
+				BeanReference.ofInstance( AutomaticIndexingSynchronizationStrategy.readSyncWaitForRefresh() )
+		);
+		context.define(
+				AutomaticIndexingSynchronizationStrategy.class,
+				AutomaticIndexingSynchronizationStrategyNames.SYNC_WAIT_FOR_REFRESH,
+				BeanReference.ofInstance( AutomaticIndexingSynchronizationStrategy.syncWaitForRefresh() )
+		);
 	}
 }
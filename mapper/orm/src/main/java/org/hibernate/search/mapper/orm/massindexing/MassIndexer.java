@@ -106,6 +106,47 @@ public interface MassIndexer {
 	 */
 	MassIndexer purgeAllOnStart(boolean purgeAll);
 
+	/**
+	 * Indexes into new, empty indexes instead of the existing ones,
+	 * and switches search queries to the new indexes only once indexing is complete.
+	 * <p>
+	 * Search queries keep returning results from the existing indexes while mass indexing is in progress,
+	 * so this should be used when the indexes must remain available for searching during mass indexing.
+	 * The new indexes are created with the current schema, so this can also be used when the existing schema is obsolete.
+	 * <p>
+	 * Changes indexed concurrently to mass indexing (automatic indexing, ...)
+	 * are only visible to search queries after the switch.
+	 * <p>
+	 * When enabled, {@link #purgeAllOnStart(boolean)}, {@link #dropAndCreateSchemaOnStart(boolean)}
+	 * and {@link #mergeSegmentsOnFinish(boolean)} have no effect:
+	 * the new indexes start empty, and their segments are always merged before the switch.
+	 * <p>
+	 * Not all backends support this operation: the Lucene backend, in particular, does not.
+	 * <p>
+	 * Defaults to {@code false}.
+	 * @param enable {@code true} to index into new indexes and switch to them on completion,
+	 * {@code false} to index into the existing indexes.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer reindexIntoNewIndexes(boolean enable);
+
+	/**
+	 * Switches the indexes to a mode suited to bulk loading while mass indexing is in progress,
+	 * and restores their regular mode after mass indexing, even if it fails or gets interrupted.
+	 * <p>
+	 * With the Lucene backend, index writers use a larger RAM buffer, do not merge segments
+	 * and do not commit periodically, and index readers are not refreshed:
+	 * search queries on the indexes may not reflect changes until mass indexing ends.
+	 * Other backends may ignore this setting.
+	 * <p>
+	 * Defaults to {@code true}.
+	 * @param enable {@code true} to enable bulk loading mode, {@code false} to disable it.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer bulkLoading(boolean enable);
+
 	/**
 	 * Stops indexing after having indexed a set amount of objects.
 	 * <p>
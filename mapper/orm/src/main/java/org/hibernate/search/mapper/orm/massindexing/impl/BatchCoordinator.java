@@ -49,10 +49,13 @@ public class BatchCoordinator extends FailureHandledRunnable {
 	private final boolean dropAndCreateSchemaOnStart;
 	private final boolean purgeAtStart;
 	private final boolean mergeSegmentsAfterPurge;
+	private final boolean reindexIntoNewIndexes;
+	private final boolean bulkLoading;
 	private final long objectsLimit;
 	private final int idFetchSize;
 	private final Integer transactionTimeout;
 	private final List<CompletableFuture<?>> indexingFutures = new ArrayList<>();
+	private boolean bulkLoadingInProgress = false;
 
 	BatchCoordinator(HibernateOrmMassIndexingMappingContext mappingContext,
 			DetachedBackendSessionContext sessionContext,
@@ -62,7 +65,7 @@ public class BatchCoordinator extends FailureHandledRunnable {
 			int typesToIndexInParallel, int documentBuilderThreads, CacheMode cacheMode,
 			int objectLoadingBatchSize, long objectsLimit, boolean mergeSegmentsOnFinish,
 			boolean dropAndCreateSchemaOnStart, boolean purgeAtStart, boolean mergeSegmentsAfterPurge,
-			int idFetchSize, Integer transactionTimeout) {
+			boolean reindexIntoNewIndexes, boolean bulkLoading, int idFetchSize, Integer transactionTimeout) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.sessionContext = sessionContext;
@@ -80,6 +83,8 @@ public class BatchCoordinator extends FailureHandledRunnable {
 		this.dropAndCreateSchemaOnStart = dropAndCreateSchemaOnStart;
 		this.purgeAtStart = purgeAtStart;
 		this.mergeSegmentsAfterPurge = mergeSegmentsAfterPurge;
+		this.reindexIntoNewIndexes = reindexIntoNewIndexes;
+		this.bulkLoading = bulkLoading;
 		this.objectsLimit = objectsLimit;
 	}
 
@@ -90,6 +95,7 @@ public void runWithFailureHandler() throws InterruptedException {
 		}
 
 		beforeBatch(); // purgeAll and mergeSegments if enabled
+		beginBulkLoading();
 		doBatchWork();
 		afterBatch(); // mergeSegments if enabled and flush
 	}
@@ -103,8 +109,10 @@ protected void cleanUpOnInterruption() throws InterruptedException {
 	}
 
 	@Override
-	protected void cleanUpOnFailure() {
+	protected void cleanUpOnFailure() throws InterruptedException {
 		cancelPendingTasks();
+		// Regular settings must be restored even if indexing failed
+		endBulkLoading();
 	}
 
 	@Override
@@ -167,6 +175,19 @@ mappingContext, sessionContext, getNotifier(),
 	 * Operations to do after all subthreads finished their work on index
 	 */
 	private void afterBatch() throws InterruptedException {
+		endBulkLoading();
+
+		if ( this.reindexIntoNewIndexes ) {
+			Futures.unwrappedExceptionGet( scopeWorkspace.flush() );
+			// Completing reindexing merges segments and refreshes the new indexes before switching to them
+			RootFailureCollector failureCollector = new RootFailureCollector(
+					HibernateOrmEventContextMessages.INSTANCE.schemaManagement()
+			);
+			Futures.unwrappedExceptionGet( scopeSchemaManager.completeReindexing( failureCollector ) );
+			failureCollector.checkNoFailure();
+			return;
+		}
+
 		if ( this.mergeSegmentsOnFinish ) {
 			Futures.unwrappedExceptionGet( scopeWorkspace.mergeSegments() );
 		}
@@ -178,14 +199,44 @@ private void afterBatch() throws InterruptedException {
 	 * batch indexing has been interrupted : flush to apply all index update realized before interruption
 	 */
 	private void afterBatchOnInterruption() throws InterruptedException {
+		endBulkLoading();
 		Futures.unwrappedExceptionGet( scopeWorkspace.flush() );
 		Futures.unwrappedExceptionGet( scopeWorkspace.refresh() );
 	}
 
+	private void beginBulkLoading() throws InterruptedException {
+		if ( !this.bulkLoading ) {
+			return;
+		}
+		bulkLoadingInProgress = true;
+		Futures.unwrappedExceptionGet( scopeWorkspace.beginBulkLoading() );
+	}
+
+	/**
+	 * Restores the regular mode of indexes, and commits changes applied during bulk loading
+	 */
+	private void endBulkLoading() throws InterruptedException {
+		if ( !bulkLoadingInProgress ) {
+			return;
+		}
+		bulkLoadingInProgress = false;
+		Futures.unwrappedExceptionGet( scopeWorkspace.endBulkLoading() );
+	}
+
 	/**
 	 * Optional operations to do before the multiple-threads start indexing
 	 */
 	private void beforeBatch() throws InterruptedException {
+		if ( this.reindexIntoNewIndexes ) {
+			// The new indexes are created empty, with the current schema: no need to purge or re-create them
+			RootFailureCollector failureCollector = new RootFailureCollector(
+					HibernateOrmEventContextMessages.INSTANCE.schemaManagement()
+			);
+			Futures.unwrappedExceptionGet( scopeSchemaManager.beginReindexing( failureCollector ) );
+			failureCollector.checkNoFailure();
+			return;
+		}
+
 		if ( this.dropAndCreateSchemaOnStart ) {
 			RootFailureCollector failureCollector = new RootFailureCollector(
 					HibernateOrmEventContextMessages.INSTANCE.schemaManagement()
@@ -57,6 +57,8 @@ public class MassIndexerImpl implements MassIndexer {
 	private boolean dropAndCreateSchemaOnStart = false;
 	private boolean purgeAtStart = true;
 	private boolean mergeSegmentsAfterPurge = true;
+	private boolean reindexIntoNewIndexes = false;
+	private boolean bulkLoading = true;
 	private int idFetchSize = 100; //reasonable default as we only load IDs
 	private Integer idLoadingTransactionTimeout;
 
@@ -165,6 +167,18 @@ public MassIndexer purgeAllOnStart(boolean enable) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer reindexIntoNewIndexes(boolean enable) {
+		this.reindexIntoNewIndexes = enable;
+		return this;
+	}
+
+	@Override
+	public MassIndexer bulkLoading(boolean enable) {
+		this.bulkLoading = enable;
+		return this;
+	}
+
 	@Override
 	public MassIndexer transactionTimeout(int timeoutInSeconds) {
 		this.idLoadingTransactionTimeout = timeoutInSeconds;
@@ -212,7 +226,7 @@ protected BatchCoordinator createCoordinator() {
 				typesToIndexInParallel, documentBuilderThreads,
 				cacheMode, objectLoadingBatchSize, objectsLimit,
 				mergeSegmentsOnFinish, dropAndCreateSchemaOnStart, purgeAtStart, mergeSegmentsAfterPurge,
-				idFetchSize, idLoadingTransactionTimeout
+				reindexIntoNewIndexes, bulkLoading, idFetchSize, idLoadingTransactionTimeout
 		);
 	}
 
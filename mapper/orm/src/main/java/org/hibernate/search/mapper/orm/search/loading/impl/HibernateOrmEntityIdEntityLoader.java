@@ -7,21 +7,25 @@
 package org.hibernate.search.mapper.orm.search.loading.impl;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import org.hibernate.AssertionFailure;
-import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.CacheMode;
+import org.hibernate.MultiIdentifierLoadAccess;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.graph.RootGraph;
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
-import org.hibernate.query.Query;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
  * An entity loader for indexed entities whose document ID is the entity ID.
@@ -30,41 +34,37 @@
  */
 public class HibernateOrmEntityIdEntityLoader<E> implements HibernateOrmComposableEntityLoader<E> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	public static EntityLoaderFactory factory(SessionFactoryImplementor sessionFactory,
 			EntityPersister entityPersister) {
 		return new Factory( HibernateOrmUtils.toRootEntityType( sessionFactory, entityPersister ) );
 	}
 
-	private static final String IDS_PARAMETER_NAME = "ids";
-
 	private final SessionImplementor session;
 	private final EntityPersister entityPersister;
-	private final PersistenceContextLookupStrategy persistenceContextLookup;
-	private final EntityLoadingCacheLookupStrategyImplementor cacheLookupStrategyImplementor;
+	private final boolean sessionCheck;
+	private final CacheMode cacheMode;
 	private final MutableEntityLoadingOptions loadingOptions;
 
 	private HibernateOrmEntityIdEntityLoader(
 			EntityPersister entityPersister,
 			SessionImplementor session,
-			PersistenceContextLookupStrategy persistenceContextLookup,
-			EntityLoadingCacheLookupStrategyImplementor cacheLookupStrategyImplementor,
+			boolean sessionCheck,
+			CacheMode cacheMode,
 			MutableEntityLoadingOptions loadingOptions) {
 		this.entityPersister = entityPersister;
 		this.session = session;
-		this.persistenceContextLookup = persistenceContextLookup;
-		this.cacheLookupStrategyImplementor = cacheLookupStrategyImplementor;
+		this.sessionCheck = sessionCheck;
+		this.cacheMode = cacheMode;
 		this.loadingOptions = loadingOptions;
 	}
 
 	@Override
 	public List<E> loadBlocking(List<EntityReference> references) {
-		if ( cacheLookupStrategyImplementor == null ) {
-			// Optimization: if we don't need to look up the cache, we don't need a map to store intermediary results.
-			return doLoadEntities( references );
-		}
-		else {
-			return HibernateOrmComposableEntityLoader.super.loadBlocking( references );
-		}
+		// Optimization: entities are returned in the same order as references,
+		// so we don't need a map to store intermediary results.
+		return doLoadEntities( references );
 	}
 
 	@Override
@@ -82,52 +82,24 @@ public void loadBlocking(List<EntityReference> references, Map<? super EntityRef
 	}
 
 	private List<E> doLoadEntities(List<EntityReference> references) {
-		EntityKey[] keys = toEntityKeys( references );
-		List<E> loadedEntities = createListContainingNulls( references.size() );
-
-		int fetchSize = loadingOptions.fetchSize();
-		Query<?> query = createQuery( fetchSize );
-
-		List<Object> ids = new ArrayList<>( fetchSize );
-		for ( int i = 0; i < keys.length; i++ ) {
-			EntityKey key = keys[i];
-			if ( cacheLookupStrategyImplementor != null ) {
-				Object cacheHit = cacheLookupStrategyImplementor.lookup( key );
-				if ( cacheHit != null ) {
-					EntityReference reference = references.get( i );
-					loadedEntities.set( i, castOrNull( reference, cacheHit ) );
-					keys[i] = null; // Make sure we won't include this key in the query.
-					continue;
-				}
-			}
-
-			ids.add( key.getIdentifier() );
-			if ( ids.size() >= fetchSize ) {
-				query.setParameterList( IDS_PARAMETER_NAME, ids );
-				// The result is worthless, as entities are not in the right order.
-				// However, this will load entities into the persistence context... see further down.
-				query.getResultList();
-				ids.clear();
-			}
-		}
-		if ( !ids.isEmpty() ) {
-			query.setParameterList( IDS_PARAMETER_NAME, ids );
-			// Same as above: the result is worthless.
-			query.getResultList();
+		List<Serializable> ids = new ArrayList<>( references.size() );
+		for ( EntityReference reference : references ) {
+			ids.add( (Serializable) reference.id() );
 		}
 
-		// All entities are now in the persistence context. Get them!
-		for ( int i = 0; i < keys.length; i++ ) {
-			EntityKey key = keys[i];
-			if ( key == null ) {
-				// Already loaded through a cache; skip.
-				continue;
-			}
-			EntityReference reference = references.get( i );
-			Object loaded = persistenceContextLookup.lookup( key );
-			loadedEntities.set( i, castOrNull( reference, loaded ) );
-		}
+		/*
+		 * The multi-load checks the persistence context and the second-level cache (depending on options)
+		 * for all identifiers in a single pass,
+		 * then loads the remaining entities from the database in chunks of fetchSize identifiers.
+		 * Thanks to the ordered return, the result has exactly one element per identifier, in the same order,
+		 * with null elements for entities that could not be found.
+		 */
+		List<?> loaded = createMultiLoadAccess().multiLoad( ids );
 
+		List<E> loadedEntities = new ArrayList<>( references.size() );
+		for ( int i = 0; i < references.size(); i++ ) {
+			loadedEntities.add( castOrNull( references.get( i ), loaded.get( i ) ) );
+		}
 		return loadedEntities;
 	}
 
@@ -142,37 +114,21 @@ private E castOrNull(EntityReference reference, Object loadedEntity) {
 		return (E) loadedEntity;
 	}
 
-	private Query<?> createQuery(int fetchSize) {
-		Query<?> query = HibernateOrmUtils.createQueryForLoadByUniqueProperty(
-				session, entityPersister, entityPersister.getIdentifierPropertyName(), IDS_PARAMETER_NAME
-		);
-
-		query.setFetchSize( fetchSize );
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // Entity graphs are checked against the entity type by Hibernate ORM
+	private MultiIdentifierLoadAccess<?> createMultiLoadAccess() {
+		MultiIdentifierLoadAccess access = session.byMultipleIds( entityPersister.getEntityName() )
+				.enableOrderedReturn( true )
+				.enableReturnOfDeletedEntities( false )
+				.enableSessionCheck( sessionCheck )
+				.with( cacheMode )
+				.withBatchSize( loadingOptions.fetchSize() );
 
 		EntityGraphHint<?> entityGraphHint = loadingOptions.entityGraphHintOrNullForType( entityPersister );
 		if ( entityGraphHint != null ) {
-			query.applyGraph( entityGraphHint.graph, entityGraphHint.semantic );
+			access.with( (RootGraph) entityGraphHint.graph, entityGraphHint.semantic );
 		}
 
-		return query;
-	}
-
-	private EntityKey[] toEntityKeys(List<EntityReference> references) {
-		EntityKey[] entityKeys = new EntityKey[references.size()];
-		for ( int i = 0; i < references.size(); i++ ) {
-			EntityReference reference = references.get( i );
-			EntityKey entityKey = session.generateEntityKey( (Serializable) reference.id(), entityPersister );
-			entityKeys[i] = ( entityKey );
-		}
-		return entityKeys;
-	}
-
-	private static <T> List<T> createListContainingNulls(int size) {
-		List<T> list = new ArrayList<>( size );
-		for ( int i = 0; i < size; i++ ) {
-			list.add( null );
-		}
-		return list;
+		return access;
 	}
 
 	/*
@@ -282,41 +238,60 @@ private HibernateOrmComposableEntityLoader<?> doCreate(EntityPersister entityPer
 				);
 			}
 
-			PersistenceContextLookupStrategy persistenceContextLookup =
-					PersistenceContextLookupStrategy.create( session );
-			EntityLoadingCacheLookupStrategyImplementor cacheLookupStrategyImplementor;
+			boolean sessionCheck;
+			boolean secondLevelCacheCheck;
 
 			/*
 			 * Ideally, in order to comply with the cache lookup strategy,
-			 * we would use multiAccess setters such as
+			 * we would simply use the multiAccess setters
 			 * with(CacheMode) and enableSessionCheck(boolean),
 			 * and let Hibernate ORM do it for us.
 			 *
 			 * However, with(CacheMode) has a side-effect: it can also affect how entities are put into the cache.
 			 * Since the cache lookup strategy has nothing to do with that,
-			 * we go the safer route and wrap the loader with other loaders that
-			 * will perform PC and 2LC checking prior to using the multiAccess.
+			 * we derive the cache mode from the one of the session,
+			 * only changing whether the second-level cache is checked, not whether it is populated.
 			 */
 			switch ( cacheLookupStrategy ) {
 				case SKIP:
-					cacheLookupStrategyImplementor = null;
+					sessionCheck = false;
+					secondLevelCacheCheck = false;
 					break;
 				case PERSISTENCE_CONTEXT:
-					cacheLookupStrategyImplementor = persistenceContextLookup;
+					sessionCheck = true;
+					secondLevelCacheCheck = false;
 					break;
 				case PERSISTENCE_CONTEXT_THEN_SECOND_LEVEL_CACHE:
-					cacheLookupStrategyImplementor =
-							PersistenceContextThenSecondLevelCacheLookupStrategy.create( entityPersister, session );
+					sessionCheck = true;
+					secondLevelCacheCheck = entityPersister.canReadFromCache();
+					if ( !secondLevelCacheCheck ) {
+						log.skippingSecondLevelCacheLookupsForNonCachedEntityTypeEntityLoader(
+								entityPersister.getEntityName() );
+					}
 					break;
 				default:
 					throw new AssertionFailure( "Unexpected cache lookup strategy: " + cacheLookupStrategy );
 			}
 
 			return new HibernateOrmEntityIdEntityLoader<>(
-					entityPersister, session, persistenceContextLookup, cacheLookupStrategyImplementor, loadingOptions
+					entityPersister, session, sessionCheck,
+					toCacheMode( session.getCacheMode(), secondLevelCacheCheck ),
+					loadingOptions
 			);
 		}
 
+		private static CacheMode toCacheMode(CacheMode sessionCacheMode, boolean secondLevelCacheCheck) {
+			if ( secondLevelCacheCheck ) {
+				return sessionCacheMode.isPutEnabled() ? CacheMode.NORMAL : CacheMode.GET;
+			}
+			else if ( CacheMode.REFRESH.equals( sessionCacheMode ) ) {
+				return CacheMode.REFRESH;
+			}
+			else {
+				return sessionCacheMode.isPutEnabled() ? CacheMode.PUT : CacheMode.IGNORE;
+			}
+		}
+
 		private static EntityPersister toMostSpecificCommonEntitySuperType(SessionImplementor session,
 				Iterable<? extends HibernateOrmLoadingIndexedTypeContext> targetEntityTypeContexts) {
 			MetamodelImplementor metamodel = session.getSessionFactory().getMetamodel();
@@ -21,7 +21,7 @@ public MutableEntityLoadingOptions(HibernateOrmLoadingMappingContext mappingCont
 		this.fetchSize = mappingContext.fetchSize();
 	}
 
-	int fetchSize() {
+	public int fetchSize() {
 		return fetchSize;
 	}
 
@@ -6,14 +6,21 @@
  */
 package org.hibernate.search.mapper.orm.search.query.impl;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.persistence.FlushModeType;
 import javax.persistence.LockModeType;
 import javax.persistence.Parameter;
@@ -26,6 +33,8 @@
 import org.hibernate.QueryException;
 import org.hibernate.ScrollMode;
 import org.hibernate.TypeMismatchException;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.RootGraph;
@@ -37,6 +46,7 @@
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.spi.SearchQueryImplementor;
 import org.hibernate.search.mapper.orm.search.loading.impl.EntityGraphHint;
 import org.hibernate.search.mapper.orm.search.loading.impl.MutableEntityLoadingOptions;
@@ -51,6 +61,7 @@ public static <R> HibernateOrmSearchQueryAdapter<R> create(SearchQuery<R> query)
 	}
 
 	private final SearchQueryImplementor<R> delegate;
+	private final SessionImplementor sessionImplementor;
 	private final MutableEntityLoadingOptions loadingOptions;
 
 	private Integer firstResult;
@@ -60,6 +71,7 @@ public static <R> HibernateOrmSearchQueryAdapter<R> create(SearchQuery<R> query)
 			MutableEntityLoadingOptions loadingOptions) {
 		super( sessionImplementor, new ParameterMetadataImpl( null, null ) );
 		this.delegate = delegate;
+		this.sessionImplementor = sessionImplementor;
 		this.loadingOptions = loadingOptions;
 	}
 
@@ -95,20 +107,34 @@ public List<R> list() {
 		try {
 			return doList();
 		}
-		catch (SearchTimeoutException e) {
-			throw new QueryTimeoutException( e );
-		}
-		catch (QueryException he) {
-			throw new IllegalStateException( he );
-		}
-		catch (TypeMismatchException e) {
-			throw new IllegalArgumentException( e );
-		}
-		catch (HibernateException he) {
-			throw getExceptionConverter().convert( he );
+		catch (RuntimeException e) {
+			throw convertException( e );
 		}
 	}
 
+	/**
+	 * Return an iterator on the results.
+	 * Hits are fetched and loaded in chunks of {@code fetchSize} elements,
+	 * and entities from a chunk are detached from the session when the iterator moves on to the next chunk.
+	 */
+	@Override
+	public Iterator<R> iterate() {
+		return new ChunkedHitIterator();
+	}
+
+	/**
+	 * Return a stream on the results.
+	 * Hits are fetched and loaded in chunks of {@code fetchSize} elements,
+	 * and entities from a chunk are detached from the session when the stream moves on to the next chunk.
+	 */
+	@Override
+	public Stream<R> stream() {
+		return StreamSupport.stream(
+				Spliterators.spliteratorUnknownSize( iterate(), Spliterator.ORDERED ),
+				false
+		);
+	}
+
 	@Override
 	public HibernateOrmSearchQueryAdapter<R> setMaxResults(int maxResults) {
 		if ( maxResults < 0L ) {
@@ -175,19 +201,28 @@ protected List<R> doList() {
 		return delegate.fetchHits( firstResult, maxResults );
 	}
 
+	private RuntimeException convertException(RuntimeException e) {
+		if ( e instanceof SearchTimeoutException ) {
+			return new QueryTimeoutException( e );
+		}
+		else if ( e instanceof QueryException ) {
+			return new IllegalStateException( e );
+		}
+		else if ( e instanceof TypeMismatchException ) {
+			return new IllegalArgumentException( e );
+		}
+		else if ( e instanceof HibernateException ) {
+			return getExceptionConverter().convert( (HibernateException) e );
+		}
+		else {
+			return e;
+		}
+	}
+
 	//-------------------------------------------------------------
 	// Unsupported ORM/JPA query methods
 	//-------------------------------------------------------------
 
-	/**
-	 * Return an iterator on the results.
-	 * Retrieve the object one by one (initialize it during the next() operation)
-	 */
-	@Override
-	public Iterator<R> iterate() {
-		throw resultStreamingNotImplemented();
-	}
-
 	@Override
 	public ScrollableResultsImplementor scroll() {
 		throw resultStreamingNotImplemented();
@@ -199,7 +234,7 @@ public ScrollableResultsImplementor scroll(ScrollMode scrollMode) {
 	}
 
 	private UnsupportedOperationException resultStreamingNotImplemented() {
-		// TODO HSEARCH-3323 result streaming
+		// TODO HSEARCH-3323 result scrolling; use iterate() or stream() instead
 		return new UnsupportedOperationException( "Not implemented yet" );
 	}
 
@@ -428,4 +463,110 @@ private static int hintValueToInteger(Object value) {
 	private static RootGraph<?> hintValueToEntityGraph(Object value) {
 		return (RootGraph) value;
 	}
+
+	/**
+	 * An iterator fetching hits in chunks of {@code fetchSize} elements,
+	 * so that large result sets can be iterated on without loading all entities into the session at once.
+	 * <p>
+	 * Each chunk is fetched through a separate execution of the search query, using offset-based pagination.
+	 * When moving on to the next chunk, the entities loaded for the previous chunk
+	 * are detached from the session, so that the persistence context does not grow indefinitely.
+	 * Entities that were already managed before the chunk was loaded are left untouched.
+	 */
+	private final class ChunkedHitIterator implements Iterator<R> {
+
+		private final int chunkSize;
+		private int offset;
+		private Integer remaining;
+
+		private List<R> currentChunk = Collections.emptyList();
+		private List<Object> entitiesLoadedForCurrentChunk = Collections.emptyList();
+		private int indexInCurrentChunk = 0;
+		private boolean lastChunk = false;
+
+		private ChunkedHitIterator() {
+			this.chunkSize = loadingOptions.fetchSize();
+			this.offset = getFirstResult();
+			this.remaining = maxResults;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while ( indexInCurrentChunk >= currentChunk.size() ) {
+				if ( lastChunk ) {
+					return false;
+				}
+				fetchNextChunk();
+			}
+			return true;
+		}
+
+		@Override
+		public R next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			R hit = currentChunk.get( indexInCurrentChunk );
+			++indexInCurrentChunk;
+			return hit;
+		}
+
+		private void fetchNextChunk() {
+			detachEntitiesLoadedForCurrentChunk();
+
+			int limit = remaining == null ? chunkSize : Math.min( chunkSize, remaining );
+			indexInCurrentChunk = 0;
+			if ( limit <= 0 ) {
+				currentChunk = Collections.emptyList();
+				lastChunk = true;
+				return;
+			}
+
+			PersistenceContext persistenceContext = sessionImplementor.getPersistenceContext();
+			Set<Object> alreadyManagedEntities = Collections.newSetFromMap( new IdentityHashMap<>() );
+			for ( Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries() ) {
+				alreadyManagedEntities.add( entry.getKey() );
+			}
+			SearchResult<R> result;
+			try {
+				result = delegate.fetch( offset, limit );
+			}
+			catch (RuntimeException e) {
+				throw convertException( e );
+			}
+			currentChunk = result.hits();
+			entitiesLoadedForCurrentChunk = new ArrayList<>();
+			for ( R hit : currentChunk ) {
+				if ( hit != null && !alreadyManagedEntities.contains( hit )
+						&& persistenceContext.getEntry( hit ) != null ) {
+					entitiesLoadedForCurrentChunk.add( hit );
+				}
+			}
+
+			/*
+			 * Hits whose entity could not be loaded (e.g. deleted from the database but not yet from the index)
+			 * are skipped, so the size of the chunk may be lower than the number of index hits we requested:
+			 * advance by the number of requested index hits, and rely on the total hit count to detect the end.
+			 */
+			offset += limit;
+			if ( remaining != null ) {
+				remaining -= limit;
+			}
+			boolean reachedEndOfIndexHits = offset >= result.totalHitCount()
+					// The total hit count may only be a lower bound; in that case, stop at the first empty chunk.
+					&& ( result.totalHitCountExact() || currentChunk.isEmpty() );
+			lastChunk = reachedEndOfIndexHits || remaining != null && remaining <= 0;
+		}
+
+		private void detachEntitiesLoadedForCurrentChunk() {
+			PersistenceContext persistenceContext = sessionImplementor.getPersistenceContext();
+			for ( Object entity : entitiesLoadedForCurrentChunk ) {
+				// The user may have detached or removed the entity in the meantime
+				if ( persistenceContext.getEntry( entity ) != null ) {
+					sessionImplementor.detach( entity );
+				}
+			}
+			entitiesLoadedForCurrentChunk = Collections.emptyList();
+		}
+	}
 }
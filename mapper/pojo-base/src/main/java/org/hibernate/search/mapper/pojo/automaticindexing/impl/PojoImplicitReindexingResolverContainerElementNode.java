@@ -6,8 +6,6 @@
  */
 package org.hibernate.search.mapper.pojo.automaticindexing.impl;
 
-import java.util.stream.Stream;
-
 import org.hibernate.search.mapper.pojo.extractor.impl.ContainerExtractorHolder;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.util.common.impl.Closer;
@@ -56,11 +54,12 @@ public void appendTo(ToStringTreeBuilder builder) {
 	@Override
 	public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			PojoRuntimeIntrospector runtimeIntrospector, C dirty, S dirtinessState) {
-		try ( Stream<V> stream = extractorHolder.get().extract( dirty ) ) {
-			stream.forEach( containerElement -> resolveEntitiesToReindexForContainerElement(
-					collector, runtimeIntrospector, containerElement, dirtinessState
-			) );
-		}
+		// The runtime introspector is captured: this allocates one processor per container, but not per element.
+		extractorHolder.get().extract( dirty,
+				(theCollector, containerElement, theDirtinessState) -> resolveEntitiesToReindexForContainerElement(
+						theCollector, runtimeIntrospector, containerElement, theDirtinessState
+				),
+				collector, dirtinessState );
 	}
 
 	private void resolveEntitiesToReindexForContainerElement(PojoReindexingCollector collector,
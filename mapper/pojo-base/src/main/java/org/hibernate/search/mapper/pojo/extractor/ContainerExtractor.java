@@ -37,6 +37,27 @@
 	 */
 	Stream<V> extract(C container);
 
+	/**
+	 * Extract values from the given container and pass them to the given processor.
+	 * <p>
+	 * This is equivalent to calling {@link #extract(Object)} and passing each element of the stream to the processor,
+	 * but implementations may override this method to avoid allocating a stream,
+	 * which matters when extracting values from many containers, e.g. during mass indexing.
+	 *
+	 * @param container A container to extract values from.
+	 * @param perValueProcessor A processor for values extracted from the given container.
+	 * @param target The target to pass to the processor.
+	 * @param context The context to pass to the processor.
+	 * @param <T> The type of the target of the processor.
+	 * @param <C2> The type of the context of the processor.
+	 */
+	default <T, C2> void extract(C container, ValueProcessor<T, ? super V, C2> perValueProcessor,
+			T target, C2 context) {
+		try ( Stream<V> stream = extract( container ) ) {
+			stream.forEach( value -> perValueProcessor.process( target, value, context ) );
+		}
+	}
+
 	/**
 	 * @return {@code true} if this extractor's {@link #extract(Object)} method may return streams with more than one value.
 	 * {@code false} if it will never return streams with more than one value.
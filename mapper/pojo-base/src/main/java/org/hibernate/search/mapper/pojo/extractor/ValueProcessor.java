@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.extractor;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A processor of values extracted from a container.
+ * <p>
+ * The target and context are passed to each call explicitly,
+ * so that a single processor instance can be created upfront and reused for every container,
+ * instead of allocating a new lambda capturing the target and context for every container.
+ *
+ * @param <T> The type of the target of the processing, for instance a document.
+ * @param <V> The type of values to process.
+ * @param <C> The type of the context of the processing, for instance a session context.
+ * @see ContainerExtractor#extract(Object, ValueProcessor, Object, Object)
+ */
+@Incubating
+@FunctionalInterface
+public interface ValueProcessor<T, V, C> {
+
+	/**
+	 * @param target The target passed to {@link ContainerExtractor#extract(Object, ValueProcessor, Object, Object)}.
+	 * @param value A value extracted from the container.
+	 * @param context The context passed to {@link ContainerExtractor#extract(Object, ValueProcessor, Object, Object)}.
+	 */
+	void process(T target, V value, C context);
+
+}
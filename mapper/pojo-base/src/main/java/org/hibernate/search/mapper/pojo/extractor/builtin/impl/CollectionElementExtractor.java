@@ -7,9 +7,12 @@
 package org.hibernate.search.mapper.pojo.extractor.builtin.impl;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ValueProcessor;
 import org.hibernate.search.mapper.pojo.extractor.builtin.BuiltinContainerExtractors;
 
 public class CollectionElementExtractor<T> implements ContainerExtractor<Collection<T>, T> {
@@ -22,4 +25,24 @@ public String toString() {
 	public Stream<T> extract(Collection<T> container) {
 		return container == null ? Stream.empty() : container.stream();
 	}
+
+	@Override
+	public <T2, C2> void extract(Collection<T> container, ValueProcessor<T2, ? super T, C2> perValueProcessor,
+			T2 target, C2 context) {
+		if ( container == null ) {
+			return;
+		}
+		if ( container instanceof RandomAccess && container instanceof List ) {
+			// Avoid iterator allocation
+			List<T> list = (List<T>) container;
+			for ( int i = 0; i < list.size(); i++ ) {
+				perValueProcessor.process( target, list.get( i ), context );
+			}
+		}
+		else {
+			for ( T element : container ) {
+				perValueProcessor.process( target, element, context );
+			}
+		}
+	}
 }
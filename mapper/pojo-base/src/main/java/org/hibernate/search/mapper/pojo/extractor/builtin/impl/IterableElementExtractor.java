@@ -10,6 +10,7 @@
 import java.util.stream.StreamSupport;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ValueProcessor;
 import org.hibernate.search.mapper.pojo.extractor.builtin.BuiltinContainerExtractors;
 
 public class IterableElementExtractor<T> implements ContainerExtractor<Iterable<T>, T> {
@@ -22,4 +23,15 @@ public String toString() {
 	public Stream<T> extract(Iterable<T> container) {
 		return container == null ? Stream.empty() : StreamSupport.stream( container.spliterator(), false );
 	}
+
+	@Override
+	public <T2, C2> void extract(Iterable<T> container, ValueProcessor<T2, ? super T, C2> perValueProcessor,
+			T2 target, C2 context) {
+		if ( container == null ) {
+			return;
+		}
+		for ( T element : container ) {
+			perValueProcessor.process( target, element, context );
+		}
+	}
 }
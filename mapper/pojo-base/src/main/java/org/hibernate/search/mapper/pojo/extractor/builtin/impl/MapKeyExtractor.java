@@ -10,6 +10,7 @@
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ValueProcessor;
 import org.hibernate.search.mapper.pojo.extractor.builtin.BuiltinContainerExtractors;
 
 public class MapKeyExtractor<T> implements ContainerExtractor<Map<T, ?>, T> {
@@ -22,4 +23,15 @@ public String toString() {
 	public Stream<T> extract(Map<T, ?> container) {
 		return container == null ? Stream.empty() : container.keySet().stream();
 	}
+
+	@Override
+	public <T2, C2> void extract(Map<T, ?> container, ValueProcessor<T2, ? super T, C2> perValueProcessor,
+			T2 target, C2 context) {
+		if ( container == null ) {
+			return;
+		}
+		for ( T element : container.keySet() ) {
+			perValueProcessor.process( target, element, context );
+		}
+	}
 }
@@ -10,6 +10,7 @@
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ValueProcessor;
 import org.hibernate.search.mapper.pojo.extractor.builtin.BuiltinContainerExtractors;
 
 public class OptionalDoubleValueExtractor implements ContainerExtractor<OptionalDouble, Double> {
@@ -28,6 +29,14 @@ public Stream<Double> extract(OptionalDouble container) {
 		}
 	}
 
+	@Override
+	public <T2, C2> void extract(OptionalDouble container, ValueProcessor<T2, ? super Double, C2> perValueProcessor,
+			T2 target, C2 context) {
+		if ( container != null && container.isPresent() ) {
+			perValueProcessor.process( target, container.getAsDouble(), context );
+		}
+	}
+
 	@Override
 	public boolean multiValued() {
 		return false;
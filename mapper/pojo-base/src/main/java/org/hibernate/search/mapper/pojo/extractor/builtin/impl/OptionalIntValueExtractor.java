@@ -10,6 +10,7 @@
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ValueProcessor;
 import org.hibernate.search.mapper.pojo.extractor.builtin.BuiltinContainerExtractors;
 
 public class OptionalIntValueExtractor implements ContainerExtractor<OptionalInt, Integer> {
@@ -28,6 +29,14 @@ public Stream<Integer> extract(OptionalInt container) {
 		}
 	}
 
+	@Override
+	public <T2, C2> void extract(OptionalInt container, ValueProcessor<T2, ? super Integer, C2> perValueProcessor,
+			T2 target, C2 context) {
+		if ( container != null && container.isPresent() ) {
+			perValueProcessor.process( target, container.getAsInt(), context );
+		}
+	}
+
 	@Override
 	public boolean multiValued() {
 		return false;
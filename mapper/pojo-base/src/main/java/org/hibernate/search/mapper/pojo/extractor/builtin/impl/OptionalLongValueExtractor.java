@@ -10,6 +10,7 @@
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ValueProcessor;
 import org.hibernate.search.mapper.pojo.extractor.builtin.BuiltinContainerExtractors;
 
 public class OptionalLongValueExtractor implements ContainerExtractor<OptionalLong, Long> {
@@ -28,6 +29,14 @@ public Stream<Long> extract(OptionalLong container) {
 		}
 	}
 
+	@Override
+	public <T2, C2> void extract(OptionalLong container, ValueProcessor<T2, ? super Long, C2> perValueProcessor,
+			T2 target, C2 context) {
+		if ( container != null && container.isPresent() ) {
+			perValueProcessor.process( target, container.getAsLong(), context );
+		}
+	}
+
 	@Override
 	public boolean multiValued() {
 		return false;
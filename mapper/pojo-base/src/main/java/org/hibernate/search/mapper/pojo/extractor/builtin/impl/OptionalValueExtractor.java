@@ -10,6 +10,7 @@
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ValueProcessor;
 import org.hibernate.search.mapper.pojo.extractor.builtin.BuiltinContainerExtractors;
 
 public class OptionalValueExtractor<T> implements ContainerExtractor<Optional<T>, T> {
@@ -23,6 +24,14 @@ public Stream<T> extract(Optional<T> container) {
 		return container == null ? Stream.empty() : container.map( Stream::of ).orElseGet( Stream::empty );
 	}
 
+	@Override
+	public <T2, C2> void extract(Optional<T> container, ValueProcessor<T2, ? super T, C2> perValueProcessor,
+			T2 target, C2 context) {
+		if ( container != null && container.isPresent() ) {
+			perValueProcessor.process( target, container.get(), context );
+		}
+	}
+
 	@Override
 	public boolean multiValued() {
 		return false;
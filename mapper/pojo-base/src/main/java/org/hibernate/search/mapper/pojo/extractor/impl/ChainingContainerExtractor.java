@@ -9,6 +9,7 @@
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ValueProcessor;
 
 class ChainingContainerExtractor<C, U, V> implements ContainerExtractor<C, V> {
 
@@ -26,6 +27,13 @@ public Stream<V> extract(C container) {
 		return parent.extract( container ).flatMap( chained::extract );
 	}
 
+	@Override
+	public <T, C2> void extract(C container, ValueProcessor<T, ? super V, C2> perValueProcessor,
+			T target, C2 context) {
+		// This allocates a processor on each call: prefer ContainerExtractorHolder#wrap, which does it only once.
+		parent.extract( container, new ExtractingValueProcessor<>( chained, perValueProcessor ), target, context );
+	}
+
 	@Override
 	public boolean multiValued() {
 		return parent.multiValued() || chained.multiValued();
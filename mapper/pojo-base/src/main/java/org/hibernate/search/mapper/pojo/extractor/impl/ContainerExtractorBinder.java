@@ -158,6 +158,7 @@ public <C, V> ContainerExtractorHolder<C, V> create(BoundContainerExtractorPath<
 			);
 		}
 		ContainerExtractor<? super C, ?> extractor = null;
+		List<ContainerExtractor<?, ?>> chainElements = new ArrayList<>();
 		List<BeanHolder<?>> beanHolders = new ArrayList<>();
 		try {
 			for ( String extractorName : boundPath.getExtractorPath().explicitExtractorNames() ) {
@@ -166,6 +167,7 @@ public <C, V> ContainerExtractorHolder<C, V> create(BoundContainerExtractorPath<
 				BeanHolder<? extends ContainerExtractor> newExtractorHolder =
 						beanResolver.resolve( extractorClass );
 				beanHolders.add( newExtractorHolder );
+				chainElements.add( newExtractorHolder.get() );
 				if ( extractor == null ) {
 					// First extractor: must be able to process type C
 					extractor = (ContainerExtractor<? super C, ?>) newExtractorHolder.get();
@@ -175,7 +177,7 @@ public <C, V> ContainerExtractorHolder<C, V> create(BoundContainerExtractorPath<
 				}
 			}
 			return new ContainerExtractorHolder<>(
-					(ContainerExtractor<? super C, V>) extractor, beanHolders
+					(ContainerExtractor<? super C, V>) extractor, chainElements, beanHolders
 			);
 		}
 		catch (RuntimeException e) {
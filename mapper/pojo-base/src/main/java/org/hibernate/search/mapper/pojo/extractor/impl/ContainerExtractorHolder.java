@@ -10,15 +10,19 @@
 
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ValueProcessor;
 import org.hibernate.search.util.common.impl.Closer;
 
 public class ContainerExtractorHolder<C, V> implements AutoCloseable {
 	private final ContainerExtractor<? super C, V> chain;
+	private final List<ContainerExtractor<?, ?>> chainElements;
 	private final List<BeanHolder<?>> chainElementBeanHolders;
 
 	ContainerExtractorHolder(ContainerExtractor<? super C, V> chain,
+			List<ContainerExtractor<?, ?>> chainElements,
 			List<BeanHolder<?>> chainElementBeanHolders) {
 		this.chain = chain;
+		this.chainElements = chainElements;
 		this.chainElementBeanHolders = chainElementBeanHolders;
 	}
 
@@ -32,4 +36,24 @@ public void close() {
 	public ContainerExtractor<? super C, V> get() {
 		return chain;
 	}
+
+	/**
+	 * @param perValueProcessor A processor for values extracted from containers.
+	 * @param <T> The type of the target of the processor.
+	 * @param <C2> The type of the context of the processor.
+	 * @return A processor that extracts values from each container it receives using the whole chain of extractors,
+	 * and passes them to the given processor.
+	 * Unlike {@link ContainerExtractor#extract(Object, ValueProcessor, Object, Object) calling the chain directly},
+	 * the returned processor does not allocate anything when processing a container, as long as the extractors don't:
+	 * the processors for each level of the chain are created once and for all in this method.
+	 */
+	// Checks are performed using reflection when building the chain
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public <T, C2> ValueProcessor<T, C, C2> wrap(ValueProcessor<T, ? super V, C2> perValueProcessor) {
+		ValueProcessor processor = perValueProcessor;
+		for ( int i = chainElements.size() - 1; i >= 0; i-- ) {
+			processor = new ExtractingValueProcessor( chainElements.get( i ), processor );
+		}
+		return processor;
+	}
 }
@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.extractor.impl;
+
+import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ValueProcessor;
+
+/**
+ * A processor that extracts values from each container it receives
+ * and passes them to another processor.
+ *
+ * @param <T> The type of the target of the processing.
+ * @param <C> The container type.
+ * @param <V> The extracted value type.
+ * @param <C2> The type of the context of the processing.
+ */
+final class ExtractingValueProcessor<T, C, V, C2> implements ValueProcessor<T, C, C2> {
+
+	private final ContainerExtractor<? super C, V> extractor;
+	private final ValueProcessor<T, ? super V, C2> perValueProcessor;
+
+	ExtractingValueProcessor(ContainerExtractor<? super C, V> extractor,
+			ValueProcessor<T, ? super V, C2> perValueProcessor) {
+		this.extractor = extractor;
+		this.perValueProcessor = perValueProcessor;
+	}
+
+	@Override
+	public void process(T target, C container, C2 context) {
+		extractor.extract( container, perValueProcessor, target, context );
+	}
+}
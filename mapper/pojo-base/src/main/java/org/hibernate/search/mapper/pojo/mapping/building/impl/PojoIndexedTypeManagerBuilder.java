@@ -7,10 +7,15 @@
 package org.hibernate.search.mapper.pojo.mapping.building.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappedIndexManagerBuilder;
@@ -24,8 +29,11 @@
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoIndexedTypeExtendedMappingCollector;
 import org.hibernate.search.mapper.pojo.mapping.impl.PojoIndexedTypeManager;
 import org.hibernate.search.mapper.pojo.mapping.impl.PojoIndexedTypeManagerContainer;
+import org.hibernate.search.mapper.pojo.mapping.impl.PojoPartialUpdatableProperty;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoEntityTypeAdditionalMetadata;
+import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoPropertyAdditionalMetadata;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoTypeAdditionalMetadata;
+import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoValueAdditionalMetadata;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPath;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
@@ -138,7 +146,8 @@ void buildAndAddTo(PojoIndexedTypeManagerContainer.Builder typeManagersBuilder,
 				identityMappingCollector.routingKeyProvider,
 				preBuiltIndexingProcessor,
 				indexManager,
-				reindexingResolver
+				reindexingResolver,
+				buildPartialUpdatableProperties( typeAdditionalMetadata )
 		);
 		log.createdPojoIndexedTypeManager( typeManager );
 
@@ -147,4 +156,33 @@ void buildAndAddTo(PojoIndexedTypeManagerContainer.Builder typeManagersBuilder,
 		closed = true;
 	}
 
+	private Map<String, PojoPartialUpdatableProperty<E>> buildPartialUpdatableProperties(
+			PojoTypeAdditionalMetadata typeAdditionalMetadata) {
+		Map<String, PojoIndexingProcessor<? super E>> propertyProcessors = new LinkedHashMap<>();
+		if ( !preBuiltIndexingProcessor.collectPropertyProcessors( propertyProcessors ) ) {
+			// Some fields are not populated from a single property, e.g. because of type bridges
+			return Collections.emptyMap();
+		}
+		for ( PojoPropertyAdditionalMetadata propertyMetadata :
+				typeAdditionalMetadata.getPropertiesAdditionalMetadata().values() ) {
+			for ( PojoValueAdditionalMetadata valueMetadata :
+					propertyMetadata.getValuesAdditionalMetadata().values() ) {
+				if ( !valueMetadata.getDerivedFrom().isEmpty() ) {
+					// A change to one property may affect fields populated from another property
+					return Collections.emptyMap();
+				}
+			}
+		}
+
+		Map<String, PojoPartialUpdatableProperty<E>> result = new LinkedHashMap<>();
+		for ( Map.Entry<String, PojoIndexingProcessor<? super E>> entry : propertyProcessors.entrySet() ) {
+			PojoIndexingProcessor<? super E> propertyProcessor = entry.getValue();
+			List<IndexFieldReference<?>> fields = new ArrayList<>();
+			if ( propertyProcessor.collectValueFields( fields ) ) {
+				result.put( entry.getKey(), new PojoPartialUpdatableProperty<>( propertyProcessor, fields ) );
+			}
+		}
+		return result;
+	}
+
 }
\ No newline at end of file
@@ -6,9 +6,14 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -26,11 +31,14 @@
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorMultiNode;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorOriginalTypeNode;
 import org.hibernate.search.mapper.pojo.scope.impl.PojoScopeIndexedTypeContext;
 import org.hibernate.search.mapper.pojo.work.impl.CachingCastingEntitySupplier;
 import org.hibernate.search.mapper.pojo.work.impl.PojoDocumentContributor;
 import org.hibernate.search.mapper.pojo.work.impl.PojoDocumentReferenceProvider;
 import org.hibernate.search.mapper.pojo.work.impl.PojoIndexedTypeIndexingPlan;
+import org.hibernate.search.mapper.pojo.work.impl.PojoPartialDocumentContributor;
 import org.hibernate.search.mapper.pojo.work.impl.PojoTypeIndexer;
 import org.hibernate.search.mapper.pojo.work.impl.PojoWorkIndexedTypeContext;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
@@ -53,13 +61,15 @@
 	private final PojoIndexingProcessor<E> processor;
 	private final MappedIndexManager indexManager;
 	private final PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver;
+	private final Map<String, PojoPartialUpdatableProperty<E>> partialUpdatableProperties;
 
 	public PojoIndexedTypeManager(PojoRawTypeIdentifier<E> typeIdentifier,
 			PojoCaster<E> caster,
 			IdentifierMappingImplementor<I, E> identifierMapping,
 			RoutingKeyProvider<E> routingKeyProvider,
 			PojoIndexingProcessor<E> processor, MappedIndexManager indexManager,
-			PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver) {
+			PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver,
+			Map<String, PojoPartialUpdatableProperty<E>> partialUpdatableProperties) {
 		this.typeIdentifier = typeIdentifier;
 		this.caster = caster;
 		this.identifierMapping = identifierMapping;
@@ -67,6 +77,7 @@ public PojoIndexedTypeManager(PojoRawTypeIdentifier<E> typeIdentifier,
 		this.processor = processor;
 		this.indexManager = indexManager;
 		this.reindexingResolver = reindexingResolver;
+		this.partialUpdatableProperties = partialUpdatableProperties;
 	}
 
 	@Override
@@ -91,7 +102,8 @@ public void appendTo(ToStringTreeBuilder builder) {
 				.attribute( "identifierMapping", identifierMapping )
 				.attribute( "routingKeyProvider", routingKeyProvider )
 				.attribute( "processor", processor )
-				.attribute( "reindexingResolver", reindexingResolver );
+				.attribute( "reindexingResolver", reindexingResolver )
+				.attribute( "partialUpdatableProperties", partialUpdatableProperties.keySet() );
 	}
 
 	@Override
@@ -143,6 +155,34 @@ public PojoDocumentContributor<E> toDocumentContributor(Supplier<E> entitySuppli
 		return new PojoDocumentContributor<>( processor, sessionContext, entitySupplier );
 	}
 
+	@Override
+	public PojoPartialDocumentContributor<E> toPartialDocumentContributorOrNull(Supplier<E> entitySupplier,
+			PojoWorkSessionContext<?> sessionContext, Set<String> dirtyPaths) {
+		if ( dirtyPaths == null || partialUpdatableProperties.isEmpty() ) {
+			return null;
+		}
+		List<PojoIndexingProcessor<? super E>> processors = new ArrayList<>();
+		List<IndexFieldReference<?>> updatedFields = new ArrayList<>();
+		for ( String dirtyPath : dirtyPaths ) {
+			PojoPartialUpdatableProperty<E> property = partialUpdatableProperties.get( dirtyPath );
+			if ( property != null ) {
+				processors.add( property.processor() );
+				updatedFields.addAll( property.fields() );
+			}
+			else if ( reindexingResolver.requiresSelfReindexing( Collections.singleton( dirtyPath ) ) ) {
+				// This change affects fields that cannot be updated independently: we need the whole document
+				return null;
+			}
+		}
+		if ( processors.isEmpty() ) {
+			return null;
+		}
+		PojoIndexingProcessor<E> partialProcessor = new PojoIndexingProcessorOriginalTypeNode<>(
+				Collections.emptyList(), new PojoIndexingProcessorMultiNode<>( processors )
+		);
+		return new PojoPartialDocumentContributor<>( partialProcessor, sessionContext, entitySupplier, updatedFields );
+	}
+
 	@Override
 	public boolean requiresSelfReindexing(Set<String> dirtyPaths) {
 		return reindexingResolver.requiresSelfReindexing( dirtyPaths );
@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.impl;
+
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
+
+/**
+ * A property of an indexed type whose changes can be applied through a partial update of the document,
+ * because processing this property only populates value fields at the root of the document.
+ *
+ * @param <E> The indexed type.
+ */
+public final class PojoPartialUpdatableProperty<E> {
+
+	private final PojoIndexingProcessor<? super E> processor;
+	private final List<IndexFieldReference<?>> fields;
+
+	public PojoPartialUpdatableProperty(PojoIndexingProcessor<? super E> processor,
+			List<IndexFieldReference<?>> fields) {
+		this.processor = processor;
+		this.fields = fields;
+	}
+
+	PojoIndexingProcessor<? super E> processor() {
+		return processor;
+	}
+
+	List<IndexFieldReference<?>> fields() {
+		return fields;
+	}
+}
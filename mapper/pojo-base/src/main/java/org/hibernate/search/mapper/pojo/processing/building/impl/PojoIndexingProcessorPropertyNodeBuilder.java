@@ -194,6 +194,7 @@ private Optional<PojoIndexingProcessorPropertyNode<T, P>> doBuild(
 			}
 			else {
 				return Optional.of( new PojoIndexingProcessorPropertyNode<>(
+						modelPath.getPropertyModel().name(),
 						modelPath.getValueReadHandle(),
 						createNested( nestedNodes )
 				) );
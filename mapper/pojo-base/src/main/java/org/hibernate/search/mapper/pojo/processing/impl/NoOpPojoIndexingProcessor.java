@@ -6,7 +6,11 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
 
@@ -24,6 +28,16 @@ public void process(DocumentElement target, Object source, PojoIndexingProcessor
 		// No-op
 	}
 
+	@Override
+	public boolean collectPropertyProcessors(Map<String, PojoIndexingProcessor<? super Object>> collector) {
+		return true;
+	}
+
+	@Override
+	public boolean collectValueFields(Collection<? super IndexFieldReference<?>> collector) {
+		return true;
+	}
+
 	@Override
 	public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "operation", "no op" );
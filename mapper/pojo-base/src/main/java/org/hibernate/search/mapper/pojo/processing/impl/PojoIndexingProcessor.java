@@ -6,7 +6,11 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
 import org.hibernate.search.util.common.impl.ToStringTreeAppendable;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
@@ -29,6 +33,29 @@ public void close() {
 
 	public abstract void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext);
 
+	/**
+	 * Collects the processors of each property of the processed type,
+	 * so that properties can be processed independently of each other, e.g. for partial updates.
+	 *
+	 * @param collector A map to which processors will be added, by property name.
+	 * @return {@code true} if processing is entirely handled by the collected property processors,
+	 * {@code false} otherwise (for instance if a type bridge is involved).
+	 */
+	public boolean collectPropertyProcessors(Map<String, PojoIndexingProcessor<? super T>> collector) {
+		return false;
+	}
+
+	/**
+	 * Collects the value fields populated by this processor.
+	 *
+	 * @param collector A collection to which references to value fields will be added.
+	 * @return {@code true} if this processor only adds values to value fields of the target element,
+	 * {@code false} otherwise (for instance if it adds object fields, or if a bridge is involved).
+	 */
+	public boolean collectValueFields(Collection<? super IndexFieldReference<?>> collector) {
+		return false;
+	}
+
 	public static <T> PojoIndexingProcessor<T> noOp() {
 		return NoOpPojoIndexingProcessor.get();
 	}
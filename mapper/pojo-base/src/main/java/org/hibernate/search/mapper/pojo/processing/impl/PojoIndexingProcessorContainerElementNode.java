@@ -6,9 +6,11 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
-import java.util.stream.Stream;
+import java.util.Collection;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.mapper.pojo.extractor.ValueProcessor;
 import org.hibernate.search.mapper.pojo.extractor.impl.ContainerExtractorHolder;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
 import org.hibernate.search.util.common.impl.Closer;
@@ -25,11 +27,14 @@
 
 	private final ContainerExtractorHolder<C, V> extractorHolder;
 	private final PojoIndexingProcessor<? super V> nested;
+	private final ValueProcessor<DocumentElement, C, PojoIndexingProcessorSessionContext> perContainerProcessor;
 
 	public PojoIndexingProcessorContainerElementNode(ContainerExtractorHolder<C, V> extractorHolder,
 			PojoIndexingProcessor<? super V> nested) {
 		this.extractorHolder = extractorHolder;
 		this.nested = nested;
+		// Create the processor once, so that processing a container does not allocate anything
+		this.perContainerProcessor = extractorHolder.wrap( this::processItem );
 	}
 
 	@Override
@@ -47,11 +52,14 @@ public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "nested", nested );
 	}
 
+	@Override
+	public boolean collectValueFields(Collection<? super IndexFieldReference<?>> collector) {
+		return nested.collectValueFields( collector );
+	}
+
 	@Override
 	public final void process(DocumentElement target, C source, PojoIndexingProcessorSessionContext sessionContext) {
-		try ( Stream<V> stream = extractorHolder.get().extract( source ) ) {
-			stream.forEach( sourceItem -> processItem( target, sourceItem, sessionContext ) );
-		}
+		perContainerProcessor.process( target, source, sessionContext );
 	}
 
 	private void processItem(DocumentElement target, V sourceItem, PojoIndexingProcessorSessionContext sessionContext) {
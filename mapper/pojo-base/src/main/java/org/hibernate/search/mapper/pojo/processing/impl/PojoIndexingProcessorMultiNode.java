@@ -7,8 +7,10 @@
 package org.hibernate.search.mapper.pojo.processing.impl;
 
 import java.util.Collection;
+import java.util.Map;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
@@ -20,10 +22,12 @@
  */
 public class PojoIndexingProcessorMultiNode<T> extends PojoIndexingProcessor<T> {
 
-	private final Collection<? extends PojoIndexingProcessor<? super T>> elements;
+	// Use an array to avoid iterator allocation when processing
+	private final PojoIndexingProcessor<? super T>[] elements;
 
+	@SuppressWarnings("unchecked")
 	public PojoIndexingProcessorMultiNode(Collection<? extends PojoIndexingProcessor<? super T>> elements) {
-		this.elements = elements;
+		this.elements = elements.toArray( new PojoIndexingProcessor[0] );
 	}
 
 	@Override
@@ -42,6 +46,25 @@ public void appendTo(ToStringTreeBuilder builder) {
 		builder.endList();
 	}
 
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // A processor of a supertype of T is also a processor of T
+	public boolean collectPropertyProcessors(Map<String, PojoIndexingProcessor<? super T>> collector) {
+		boolean complete = true;
+		for ( PojoIndexingProcessor<? super T> element : elements ) {
+			complete = element.collectPropertyProcessors( (Map) collector ) && complete;
+		}
+		return complete;
+	}
+
+	@Override
+	public boolean collectValueFields(Collection<? super IndexFieldReference<?>> collector) {
+		boolean complete = true;
+		for ( PojoIndexingProcessor<? super T> element : elements ) {
+			complete = element.collectValueFields( collector ) && complete;
+		}
+		return complete;
+	}
+
 	@Override
 	public final void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
 		for ( PojoIndexingProcessor<? super T> element : elements ) {
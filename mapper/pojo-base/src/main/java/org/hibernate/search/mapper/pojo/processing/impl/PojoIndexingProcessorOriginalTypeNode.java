@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.Map;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
@@ -41,6 +43,16 @@ public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "nested", nested );
 	}
 
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // A processor of a supertype of T is also a processor of T
+	public boolean collectPropertyProcessors(Map<String, PojoIndexingProcessor<? super T>> collector) {
+		if ( parentIndexObjectReferences.iterator().hasNext() ) {
+			// Properties would need to be processed within the parent objects
+			return false;
+		}
+		return nested.collectPropertyProcessors( (Map) collector );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // As long as T is not a proxy-specific interface, it will also be implemented by the unproxified object
 	public final void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
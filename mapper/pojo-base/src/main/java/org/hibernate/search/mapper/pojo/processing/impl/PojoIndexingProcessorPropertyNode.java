@@ -6,7 +6,11 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
@@ -22,10 +26,13 @@
  */
 public class PojoIndexingProcessorPropertyNode<T, P> extends PojoIndexingProcessor<T> {
 
+	private final String propertyName;
 	private final ValueReadHandle<P> handle;
 	private final PojoIndexingProcessor<? super P> nested;
 
-	public PojoIndexingProcessorPropertyNode(ValueReadHandle<P> handle, PojoIndexingProcessor<? super P> nested) {
+	public PojoIndexingProcessorPropertyNode(String propertyName, ValueReadHandle<P> handle,
+			PojoIndexingProcessor<? super P> nested) {
+		this.propertyName = propertyName;
 		this.handle = handle;
 		this.nested = nested;
 	}
@@ -40,10 +47,22 @@ public void close() {
 	@Override
 	public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "operation", "process property" );
+		builder.attribute( "propertyName", propertyName );
 		builder.attribute( "handle", handle );
 		builder.attribute( "nested", nested );
 	}
 
+	@Override
+	public boolean collectPropertyProcessors(Map<String, PojoIndexingProcessor<? super T>> collector) {
+		collector.put( propertyName, this );
+		return true;
+	}
+
+	@Override
+	public boolean collectValueFields(Collection<? super IndexFieldReference<?>> collector) {
+		return nested.collectValueFields( collector );
+	}
+
 	@Override
 	public final void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
 		P propertyValue = handle.get( source );
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.Collection;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
@@ -46,6 +48,12 @@ public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "indexField", indexFieldReference );
 	}
 
+	@Override
+	public boolean collectValueFields(Collection<? super IndexFieldReference<?>> collector) {
+		collector.add( indexFieldReference );
+		return true;
+	}
+
 	@Override
 	public void process(DocumentElement target, V source, PojoIndexingProcessorSessionContext sessionContext) {
 		F indexFieldValue = bridgeHolder.get().toIndexedValue( source, sessionContext.mappingContext().valueBridgeToIndexedValueContext() );
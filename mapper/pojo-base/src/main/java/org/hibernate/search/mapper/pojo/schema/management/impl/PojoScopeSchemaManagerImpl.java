@@ -59,6 +59,16 @@ public CompletableFuture<?> validate(FailureCollector failureCollector) {
 		return doOperationOnTypes( IndexSchemaManager::validate, failureCollector );
 	}
 
+	@Override
+	public CompletableFuture<?> beginReindexing(FailureCollector failureCollector) {
+		return doOperationOnTypes( IndexSchemaManager::beginReindexing, failureCollector );
+	}
+
+	@Override
+	public CompletableFuture<?> completeReindexing(FailureCollector failureCollector) {
+		return doOperationOnTypes( IndexSchemaManager::completeReindexing, failureCollector );
+	}
+
 	private CompletableFuture<?> doOperationOnTypes(
 			Function<IndexSchemaManager, CompletableFuture<?>> operation,
 			FailureCollector failureCollector) {
@@ -30,4 +30,8 @@ public interface PojoScopeSchemaManager {
 
 	CompletableFuture<?> validate(FailureCollector failureCollector);
 
+	CompletableFuture<?> beginReindexing(FailureCollector failureCollector);
+
+	CompletableFuture<?> completeReindexing(FailureCollector failureCollector);
+
 }
@@ -235,13 +235,15 @@ void resolveDirty(PojoReindexingCollector containingEntityCollector) {
 		void sendCommandsToDelegate() {
 			if ( add ) {
 				if ( delete ) {
-					if ( considerAllDirty || updatedBecauseOfContained || typeContext.requiresSelfReindexing(
-							dirtyPaths ) ) {
+					if ( considerAllDirty || updatedBecauseOfContained ) {
 						delegate.update(
 								typeContext.toDocumentReferenceProvider( sessionContext, identifier, providedRoutingKey, entitySupplier ),
 								typeContext.toDocumentContributor( entitySupplier, sessionContext )
 						);
 					}
+					else if ( typeContext.requiresSelfReindexing( dirtyPaths ) ) {
+						updateDirty();
+					}
 				}
 				else {
 					delegate.add(
@@ -260,6 +262,23 @@ else if ( delete ) {
 			}
 		}
 
+		private void updateDirty() {
+			DocumentReferenceProvider referenceProvider =
+					typeContext.toDocumentReferenceProvider( sessionContext, identifier, providedRoutingKey, entitySupplier );
+			PojoDocumentContributor<E> documentContributor =
+					typeContext.toDocumentContributor( entitySupplier, sessionContext );
+			PojoPartialDocumentContributor<E> partialDocumentContributor =
+					typeContext.toPartialDocumentContributorOrNull( entitySupplier, sessionContext, dirtyPaths );
+			if ( partialDocumentContributor != null ) {
+				// Only some fields are affected: the backend may avoid re-building the whole document
+				delegate.updatePartially( referenceProvider, partialDocumentContributor.updatedFields(),
+						partialDocumentContributor, documentContributor );
+			}
+			else {
+				delegate.update( referenceProvider, documentContributor );
+			}
+		}
+
 		private void doUpdate(Supplier<E> entitySupplier, String providedRoutingKey) {
 			this.entitySupplier = entitySupplier;
 			this.providedRoutingKey = providedRoutingKey;
@@ -0,0 +1,49 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.work.impl;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
+
+/**
+ * A contributor to a partial document, populating only the fields affected by changes to some properties.
+ *
+ * @param <E> The entity type mapped to the index.
+ */
+public final class PojoPartialDocumentContributor<E> implements DocumentContributor {
+
+	private final PojoIndexingProcessor<E> processor;
+
+	private final PojoWorkSessionContext<?> sessionContext;
+
+	private final Supplier<E> entitySupplier;
+
+	private final Collection<IndexFieldReference<?>> updatedFields;
+
+	public PojoPartialDocumentContributor(PojoIndexingProcessor<E> processor, PojoWorkSessionContext<?> sessionContext,
+			Supplier<E> entitySupplier, Collection<IndexFieldReference<?>> updatedFields) {
+		this.processor = processor;
+		this.sessionContext = sessionContext;
+		this.entitySupplier = entitySupplier;
+		this.updatedFields = updatedFields;
+	}
+
+	@Override
+	public void contribute(DocumentElement state) {
+		processor.process( state, entitySupplier.get(), sessionContext );
+	}
+
+	public Collection<IndexFieldReference<?>> updatedFields() {
+		return updatedFields;
+	}
+}
@@ -47,6 +47,16 @@ public CompletableFuture<?> refresh() {
 		return doOperationOnTypes( IndexWorkspace::refresh );
 	}
 
+	@Override
+	public CompletableFuture<?> beginBulkLoading() {
+		return doOperationOnTypes( IndexWorkspace::beginBulkLoading );
+	}
+
+	@Override
+	public CompletableFuture<?> endBulkLoading() {
+		return doOperationOnTypes( IndexWorkspace::endBulkLoading );
+	}
+
 	private CompletableFuture<?> doOperationOnTypes(Function<IndexWorkspace, CompletableFuture<?>> operation) {
 		CompletableFuture<?>[] futures = new CompletableFuture<?>[delegates.size()];
 		int typeCounter = 0;
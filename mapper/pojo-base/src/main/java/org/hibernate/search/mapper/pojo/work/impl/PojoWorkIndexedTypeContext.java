@@ -41,6 +41,16 @@ DocumentReferenceProvider toDocumentReferenceProvider(PojoWorkSessionContext<?>
 	PojoDocumentContributor<E> toDocumentContributor(Supplier<E> entitySupplier,
 			PojoWorkSessionContext<?> sessionContext);
 
+	/**
+	 * @param entitySupplier A supplier of the updated entity.
+	 * @param sessionContext The session context.
+	 * @param dirtyPaths The dirty paths of the updated entity.
+	 * @return A contributor populating only the fields affected by the given dirty paths,
+	 * or {@code null} if the given dirty paths cannot be handled through a partial update of the document.
+	 */
+	PojoPartialDocumentContributor<E> toPartialDocumentContributorOrNull(Supplier<E> entitySupplier,
+			PojoWorkSessionContext<?> sessionContext, Set<String> dirtyPaths);
+
 	boolean requiresSelfReindexing(Set<String> dirtyPaths);
 
 	void resolveEntitiesToReindex(PojoReindexingCollector collector, PojoRuntimeIntrospector runtimeIntrospector,
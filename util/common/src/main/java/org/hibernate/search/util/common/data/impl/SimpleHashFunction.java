@@ -16,7 +16,17 @@ private SimpleHashFunction() {
 	}
 
 	public static <T> T pick(T[] content, String key) {
-		return content[Math.abs( hash( key ) % content.length )];
+		return content[pickIndex( content.length, key )];
+	}
+
+	/**
+	 * @param size The number of elements to pick from.
+	 * @param key The key to hash.
+	 * @return The index of the element picked by {@link #pick(Object[], String)}
+	 * for an array of the given size and the given key.
+	 */
+	public static int pickIndex(int size, String key) {
+		return Math.abs( hash( key ) % size );
 	}
 
 	/**
@@ -37,7 +37,7 @@ public static void assertNotNullNorEmpty(Object[] object, String objectDescripti
 		}
 	}
 
-	public static void assertPositiveOrZero(int number, String objectDescription) {
+	public static void assertPositiveOrZero(long number, String objectDescription) {
 		if ( number < 0 ) {
 			throw log.mustBePositiveOrZero( objectDescription );
 		}
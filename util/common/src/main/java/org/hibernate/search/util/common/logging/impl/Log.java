@@ -109,4 +109,9 @@ void cannotAccessRepeateableContainingAnnotationValue(
 			value = "'%1$s' must be strictly positive.")
 	IllegalArgumentException mustBeStrictlyPositive(String objectDescription);
 
+	@LogMessage(level = Logger.Level.DEBUG)
+	@Message(id = ID_OFFSET_2 + 11,
+			value = "Cannot generate an accessor class for '%1$s'; falling back to a method handle.")
+	void cannotGenerateAccessor(Member member, @Cause Throwable e);
+
 }
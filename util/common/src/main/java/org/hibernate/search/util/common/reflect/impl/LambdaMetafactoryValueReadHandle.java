@@ -0,0 +1,74 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.common.reflect.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Member;
+import java.util.function.Function;
+
+import org.hibernate.search.util.common.impl.Throwables;
+import org.hibernate.search.util.common.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+
+/**
+ * A value read handle relying on a class generated at bootstrap through
+ * {@link java.lang.invoke.LambdaMetafactory},
+ * which calls the getter directly instead of going through reflection or a non-constant method handle.
+ *
+ * @param <T> The type of the value.
+ */
+public final class LambdaMetafactoryValueReadHandle<T> implements ValueReadHandle<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Member member;
+	private final Function<Object, Object> getter;
+
+	public LambdaMetafactoryValueReadHandle(Member member, Function<Object, Object> getter) {
+		this.member = member;
+		this.getter = getter;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + member + "]";
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(Object thiz) {
+		try {
+			return (T) getter.apply( thiz );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Exception e) {
+			// Getters may throw checked exceptions, which the generated class will propagate as-is.
+			if ( e instanceof InterruptedException ) {
+				Thread.currentThread().interrupt();
+			}
+			throw log.errorInvokingMember( member, Throwables.safeToString( e, thiz ), e );
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return member.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+			return false;
+		}
+		LambdaMetafactoryValueReadHandle<?> other = (LambdaMetafactoryValueReadHandle<?>) obj;
+		return member.equals( other.member );
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.common.reflect.spi;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.Function;
+
+import org.hibernate.search.util.common.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reflect.impl.LambdaMetafactoryValueReadHandle;
+import org.hibernate.search.util.common.reflect.impl.MethodHandleValueReadHandle;
+
+final class LambdaMetafactoryValueReadHandleFactory implements ValueReadHandleFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final MethodType FUNCTION_FACTORY_TYPE = MethodType.methodType( Function.class );
+	private static final MethodType FUNCTION_APPLY_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	/*
+	 * MethodHandles.privateLookupIn was only introduced in Java 9.
+	 * On Java 8, we cannot get a lookup with private access to the declaring class,
+	 * so we always fall back to method handles.
+	 */
+	private static final MethodHandle PRIVATE_LOOKUP_IN = findPrivateLookupIn();
+
+	private final MethodHandles.Lookup lookup;
+
+	LambdaMetafactoryValueReadHandleFactory(MethodHandles.Lookup lookup) {
+		this.lookup = lookup;
+	}
+
+	@Override
+	public ValueReadHandle<?> createForField(Field field) throws IllegalAccessException {
+		// LambdaMetafactory cannot generate field accessors: use a method handle.
+		return new MethodHandleValueReadHandle<>( field, lookup.unreflectGetter( field ) );
+	}
+
+	@Override
+	public ValueReadHandle<?> createForMethod(Method method) throws IllegalAccessException {
+		// Use the given lookup first, so that access checks are the same as with method handles.
+		MethodHandle handle = lookup.unreflect( method );
+		if ( PRIVATE_LOOKUP_IN == null || Modifier.isStatic( method.getModifiers() ) ) {
+			return new MethodHandleValueReadHandle<>( method, handle );
+		}
+		try {
+			return new LambdaMetafactoryValueReadHandle<>( method, generateGetter( method ) );
+		}
+		catch (ReflectiveOperationException | LambdaConversionException | RuntimeException | LinkageError e) {
+			// Typically happens with JPMS if the package is not open to Hibernate Search.
+			log.cannotGenerateAccessor( method, e );
+			return new MethodHandleValueReadHandle<>( method, handle );
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> generateGetter(Method method)
+			throws ReflectiveOperationException, LambdaConversionException {
+		Class<?> declaringClass = method.getDeclaringClass();
+		/*
+		 * The generated class will be defined in the declaring class' nest,
+		 * which means it will have access to private methods
+		 * and will be loaded by the same classloader as the declaring class.
+		 */
+		MethodHandles.Lookup declaringClassLookup;
+		try {
+			declaringClassLookup =
+					(MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invokeExact( declaringClass, MethodHandles.lookup() );
+		}
+		catch (ReflectiveOperationException | RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			// Cannot happen: privateLookupIn only throws IllegalAccessException
+			throw new UndeclaredThrowableException( e );
+		}
+		MethodHandle implementation = declaringClassLookup.unreflect( method );
+		CallSite callSite = LambdaMetafactory.metafactory(
+				declaringClassLookup,
+				"apply",
+				FUNCTION_FACTORY_TYPE,
+				FUNCTION_APPLY_TYPE,
+				implementation,
+				implementation.type().wrap()
+		);
+		try {
+			return (Function<Object, Object>) callSite.getTarget().invokeExact();
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			// Cannot happen: the factory of a non-capturing lambda does not throw checked exceptions
+			throw new UndeclaredThrowableException( e );
+		}
+	}
+
+	private static MethodHandle findPrivateLookupIn() {
+		try {
+			return MethodHandles.publicLookup().findStatic( MethodHandles.class, "privateLookupIn",
+					MethodType.methodType( MethodHandles.Lookup.class, Class.class, MethodHandles.Lookup.class ) );
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
+	}
+}
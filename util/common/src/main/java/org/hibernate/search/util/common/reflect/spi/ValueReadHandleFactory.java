@@ -34,4 +34,15 @@ static ValueReadHandleFactory usingMethodHandle(MethodHandles.Lookup lookup) {
 		return new MethodHandleValueReadHandleFactory( lookup );
 	}
 
+	/**
+	 * @param lookup A lookup with sufficient access rights to access all relevant fields and methods.
+	 * @return A factory producing value handles that rely on classes generated at bootstrap
+	 * through {@link java.lang.invoke.LambdaMetafactory} to call getters directly,
+	 * falling back to {@link java.lang.invoke.MethodHandle} for fields
+	 * or when classes cannot be generated (e.g. because the package is not open to Hibernate Search).
+	 */
+	static ValueReadHandleFactory usingLambdaMetafactory(MethodHandles.Lookup lookup) {
+		return new LambdaMetafactoryValueReadHandleFactory( lookup );
+	}
+
 }
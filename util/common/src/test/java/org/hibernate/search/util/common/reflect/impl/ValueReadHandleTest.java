@@ -38,6 +38,7 @@ public static List<Object[]> data() {
 		MethodHandles.Lookup lookup = MethodHandles.lookup();
 		return Arrays.asList( new Object[][] {
 				{ ValueReadHandleFactory.usingMethodHandle( lookup ) },
+				{ ValueReadHandleFactory.usingLambdaMetafactory( lookup ) },
 				{ ValueReadHandleFactory.usingJavaLangReflect() }
 		} );
 	}
@@ -108,6 +109,22 @@ public void publicMethod() throws Exception {
 		testMethodValueReadHandleSuccess( "publicMethod" );
 	}
 
+	@Test
+	public void lambdaMetafactory_generatedAccessor() throws Exception {
+		Assume.assumeTrue(
+				"This test only makes sense with LambdaMetafactory",
+				factory.getClass().getSimpleName().contains( "LambdaMetafactory" )
+		);
+
+		for ( String methodName : new String[] { "privateMethod", "packagePrivateMethod", "publicMethod" } ) {
+			Method method = EntityType.class.getDeclaredMethod( methodName );
+			setAccessible( method );
+
+			assertThat( factory.createForMethod( method ) )
+					.isInstanceOf( LambdaMetafactoryValueReadHandle.class );
+		}
+	}
+
 	@Test
 	public void failure_method_error() throws Exception {
 		Method method = EntityType.class.getDeclaredMethod( "errorThrowingMethod" );
@@ -146,6 +163,7 @@ public void failure_method_illegalAccessException() throws Exception {
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method.",
 				factory.getClass().getSimpleName().contains( "MethodHandle" )
+						|| factory.getClass().getSimpleName().contains( "LambdaMetafactory" )
 		);
 
 		Method method = EntityType.class.getDeclaredMethod( "illegalAccessExceptionThrowingMethod" );
@@ -168,6 +186,7 @@ public void failure_field_illegalAccessException() throws Exception {
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method.",
 				factory.getClass().getSimpleName().contains( "MethodHandle" )
+						|| factory.getClass().getSimpleName().contains( "LambdaMetafactory" )
 		);
 
 		Field field = EntityType.class.getDeclaredField( "illegalAccessExceptionThrowingField" );
@@ -55,6 +55,13 @@ public StubSearchWorkAssert matches(StubSearchWork expected) {
 		mismatch = checkForMismatch( builder, "failAfterTimeUnit", expected.getFailAfterTimeUnit(), actual.getFailAfterTimeUnit() );
 		hasAnyMismatch = hasAnyMismatch || mismatch;
 
+		mismatch = checkForMismatch( builder, "collapseField", expected.getCollapseField(), actual.getCollapseField() );
+		hasAnyMismatch = hasAnyMismatch || mismatch;
+
+		mismatch = checkForMismatch( builder, "totalHitCountThreshold", expected.getTotalHitCountThreshold(),
+				actual.getTotalHitCountThreshold() );
+		hasAnyMismatch = hasAnyMismatch || mismatch;
+
 		mismatch = checkForMismatch( builder, "offset", expected.getOffset(), actual.getOffset() );
 		hasAnyMismatch = hasAnyMismatch || mismatch;
 
@@ -14,7 +14,9 @@ public enum Type {
 		CREATE_OR_UPDATE,
 		DROP_IF_EXISTING,
 		DROP_AND_CREATE,
-		VALIDATE
+		VALIDATE,
+		BEGIN_REINDEXING,
+		COMPLETE_REINDEXING
 	}
 
 	public static Builder builder(Type type) {
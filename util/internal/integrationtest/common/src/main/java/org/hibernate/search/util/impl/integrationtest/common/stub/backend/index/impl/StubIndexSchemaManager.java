@@ -58,4 +58,16 @@ public CompletableFuture<?> validate(ContextualFailureCollector failureCollector
 		StubSchemaManagementWork work = StubSchemaManagementWork.builder( StubSchemaManagementWork.Type.VALIDATE ).build();
 		return behavior.executeSchemaManagementWork( indexName, work, failureCollector );
 	}
+
+	@Override
+	public CompletableFuture<?> beginReindexing() {
+		StubSchemaManagementWork work = StubSchemaManagementWork.builder( StubSchemaManagementWork.Type.BEGIN_REINDEXING ).build();
+		return behavior.executeSchemaManagementWork( indexName, work, null );
+	}
+
+	@Override
+	public CompletableFuture<?> completeReindexing() {
+		StubSchemaManagementWork work = StubSchemaManagementWork.builder( StubSchemaManagementWork.Type.COMPLETE_REINDEXING ).build();
+		return behavior.executeSchemaManagementWork( indexName, work, null );
+	}
 }
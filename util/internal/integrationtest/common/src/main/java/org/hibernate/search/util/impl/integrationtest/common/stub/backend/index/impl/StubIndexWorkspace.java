@@ -53,4 +53,15 @@ public CompletableFuture<?> refresh() {
 		StubIndexScaleWork work = StubIndexScaleWork.builder( StubIndexScaleWork.Type.REFRESH ).build();
 		return behavior.executeIndexScaleWork( indexName, work );
 	}
+
+	@Override
+	public CompletableFuture<?> beginBulkLoading() {
+		// Bulk loading only affects performance: nothing to simulate
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public CompletableFuture<?> endBulkLoading() {
+		return CompletableFuture.completedFuture( null );
+	}
 }
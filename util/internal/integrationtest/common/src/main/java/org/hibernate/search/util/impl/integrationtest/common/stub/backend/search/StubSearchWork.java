@@ -32,6 +32,8 @@ public static Builder builder(ResultType resultType) {
 	private final TimeUnit truncateAfterTimeUnit;
 	private final Long failAfterTimeout;
 	private final TimeUnit failAfterTimeUnit;
+	private final String collapseField;
+	private final Long totalHitCountThreshold;
 
 	private StubSearchWork(Builder builder) {
 		this.resultType = builder.resultType;
@@ -42,6 +44,8 @@ private StubSearchWork(Builder builder) {
 		this.truncateAfterTimeUnit = builder.truncateAfterTimeUnit;
 		this.failAfterTimeout = builder.failAfterTimeout;
 		this.failAfterTimeUnit = builder.failAfterTimeUnit;
+		this.collapseField = builder.collapseField;
+		this.totalHitCountThreshold = builder.totalHitCountThreshold;
 	}
 
 	public ResultType getResultType() {
@@ -68,6 +72,14 @@ public TimeUnit getFailAfterTimeUnit() {
 		return failAfterTimeUnit;
 	}
 
+	public String getCollapseField() {
+		return collapseField;
+	}
+
+	public Long getTotalHitCountThreshold() {
+		return totalHitCountThreshold;
+	}
+
 	public Integer getOffset() {
 		return offset;
 	}
@@ -87,6 +99,8 @@ public String toString() {
 				.add( "truncateAfterTimeUnit=" + truncateAfterTimeUnit )
 				.add( "failAfterTimeout=" + failAfterTimeout )
 				.add( "failAfterTimeUnit=" + failAfterTimeUnit )
+				.add( "collapseField=" + collapseField )
+				.add( "totalHitCountThreshold=" + totalHitCountThreshold )
 				.toString();
 	}
 
@@ -98,6 +112,8 @@ public static class Builder {
 		private TimeUnit truncateAfterTimeUnit;
 		private Long failAfterTimeout;
 		private TimeUnit failAfterTimeUnit;
+		private String collapseField;
+		private Long totalHitCountThreshold;
 		private Integer offset;
 		private Integer limit;
 
@@ -122,6 +138,16 @@ public Builder failAfter(long timeout, TimeUnit timeUnit) {
 			return this;
 		}
 
+		public Builder collapse(String absoluteFieldPath) {
+			this.collapseField = absoluteFieldPath;
+			return this;
+		}
+
+		public Builder totalHitCountThreshold(long totalHitCountThreshold) {
+			this.totalHitCountThreshold = totalHitCountThreshold;
+			return this;
+		}
+
 		public Builder offset(Integer offset) {
 			this.offset = offset;
 			return this;